@@ -0,0 +1,69 @@
+package cyclops.futurestream;
+
+import com.oath.cyclops.react.collectors.lazy.MaxActive;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * Fans 1M simulated IO bound tasks out over a large pool, with thousands of tasks active at once. Exercises the
+ * BatchingCollector throttling used by toList.
+ */
+@State(Scope.Benchmark)
+public class MaxActiveFanOut {
+
+    static final int TASKS = 1_000_000;
+
+    @Param({"1024", "4096"})
+    int maxActive;
+
+    ExecutorService executor;
+    LazyReact react;
+
+    @Setup(Level.Trial)
+    public void before() {
+        executor = Executors.newFixedThreadPool(256);
+        react = new LazyReact(executor).withMaxActive(new MaxActive(maxActive, maxActive * 3 / 4));
+    }
+
+    @TearDown(Level.Trial)
+    public void after() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 3
+    )
+    @Measurement(
+        iterations = 5
+    )
+    @Fork(1)
+    public List<Integer> fanOut() {
+        return react.range(0, TASKS)
+                    .map(i -> {
+                        LockSupport.parkNanos(10_000);
+                        return i;
+                    })
+                    .toList();
+    }
+
+}
@@ -32,6 +32,7 @@ public class FastFuture<T> {
     private volatile boolean done = false;
     private volatile Consumer<OnComplete> forXOf;
     private volatile Consumer<OnComplete> essential;
+    private volatile Consumer<OnComplete> forCollector;
     @Getter
     private volatile boolean completedExceptionally = false;
     private final AtomicReference result = new AtomicReference(
@@ -175,10 +176,10 @@ public class FastFuture<T> {
     private FastFuture<T> completeExceptionally(final Throwable t) {
         exception.lazySet(t);
         completedExceptionally = true;
+        done = true; //before the callbacks, so a callback registered concurrently sees done and runs itself
         handleOnComplete(true);
         if (pipeline != null && pipeline.onFail != null)
             pipeline.onFail.accept(t);
-        done = true;
         return this;
     }
 
@@ -327,6 +328,7 @@ public class FastFuture<T> {
         exception.set(UNSET);
         this.forXOf = null;
         this.essential = null;
+        this.forCollector = null;
         this.count.set(0);
         this.max.set(0);
         this.completedExceptionally = false;
@@ -357,10 +359,26 @@ public class FastFuture<T> {
         }
     }
 
+    /**
+     * Called at least once on complete, a separate slot from onComplete used by collectors to release capacity
+     *
+     */
+    public void onCollected(final Consumer<OnComplete> fn) {
+
+        this.forCollector = fn; //set - could also be called on a separate thread
+
+        if (done) { //can be called again
+            fn.accept(buildOnComplete());
+        }
+    }
+
     private void handleOnComplete(final boolean force) {
         if (forXOf != null)
             forXOf.accept(buildOnComplete());
 
+        if (forCollector != null)
+            forCollector.accept(buildOnComplete());
+
         if (this.essential != null)
             this.essential.accept(buildOnComplete());
 
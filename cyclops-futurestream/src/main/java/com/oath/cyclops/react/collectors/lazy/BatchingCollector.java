@@ -2,12 +2,17 @@ package com.oath.cyclops.react.collectors.lazy;
 
 import com.oath.cyclops.internal.react.async.future.FastFuture;
 import com.oath.cyclops.types.futurestream.BlockingStream;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,6 +23,12 @@ import lombok.experimental.Wither;
  * This class allows a Batch of completable futures to be processed before collecting their results, to increase
  * parallelism.
  *
+ * Futures release their slot via a completion callback, once more than maxActive are running the submitting Thread
+ * is parked until enough complete to reduce the active count to reduceTo. In non-blocking mode the submitting Thread
+ * is never parked, callers can check {@link BatchingCollector#isSaturated()} and resume via
+ * {@link BatchingCollector#onCapacity(Runnable)} instead. LazyReact / FutureStream always use the blocking mode,
+ * non-blocking mode is for callers that drive a BatchingCollector directly.
+ *
  * @author johnmcclean
  *
  * @param <T> Result type
@@ -28,11 +39,17 @@ import lombok.experimental.Wither;
 public class BatchingCollector<T> implements LazyResultConsumer<T> {
 
   private final Collection<FastFuture<T>> results;
-  private final List<FastFuture<T>> active = new ArrayList<>();
+  private final Set<FastFuture<T>> active = new LinkedHashSet<>();
+  private final Queue<FastFuture<T>> completed = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger running = new AtomicInteger(0);
+  private final AtomicReference<Thread> waiter = new AtomicReference<>(null);
+  private final AtomicReference<Runnable> resume = new AtomicReference<>(null);
   @Getter
   private final MaxActive maxActive;
   @Getter
   private final BlockingStream<T> blocking;
+  @Getter
+  private final boolean nonBlocking;
 
   /**
    * @param maxActive Controls batch size
@@ -41,6 +58,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
     this.maxActive = maxActive;
     this.results = null;
     this.blocking = blocking;
+    this.nonBlocking = false;
   }
 
   /* (non-Javadoc)
@@ -50,28 +68,91 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   public void accept(final FastFuture<T> t) {
 
     active.add(t);
+    running.incrementAndGet();
+    t.onCollected(new Release(t));
 
     if (active.size() > maxActive.getMaxActive()) {
 
-      while (active.size() > maxActive.getReduceTo()) {
+      collectCompleted();
+      if (!nonBlocking && running.get() > maxActive.getReduceTo()) {
+        awaitCapacity();
+        collectCompleted();
+      }
+    }
+
+  }
 
-        final List<FastFuture<T>> toRemove = active.stream()
-          .filter(cf -> cf.isDone())
-          .collect(Collectors.toList());
-        active.removeAll(toRemove);
-        results.addAll(toRemove);
-        if (active.size() > maxActive.getReduceTo()) {
-          final CompletableFuture promise = new CompletableFuture();
-          FastFuture.xOf(active.size() - maxActive.getReduceTo(), () -> {
-            promise.complete(true);
-          } , active.toArray(new FastFuture[0]));
+  /**
+   * @return true if more than maxActive futures are still running
+   */
+  public boolean isSaturated() {
+    return running.get() > maxActive.getMaxActive();
+  }
 
-          promise.join();
-        }
+  /**
+   * Run the supplied Runnable once, as soon as no more than reduceTo futures are running. Used in non-blocking mode
+   * to pause submission from a Stream rather than parking the submitting Thread.
+   *
+   * @param onCapacity Runnable to run when capacity is available
+   */
+  public void onCapacity(final Runnable onCapacity) {
+    resume.set(onCapacity);
+    if (running.get() <= maxActive.getReduceTo())
+      signal();
+  }
 
+  private void awaitCapacity() {
+    final Thread current = Thread.currentThread();
+    boolean interrupted = false;
+    waiter.set(current);
+    try {
+      while (running.get() > maxActive.getReduceTo()) {
+        LockSupport.park(this);
+        if (Thread.interrupted())
+          interrupted = true;
       }
+    } finally {
+      waiter.set(null);
+      if (interrupted)
+        current.interrupt();
     }
+  }
+
+  private void signal() {
+    final Thread parked = waiter.get();
+    if (parked != null)
+      LockSupport.unpark(parked);
+    final Runnable r = resume.getAndSet(null);
+    if (r != null)
+      r.run();
+  }
+
+  private void collectCompleted() {
+    FastFuture<T> next;
+    while ((next = completed.poll()) != null) {
+      if (active.remove(next) && results != null)
+        results.add(next);
+    }
+  }
 
+  /*
+   * Completion callback for an active future, it may be called more than once so the first call wins
+   */
+  private final class Release extends AtomicBoolean implements Consumer<FastFuture.OnComplete> {
+    private final FastFuture<T> future;
+
+    Release(final FastFuture<T> future) {
+      this.future = future;
+    }
+
+    @Override
+    public void accept(final FastFuture.OnComplete onComplete) {
+      if (!compareAndSet(false, true))
+        return;
+      completed.offer(future);
+      if (running.decrementAndGet() <= maxActive.getReduceTo())
+        signal();
+    }
   }
 
   /* (non-Javadoc)
@@ -104,6 +185,7 @@ public class BatchingCollector<T> implements LazyResultConsumer<T> {
   public Collection<FastFuture<T>> getAllResults() {
     results.addAll(active);
     active.clear();
+    completed.clear();
     return results;
   }
 
@@ -10,6 +10,8 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -20,7 +22,9 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import cyclops.data.Seq;
 import cyclops.futurestream.LazyReact;
+import cyclops.reactive.ReactiveSeq;
 import com.oath.cyclops.async.QueueFactories;
 import cyclops.futurestream.SimpleReact;
 import org.junit.Before;
@@ -53,6 +57,93 @@ public class QueueTest {
 
 	}
     @Test
+    public void drainToTransfersAvailableData(){
+        Queue<Integer> queue = QueueFactories.<Integer>boundedNonBlockingQueue(10).build();
+        queue.offerAll(of(1,2,null,4,5));
+        assertThat(queue.approximateSize(),is(5));
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained,3),is(3));
+        assertThat(drained,equalTo(Arrays.asList(1,2,null)));
+        assertThat(queue.approximateSize(),is(2));
+
+        assertThat(queue.drainTo(drained,10),is(2));
+        assertThat(queue.drainTo(drained,10),is(0));
+        assertThat(drained,equalTo(Arrays.asList(1,2,null,4,5)));
+        assertThat(queue.approximateSize(),is(0));
+    }
+    @Test(expected=Queue.ClosedQueueException.class)
+    public void drainToClosed(){
+        Queue<Integer> queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+        queue.stream();
+        queue.add(1);
+        queue.close();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(queue.drainTo(drained,10),is(1));
+        queue.drainTo(drained,10);
+    }
+    @Test
+    public void sizeSignalTracksOffersAndTakes(){
+        Queue<Integer> queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+        queue.setSizeSignal(Signal.queueBackedSignal());
+        queue.fromStream(of(1,2,3));
+        queue.offer(4);
+        queue.get();
+        assertThat(queue.approximateSize(),is(3));
+        List<Integer> sizes = new ArrayList<>();
+        ((Queue<Integer>)queue.getSizeSignal().getContinuous()).drainTo(sizes,10);
+        assertThat(sizes,equalTo(Arrays.asList(3,4,3)));
+    }
+    @Test
+    public void approximateSizeSharedWithCopies(){
+        Queue<Integer> queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+        Queue<Integer> copy = queue.withTimeout(1);
+        queue.offer(1);
+        copy.offer(2);
+        assertThat(queue.approximateSize(),is(2));
+        assertThat(copy.approximateSize(),is(2));
+        copy.get();
+        assertThat(queue.approximateSize(),is(1));
+    }
+    @Test
+    public void spscStreamBatch(){
+        Queue<Integer> queue = QueueFactories.<Integer>spscQueue(1024).build();
+
+        new Thread(()->{
+            for(int i=0;i<10000;i++)
+                queue.offer(i);
+            queue.close();
+        }).start();
+
+        List<Seq<Integer>> batches = queue.streamBatch(100).toList();
+        assertTrue(batches.stream().allMatch(b->b.size()>0 && b.size()<=100));
+        assertThat(batches.stream().flatMap(Seq::stream).collect(Collectors.toList()),
+                   equalTo(ReactiveSeq.range(0,10000).toList()));
+    }
+    @Test
+    public void mpscStreamBatch(){
+        Queue<Integer> queue = QueueFactories.<Integer>mpscQueue(16).build();
+        AtomicInteger producing = new AtomicInteger(4);
+        for(int p=0;p<4;p++){
+            new Thread(()->{
+                for(int i=0;i<1000;i++)
+                    queue.offer(i);
+                if(producing.decrementAndGet()==0)
+                    queue.close();
+            }).start();
+        }
+
+        assertThat(queue.streamBatch(8).mapToInt(Seq::size).sum(),is(4000));
+    }
+    @Test
+    public void streamBatchOfClosedQueue(){
+        Queue<Integer> queue = QueueFactories.<Integer>spscQueue(16).build();
+        queue.offerAll(of(1,2,3));
+        queue.close();
+        assertThat(queue.streamBatch(2).toList(),equalTo(Arrays.asList(Seq.of(1,2),Seq.of(3))));
+    }
+    @Test
     public void batchByTime(){
         Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(10).build();
         queue.fromStream(of(1,2,3,4,5,6));
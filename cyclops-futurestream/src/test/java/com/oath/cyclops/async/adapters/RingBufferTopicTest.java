@@ -0,0 +1,162 @@
+package com.oath.cyclops.async.adapters;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.async.adapters.RingBufferTopic.SlowConsumerPolicy;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+public class RingBufferTopicTest {
+
+    @Test
+    public void multipleSubscribersGetSameMessages() {
+        RingBufferTopic<String> topic = new RingBufferTopic<>(16);
+
+        ReactiveSeq<String> data1 = topic.stream();
+        ReactiveSeq<String> data2 = topic.stream();
+        topic.fromStream(Stream.of("hello", "world"));
+
+        assertThat(data1.limit(1).findFirst().get(), is("hello"));
+        assertThat(data2.limit(2).reduce("", (acc, next) -> acc + ' ' + next),
+                is(" hello world"));
+    }
+
+    @Test
+    public void capacityRoundsUpToPowerOf2() {
+        assertThat(new RingBufferTopic<Integer>(1000).capacity(), equalTo(1024));
+        assertThat(new RingBufferTopic<Integer>(8).capacity(), equalTo(8));
+    }
+
+    @Test
+    public void nullsArePublished() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.offer(null);
+        topic.offer(1);
+        topic.close();
+
+        assertThat(stream.toList(), equalTo(Arrays.asList(null, 1)));
+    }
+
+    @Test
+    public void closeCompletesAfterPublishedData() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        ReactiveSeq<Integer> stream1 = topic.stream();
+        ReactiveSeq<Integer> stream2 = topic.stream();
+        topic.fromStream(Stream.of(1, 2, 3));
+        topic.close();
+
+        assertThat(stream1.toList(), equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(stream2.toList(), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void firstSubscriberReplaysBuffer() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        topic.fromStream(Stream.of(1, 2, 3));
+        ReactiveSeq<Integer> first = topic.stream();
+        ReactiveSeq<Integer> second = topic.stream();
+        topic.offer(4);
+        topic.close();
+
+        assertThat(first.toList(), equalTo(Arrays.asList(1, 2, 3, 4)));
+        assertThat(second.toList(), equalTo(Arrays.asList(4)));
+    }
+
+    @Test
+    public void blockWaitsForSlowSubscriber() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4);
+        ReactiveSeq<Integer> stream = topic.stream();
+
+        CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+            topic.fromStream(ReactiveSeq.range(0, 1000));
+            topic.close();
+        });
+
+        List<Integer> result = stream.toList();
+        producer.join();
+        assertThat(result, equalTo(ReactiveSeq.range(0, 1000).toList()));
+    }
+
+    @Test
+    public void dropSkipsLappedSubscriber() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4, SlowConsumerPolicy.DROP);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.fromStream(ReactiveSeq.range(0, 10));
+        topic.close();
+
+        assertThat(stream.toList(), equalTo(Arrays.asList(6, 7, 8, 9)));
+    }
+
+    @Test
+    public void disconnectPolicyCompletesLaggingSubscriber() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(4, SlowConsumerPolicy.DISCONNECT);
+        topic.offer(-1);
+        ReactiveSeq<Integer> slow = topic.stream();
+        ReactiveSeq<Integer> fast = topic.stream();
+
+        topic.fromStream(ReactiveSeq.range(0, 3));
+        assertThat(fast.limit(3).toList(), equalTo(Arrays.asList(0, 1, 2)));
+        topic.fromStream(ReactiveSeq.range(3, 10));
+        topic.close();
+
+        assertThat(topic.lag(slow), equalTo(-1l));
+        assertThat(slow.toList().size(), equalTo(0));
+    }
+
+    @Test
+    public void disconnectStopsGating() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(2);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.offer(1);
+        topic.offer(2);
+        assertThat(topic.lag(stream), equalTo(2l));
+        topic.disconnect(stream);
+
+        topic.fromStream(ReactiveSeq.range(0, 10));
+        assertThat(topic.lag(stream), equalTo(-1l));
+    }
+
+    @Test
+    public void sizeSignalTracksLag() {
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(8);
+        ReactiveSeq<Integer> stream = topic.stream();
+        topic.setSizeSignal(0, Signal.queueBackedSignal());
+        topic.offer(1);
+        topic.offer(2);
+        assertThat(stream.limit(1).toList(), equalTo(Arrays.asList(1)));
+
+        List<Integer> sizes = new ArrayList<>();
+        ((Queue<Integer>) topic.getSizeSignal(0).getContinuous()).drainTo(sizes, 10);
+        assertThat(sizes.subList(0, 3), equalTo(Arrays.asList(1, 2, 1)));
+    }
+
+    @Test
+    public void fanOut() {
+        ExecutorService exec = Executors.newFixedThreadPool(8);
+        RingBufferTopic<Integer> topic = new RingBufferTopic<>(64);
+        List<ReactiveSeq<Integer>> streams = ReactiveSeq.range(0, 8)
+                                                        .map(i -> topic.stream())
+                                                        .toList();
+        List<CompletableFuture<List<Integer>>> results = streams.stream()
+                                                                .map(s -> CompletableFuture.supplyAsync(s::toList, exec))
+                                                                .collect(Collectors.toList());
+        topic.fromStream(ReactiveSeq.range(0, 10000));
+        topic.close();
+
+        for (CompletableFuture<List<Integer>> next : results)
+            assertThat(next.join(), equalTo(ReactiveSeq.range(0, 10000).toList()));
+        exec.shutdown();
+    }
+}
@@ -104,6 +104,8 @@ public class IterableXDeserializer extends StdDeserializer<IterableX<?>> impleme
       return Streamable.fromIterable(multi);
     if(BankersQueue.class.isAssignableFrom(elementType))
       return BankersQueue.fromIterable(multi);
+    if(FingerTree.class.isAssignableFrom(elementType))
+      return FingerTree.fromIterable(multi);
     if(Bag.class.isAssignableFrom(elementType))
       return Bag.fromIterable(multi);
     if(cyclops.data.HashSet.class.isAssignableFrom(elementType))
@@ -1,5 +1,6 @@
 package com.oath.cyclops.jackson;
 
+import cyclops.data.FingerTree;
 import cyclops.data.LazySeq;
 import cyclops.data.Seq;
 import cyclops.data.Vector;
@@ -30,6 +31,11 @@ public class IterableXTest {
     assertThat(s,equalTo(Vector.of(1,2,3)));
   }
   @Test
+  public void fingerTree(){
+    FingerTree<Integer> s = JacksonUtil.convertFromJson(JacksonUtil.serializeToJson(FingerTree.of(1,2,3)),FingerTree.class);
+    assertThat(s,equalTo(FingerTree.of(1,2,3)));
+  }
+  @Test
   public void listX(){
     System.out.println(JacksonUtil.serializeToJson(ListX.of(1,2,3)));
     ListX<Integer> s = JacksonUtil.convertFromJson(JacksonUtil.serializeToJson(ListX.of(1,2,3)),ListX.class);
@@ -20,6 +20,7 @@ import cyclops.control.Either;
 import com.oath.cyclops.hkt.DataWitness.*;
 import cyclops.data.LazySeq;
 import cyclops.data.Seq;
+import cyclops.data.FingerTree;
 import cyclops.data.Vector;
 import cyclops.kinds.CompletableFutureKind;
 import cyclops.kinds.OptionalKind;
@@ -169,6 +170,19 @@ public interface MonoidKs {
         }
       };
     }
+    static MonoidK<fingerTree> fingerTreeConcat() {
+      return new MonoidK<fingerTree>() {
+        @Override
+        public <T> Higher<fingerTree, T> zero() {
+          return FingerTree.empty();
+        }
+
+        @Override
+        public <T> Higher<fingerTree, T> apply(Higher<fingerTree, T> t1, Higher<fingerTree, T> t2) {
+          return SemigroupKs.fingerTreeConcat().apply(t1,t2);
+        }
+      };
+    }
     /**
      * @return A combiner for VectorX (concatenates two VectorX into a single VectorX)
      */
@@ -6,6 +6,7 @@ import com.oath.cyclops.hkt.DataWitness.*;
 import com.oath.cyclops.hkt.DataWitness.optional;
 import cyclops.data.LazySeq;
 import cyclops.data.Seq;
+import cyclops.data.FingerTree;
 import cyclops.data.Vector;
 import cyclops.kinds.CompletableFutureKind;
 import cyclops.kinds.OptionalKind;
@@ -118,6 +119,16 @@ public interface SemigroupKs{
         }
       };
 
+    }
+    static SemigroupK<fingerTree> fingerTreeConcat() {
+      return new SemigroupK<fingerTree>() {
+
+        @Override
+        public <T> Higher<fingerTree, T> apply(Higher<fingerTree, T> a, Higher<fingerTree, T> b) {
+          return FingerTree.narrowK(a).plusAll(FingerTree.narrowK(b));
+        }
+      };
+
     }
     static SemigroupK<seq> seqConcat() {
       return new SemigroupK<seq>() {
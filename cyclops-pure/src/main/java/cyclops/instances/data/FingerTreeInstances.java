@@ -0,0 +1,285 @@
+package cyclops.instances.data;
+
+import com.oath.cyclops.hkt.DataWitness.fingerTree;
+import com.oath.cyclops.hkt.Higher;
+import cyclops.arrow.Cokleisli;
+import cyclops.arrow.Kleisli;
+import cyclops.arrow.MonoidK;
+import cyclops.arrow.MonoidKs;
+import cyclops.control.Either;
+import cyclops.control.Maybe;
+import cyclops.control.Option;
+import cyclops.data.FingerTree;
+import cyclops.data.tuple.Tuple2;
+import cyclops.function.Monoid;
+import cyclops.hkt.Active;
+import cyclops.hkt.Coproduct;
+import cyclops.hkt.Nested;
+import cyclops.hkt.Product;
+import cyclops.typeclasses.InstanceDefinitions;
+import cyclops.typeclasses.Pure;
+import cyclops.typeclasses.comonad.Comonad;
+import cyclops.typeclasses.foldable.Foldable;
+import cyclops.typeclasses.foldable.Unfoldable;
+import cyclops.typeclasses.functor.Functor;
+import cyclops.typeclasses.monad.Applicative;
+import cyclops.typeclasses.monad.Monad;
+import cyclops.typeclasses.monad.MonadPlus;
+import cyclops.typeclasses.monad.MonadRec;
+import cyclops.typeclasses.monad.MonadZero;
+import cyclops.typeclasses.monad.Traverse;
+import cyclops.typeclasses.monad.TraverseByTraverse;
+import lombok.AllArgsConstructor;
+import lombok.experimental.UtilityClass;
+import lombok.experimental.Wither;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static cyclops.data.FingerTree.narrowK;
+
+
+/**
+ * Companion class for creating Type Class instances for working with FingerTrees
+ *
+ */
+@UtilityClass
+public class FingerTreeInstances {
+
+  public static  <T> Kleisli<fingerTree,FingerTree<T>,T> kindKleisli(){
+    return Kleisli.of(FingerTreeInstances.monad(), FingerTree::widen);
+  }
+
+  public static  <T> Cokleisli<fingerTree,T,FingerTree<T>> kindCokleisli(){
+    return Cokleisli.of(FingerTree::narrowK);
+  }
+  public static <W1,T> Nested<fingerTree,W1,T> nested(FingerTree<Higher<W1,T>> nested, InstanceDefinitions<W1> def2){
+    return Nested.of(nested, FingerTreeInstances.definitions(),def2);
+  }
+  public static <W1,T> Product<fingerTree,W1,T> product(FingerTree<T> l, Active<W1,T> active){
+    return Product.of(allTypeclasses(l),active);
+  }
+  public static <W1,T> Coproduct<W1,fingerTree,T> coproduct(FingerTree<T> l, InstanceDefinitions<W1> def2){
+    return Coproduct.right(l,def2, FingerTreeInstances.definitions());
+  }
+  public static <T> Active<fingerTree,T> allTypeclasses(FingerTree<T> l){
+    return Active.of(l, FingerTreeInstances.definitions());
+  }
+  public static <W2,R,T> Nested<fingerTree,W2,R> mapM(FingerTree<T> l, Function<? super T,? extends Higher<W2,R>> fn, InstanceDefinitions<W2> defs){
+    return Nested.of(l.map(fn), FingerTreeInstances.definitions(), defs);
+  }
+
+  public static InstanceDefinitions<fingerTree> definitions(){
+    return new InstanceDefinitions<fingerTree>() {
+      @Override
+      public <T, R> Functor<fingerTree> functor() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T> Pure<fingerTree> unit() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T, R> Applicative<fingerTree> applicative() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T, R> Monad<fingerTree> monad() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T, R> Option<MonadZero<fingerTree>> monadZero() {
+        return Option.some(INSTANCE);
+      }
+
+      @Override
+      public <T> Option<MonadPlus<fingerTree>> monadPlus() {
+        return Option.some(INSTANCE);
+      }
+
+      @Override
+      public <T> MonadRec<fingerTree> monadRec() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T> Option<MonadPlus<fingerTree>> monadPlus(MonoidK<fingerTree> m) {
+        return Option.some(FingerTreeInstances.monadPlus(m));
+      }
+
+      @Override
+      public <C2, T> Traverse<fingerTree> traverse() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T> Foldable<fingerTree> foldable() {
+        return INSTANCE;
+      }
+
+      @Override
+      public <T> Option<Comonad<fingerTree>> comonad() {
+        return Option.none();
+      }
+
+      @Override
+      public <T> Option<Unfoldable<fingerTree>> unfoldable() {
+        return Option.some(INSTANCE);
+      }
+    };
+  }
+
+
+
+
+  private final static FingerTreeTypeClasses INSTANCE = new FingerTreeTypeClasses();
+  @AllArgsConstructor
+  @Wither
+  public static class FingerTreeTypeClasses implements MonadPlus<fingerTree>,
+                                                    MonadRec<fingerTree>,
+                                                    TraverseByTraverse<fingerTree>,
+                                                    Foldable<fingerTree>,
+                                                    Unfoldable<fingerTree>{
+
+      private final MonoidK<fingerTree> monoidK;
+      public FingerTreeTypeClasses(){
+          monoidK = MonoidKs.fingerTreeConcat();
+      }
+      @Override
+      public <T> Higher<fingerTree, T> filter(Predicate<? super T> predicate, Higher<fingerTree, T> ds) {
+          return narrowK(ds).filter(predicate);
+      }
+
+      @Override
+      public <T, R> Higher<fingerTree, Tuple2<T, R>> zip(Higher<fingerTree, T> fa, Higher<fingerTree, R> fb) {
+          return narrowK(fa).zip(narrowK(fb));
+      }
+
+      @Override
+      public <T1, T2, R> Higher<fingerTree, R> zip(Higher<fingerTree, T1> fa, Higher<fingerTree, T2> fb, BiFunction<? super T1, ? super T2, ? extends R> f) {
+          return narrowK(fa).zip(narrowK(fb),f);
+      }
+
+      @Override
+      public <T> MonoidK<fingerTree> monoid() {
+          return monoidK;
+      }
+
+      @Override
+      public <T, R> Higher<fingerTree, R> flatMap(Function<? super T, ? extends Higher<fingerTree, R>> fn, Higher<fingerTree, T> ds) {
+          return narrowK(ds).flatMap(i->narrowK(fn.apply(i)));
+      }
+
+      @Override
+      public <T, R> Higher<fingerTree, R> ap(Higher<fingerTree, ? extends Function<T, R>> fn, Higher<fingerTree, T> apply) {
+          return narrowK(apply)
+                            .zip(narrowK(fn),(a,b)->b.apply(a));
+      }
+
+      @Override
+      public <T> Higher<fingerTree, T> unit(T value) {
+          return FingerTree.of(value);
+      }
+
+      @Override
+      public <T, R> Higher<fingerTree, R> map(Function<? super T, ? extends R> fn, Higher<fingerTree, T> ds) {
+          return narrowK(ds).map(fn);
+      }
+
+
+      @Override
+      public <T, R> Higher<fingerTree, R> tailRec(T initial, Function<? super T, ? extends Higher<fingerTree, ? extends Either<T, R>>> fn) {
+          return FingerTree.tailRec(initial,i->narrowK(fn.apply(i)));
+      }
+
+      @Override
+      public <C2, T, R> Higher<C2, Higher<fingerTree, R>> traverseA(Applicative<C2> ap, Function<? super T, ? extends Higher<C2, R>> fn, Higher<fingerTree, T> ds) {
+          FingerTree<T> v = narrowK(ds);
+          return v.<Higher<C2, Higher<fingerTree,R>>>foldLeft(ap.unit(FingerTree.<R>empty()),
+              (a, b) -> ap.zip(fn.apply(b), a, (sn, vec) -> narrowK(vec).plus(sn)));
+
+
+     }
+
+      @Override
+      public <T, R> R foldMap(Monoid<R> mb, Function<? super T, ? extends R> fn, Higher<fingerTree, T> ds) {
+          FingerTree<T> x = narrowK(ds);
+          return x.foldLeft(mb.zero(),(a,b)->mb.apply(a,fn.apply(b)));
+      }
+
+      @Override
+      public <T, R> Higher<fingerTree, Tuple2<T, Long>> zipWithIndex(Higher<fingerTree, T> ds) {
+          return narrowK(ds).zipWithIndex();
+      }
+
+      @Override
+      public <T> T foldRight(Monoid<T> monoid, Higher<fingerTree, T> ds) {
+          return narrowK(ds).foldRight(monoid);
+      }
+
+
+      @Override
+      public <T> T foldLeft(Monoid<T> monoid, Higher<fingerTree, T> ds) {
+          return narrowK(ds).foldLeft(monoid);
+      }
+
+
+      @Override
+      public <R, T> Higher<fingerTree, R> unfold(T b, Function<? super T, Option<Tuple2<R, T>>> fn) {
+          return FingerTree.unfold(b,fn);
+      }
+
+
+  }
+
+    public static Unfoldable<fingerTree> unfoldable(){
+
+        return INSTANCE;
+    }
+
+  public static MonadPlus<fingerTree> monadPlus(MonoidK<fingerTree> m){
+
+      return INSTANCE.withMonoidK(m);
+  }
+    public static <T,R> Applicative<fingerTree> zippingApplicative(){
+      return INSTANCE;
+    }
+    public static <T,R>Functor<fingerTree> functor(){
+        return INSTANCE;
+    }
+
+    public static <T,R> Monad<fingerTree> monad(){
+        return INSTANCE;
+    }
+
+    public static <T,R> MonadZero<fingerTree> monadZero(){
+
+        return INSTANCE;
+    }
+
+    public static <T> MonadPlus<fingerTree> monadPlus(){
+
+        return INSTANCE;
+    }
+    public static <T,R> MonadRec<fingerTree> monadRec(){
+
+        return INSTANCE;
+    }
+
+
+    public static <C2,T> Traverse<fingerTree> traverse(){
+        return INSTANCE;
+    }
+
+    public static <T,R> Foldable<fingerTree> foldable(){
+      return INSTANCE;
+    }
+
+
+
+}
@@ -0,0 +1,135 @@
+package cyclops.async;
+
+import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.adapters.Queue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * One producer thread and one consumer thread transferring Integers through an async.Queue, per QueueFactories variant
+ * (Agrona ManyToOneConcurrentArrayQueue, LinkedBlockingQueue, ConcurrentLinkedQueue, spsc and mpsc). Neither side blocks so
+ * iterations always end, producers back off (and count nothing) when the Queue is close to full.
+ */
+@State(Scope.Group)
+public class QueueThroughput {
+
+    static final int CAPACITY = 1024;
+    static final int BATCH = 64;
+
+    @Param({"manyToOne", "linkedBlocking", "concurrentLinked", "spsc", "mpsc"})
+    String factory;
+
+    Queue<Integer> queue;
+    List<Integer> batch;
+    List<Integer> drained;
+
+
+    @Setup(Level.Iteration)
+    public void before() {
+        switch (factory) {
+            case "manyToOne":
+                queue = QueueFactories.<Integer>boundedNonBlockingQueue(CAPACITY).build();
+                break;
+            case "spsc":
+                queue = QueueFactories.<Integer>spscQueue(CAPACITY).build();
+                break;
+            case "mpsc":
+                queue = QueueFactories.<Integer>mpscQueue(CAPACITY).build();
+                break;
+            case "linkedBlocking":
+                queue = QueueFactories.<Integer>boundedQueue(CAPACITY).build();
+                break;
+            default:
+                queue = QueueFactories.<Integer>unboundedNonBlockingQueue().build();
+        }
+        batch = new ArrayList<>();
+        for (int i = 0; i < BATCH; i++)
+            batch.add(i);
+        drained = new ArrayList<>(BATCH);
+    }
+
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public boolean singleProducer() {
+        return queue.approximateSize() < CAPACITY && queue.add(1);
+    }
+
+    @Benchmark
+    @Group("single")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void singleConsumer(Blackhole bh) {
+        drained.clear();
+        bh.consume(queue.drainTo(drained, 1));
+    }
+
+    @Benchmark
+    @Group("batched")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public boolean batchedProducer() {
+        return queue.approximateSize() < CAPACITY - BATCH && queue.offerAll(batch);
+    }
+
+    @Benchmark
+    @Group("batched")
+    @GroupThreads(1)
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void batchedConsumer(Blackhole bh) {
+        drained.clear();
+        bh.consume(queue.drainTo(drained, BATCH));
+    }
+
+}
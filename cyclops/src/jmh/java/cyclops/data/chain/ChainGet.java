@@ -0,0 +1,92 @@
+package cyclops.data.chain;
+
+import cyclops.data.Chain;
+import cyclops.data.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class ChainGet {
+
+    Chain<Integer> chain;
+    Vector<Integer> vector;
+    int[] indexes;
+
+
+    @Setup
+    public void before() {
+        chain = Chain.empty();
+        vector = Vector.empty();
+        for(int i=0;i<10000;i++){
+            chain = chain.append(i);
+            vector = vector.plus(i);
+        }
+        Random r = new Random(0);
+        indexes = new int[1000];
+        for(int i=0;i<indexes.length;i++){
+            indexes[i] = r.nextInt(10000);
+        }
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void chainGet(Blackhole bh) {
+        for(int i : indexes)
+            bh.consume(chain.getOrElse(i,-1));
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void vectorGet(Blackhole bh) {
+        for(int i : indexes)
+            bh.consume(vector.getOrElse(i,-1));
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void chainIterate(Blackhole bh) {
+        for(Integer next : chain)
+            bh.consume(next);
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package cyclops.data.diet;
+
+import cyclops.data.DIET;
+import cyclops.data.Range;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class DIETOps {
+
+    DIET<Integer> diet;
+
+    @Setup
+    public void before() {
+        diet = DIET.empty();
+        for(int i=0;i<2_000;i++){
+            diet = diet.add(Range.range(i * 3, i * 3 + 2));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public DIET<Integer> monotonicAdd(){
+        DIET<Integer> res = DIET.empty();
+        for(int i=0;i<2_000;i++){
+            res = res.add(Range.range(i * 3, i * 3 + 2));
+        }
+        return res;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public int contains(){
+        int res = 0;
+        for(int i=0;i<6_000;i++){
+            if(diet.contains(i))
+                res++;
+        }
+        return res;
+    }
+}
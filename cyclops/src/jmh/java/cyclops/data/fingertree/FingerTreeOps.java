@@ -0,0 +1,134 @@
+package cyclops.data.fingertree;
+
+import cyclops.data.BankersQueue;
+import cyclops.data.FingerTree;
+import cyclops.data.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * A 1000 element sliding window pushed through 10k elements (append at the back, drop from the front), and
+ * repeated split / rejoin of a 10k element sequence.
+ */
+@State(Scope.Benchmark)
+public class FingerTreeOps {
+
+    FingerTree<Integer> tree;
+    Vector<Integer> vector;
+
+
+    @Setup
+    public void before() {
+        tree = FingerTree.range(0,10_000);
+        vector = Vector.range(0,10_000);
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void fingerTreeWindow(Blackhole bh){
+        FingerTree<Integer> window = FingerTree.empty();
+        for(int i=0;i<10_000;i++){
+            window = window.enqueue(i);
+            if(window.size()>1_000)
+                window = window.dequeue(-1)._2();
+        }
+        bh.consume(window);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void vectorWindow(Blackhole bh){
+        Vector<Integer> window = Vector.empty();
+        for(int i=0;i<10_000;i++){
+            window = window.append(i);
+            if(window.size()>1_000)
+                window = window.drop(1);
+        }
+        bh.consume(window);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void bankersQueueWindow(Blackhole bh){
+        BankersQueue<Integer> window = BankersQueue.empty();
+        for(int i=0;i<10_000;i++){
+            window = window.enqueue(i);
+            if(window.size()>1_000)
+                window = window.tail();
+        }
+        bh.consume(window);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void fingerTreeSplitConcat(Blackhole bh){
+        FingerTree<Integer> res = tree;
+        for(int i=1;i<1_000;i++){
+            res = res.drop(i*7).appendAll(res.take(i*7));
+        }
+        bh.consume(res);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void vectorSplitConcat(Blackhole bh){
+        Vector<Integer> res = vector;
+        for(int i=1;i<1_000;i++){
+            res = res.drop(i*7).appendAll(res.take(i*7));
+        }
+        bh.consume(res);
+    }
+
+}
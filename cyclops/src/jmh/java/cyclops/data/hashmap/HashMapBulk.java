@@ -0,0 +1,108 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.HashMap;
+import cyclops.data.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class HashMapBulk {
+
+    Map<String,Integer> source;
+    List<String> keys;
+    HashMap<String,Integer> half;
+    HashMap<String,Integer> other;
+
+    @Setup
+    public void before() {
+        source = new java.util.HashMap<>();
+        keys = new ArrayList<>();
+        for(int i=0;i<1_000_000;i++){
+            source.put(""+i,i);
+            keys.add(""+i);
+        }
+        HashMap<String,Integer> a = HashMap.empty();
+        HashMap<String,Integer> b = HashMap.empty();
+        for(int i=0;i<500_000;i++){
+            a = a.put(""+i,i);
+            b = b.put(""+(i+500_000),i);
+        }
+        half = a;
+        other = b;
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void fromMap() {
+        HashMap.fromMap(source);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void putAll() {
+        half.putAll(other);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void hashSetFromIterable() {
+        HashSet.fromIterable(keys);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public void vavrFromMap() {
+        io.vavr.collection.HashMap.ofAll(source);
+
+    }
+
+
+
+}
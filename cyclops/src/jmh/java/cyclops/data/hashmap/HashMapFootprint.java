@@ -0,0 +1,39 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.HashMap;
+import cyclops.data.HashSet;
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained object count and size of HashMaps / HashSets (and equivalent vavr collections) using JOL.
+ * Keys and values are shared between all collections and excluded from the totals.
+ */
+public class HashMapFootprint {
+
+    public static void main(String[] args){
+        for(int size : new int[]{10,1_000,100_000}) {
+            Integer[] keys = new Integer[size];
+            for(int i=0;i<size;i++){
+                keys[i] = i;
+            }
+            GraphLayout shared = GraphLayout.parseInstance((Object[])keys);
+
+            HashMap<Integer,Integer> map = HashMap.empty();
+            HashSet<Integer> set = HashSet.empty();
+            io.vavr.collection.HashMap<Integer,Integer> vavr = io.vavr.collection.HashMap.empty();
+            for(Integer next : keys){
+                map = map.put(next,next);
+                set = set.add(next);
+                vavr = vavr.put(next,next);
+            }
+            print("cyclops HashMap",size,GraphLayout.parseInstance(map).subtract(shared));
+            print("cyclops HashSet",size,GraphLayout.parseInstance(set).subtract(shared));
+            print("vavr HashMap",size,GraphLayout.parseInstance(vavr).subtract(shared));
+        }
+    }
+
+    private static void print(String name, int size, GraphLayout layout){
+        System.out.println(String.format("%-16s %8d entries %9d objects %11d bytes %6.1f bytes/entry",
+                                    name,size,layout.totalCount(),layout.totalSize(),(double)layout.totalSize()/size));
+    }
+}
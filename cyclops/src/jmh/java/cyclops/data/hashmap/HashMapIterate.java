@@ -0,0 +1,93 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.HashMap;
+import cyclops.data.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class HashMapIterate {
+
+    HashMap<String,Integer> map;
+    String[] keys;
+
+    @Setup
+    public void before() {
+        keys = new String[100000];
+        HashMap<String,Integer> res = HashMap.empty();
+        for(int i=0;i<100000;i++){
+            keys[i] = ""+i;
+            res = res.put(keys[i],i);
+        }
+        map = res;
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long iterate() {
+        long total = 0;
+        for(Tuple2<String,Integer> next : map){
+            total += next._2();
+        }
+        return total;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long get() {
+        long total = 0;
+        for(String next : keys){
+            total += map.getOrElse(next,0);
+        }
+        return total;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public HashMap<String,Integer> remove() {
+        HashMap<String,Integer> res = map;
+        for(int i=0;i<1000;i++){
+            res = res.remove(keys[i]);
+        }
+        return res;
+
+    }
+
+
+}
@@ -0,0 +1,108 @@
+package cyclops.data.hashmap;
+
+import cyclops.data.HashMap;
+import cyclops.data.HashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class HashMapMerge {
+
+    HashMap<String,Integer> config;
+    HashMap<String,Integer> updated;
+    HashMap<String,Integer> other;
+    HashSet<String> removed;
+
+    @Setup
+    public void before() {
+        HashMap<String,Integer> a = HashMap.empty();
+        HashMap<String,Integer> b = HashMap.empty();
+        HashSet<String> keys = HashSet.empty();
+        for(int i=0;i<100_000;i++){
+            a = a.put("key"+i,i);
+            b = b.put("key"+(i+50_000),-i);
+            if(i%100==0)
+                keys = keys.add("key"+i);
+        }
+        config = a;
+        other = b;
+        removed = keys;
+        HashMap<String,Integer> u = a;
+        for(int i=0;i<100_000;i+=1000){
+            u = u.put("key"+i,-i);
+        }
+        updated = u;
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object putAllShared() {
+        return config.putAll(updated);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object putAllDisjoint() {
+        return config.putAll(other);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Object removeAllKeys() {
+        return config.removeAllKeys(removed);
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public boolean equalsShared() {
+        return config.equals(updated);
+
+    }
+
+
+
+}
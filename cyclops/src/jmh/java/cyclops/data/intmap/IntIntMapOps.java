@@ -0,0 +1,113 @@
+package cyclops.data.intmap;
+
+import cyclops.data.HashMap;
+import cyclops.data.IntIntMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class IntIntMapOps {
+
+    int[] ids;
+    IntIntMap counts;
+    HashMap<Integer,Integer> boxedCounts;
+
+    @Setup
+    public void before() {
+        Random r = new Random(0);
+        ids = new int[100000];
+        for(int i=0;i<ids.length;i++){
+            ids[i] = r.nextInt(20000);
+        }
+        counts = count();
+        boxedCounts = countBoxed();
+
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public IntIntMap count() {
+        IntIntMap res = IntIntMap.empty();
+        for(int id : ids){
+            res = res.merge(id,1,Integer::sum);
+        }
+        return res;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public HashMap<Integer,Integer> countBoxed() {
+        HashMap<Integer,Integer> res = HashMap.empty();
+        for(int id : ids){
+            res = res.put(id,res.getOrElse(id,0)+1);
+        }
+        return res;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long get() {
+        long total = 0;
+        for(int id : ids){
+            total += counts.getOrElse(id,0);
+        }
+        return total;
+
+    }
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long getBoxed() {
+        long total = 0;
+        for(int id : ids){
+            total += boxedCounts.getOrElse(id,0);
+        }
+        return total;
+
+    }
+
+
+}
@@ -0,0 +1,71 @@
+package cyclops.data.queue;
+
+import cyclops.data.BankersQueue;
+import cyclops.data.RealTimeQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Steady state enqueue + dequeue on a queue of 100k elements, sampled per operation. Compare the high percentiles
+ * (p0.999 and above) rather than the mean, BankersQueue reverses its whole back list every so often.
+ */
+@State(Scope.Benchmark)
+public class QueueLatency {
+
+    BankersQueue<Integer> bankers;
+    RealTimeQueue<Integer> realTime;
+    int next;
+
+
+    @Setup
+    public void before() {
+        bankers = BankersQueue.empty();
+        realTime = RealTimeQueue.empty();
+        for(next=0;next<100_000;next++){
+            bankers = bankers.enqueue(next);
+            realTime = realTime.enqueue(next);
+        }
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Integer bankersQueue(){
+        bankers = bankers.enqueue(next++).tail();
+        return bankers.size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public Integer realTimeQueue(){
+        realTime = realTime.enqueue(next++).tail();
+        return realTime.size();
+    }
+
+}
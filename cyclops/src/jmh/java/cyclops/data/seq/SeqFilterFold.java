@@ -0,0 +1,78 @@
+package cyclops.data.seq;
+
+import cyclops.data.LazySeq;
+import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class SeqFilterFold {
+
+    Seq<Integer> seq;
+
+    @Setup
+    public void before() {
+        seq = Seq.range(0, 100_000);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long seqOps() {
+        return seq.map(i -> i * 2)
+                  .filter(i -> i % 3 == 0)
+                  .foldLeft(0L, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long lazySeqOps() {
+        return LazySeq.fromStream(ReactiveSeq.range(0, 100_000))
+                      .map(i -> i * 2)
+                      .filter(i -> i % 3 == 0)
+                      .foldLeft(0L, (a, b) -> a + b);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public long chunkedLazySeqOps() {
+        return LazySeq.chunked(ReactiveSeq.range(0, 100_000))
+                      .map(i -> i * 2)
+                      .filter(i -> i % 3 == 0)
+                      .foldLeft(0L, (a, b) -> a + b);
+    }
+}
@@ -0,0 +1,89 @@
+package cyclops.data.treemap;
+
+import cyclops.data.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class TreeBuild {
+
+    List<Integer> sorted;
+    List<Integer> shuffled;
+    TreeSet<Integer> evens;
+    TreeSet<Integer> odds;
+
+    @Setup
+    public void before() {
+        sorted = new ArrayList<>();
+        for(int i=0;i<100_000;i++){
+            sorted.add(i);
+        }
+        shuffled = new ArrayList<>(sorted);
+        Collections.shuffle(shuffled,new Random(0));
+        List<Integer> e = new ArrayList<>();
+        List<Integer> o = new ArrayList<>();
+        for(int i=0;i<100_000;i++){
+            (i%2==0 ? e : o).add(i);
+        }
+        evens = TreeSet.fromIterable(e);
+        odds = TreeSet.fromIterable(o);
+    }
+
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public int fromSorted() {
+        return TreeSet.fromIterable(sorted).size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public int fromShuffled() {
+        return TreeSet.fromIterable(shuffled).size();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+        iterations = 10
+    )
+    @Measurement(
+        iterations = 10
+    )
+    @Fork(1)
+    public int union() {
+        return evens.plusAll(odds).size();
+    }
+
+}
@@ -0,0 +1,73 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+
+public class FusedPipeline {
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsMap5(Blackhole bh) {
+  Spouts.range(0, 100_000)
+          .map(i -> i * 2)
+          .map(i -> i + 1)
+          .map(i -> i * 2)
+          .map(i -> i + 1)
+          .map(i -> i * 2)
+          .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsFilter3(Blackhole bh) {
+  Spouts.range(0, 100_000)
+          .filter(i -> i % 2 == 0)
+          .filter(i -> i % 3 == 0)
+          .filter(i -> i % 5 == 0)
+          .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void spoutsShortMap5(Blackhole bh) {
+  for(int k=0;k<100;k++) {
+   bh.consume(Spouts.of(1, 2, 3)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .map(i -> i * 2)
+           .collect(Collectors.toList()));
+  }
+ }
+
+}
@@ -0,0 +1,82 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.Spouts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class ParallelRails {
+
+ ExecutorService ex;
+
+ @Setup
+ public void setup() {
+  ex = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+ }
+
+ @TearDown
+ public void tearDown() {
+  ex.shutdown();
+ }
+
+ static long work(int in) {
+  long res = in;
+  for (int i = 0; i < 1_000; i++) {
+   res = res * 31 + i;
+  }
+  return res;
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void sequential(Blackhole bh) {
+  Spouts.range(0, 10_000)
+          .map(ParallelRails::work)
+          .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void parallelOrdered(Blackhole bh) {
+  Spouts.range(0, 10_000)
+          .parallel(Runtime.getRuntime().availableProcessors(), ex, s -> s.map(ParallelRails::work))
+          .forEach(bh::consume);
+ }
+
+ @Benchmark
+ @BenchmarkMode(Mode.SampleTime)
+ @OutputTimeUnit(TimeUnit.MILLISECONDS)
+ @Warmup(
+         iterations = 10
+ )
+ @Measurement(
+         iterations = 10
+ )
+ @Fork(1)
+ public void parallelUnordered(Blackhole bh) {
+  Spouts.range(0, 10_000)
+          .parallelUnordered(Runtime.getRuntime().availableProcessors(), ex, s -> s.map(ParallelRails::work))
+          .forEach(bh::consume);
+ }
+
+}
@@ -0,0 +1,91 @@
+package cyclops.reactiveSeq;
+
+import cyclops.reactive.IntSeq;
+import cyclops.reactive.ReactiveSeq;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+public class PrimitivePipeline {
+
+    int[] ticks;
+
+    @Setup
+    public void before(){
+        ticks = new int[10_000_000];
+        for(int i=0;i<ticks.length;i++){
+            ticks[i] = i % 1000;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long reactiveSeqOfInts(){
+        return ReactiveSeq.ofInts(ticks)
+                          .map(i->i*2)
+                          .filter(i->i%3==0)
+                          .mapToInt(i->i)
+                          .sum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long intSeq(){
+        return IntSeq.of(ticks)
+                     .map(i->i*2)
+                     .filter(i->i%3==0)
+                     .sum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long intSeqScanZip(){
+        return IntSeq.of(ticks)
+                     .scanLeft(0,Integer::sum)
+                     .zip(IntSeq.of(ticks),(a,b)->a-b)
+                     .sum();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(
+            iterations = 10
+    )
+    @Measurement(
+            iterations = 10
+    )
+    @Fork(1)
+    public long reactiveSeqScanZip(){
+        return ReactiveSeq.ofInts(ticks)
+                          .scanLeft(0,Integer::sum)
+                          .zip(ReactiveSeq.ofInts(ticks),(a,b)->a-b)
+                          .mapToInt(i->i)
+                          .sum();
+    }
+}
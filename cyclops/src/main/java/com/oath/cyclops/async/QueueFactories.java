@@ -10,6 +10,7 @@ import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import com.oath.cyclops.async.wait.NoWaitRetry;
+import com.oath.cyclops.async.wait.ParkWait;
 import com.oath.cyclops.async.wait.WaitStrategy;
 
 /**
@@ -202,6 +203,76 @@ public class QueueFactories {
 
     }
 
+    /**
+     * Creates an async.Queue for exactly one producer Thread and one consumer Thread, backed by an Agrona
+     * OneToOneConcurrentArrayQueue (a padded array ring buffer where each side caches the other's index).
+     * The consumer spins, yields and then parks while the Queue is empty, the producer does likewise while it is full.
+     * As the closing Thread offers to the Queue, it should be closed from the producer Thread.
+     *
+     * <pre>
+     * {@code
+     *   Queue<String> lines = QueueFactories.<String>spscQueue(1024)
+     *                                       .build();
+     *   //parser thread
+     *   lines.offer(line);
+     *   //writer thread
+     *   lines.streamBatch(256)
+     *        .forEach(writer::writeAll);
+     * }
+     * </pre>
+     *
+     * @param queueSize Max Queue size
+     * @return QueueFactory for single producer / single consumer Queues
+     */
+    public static <T> QueueFactory<T> spscQueue(final int queueSize) {
+        return spscQueue(queueSize, new ParkWait<>(), new ParkWait<>());
+    }
+
+    /**
+     * Creates an async.Queue for exactly one producer Thread and one consumer Thread, backed by an Agrona
+     * OneToOneConcurrentArrayQueue
+     *
+     * @param queueSize Max Queue size
+     * @param consumerWait Strategy employed by the consumer when the Queue is empty
+     * @param producerWait Strategy employed by the producer when the Queue is full
+     * @return QueueFactory for single producer / single consumer Queues
+     */
+    public static <T> QueueFactory<T> spscQueue(final int queueSize, final WaitStrategy<T> consumerWait, final WaitStrategy<T> producerWait) {
+        return () -> new Queue<T>(
+                                  new OneToOneConcurrentArrayQueue<>(
+                                                                     queueSize),
+                                  consumerWait, producerWait);
+    }
+
+    /**
+     * Creates an async.Queue for any number of producer Threads and one consumer Thread, backed by an Agrona
+     * ManyToOneConcurrentArrayQueue (a padded array ring buffer, producers share a cached copy of the consumer index).
+     * The consumer spins, yields and then parks while the Queue is empty. Producers spin only briefly before yielding
+     * and parking while the Queue is full, as they contend with each other for space.
+     *
+     * @param queueSize Max Queue size
+     * @return QueueFactory for multiple producer / single consumer Queues
+     */
+    public static <T> QueueFactory<T> mpscQueue(final int queueSize) {
+        return mpscQueue(queueSize, new ParkWait<>(), new ParkWait<>(10, 20, 100_000));
+    }
+
+    /**
+     * Creates an async.Queue for any number of producer Threads and one consumer Thread, backed by an Agrona
+     * ManyToOneConcurrentArrayQueue
+     *
+     * @param queueSize Max Queue size
+     * @param consumerWait Strategy employed by the consumer when the Queue is empty
+     * @param producerWait Strategy employed by producers when the Queue is full
+     * @return QueueFactory for multiple producer / single consumer Queues
+     */
+    public static <T> QueueFactory<T> mpscQueue(final int queueSize, final WaitStrategy<T> consumerWait, final WaitStrategy<T> producerWait) {
+        return () -> new Queue<T>(
+                                  new ManyToOneConcurrentArrayQueue<>(
+                                                                      queueSize),
+                                  consumerWait, producerWait);
+    }
+
     /**
      * @return async.Queue backed by a Synchronous Queue
      */
@@ -7,6 +7,7 @@ import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.control.Option;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
+import org.agrona.concurrent.Pipe;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -263,13 +264,20 @@ public interface AdaptersModule {
         @Override
         public int drainTo(final Collection c) {
 
-            return 0;
+            return drainTo(c, Integer.MAX_VALUE);
         }
 
         @Override
         public int drainTo(final Collection c, final int maxElements) {
-
-            return 0;
+            if (queue instanceof Pipe) //drain a whole chunk, advancing the head index once
+                return ((Pipe) queue).drainTo(c, maxElements);
+            int drained = 0;
+            Object next;
+            while (drained < maxElements && (next = queue.poll()) != null) {
+                c.add(next);
+                drained++;
+            }
+            return drained;
         }
 
     }
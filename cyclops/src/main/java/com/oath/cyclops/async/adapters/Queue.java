@@ -6,6 +6,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -102,8 +103,14 @@ public class Queue<T> implements Adapter<T> {
     @Getter
     @Setter
     private volatile Signal<Integer> sizeSignal;
+    @Wither(AccessLevel.NONE)
+    private final LongAdder sizeCounter; //approximate, O(1) size for the sizeSignal, shared by all copies of this Queue
+    @Wither(AccessLevel.NONE)
+    private final WaitStrategy.Takeable<T> takeNext; //built once per backing queue, so blocking takes don't allocate
 
     private volatile Continueable sub;
+    @Wither(AccessLevel.NONE)
+    private volatile WaitStrategy.Takeable<T> takeWithinTimeLimit; //built once per Continueable
     @Getter
     private ContinuationStrategy continuationStrategy;
     private volatile boolean shuttingDown = false;
@@ -131,6 +138,8 @@ public class Queue<T> implements Adapter<T> {
 
         this.consumerWait = q.consumerWait;
         this.producerWait = q.producerWait;
+        this.sizeCounter = q.sizeCounter;
+        this.takeNext = q.takeNext;
     }
 
     Queue(final BlockingQueue<T> queue, final WaitStrategy<T> consumer, final WaitStrategy<T> producer) {
@@ -143,6 +152,8 @@ public class Queue<T> implements Adapter<T> {
 
         this.consumerWait = consumer;
         this.producerWait = producer;
+        this.sizeCounter = new LongAdder();
+        this.takeNext = queue::take;
     }
 
     /**
@@ -228,29 +239,67 @@ public class Queue<T> implements Adapter<T> {
     }
 
     public Stream<T> jdkStream(final Continueable s){
-        this.sub = s;
+        registerSubscription(s);
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return closingStream(this::get, s);
     }
     @Override
     public ReactiveSeq<T> stream(final Continueable s) {
-        this.sub = s;
+        registerSubscription(s);
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStream(this::get, s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatchNoTimeout(final Continueable s, final Function<Supplier<T>, Supplier<Collection<T>>> batcher) {
-        this.sub = s;
+        registerSubscription(s);
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply(() -> ensureOpen(this.timeout, this.timeUnit)), s));
     }
 
     public ReactiveSeq<Collection<T>> streamBatch(final Continueable s,
             final Function<BiFunction<Long, TimeUnit, T>, Supplier<Collection<T>>> batcher) {
-        this.sub = s;
+        registerSubscription(s);
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamBatch(batcher.apply((timeout, timeUnit) -> ensureOpen(timeout, timeUnit)), s));
     }
+    /**
+     * Stream the data in this Queue in chunks. Each time the consumer wakes up it takes everything available
+     * (up to maxBatch data points) in one go, rather than waiting once per data point.
+     *
+     * <pre>
+     * {@code
+     *   Queue<String> lines = QueueFactories.<String>spscQueue(1024)
+     *                                       .build();
+     *
+     *   lines.streamBatch(256)
+     *        .forEach(writer::writeAll);
+     * }
+     * </pre>
+     *
+     * @param maxBatch Maximum number of data points per chunk
+     * @return Sequential Infinite (until Queue is closed) Stream of non-empty chunks of data from this Queue
+     */
+    public ReactiveSeq<Seq<T>> streamBatch(final int maxBatch) {
+        listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
+        final List<T> buffer = new ArrayList<>(Math.min(maxBatch, 1024));
+        final Stream<Seq<T>> st = StreamSupport.stream(new AdaptersModule.ClosingSpliterator<Seq<T>>(
+                                                                                     Long.MAX_VALUE, () -> nextBatch(buffer, maxBatch), new AlwaysContinue(), this),
+                                                       false);
+        return ReactiveSeq.fromStream(st);
+    }
+
+    private Seq<T> nextBatch(final List<T> buffer, final int maxBatch) {
+        buffer.clear();
+        buffer.add(get()); //wait for the first data point, then take whatever else is available
+        try {
+            if (maxBatch > 1)
+                drainTo(buffer, maxBatch - 1);
+        } catch (final ClosedQueueException e) {
+            //closed after the first data point, the next call reports it
+        }
+        return Seq.fromIterable(buffer);
+    }
+
     public ReactiveSeq<Seq<T>> streamGroupedByTime(long time, TimeUnit t){
         return streamGroupedBySizeAndTime(Integer.MAX_VALUE,time,t);
 
@@ -305,7 +354,7 @@ public class Queue<T> implements Adapter<T> {
     }
 
     public ReactiveSeq<CompletableFuture<T>> streamControlFutures(final Continueable s, final Function<Supplier<T>, CompletableFuture<T>> batcher) {
-        this.sub = s;
+        registerSubscription(s);
         listeningStreams.incrementAndGet(); //assumes all Streams that ever connected, remain connected
         return ReactiveSeq.fromStream(closingStreamFutures(() -> batcher.apply(() -> ensureOpen(this.timeout, this.timeUnit)), s));
     }
@@ -356,52 +405,50 @@ public class Queue<T> implements Adapter<T> {
      */
     @Override
     public boolean fromStream(final Stream<T> stream) {
-        stream.collect(Collectors.toCollection(() -> queue));
+        stream.forEach(next -> {
+            queue.add(next);
+            sizeCounter.increment();
+        });
+        if (sizeSignal != null)
+            this.sizeSignal.set(approximateSize());
         return true;
     }
 
     private T ensureOpen(final long timeout, final TimeUnit timeUnit) {
 
-        if (!open && queue.size() == 0)
+        if (!open && queue.isEmpty())
             throw new ClosedQueueException();
 
-        final SimpleTimer timer = new SimpleTimer();
+        T data = null;
         try {
 
-            final long timeoutNanos = timeUnit.toNanos(timeout);
-            T data = null;
-            try {
-
-                if (this.continuationStrategy != null) {
-
-                    final SimpleTimer streamTimer = new SimpleTimer();
-                    try {
-                        while (open && (data = ensureClear(queue.poll())) == null) {
+            if (this.continuationStrategy != null) {
 
-                            final SimpleTimer contTimer = new SimpleTimer();
+                final long start = timeout != -1 ? System.nanoTime() : 0l;
+                final long timeoutNanos = timeout != -1 ? timeUnit.toNanos(timeout) : 0l;
+                while (open && (data = ensureClear(queue.poll())) == null) {
 
-                            this.continuationStrategy.handleContinuation();
+                    this.continuationStrategy.handleContinuation();
 
-                            if (timeout != -1)
-                                handleTimeout(timer, timeoutNanos);
+                    if (timeout != -1)
+                        handleTimeout(start, timeoutNanos);
 
-                        }
-                        if (data != null)
-                            return (T) nillSafe(ensureNotPoisonPill(ensureClear(data)));
-                    }finally{
-                     }
                 }
-                if (!open && queue.size() == 0)
-                    throw new ClosedQueueException();
+                if (data != null)
+                    return (T) nillSafe(taken(ensureNotPoisonPill(ensureClear(data))));
+            }
+            if (!open && queue.isEmpty())
+                throw new ClosedQueueException();
 
+            data = ensureClear(queue.poll()); //fast path, data already available
+            if (data == null) {
                 if (timeout == -1) {
                     if (this.sub != null && this.sub.timeLimit() > -1) {
-                        data = ensureClear(consumerWait.take(() -> queue.poll(sub.timeLimit(), TimeUnit.NANOSECONDS)));
+                        data = ensureClear(consumerWait.take(takeWithinTimeLimit));
                         if (data == null)
                             throw new QueueTimeoutException();
                     } else {
-                        SimpleTimer takeTimer = new SimpleTimer();
-                        data = ensureClear(consumerWait.take(() -> queue.take()));
+                        data = ensureClear(consumerWait.take(takeNext));
                         if (data == null)
                             throw new QueueTimeoutException();
 
@@ -413,24 +460,36 @@ public class Queue<T> implements Adapter<T> {
                         throw new QueueTimeoutException();
 
                 }
-            } catch (final InterruptedException e) {
-                Thread.currentThread()
-                        .interrupt();
-                throw ExceptionSoftener.throwSoftenedException(e);
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                    .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
 
-            ensureNotPoisonPill(data);
-            if (sizeSignal != null)
-                this.sizeSignal.set(queue.size());
+        ensureNotPoisonPill(data);
+        taken(data);
+        if (sizeSignal != null)
+            this.sizeSignal.set(approximateSize());
 
-            return (T) nillSafe(data);
-        }finally{
-        }
+        return (T) nillSafe(data);
 
     }
 
-    private void handleTimeout(final SimpleTimer timer, final long timeout) {
-        if (timer.getElapsedNanoseconds() > timeout) {
+    private T taken(final T data) {
+        if (data != null)
+            sizeCounter.decrement();
+        return data;
+    }
+
+    private void registerSubscription(final Continueable s) {
+        final BlockingQueue<T> q = queue;
+        this.takeWithinTimeLimit = () -> q.poll(s.timeLimit(), TimeUnit.NANOSECONDS);
+        this.sub = s;
+    }
+
+    private void handleTimeout(final long start, final long timeout) {
+        if (System.nanoTime() - start > timeout) {
 
             throw new QueueTimeoutException();
         }
@@ -439,10 +498,11 @@ public class Queue<T> implements Adapter<T> {
 
     private T ensureClear(T poll) {
         if (CLEAR_PILL == poll) {
-            if (queue.size() > 0)
+            if (!queue.isEmpty())
                 poll = ensureClear(queue.poll());
 
             this.queue.clear();
+            this.sizeCounter.reset();
         }
 
         return poll;
@@ -534,8 +594,9 @@ public class Queue<T> implements Adapter<T> {
         try {
             final boolean result = queue.add((T) nullSafe(data));
             if (result) {
+                sizeCounter.increment();
                 if (sizeSignal != null)
-                    this.sizeSignal.set(queue.size());
+                    this.sizeSignal.set(approximateSize());
             }
             return result;
 
@@ -546,6 +607,7 @@ public class Queue<T> implements Adapter<T> {
 
     public boolean addError(Throwable t){
         queue.add((T) new Error(t));
+        sizeCounter.increment();
         return true;
     }
 
@@ -576,20 +638,104 @@ public class Queue<T> implements Adapter<T> {
             throw new ClosedQueueException();
         }
 
-        try {
-            final boolean result = producerWait.offer(() -> this.queue.offer((T) nullSafe(data), this.offerTimeout, this.offerTimeUnit));
+        final boolean result = offerNext(data);
+        if (sizeSignal != null)
+            this.sizeSignal.set(approximateSize());
+        return result;
 
-            if (sizeSignal != null)
-                this.sizeSignal.set(queue.size());
+    }
+
+    /**
+     * Offer all supplied data points to this Queue, as {@link Queue#offer(Object)} but the size Signal (if any)
+     * is updated once for the whole batch
+     *
+     * @param data data to add
+     * @return true if all data points were added
+     */
+    public boolean offerAll(final Iterable<? extends T> data) {
+
+        if (!open) {
+            throw new ClosedQueueException();
+        }
+
+        boolean result = true;
+        for (final T next : data) {
+            result = offerNext(next) && result;
+        }
+        if (sizeSignal != null)
+            this.sizeSignal.set(approximateSize());
+        return result;
+
+    }
+
+    private boolean offerNext(final T data) {
+        final T safe = (T) nullSafe(data);
+        if (queue.offer(safe)) { //fast path, space available
+            sizeCounter.increment();
+            return true;
+        }
+        try {
+            final boolean result = producerWait.offer(() -> this.queue.offer(safe, this.offerTimeout, this.offerTimeUnit));
+            if (result)
+                sizeCounter.increment();
             return result;
         } catch (final InterruptedException e) {
             Thread.currentThread()
                   .interrupt();
             throw ExceptionSoftener.throwSoftenedException(e);
         }
+    }
+
+    /**
+     * Transfer up to max currently available data points from this Queue into the supplied Collection without blocking.
+     * If an error is encountered, data points drained before it remain in the Collection and the error is thrown.
+     *
+     * @param collection Collection to add data to
+     * @param max Maximum number of data points to transfer
+     * @return Number of data points transferred
+     * @throws ClosedQueueException if the Queue is closed and no data remains
+     */
+    public int drainTo(final Collection<? super T> collection, final int max) {
+
+        int drained = 0;
+        boolean closed = false;
+        try {
+            T next;
+            while (drained < max && (next = queue.poll()) != null) {
+                if (next == CLEAR_PILL) {
+                    this.queue.clear();
+                    this.sizeCounter.reset();
+                    closed = true;
+                    break;
+                }
+                if (next instanceof PoisonPill) {
+                    queue.offer(next); //leave the pill for this, and other, connected Streams
+                    closed = true;
+                    break;
+                }
+                sizeCounter.decrement();
+                if (next instanceof Error)
+                    throw ExceptionSoftener.throwSoftenedException(((Error) next).t);
+                collection.add(nillSafe(next));
+                drained++;
+            }
+        } finally {
+            if (sizeSignal != null)
+                this.sizeSignal.set(approximateSize());
+        }
+        if (drained == 0 && (closed || (!open && queue.isEmpty())))
+            throw new ClosedQueueException();
+        return drained;
 
     }
 
+    /**
+     * @return Approximate number of data points in this Queue, maintained in O(1) rather than traversing the backing Queue
+     */
+    public int approximateSize() {
+        return (int) Math.max(0, sizeCounter.sum());
+    }
+
     private boolean timeout(final SimpleTimer timer) {
 
         if (timer.getElapsedNanoseconds() >= offerTimeUnit.toNanos(this.offerTimeout))
@@ -704,16 +850,12 @@ public class Queue<T> implements Adapter<T> {
         Queue<T> queue;
 
         public boolean notEmpty() {
-            return queue.queue.size() != 0;
+            return !queue.queue.isEmpty();
         }
 
         @Getter
         private volatile T last = null;
 
-        private int size() {
-            return queue.queue.size();
-        }
-
         public T next() {
 
             last = queue.ensureOpen(queue.timeout, queue.timeUnit);
@@ -728,9 +870,14 @@ public class Queue<T> implements Adapter<T> {
         public Collection<T> drainToOrBlock() {
 
             final Collection<T> result = new ArrayList<>();
-            if (size() > 0)
+            if (notEmpty()) {
                 queue.queue.drainTo(result);
-            else {
+                final List<T> data = result.stream()
+                                           .filter(it -> it != POISON_PILL)
+                                           .collect(Collectors.toList());
+                queue.sizeCounter.add(-data.size());
+                return data;
+            } else {
                 try {
 
                     result.add(queue.ensureOpen(queue.timeout, queue.timeUnit));
@@ -0,0 +1,398 @@
+package com.oath.cyclops.async.adapters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.oath.cyclops.async.QueueFactories;
+import com.oath.cyclops.async.wait.ParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
+import com.oath.cyclops.react.async.subscription.AlwaysContinue;
+import com.oath.cyclops.react.async.subscription.Continueable;
+import com.oath.cyclops.types.futurestream.Continuation;
+import com.oath.cyclops.util.ExceptionSoftener;
+import cyclops.data.HashMap;
+import cyclops.reactive.ReactiveSeq;
+
+/**
+ * A Topic backed by a single ring buffer (Disruptor style). Each message is written once, and every connected
+ * Stream reads it via its own sequence cursor, rather than the message being copied into a Queue per subscriber.
+ *
+ * The ring buffer supports a single writer at a time (offer / fromStream should not be called concurrently)
+ * and any number of readers. Connecting and disconnecting Streams is lock-free.
+ *
+ * When the slowest reader is a full buffer behind the writer the configured {@link SlowConsumerPolicy} applies
+ * <ul>
+ *     <li>BLOCK : the writer waits (via the producer WaitStrategy) until the slowest reader catches up</li>
+ *     <li>DROP : the writer overwrites, a lapped reader skips ahead to the oldest message still in the buffer</li>
+ *     <li>DISCONNECT : the lagging reader is disconnected, its Stream completes</li>
+ * </ul>
+ *
+ * Readers wait for new messages using the consumer WaitStrategy (by default {@link ParkWait}).
+ *
+ * The first Stream to connect receives any messages still held in the buffer, subsequent Streams receive only messages
+ * published after they connect.
+ *
+ * <pre>
+ * {@code
+ *   RingBufferTopic<String> topic = new RingBufferTopic<>(1024, SlowConsumerPolicy.DROP);
+ *   ReactiveSeq<String> prices = topic.stream();
+ *   ReactiveSeq<String> audit = topic.stream();
+ *
+ *   topic.offer("hello");
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type for the Topic
+ */
+public class RingBufferTopic<T> extends Topic<T> {
+
+    private static final Object CLOSED = new Object();
+    private static final Object LAPPED = new Object();
+    private static final Reader[] NO_READERS = new Reader[0];
+
+    /**
+     * What to do when the slowest reader is a full buffer behind the writer
+     */
+    public static enum SlowConsumerPolicy {
+        BLOCK, DROP, DISCONNECT
+    }
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> values;
+    private final AtomicLongArray sequences;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private final AtomicReference<Reader[]> readers = new AtomicReference<>(NO_READERS);
+    private final AtomicReference<HashMap<ReactiveSeq<?>, Reader>> streamToReader = new AtomicReference<>(HashMap.empty());
+    private final AtomicBoolean replayed = new AtomicBoolean(false);
+    private final SlowConsumerPolicy policy;
+    private final WaitStrategy<Object> consumerWait;
+    private final WaitStrategy<Object> producerWait;
+    private volatile boolean open = true;
+    private volatile boolean sizeSignals = false; //true once any reader has a size Signal
+    private volatile Continuation continuation;
+    private long cachedGatingSequence; //only accessed by the writer
+
+    /**
+     * Construct a RingBufferTopic that blocks the writer when the slowest reader falls a full buffer behind
+     *
+     * @param capacity Size of the buffer (rounded up to the next power of 2)
+     */
+    public RingBufferTopic(final int capacity) {
+        this(capacity, SlowConsumerPolicy.BLOCK);
+    }
+
+    /**
+     * @param capacity Size of the buffer (rounded up to the next power of 2)
+     * @param policy Policy to apply to readers that fall a full buffer behind the writer
+     */
+    public RingBufferTopic(final int capacity, final SlowConsumerPolicy policy) {
+        this(capacity, policy, new ParkWait<>(), new ParkWait<>());
+    }
+
+    /**
+     * @param capacity Size of the buffer (rounded up to the next power of 2)
+     * @param policy Policy to apply to readers that fall a full buffer behind the writer
+     * @param consumerWait WaitStrategy used by readers waiting for new messages
+     * @param producerWait WaitStrategy used by the writer waiting for slow readers (BLOCK policy only)
+     */
+    public RingBufferTopic(final int capacity, final SlowConsumerPolicy policy,
+                           final WaitStrategy<Object> consumerWait, final WaitStrategy<Object> producerWait) {
+        super(QueueFactories.unboundedQueue());
+        if (capacity < 1 || capacity > (1 << 30))
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30 but was " + capacity);
+        this.capacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.mask = this.capacity - 1;
+        this.values = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++)
+            sequences.set(i, -1);
+        this.policy = policy;
+        this.consumerWait = consumerWait;
+        this.producerWait = producerWait;
+        this.cachedGatingSequence = policy == SlowConsumerPolicy.DROP ? Long.MAX_VALUE : -1;
+    }
+
+    /**
+     * @return Number of messages the buffer can hold
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param stream Stream connected to this Topic
+     * @return Number of published messages the Stream has yet to read, or -1 if the Stream is not connected
+     */
+    public long lag(final ReactiveSeq<T> stream) {
+        final Reader reader = streamToReader.get()
+                                            .getOrElse(stream, null);
+        if (reader == null || !reader.connected)
+            return -1;
+        return Math.min(capacity, cursor.get() - reader.sequence.get());
+    }
+
+    /**
+     * Add a single datapoint to this Topic. Messages are written once and read by every connected Stream.
+     *
+     * @param data data to add
+     * @return true if published
+     */
+    @Override
+    public boolean offer(final T data) {
+        if (!open)
+            throw new Queue.ClosedQueueException();
+
+        final long next = cursor.get() + 1;
+        final long wrapPoint = next - capacity;
+        if (wrapPoint > cachedGatingSequence)
+            awaitCapacity(wrapPoint);
+
+        final int index = (int) next & mask;
+        sequences.set(index, -1); //readers racing with this write see a sequence mismatch and skip ahead
+        values.set(index, Queue.nullSafe(data));
+        sequences.lazySet(index, next);
+        cursor.lazySet(next);
+        if (sizeSignals) {
+            for (final Reader reader : readers.get())
+                reader.signalSize();
+        }
+        return true;
+    }
+
+    /**
+     * @param stream Input data from provided Stream
+     */
+    @Override
+    public boolean fromStream(final Stream<T> stream) {
+        stream.forEach(this::offer);
+        return true;
+    }
+
+    private void awaitCapacity(final long wrapPoint) {
+        if (policy == SlowConsumerPolicy.DISCONNECT) {
+            for (final Reader reader : readers.get()) {
+                if (reader.sequence.get() < wrapPoint)
+                    removeReader(reader);
+            }
+            cachedGatingSequence = minimumSequence();
+            return;
+        }
+        try {
+            producerWait.offer(() -> !open || (cachedGatingSequence = minimumSequence()) >= wrapPoint);
+        } catch (final InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        }
+        if (!open)
+            throw new Queue.ClosedQueueException();
+    }
+
+    private long minimumSequence() {
+        long min = cursor.get();
+        for (final Reader reader : readers.get()) {
+            min = Math.min(min, reader.sequence.get());
+        }
+        return min;
+    }
+
+    /**
+     * Generating a stream will register the Stream as a reader of this topic. @see RingBufferTopic#disconnect to disconnect from the topic
+     *
+     * @return Stream of data
+     */
+    @Override
+    public ReactiveSeq<T> stream() {
+        return connect(new AlwaysContinue());
+    }
+
+    @Override
+    public ReactiveSeq<T> stream(final Continueable s) {
+        return connect(s);
+    }
+
+    @Override
+    public ReactiveSeq<CompletableFuture<T>> streamCompletableFutures() {
+        return stream().map(CompletableFuture::completedFuture);
+    }
+
+    private ReactiveSeq<T> connect(final Continueable s) {
+        final Reader reader = addReader();
+        final ReactiveSeq<T> stream = ReactiveSeq.fromStream(StreamSupport.stream(new AdaptersModule.ClosingSpliterator<T>(
+                                                                                           Long.MAX_VALUE, () -> (T) Queue.nillSafe(reader.next()), s),
+                                                                                  false));
+        reader.stream = stream;
+        streamToReader.updateAndGet(m -> m.put(stream, reader));
+        return stream;
+    }
+
+    private Reader addReader() {
+        final boolean replay = replayed.compareAndSet(false, true);
+        final Reader reader = new Reader(this, replay ? Math.max(-1, cursor.get() - capacity) : cursor.get());
+        Reader[] current;
+        Reader[] updated;
+        do {
+            current = readers.get();
+            updated = new Reader[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = reader;
+        } while (!readers.compareAndSet(current, updated));
+        if (!replay) //the writer may have advanced before it could see this reader
+            reader.sequence.set(cursor.get());
+        return reader;
+    }
+
+    private void removeReader(final Reader reader) {
+        reader.connected = false;
+        final ReactiveSeq<?> stream = reader.stream;
+        if (stream != null)
+            streamToReader.updateAndGet(m -> m.remove(stream));
+        Reader[] current;
+        Reader[] updated;
+        do {
+            current = readers.get();
+            int index = -1;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == reader)
+                    index = i;
+            }
+            if (index == -1)
+                return;
+            updated = new Reader[current.length - 1];
+            System.arraycopy(current, 0, updated, 0, index);
+            System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+        } while (!readers.compareAndSet(current, updated));
+    }
+
+    /**
+     * Disconnect a Stream from this Topic, the writer will no longer wait for it and its Stream completes
+     *
+     * @param stream Stream to disconnect
+     */
+    @Override
+    public void disconnect(final ReactiveSeq<T> stream) {
+        final Reader reader = streamToReader.get()
+                                            .getOrElse(stream, null);
+        if (reader != null)
+            removeReader(reader);
+        streamToReader.updateAndGet(m -> m.remove(stream));
+    }
+
+    /**
+     * Close this Topic, connected Streams complete once they have read all published messages
+     *
+     * @return true if closed
+     */
+    @Override
+    public boolean close() {
+        this.open = false;
+        return true;
+    }
+
+    /**
+     * @param index Index of the connected Stream, in connection order
+     * @return Signal tracking the number of messages that Stream has yet to read (its lag), or null if none set
+     */
+    @Override
+    public Signal<Integer> getSizeSignal(final int index) {
+        final Reader[] current = readers.get();
+        return index >= 0 && index < current.length ? current[index].sizeSignal : null;
+    }
+
+    /**
+     * Track the lag of the connected Stream at index, the Signal is updated as messages are published and read
+     *
+     * @param index Index of the connected Stream, in connection order
+     * @param s Signal to update
+     */
+    @Override
+    public void setSizeSignal(final int index, final Signal<Integer> s) {
+        readers.get()[index].sizeSignal = s;
+        sizeSignals = true;
+    }
+
+    @Override
+    public void addContinuation(final Continuation cont) {
+        this.continuation = cont;
+    }
+
+    private void handleContinuation() {
+        final Continuation c = continuation;
+        if (c != null)
+            continuation = c.proceed();
+    }
+
+    /*
+     * A reader of the ring buffer, sequence is the last sequence consumed. Implements Takeable so waiting
+     * for the next message does not allocate.
+     */
+    static final class Reader implements WaitStrategy.Takeable<Object> {
+        private final RingBufferTopic<?> topic;
+        final AtomicLong sequence;
+        volatile boolean connected = true;
+        volatile ReactiveSeq<?> stream;
+        volatile Signal<Integer> sizeSignal;
+
+        Reader(final RingBufferTopic<?> topic, final long sequence) {
+            this.topic = topic;
+            this.sequence = new AtomicLong(sequence);
+        }
+
+        Object next() {
+            for (;;) {
+                final Object value;
+                try {
+                    value = topic.consumerWait.take(this);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                }
+                if (value == CLOSED)
+                    throw new Queue.ClosedQueueException();
+                if (value != LAPPED)
+                    return value;
+                //overwritten before we read it, skip ahead to the oldest message still in the buffer
+                sequence.set(Math.max(sequence.get(), topic.cursor.get() - topic.capacity));
+            }
+        }
+
+        void signalSize() {
+            final Signal<Integer> s = sizeSignal;
+            if (s != null)
+                s.set((int) Math.min(topic.capacity, topic.cursor.get() - sequence.get()));
+        }
+
+        @Override
+        public Object take() {
+            if (!connected)
+                return CLOSED;
+            final long next = sequence.get() + 1;
+            if (topic.cursor.get() < next) {
+                if (!topic.open && topic.cursor.get() < next)
+                    return CLOSED;
+                topic.handleContinuation();
+                return null;
+            }
+            final int index = (int) next & topic.mask;
+            if (topic.sequences.get(index) == next) {
+                final Object value = topic.values.get(index);
+                if (topic.sequences.get(index) == next) {
+                    sequence.lazySet(next);
+                    signalSize();
+                    return value;
+                }
+            }
+            return LAPPED;
+        }
+    }
+}
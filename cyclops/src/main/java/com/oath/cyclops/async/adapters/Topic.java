@@ -61,6 +61,14 @@ public class Topic<T> implements Adapter<T> {
         distributor.addQueue(q);
     }
 
+    /**
+     * Construct a Topic with no initial Queue, for Topics that do not distribute via per subscriber Queues
+     * @see RingBufferTopic
+     */
+    Topic(QueueFactory<T> factory) {
+        this.factory = factory;
+    }
+
     /**
      * Topic will maintain a queue for each Subscribing Stream
      * If a Stream is finished with a Topic it is good practice to disconnect from the Topic
@@ -0,0 +1,77 @@
+package com.oath.cyclops.async.wait;
+
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Retry to take or offer element to Queue if full or data unavailable, first by busy spinning, then by calling
+ * Thread.yield and finally by parking the waiting Thread for an exponentially increasing period (up to maxParkNanos).
+ *
+ * A parked Thread returns as soon as it is unparked, so producers that know which Thread is waiting can
+ * hand over without delay via {@link LockSupport#unpark(Thread)}, waiters that are not signalled still
+ * recheck at least every maxParkNanos.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the async.Queue
+ */
+@AllArgsConstructor
+public class ParkWait<T> implements WaitStrategy<T> {
+
+    private final int spinTries;
+    private final int yieldTries;
+    private final long maxParkNanos;
+
+    public ParkWait() {
+        this.spinTries = 100;
+        this.yieldTries = 10;
+        this.maxParkNanos = 1_000_000;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#take(cyclops2.async.wait.WaitStrategy.Takeable)
+     */
+    @Override
+    public T take(final WaitStrategy.Takeable<T> t) throws InterruptedException {
+        T result;
+        int tries = 0;
+        long parkNanos = Math.min(1_000, maxParkNanos);
+        while ((result = t.take()) == null) {
+            parkNanos = idle(tries, parkNanos);
+            if (tries <= spinTries + yieldTries)
+                tries++;
+        }
+
+        return result;
+    }
+
+    /* (non-Javadoc)
+     * @see cyclops2.async.wait.WaitStrategy#offer(cyclops2.async.wait.WaitStrategy.Offerable)
+     */
+    @Override
+    public boolean offer(final WaitStrategy.Offerable o) throws InterruptedException {
+        int tries = 0;
+        long parkNanos = Math.min(1_000, maxParkNanos);
+        while (!o.offer()) {
+            parkNanos = idle(tries, parkNanos);
+            if (tries <= spinTries + yieldTries)
+                tries++;
+        }
+        return true;
+    }
+
+    private long idle(final int tries, final long parkNanos) throws InterruptedException {
+        if (tries < spinTries)
+            return parkNanos;
+        if (tries < spinTries + yieldTries) {
+            Thread.yield();
+            return parkNanos;
+        }
+        LockSupport.parkNanos(this, parkNanos);
+        if (Thread.interrupted())
+            throw new InterruptedException();
+        return Math.min(parkNanos * 2, maxParkNanos);
+    }
+
+}
@@ -74,6 +74,13 @@ public interface WaitStrategy<T> {
         return new SpinWait<>();
     }
 
+    /**
+     * @return ParkWait strategy {@see ParkWait}
+     */
+    static <T> ParkWait<T> parkWait() {
+        return new ParkWait<>();
+    }
+
     /**
      * @return NoWaitRetry strategy {@see NoWaitRetry}
      */
@@ -8,6 +8,7 @@ public interface DataWitness {
     public static enum nonEmptyList{}
     public static enum seq{}
     public static enum vector{}
+    public static enum fingerTree{}
     public static enum lazyString{}
     public static enum intMap{}
     public static enum zipper{}
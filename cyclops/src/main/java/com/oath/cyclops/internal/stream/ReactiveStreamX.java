@@ -39,6 +39,7 @@ import org.reactivestreams.Subscription;
 
 
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -383,8 +384,9 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public final <R> ReactiveSeq<R> map(final Function<? super T, ? extends R> fn) {
-
-
+        if (source instanceof MapOperator) {
+            return createSeq(((MapOperator<?, T>) source).compose(fn));
+        }
         return createSeq(new MapOperator<T, R>(this.source, fn));
     }
 
@@ -418,6 +420,16 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
         return createSeq(pub);
     }
 
+    @Override
+    public <R> ReactiveSeq<R> parallel(int rails, int prefetch, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn) {
+        return createSeq(new ParallelRailsOperator<>(source, rails, prefetch, ex, fn, true), BACKPRESSURE);
+    }
+
+    @Override
+    public <R> ReactiveSeq<R> parallelUnordered(int rails, int prefetch, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn) {
+        return createSeq(new ParallelRailsOperator<>(source, rails, prefetch, ex, fn, false), BACKPRESSURE);
+    }
+
 
     @Override
     public final ReactiveSeq<T> filter(final Predicate<? super T> fn) {
@@ -1123,11 +1135,17 @@ public class ReactiveStreamX<T> extends BaseExtendedStream<T> {
 
     @Override
     public ReactiveSeq<T> limit(long num) {
+        if (source instanceof LimitOperator) {
+            return createSeq(((LimitOperator<T, ?>) source).compose(num));
+        }
         return createSeq(new LimitOperator<>(source, num));
     }
 
     @Override
     public ReactiveSeq<T> skip(long num) {
+        if (source instanceof SkipOperator) {
+            return createSeq(((SkipOperator<T, ?>) source).compose(num));
+        }
         return createSeq(new SkipOperator<>(source, num));
     }
 
@@ -0,0 +1,16 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Push based operator over primitive doubles, the double counterpart of Operator so values are never boxed between stages
+ */
+public interface DoubleOperator {
+
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
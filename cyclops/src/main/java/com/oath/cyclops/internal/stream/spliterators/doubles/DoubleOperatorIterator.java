@@ -0,0 +1,53 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Pulls values from a synchronous DoubleOperator, values are requested in batches and buffered to keep the per value
+ * request overhead down
+ */
+public class DoubleOperatorIterator implements PrimitiveIterator.OfDouble {
+
+    private static final int BATCH = 1024;
+    private final StreamSubscription sub;
+    private double[] buffer = new double[BATCH];
+    private int head;
+    private int tail;
+    private boolean done;
+    private Throwable error;
+
+    public DoubleOperatorIterator(DoubleOperator source){
+        sub = source.subscribe(e->{
+            if(tail==buffer.length)
+                buffer = Arrays.copyOf(buffer,buffer.length*2);
+            buffer[tail++] = e;
+        },e->error=e,()->done=true);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(head==tail && !done && error==null){
+            head = 0;
+            tail = 0;
+            sub.request(BATCH);
+        }
+        if(error!=null){
+            Throwable t = error;
+            error = null;
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+        return head<tail;
+    }
+
+    @Override
+    public double nextDouble() {
+        if(!hasNext())
+            throw new NoSuchElementException();
+        return buffer[head++];
+    }
+}
@@ -0,0 +1,114 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.push.Operator;
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Groups doubles into (possibly overlapping) double[] windows, a trailing partial window is emitted if no full window
+ * covered its values
+ */
+public class DoubleSlidingOperator implements Operator<double[]> {
+
+    private final DoubleOperator source;
+    private final int windowSize;
+    private final int increment;
+
+    public DoubleSlidingOperator(DoubleOperator source, int windowSize, int increment){
+        this.source = source;
+        this.windowSize = windowSize;
+        this.increment = increment;
+    }
+
+    private final class Window {
+        final double[] buffer = new double[windowSize];
+        int count;
+        boolean sent;
+
+        /**
+         * @return a full window, or null if more values are needed
+         */
+        double[] add(double e) {
+            buffer[count++] = e;
+            if (count < windowSize) {
+                sent = false;
+                return null;
+            }
+            double[] window = buffer.clone();
+            int drop = Math.min(increment, count);
+            System.arraycopy(buffer, drop, buffer, 0, count - drop);
+            count -= drop;
+            sent = true;
+            return window;
+        }
+
+        void complete(Consumer<? super double[]> onNext) {
+            if (!sent && count > 0)
+                onNext.accept(Arrays.copyOf(buffer, count));
+        }
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super double[]> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+
+        StreamSubscription[] upstream = {null};
+        StreamSubscription sub = new StreamSubscription(){
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                upstream[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        Window window = new Window();
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        double[] next = window.add(e);
+                        if(next!=null) {
+                            onNext.accept(next);
+                        }else if(sub.isOpen){
+                            //keep filling the window on behalf of the downstream request
+                            upstream[0].request(1);
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    window.complete(onNext);
+                    onComplete.run();
+                });
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super double[]> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Window window = new Window();
+        source.subscribeAll(e-> {
+                    try {
+                        double[] next = window.add(e);
+                        if(next!=null)
+                            onNext.accept(next);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    window.complete(onNext);
+                    onCompleteDs.run();
+                });
+    }
+}
@@ -0,0 +1,115 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Source operator that pushes the doubles of a Spliterator.OfDouble, a new Spliterator is created for each subscription
+ */
+public class DoubleSpliteratorOperator implements DoubleOperator {
+
+    final Supplier<? extends Spliterator.OfDouble> source;
+
+    public DoubleSpliteratorOperator(Supplier<? extends Spliterator.OfDouble> source){
+        this.source = source;
+    }
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        Spliterator.OfDouble split = source.get();
+        boolean sized = split.hasCharacteristics(Spliterator.SIZED);
+        boolean[] completeSent = {false};
+        StreamSubscription sub = new StreamSubscription(){
+            LongConsumer work = n->{
+                if (n == Long.MAX_VALUE) {
+                    pushAll();
+                    return;
+                }
+                long reqs = n;
+                long delivered = 0;
+                do{
+
+                    while (delivered < reqs) {
+                        if (!isOpen)
+                            return;
+                        boolean advanced;
+                        try {
+                            advanced = split.tryAdvance(onNext);
+                        } catch (Throwable t) {
+                            onError.accept(t);
+                            advanced = true;
+                        }
+                        if (!advanced || (sized && split.estimateSize() == 0)) {
+                            complete();
+                            return;
+                        }
+                        delivered++;
+                    }
+                    reqs = requested.get();
+                    if(reqs==delivered) {
+                        reqs = requested.accumulateAndGet(delivered, (a, b) -> a - b);
+                        if(reqs==0)
+                            return;
+                        delivered=0;
+
+                    }
+
+                }while(true);
+
+
+            };
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                singleActiveRequest(n,work);
+
+            }
+
+            private void pushAll() {
+                boolean more = true;
+                while (more && isOpen) {
+                    try {
+                        more = split.tryAdvance(onNext);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                if (!more)
+                    complete();
+                requested.set(0);
+            }
+
+            private void complete() {
+                if (!completeSent[0]) {
+                    completeSent[0] = true;
+                    onComplete.run();
+                }
+            }
+
+        };
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        Spliterator.OfDouble split = source.get();
+        for(;;) {
+            try {
+                split.forEachRemaining(onNext);
+                break;
+            } catch (Throwable t) {
+                //the failing element has been consumed, carry on with the rest
+                onError.accept(t);
+            }
+        }
+        onCompleteDs.run();
+    }
+}
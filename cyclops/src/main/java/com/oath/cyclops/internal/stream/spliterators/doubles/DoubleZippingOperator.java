@@ -0,0 +1,59 @@
+package com.oath.cyclops.internal.stream.spliterators.doubles;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Zips the values pushed by left with values pulled from right, completes when either side is exhausted
+ */
+public class DoubleZippingOperator implements DoubleOperator {
+
+    final DoubleOperator left;
+    final DoubleOperator right;
+    final DoubleBinaryOperator zipper;
+
+    public DoubleZippingOperator(DoubleOperator left, DoubleOperator right, DoubleBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfDouble it = new DoubleOperatorIterator(right);
+        StreamSubscription[] upstream = {null};
+        boolean[] completed = {false};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext()) {
+                            onNext.accept(zipper.applyAsDouble(e, it.nextDouble()));
+                        }else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]){
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(DoubleConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribe with unbounded demand so left can be cancelled once right is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.oath.cyclops.internal.stream.spliterators.ints;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Push based operator over primitive ints, the int counterpart of Operator so values are never boxed between stages
+ */
+public interface IntOperator {
+
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
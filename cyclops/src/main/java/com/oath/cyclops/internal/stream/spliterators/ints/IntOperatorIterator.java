@@ -0,0 +1,53 @@
+package com.oath.cyclops.internal.stream.spliterators.ints;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Pulls values from a synchronous IntOperator, values are requested in batches and buffered to keep the per value
+ * request overhead down
+ */
+public class IntOperatorIterator implements PrimitiveIterator.OfInt {
+
+    private static final int BATCH = 1024;
+    private final StreamSubscription sub;
+    private int[] buffer = new int[BATCH];
+    private int head;
+    private int tail;
+    private boolean done;
+    private Throwable error;
+
+    public IntOperatorIterator(IntOperator source){
+        sub = source.subscribe(e->{
+            if(tail==buffer.length)
+                buffer = Arrays.copyOf(buffer,buffer.length*2);
+            buffer[tail++] = e;
+        },e->error=e,()->done=true);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while(head==tail && !done && error==null){
+            head = 0;
+            tail = 0;
+            sub.request(BATCH);
+        }
+        if(error!=null){
+            Throwable t = error;
+            error = null;
+            throw ExceptionSoftener.throwSoftenedException(t);
+        }
+        return head<tail;
+    }
+
+    @Override
+    public int nextInt() {
+        if(!hasNext())
+            throw new NoSuchElementException();
+        return buffer[head++];
+    }
+}
@@ -0,0 +1,80 @@
+package com.oath.cyclops.internal.stream.spliterators.ints;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Emits the identity value followed by the running accumulation of each upstream value
+ */
+public class IntScanOperator implements IntOperator {
+
+    final IntOperator source;
+    final int identity;
+    final IntBinaryOperator accumulator;
+
+    public IntScanOperator(IntOperator source, int identity, IntBinaryOperator accumulator){
+        this.source = source;
+        this.identity = identity;
+        this.accumulator = accumulator;
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        StreamSubscription[] upstream = {null};
+        int[] current = {identity};
+        StreamSubscription sub = new StreamSubscription(){
+            boolean identitySent = false;
+
+            @Override
+            public void request(long n) {
+                if(n<=0) {
+                    onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                    return;
+                }
+                if(!isOpen)
+                    return;
+                if(!identitySent){
+                    identitySent = true;
+                    onNext.accept(identity);
+                    if(n!=Long.MAX_VALUE && --n==0)
+                        return;
+                }
+                upstream[0].request(n);
+            }
+
+            @Override
+            public void cancel() {
+                upstream[0].cancel();
+                super.cancel();
+            }
+        };
+        upstream[0] = source.subscribe(e-> {
+                    try {
+                        current[0] = accumulator.applyAsInt(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onComplete);
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        int[] current = {identity};
+        onNext.accept(identity);
+        source.subscribeAll(e-> {
+                    try {
+                        current[0] = accumulator.applyAsInt(current[0],e);
+                        onNext.accept(current[0]);
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,onCompleteDs);
+    }
+}
@@ -0,0 +1,59 @@
+package com.oath.cyclops.internal.stream.spliterators.ints;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+
+/**
+ * Zips the values pushed by left with values pulled from right, completes when either side is exhausted
+ */
+public class IntZippingOperator implements IntOperator {
+
+    final IntOperator left;
+    final IntOperator right;
+    final IntBinaryOperator zipper;
+
+    public IntZippingOperator(IntOperator left, IntOperator right, IntBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfInt it = new IntOperatorIterator(right);
+        StreamSubscription[] upstream = {null};
+        boolean[] completed = {false};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext()) {
+                            onNext.accept(zipper.applyAsInt(e, it.nextInt()));
+                        }else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]){
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(IntConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribe with unbounded demand so left can be cancelled once right is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.oath.cyclops.internal.stream.spliterators.longs;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Push based operator over primitive longs, the long counterpart of Operator so values are never boxed between stages
+ */
+public interface LongOperator {
+
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete);
+
+}
@@ -0,0 +1,59 @@
+package com.oath.cyclops.internal.stream.spliterators.longs;
+
+import com.oath.cyclops.internal.stream.spliterators.push.StreamSubscription;
+
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+
+/**
+ * Zips the values pushed by left with values pulled from right, completes when either side is exhausted
+ */
+public class LongZippingOperator implements LongOperator {
+
+    final LongOperator left;
+    final LongOperator right;
+    final LongBinaryOperator zipper;
+
+    public LongZippingOperator(LongOperator left, LongOperator right, LongBinaryOperator zipper){
+        this.left = left;
+        this.right = right;
+        this.zipper = zipper;
+    }
+
+    @Override
+    public StreamSubscription subscribe(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        PrimitiveIterator.OfLong it = new LongOperatorIterator(right);
+        StreamSubscription[] upstream = {null};
+        boolean[] completed = {false};
+        upstream[0] = left.subscribe(e-> {
+                    if(completed[0])
+                        return;
+                    try {
+                        if(it.hasNext()) {
+                            onNext.accept(zipper.applyAsLong(e, it.nextLong()));
+                        }else{
+                            completed[0] = true;
+                            upstream[0].cancel();
+                            onComplete.run();
+                        }
+                    } catch (Throwable t) {
+                        onError.accept(t);
+                    }
+                }
+                ,onError,()->{
+                    if(!completed[0]){
+                        completed[0] = true;
+                        onComplete.run();
+                    }
+                });
+        return upstream[0];
+    }
+
+    @Override
+    public void subscribeAll(LongConsumer onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        //subscribe with unbounded demand so left can be cancelled once right is exhausted
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+}
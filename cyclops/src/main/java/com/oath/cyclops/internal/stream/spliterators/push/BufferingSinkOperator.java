@@ -5,14 +5,14 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
 import java.util.Queue;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 
 public class BufferingSinkOperator<T> implements Operator<T> {
     private final Queue<T> q;
 
-    private final AtomicBoolean active = new AtomicBoolean(false);
+    private final AtomicInteger wip = new AtomicInteger(0);
     private final Consumer<? super Subscriber<T>> sub;
     private final BufferOverflowPolicy policy;
 
@@ -74,45 +74,42 @@ public class BufferingSinkOperator<T> implements Operator<T> {
         });
         return ss;
     }
+    /*
+     * Single drain loop : producers and requesters that find the loop already running just bump wip and leave, the thread
+     * in the loop re-reads demand and re-polls the queue before exiting. Delivered elements are subtracted from demand once
+     * per pass rather than once per element.
+     */
     private void processQueue(StreamSubscription ss,Consumer<? super T> onNext) {
-
-        if(active.compareAndSet(false,true)) {
-
-            while(ss.isActive()) {
+        if(wip.getAndIncrement()!=0)
+            return;
+        int missed = 1;
+        do {
+            long requested = ss.requested.get();
+            long emitted = 0;
+            while(emitted!=requested && ss.isOpen) {
                 T next = q.poll();
-                if (next != null) {
-                    onNext.accept(next);
-                    ss.requested.decrementAndGet();
-                }
-                else
+                if (next == null)
                     break;
+                onNext.accept(next);
+                emitted++;
             }
-            active.set(false);
-            if (!q.isEmpty() && ss.isActive()) {
-                processQueue(ss,onNext);
-            }
-
-        }
+            if(emitted!=0 && requested!=Long.MAX_VALUE)
+                ss.requested.addAndGet(-emitted);
+            missed = wip.addAndGet(-missed);
+        }while(missed!=0);
 
     }
     private void processQueue(Consumer<? super T> onNext) {
-
-        if(active.compareAndSet(false,true)) {
-            while(true) {
-                T next = q.poll();
-                if (next != null) {
-                    onNext.accept(next);
-
-                }
-                else
-                    break;
+        if(wip.getAndIncrement()!=0)
+            return;
+        int missed = 1;
+        do {
+            T next;
+            while((next = q.poll())!=null) {
+                onNext.accept(next);
             }
-            active.set(false);
-            if (!q.isEmpty()) {
-                processQueue(onNext);
-            }
-
-        }
+            missed = wip.addAndGet(-missed);
+        }while(missed!=0);
 
     }
 
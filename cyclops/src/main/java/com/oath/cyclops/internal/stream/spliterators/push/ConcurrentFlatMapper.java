@@ -15,6 +15,9 @@ import java.util.function.Function;
 
 public class ConcurrentFlatMapper<T, R> {
 
+    static final int PREFETCH = 32;
+    static final int LIMIT = PREFETCH - (PREFETCH >> 2);
+
     volatile Seq<ActiveSubscriber> activeList = Seq.empty();
     static final AtomicReferenceFieldUpdater<ConcurrentFlatMapper, Seq> queueUpdater =
         AtomicReferenceFieldUpdater.newUpdater(ConcurrentFlatMapper.class, Seq.class, "activeList");
@@ -183,9 +186,7 @@ public class ConcurrentFlatMapper<T, R> {
 
         void processPendingRequests(){
             if (pendingRequests != 0L) {
-                if (!nextActive.done) {
-                    nextActive.sub.get().request(pendingRequests);
-                }
+                nextActive.replenish(pendingRequests);
                 if (requestedLocal != Long.MAX_VALUE) {
                     requestedLocal =  requested.addAndGet(-pendingRequests);
                 }
@@ -302,11 +303,29 @@ public class ConcurrentFlatMapper<T, R> {
         final AtomicReference<Subscription> sub = new AtomicReference();
         final Queue<R> queue = new OneToOneConcurrentArrayQueue<>(1024);
         private volatile boolean done;
+        //only accessed while holding wip
+        private long consumed;
 
         @Override
         public void onSubscribe(Subscription s) {
             if (this.sub.compareAndSet(null, s)) {
-                s.request(1);
+                s.request(PREFETCH);
+            }
+        }
+
+        /**
+         * Inner publishers are kept PREFETCH elements ahead, demand is topped up in batches once LIMIT have been consumed
+         * rather than with a request(1) per element
+         */
+        void replenish(long n) {
+            if (done)
+                return;
+            long total = consumed + n;
+            if (total >= LIMIT) {
+                consumed = 0;
+                sub.get().request(total);
+            } else {
+                consumed = total;
             }
         }
 
@@ -323,7 +342,7 @@ public class ConcurrentFlatMapper<T, R> {
                     if (localRequested != Long.MAX_VALUE) {
                         requested.decrementAndGet();
                     }
-                    sub.get().request(1);
+                    replenish(1);
                 } else {
                     queue.offer(com.oath.cyclops.async.adapters.Queue.nullSafe(t)); //queue full! handle somehow
                 }
@@ -19,6 +19,10 @@ public class LimitOperator<T,R> extends BaseOperator<T,T> {
     }
 
 
+    public LimitOperator<T,R> compose(long next){
+        return new LimitOperator<>(source,Math.min(limit,next));
+    }
+
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         long[] count = {0};
@@ -1,6 +1,9 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
+import com.oath.cyclops.async.wait.ParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.internal.stream.publisher.PublisherIterable;
+import com.oath.cyclops.util.ExceptionSoftener;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
@@ -17,17 +20,24 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
     Operator<T> source;
     final Consumer<? super Throwable> defaultErrorHandler;
     final boolean async;
+    final WaitStrategy<Boolean> wait;
 
     public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler){
        this.source= source;
        this.defaultErrorHandler = defaultErrorHandler;
        async=false;
+       wait = new ParkWait<>();
 
     }
     public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler,boolean async){
+        this(source,defaultErrorHandler,async,new ParkWait<>());
+
+    }
+    public OperatorToIterable(Operator<T> source, Consumer<? super Throwable> defaultErrorHandler,boolean async, WaitStrategy<Boolean> wait){
         this.source= source;
         this.defaultErrorHandler = defaultErrorHandler;
         this.async = async;
+        this.wait = wait;
 
     }
 
@@ -41,18 +51,39 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
             final AtomicBoolean done = new AtomicBoolean(false);
             volatile boolean requested = false;
             volatile  boolean awaiting = false;
+            volatile Thread waiter = null;
             StreamSubscription sub = source.subscribe(e ->{
                 value.set(e);
                 awaiting = false;
+                signal();
             } , e -> {
                 error.set(e);
                 awaiting = false;
+                signal();
             }, () -> {
 
                 done.set(true);
                 awaiting = false;
+                signal();
             });
 
+            void signal(){
+                Thread waiting = waiter;
+                if(waiting!=null)
+                    LockSupport.unpark(waiting);
+            }
+            void await(){
+                waiter = Thread.currentThread();
+                try {
+                    wait.take(() -> awaiting && !done.get() ? null : Boolean.TRUE);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw ExceptionSoftener.throwSoftenedException(e);
+                } finally {
+                    waiter = null;
+                }
+            }
+
             public void forEachRemaining(Consumer<? super T> action) {
                 Iterator.super.forEachRemaining(action);
             }
@@ -75,9 +106,8 @@ public class OperatorToIterable<T,R>  implements Iterable<T> {
                     awaiting = true;
                     sub.request(1l);
                     requested = true;
-                    while(awaiting && !done.get()){
-
-                        LockSupport.parkNanos(0l);
+                    if(awaiting && !done.get()){
+                        await();
                     }
 
                 }
@@ -0,0 +1,375 @@
+package com.oath.cyclops.internal.stream.spliterators.push;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import cyclops.reactive.ReactiveSeq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Splits a Stream across a fixed number of rails, each rail runs the supplied (synchronous) pipeline on the Executor
+ * and the rail outputs are rejoined either in encounter order or in the order they are produced.
+ *
+ * Upstream elements are dealt round-robin to the rails, every upstream element produces exactly one batch (possibly empty)
+ * of rail output - which is what allows the ordered rejoin to visit the rails in turn. At most rails * prefetch
+ * elements are in flight between the upstream and the downstream subscriber at any time.
+ */
+public class ParallelRailsOperator<T,R> extends BaseOperator<T,R> {
+
+    private static final Object NONE = new Object();
+    private static final Object NULL = new Object();
+
+    private final int rails;
+    private final int prefetch;
+    private final Executor executor;
+    private final Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> railFn;
+    private final boolean ordered;
+
+    public ParallelRailsOperator(Operator<T> source, int rails, int prefetch, Executor executor,
+                                 Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> railFn, boolean ordered) {
+        super(source);
+        if(rails<1)
+            throw new IllegalArgumentException("rails must be at least 1 : " + rails);
+        if(prefetch<1)
+            throw new IllegalArgumentException("prefetch must be at least 1 : " + prefetch);
+        this.rails = rails;
+        this.prefetch = prefetch;
+        this.executor = executor;
+        this.railFn = railFn;
+        this.ordered = ordered;
+    }
+
+    @Override
+    public StreamSubscription subscribe(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+        RailsSubscription sub = new RailsSubscription(onNext,onError,onComplete);
+        sub.start();
+        return sub;
+    }
+
+    @Override
+    public void subscribeAll(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+        subscribe(onNext,onError,onCompleteDs).request(Long.MAX_VALUE);
+    }
+
+    private static Object wrap(Object o){
+        return o==null ? NULL : o;
+    }
+    private static <T> T unwrap(Object o){
+        return o==NULL ? null : (T)o;
+    }
+
+    //more than one output for a single input
+    private static final class Many {
+        final List<Object> values = new ArrayList<>(4);
+    }
+    //outputs emitted by a rail as it completes (e.g. a partially filled group)
+    private static final class Tail {
+        final Object batch;
+        Tail(Object batch) {
+            this.batch = batch;
+        }
+    }
+    private static final class ErrorSignal {
+        final Throwable error;
+        ErrorSignal(Throwable error) {
+            this.error = error;
+        }
+    }
+
+    private final class RailsSubscription extends StreamSubscription {
+        final Consumer<? super R> onNext;
+        final Consumer<? super Throwable> onError;
+        final Runnable onComplete;
+
+        final Rail[] railArray;
+        final Queue<Object> shared = new ConcurrentLinkedQueue<>();
+        final Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        final AtomicInteger railsDone = new AtomicInteger(0);
+        final AtomicInteger wip = new AtomicInteger(0);
+        final int limit;
+        final StreamSubscription[] upstream = {null};
+
+        //only accessed by the upstream emitting thread
+        int dispatchIndex;
+        //only accessed while holding wip
+        int nextRail;
+        long consumed;
+        List<Object> pending;
+        int pendingIndex;
+        boolean pendingTail;
+        boolean completed;
+
+        RailsSubscription(Consumer<? super R> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+            this.onNext = onNext;
+            this.onError = onError;
+            this.onComplete = onComplete;
+            int total = rails * prefetch;
+            this.limit = Math.max(1, total - (total >> 2));
+            this.railArray = new ParallelRailsOperator.RailsSubscription.Rail[rails];
+            for (int i = 0; i < rails; i++) {
+                railArray[i] = new Rail();
+            }
+        }
+
+        void start() {
+            for (Rail rail : railArray) {
+                rail.connect();
+            }
+            upstream[0] = source.subscribe(this::dispatch, this::upstreamError, this::upstreamComplete);
+            upstream[0].request(rails * (long) prefetch);
+        }
+
+        void dispatch(T t) {
+            Rail rail = railArray[dispatchIndex];
+            dispatchIndex = dispatchIndex + 1 == rails ? 0 : dispatchIndex + 1;
+            rail.input.offer(wrap(t));
+            rail.schedule();
+        }
+
+        void upstreamError(Throwable t) {
+            errors.offer(t);
+            drain();
+        }
+
+        void upstreamComplete() {
+            for (Rail rail : railArray) {
+                rail.inputDone = true;
+                rail.schedule();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                onError.accept(new IllegalArgumentException("3.9 While the Subscription is not cancelled, Subscription.request(long n) MUST throw a java.lang.IllegalArgumentException if the argument is <= 0."));
+                return;
+            }
+            super.request(n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            super.cancel();
+            StreamSubscription up = upstream[0];
+            if (up != null)
+                up.cancel();
+            drain();
+        }
+
+        void batchReady(Rail rail, Object batch) {
+            if (ordered)
+                rail.output.offer(batch);
+            else
+                shared.offer(batch);
+            drain();
+        }
+
+        private boolean requiresDemand(Object batch) {
+            return batch != NONE && !(batch instanceof Many) && !(batch instanceof Tail) && !(batch instanceof ErrorSignal);
+        }
+
+        private void finishBatch(boolean tail) {
+            if (ordered)
+                nextRail = nextRail + 1 == rails ? 0 : nextRail + 1;
+            if (!tail && ++consumed == limit) {
+                consumed = 0;
+                ParallelRailsOperator.this.request(upstream, limit);
+            }
+        }
+
+        private long emit(Object value, long emitted) {
+            if (value instanceof ErrorSignal) {
+                onError.accept(((ErrorSignal) value).error);
+                return emitted;
+            }
+            onNext.accept(unwrap(value));
+            return emitted + 1;
+        }
+
+        /*
+         * Single consumer drain loop, all downstream signals are emitted from here while holding wip so
+         * the downstream Subscriber is never called concurrently even though the rails run in parallel.
+         */
+        void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            for (; ; ) {
+                if (!isOpen) {
+                    shared.clear();
+                    for (Rail rail : railArray) {
+                        rail.input.clear();
+                        rail.output.clear();
+                    }
+                    pending = null;
+                } else if (!completed) {
+                    Throwable t;
+                    while ((t = errors.poll()) != null) {
+                        onError.accept(t);
+                    }
+                    long r = requested.get();
+                    long e = 0;
+                    for (; ; ) {
+                        if (!isOpen)
+                            break;
+                        if (pending != null) {
+                            while (pendingIndex < pending.size() && (e != r || pending.get(pendingIndex) instanceof ErrorSignal)) {
+                                e = emit(pending.get(pendingIndex++), e);
+                            }
+                            if (pendingIndex < pending.size())
+                                break;
+                            pending = null;
+                            finishBatch(pendingTail);
+                            continue;
+                        }
+                        boolean allDone = railsDone.get() == rails;
+                        Queue<Object> q = ordered ? railArray[nextRail].output : shared;
+                        Object batch = q.peek();
+                        if (batch == null) {
+                            if (allDone) {
+                                completed = true;
+                                onComplete.run();
+                            }
+                            break;
+                        }
+                        if (e == r && requiresDemand(batch))
+                            break;
+                        q.poll();
+                        boolean tail = false;
+                        if (batch instanceof Tail) {
+                            tail = true;
+                            batch = ((Tail) batch).batch;
+                        }
+                        if (batch == NONE) {
+                            finishBatch(tail);
+                        } else if (batch instanceof Many) {
+                            pending = ((Many) batch).values;
+                            pendingIndex = 0;
+                            pendingTail = tail;
+                        } else if (e == r && !(batch instanceof ErrorSignal)) {
+                            //a single element Tail arriving with no outstanding demand
+                            List<Object> single = new ArrayList<>(1);
+                            single.add(batch);
+                            pending = single;
+                            pendingIndex = 0;
+                            pendingTail = tail;
+                        } else {
+                            e = emit(batch, e);
+                            finishBatch(tail);
+                        }
+                    }
+                    if (e != 0 && r != Long.MAX_VALUE)
+                        requested.addAndGet(-e);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0)
+                    break;
+            }
+        }
+
+        /*
+         * A rail pushes its input through the user supplied pipeline one element at a time on the Executor, the
+         * pipeline is synchronous so everything it emits while processing an element belongs to that element's batch.
+         */
+        private final class Rail implements Runnable, Operator<T> {
+            final Queue<Object> input = new ConcurrentLinkedQueue<>();
+            final Queue<Object> output = new ConcurrentLinkedQueue<>();
+            final AtomicInteger railWip = new AtomicInteger(0);
+            volatile boolean inputDone;
+            boolean finished;
+
+            StreamSubscription railSub;
+            Consumer<? super T> railOnNext;
+            Runnable railOnComplete;
+            //only accessed from the thread running the rail
+            Object batch = NONE;
+
+            void connect() {
+                ReactiveSeq<? extends R> out = railFn.apply(new ReactiveStreamX<T>(this));
+                out.forEach(this::collect, t -> collect(new ErrorSignal(t)), () -> { });
+            }
+
+            private void collect(Object value) {
+                Object next = value instanceof ErrorSignal ? value : wrap(value);
+                if (batch == NONE) {
+                    batch = next;
+                } else if (batch instanceof Many) {
+                    ((Many) batch).values.add(next);
+                } else {
+                    Many many = new Many();
+                    many.values.add(batch);
+                    many.values.add(next);
+                    batch = many;
+                }
+            }
+
+            void schedule() {
+                if (railWip.getAndIncrement() == 0)
+                    executor.execute(this);
+            }
+
+            @Override
+            public void run() {
+                int missed = 1;
+                for (; ; ) {
+                    Object next;
+                    while ((next = input.poll()) != null) {
+                        batch = NONE;
+                        if (isOpen && railSub.isOpen) {
+                            try {
+                                railOnNext.accept(unwrap(next));
+                            } catch (Throwable t) {
+                                collect(new ErrorSignal(t));
+                            }
+                        }
+                        Object res = batch;
+                        batch = NONE;
+                        batchReady(this, res);
+                    }
+                    if (inputDone && !finished) {
+                        finished = true;
+                        batch = NONE;
+                        if (isOpen && railSub.isOpen && railOnComplete != null) {
+                            try {
+                                railOnComplete.run();
+                            } catch (Throwable t) {
+                                collect(new ErrorSignal(t));
+                            }
+                        }
+                        Object res = batch;
+                        batch = NONE;
+                        if (ordered)
+                            output.offer(new Tail(res));
+                        else
+                            shared.offer(new Tail(res));
+                        railsDone.incrementAndGet();
+                        drain();
+                    }
+                    missed = railWip.addAndGet(-missed);
+                    if (missed == 0)
+                        break;
+                }
+            }
+
+            @Override
+            public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
+                railOnNext = onNext;
+                railOnComplete = onComplete;
+                railSub = new StreamSubscription();
+                return railSub;
+            }
+
+            @Override
+            public void subscribeAll(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onCompleteDs) {
+                subscribe(onNext, onError, onCompleteDs);
+            }
+        }
+    }
+}
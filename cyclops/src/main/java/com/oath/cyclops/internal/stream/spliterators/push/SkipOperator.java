@@ -19,6 +19,11 @@ public class SkipOperator<T,R> extends BaseOperator<T,T> {
     }
 
 
+    public SkipOperator<T,R> compose(long next){
+        long total = skip + next;
+        return new SkipOperator<>(source,total < 0 ? Long.MAX_VALUE : total);
+    }
+
     @Override
     public StreamSubscription subscribe(Consumer<? super T> onNext, Consumer<? super Throwable> onError, Runnable onComplete) {
         long[] count = {0};
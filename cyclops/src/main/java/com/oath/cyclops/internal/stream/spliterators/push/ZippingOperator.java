@@ -1,11 +1,14 @@
 package com.oath.cyclops.internal.stream.spliterators.push;
 
+import com.oath.cyclops.async.wait.ParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import lombok.AllArgsConstructor;
 import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -17,6 +20,8 @@ import java.util.function.LongConsumer;
 @AllArgsConstructor
 public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
+    private static final WaitStrategy<Boolean> WAIT = new ParkWait<>();
+
 
     Operator<? super T1> left;
     Operator<? super T2> right;
@@ -37,6 +42,8 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
         AtomicLong rightActive = new AtomicLong(0);
         AtomicBoolean completing = new AtomicBoolean(false);
         AtomicInteger status = new AtomicInteger(0); //1st bit for left, 2 bit for right pushing
+        AtomicReference<Thread> awaitingLeft = new AtomicReference<>(null); //Thread waiting for a value in leftQ
+        AtomicReference<Thread> awaitingRight = new AtomicReference<>(null); //Thread waiting for a value in rightQ
 
         StreamSubscription sub   = new StreamSubscription(){
             LongConsumer work = n->{
@@ -94,18 +101,16 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
                         leftActive.incrementAndGet();
                         leftQ.offer((T1) e);
+                        signal(awaitingLeft);
 
 
                         status.set(0);
                     }else{
                         status.compareAndSet(1,0);
 
-                        while(rightQ.isEmpty()){ // VALUE IS COMING - RIGHT IS ADDING TO Q
-                            if(rightComplete.get() && rightQ.isEmpty()){
-                                handleComplete(completing,onComplete);
-                                return;
-                            }
-                            LockSupport.parkNanos(0);
+                        if(!awaitValue(rightQ,rightComplete,awaitingRight)){ // VALUE IS COMING - RIGHT IS ADDING TO Q
+                            handleComplete(completing,onComplete);
+                            return;
                         }
                         R value = fn.apply((T1) e, rightQ.poll());
                         sub.requested.decrementAndGet();
@@ -135,6 +140,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
             leftSub[0].request(1l);
         },()->{
             leftComplete.set(true);
+            signal(awaitingLeft);
 
 
             if (leftActive.get()==0 || rightComplete.get()) {
@@ -172,6 +178,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
                         rightActive.incrementAndGet();
                         rightQ.offer((T2) e);
+                        signal(awaitingRight);
 
 
 
@@ -179,12 +186,9 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
                     }else {
 
                         status.compareAndSet(2,0);
-                        while (leftQ.isEmpty()) { // VALUE IS COMING  - LEFT IS ADDING TO Q
-                           if(leftComplete.get() && leftQ.isEmpty()){
-                                handleComplete(completing,onComplete);
-                                return;
-                            }
-                            LockSupport.parkNanos(0);
+                        if(!awaitValue(leftQ,leftComplete,awaitingLeft)){ // VALUE IS COMING  - LEFT IS ADDING TO Q
+                            handleComplete(completing,onComplete);
+                            return;
                         }
                         R value = fn.apply(leftQ.poll(), (T2) e);
 
@@ -214,6 +218,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
         },()->{
 
             rightComplete.set(true);
+            signal(awaitingRight);
 
             if (rightActive.get()==0 || leftComplete.get()) {
                 if(leftSub[0]!=null)
@@ -229,6 +234,29 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
         return sub;
     }
 
+    /*
+     * The other side has claimed the slot and is adding its value to the queue, wait for it to arrive
+     * (or for that side to complete). Returns false if the other side completed without a value.
+     * The waiting Thread is registered so the other side can unpark it as soon as it offers or completes.
+     */
+    private static boolean awaitValue(OneToOneConcurrentArrayQueue<?> q, AtomicBoolean complete,
+                                      AtomicReference<Thread> waiter) throws InterruptedException {
+        if(!q.isEmpty())
+            return true;
+        waiter.set(Thread.currentThread());
+        try {
+            return WAIT.take(() -> !q.isEmpty() ? Boolean.TRUE : complete.get() && q.isEmpty() ? Boolean.FALSE : null);
+        }finally{
+            waiter.set(null);
+        }
+    }
+
+    private static void signal(AtomicReference<Thread> waiter){
+        Thread t = waiter.get();
+        if(t!=null)
+            LockSupport.unpark(t);
+    }
+
     private void handleComplete(AtomicBoolean completeSent,Runnable onComplete){
         if(completeSent.compareAndSet(false,true)){
             onComplete.run();
@@ -251,6 +279,8 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
         AtomicLong rightActive = new AtomicLong(0);
         AtomicBoolean completing = new AtomicBoolean(false);
         AtomicInteger status = new AtomicInteger(0); //1st bit for left, 2 bit for right pushing
+        AtomicReference<Thread> awaitingLeft = new AtomicReference<>(null); //Thread waiting for a value in leftQ
+        AtomicReference<Thread> awaitingRight = new AtomicReference<>(null); //Thread waiting for a value in rightQ
 
 
 
@@ -274,6 +304,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
                         rightActive.incrementAndGet();
                         rightQ.offer((T2) e);
+                        signal(awaitingRight);
 
 
 
@@ -281,12 +312,9 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
                     }else {
 
                         status.compareAndSet(2,0);
-                        while (leftQ.isEmpty()) { // VALUE IS COMING
-                            if(leftComplete.get() && leftQ.isEmpty()){
-                                handleComplete(completing,onCompleteDs);
-                                return;
-                            }
-                            LockSupport.parkNanos(0);
+                        if(!awaitValue(leftQ,leftComplete,awaitingLeft)){ // VALUE IS COMING
+                            handleComplete(completing,onCompleteDs);
+                            return;
                         }
                         R value = fn.apply(leftQ.poll(), (T2) e);
 
@@ -312,6 +340,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
         },()->{
 
             rightComplete.set(true);
+            signal(awaitingRight);
 
             if (rightActive.get()==0 || leftComplete.get()) {
 
@@ -348,18 +377,16 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
                         leftActive.incrementAndGet();
                         leftQ.offer((T1) e);
+                        signal(awaitingLeft);
 
 
                         status.set(0);
                     }else{
                         status.compareAndSet(1,0);
 
-                        while(rightQ.isEmpty()){ // VALUE IS COMING
-                            if(rightComplete.get() && rightQ.isEmpty()){
-                                handleComplete(completing,onCompleteDs);
-                                return;
-                            }
-                            LockSupport.parkNanos(0);
+                        if(!awaitValue(rightQ,rightComplete,awaitingRight)){ // VALUE IS COMING
+                            handleComplete(completing,onCompleteDs);
+                            return;
                         }
                         R value = fn.apply((T1) e, rightQ.poll());
                         onNext.accept(value);
@@ -385,6 +412,7 @@ public class ZippingOperator<T1,T2,R> implements Operator<R>{
 
         },()->{
             leftComplete.set(true);
+            signal(awaitingLeft);
 
 
             if (leftActive.get()==0 || rightComplete.get()) {
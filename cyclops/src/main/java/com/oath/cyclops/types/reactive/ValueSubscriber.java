@@ -8,6 +8,8 @@ import java.util.concurrent.locks.LockSupport;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import com.oath.cyclops.async.wait.ParkWait;
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.types.Value;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.control.Future;
@@ -36,36 +38,54 @@ import cyclops.function.Memoize;
  * }
  * </pre>
  *
+ * Threads extracting the value block using the configured {@link WaitStrategy} (by default {@link ParkWait}),
+ * the most recent waiting Thread is unparked as soon as a value, error or completion signal arrives.
+ *
  * @author johnmcclean
  *
  * @param <T> Subscriber type
  */
 public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
 
+    private static final WaitStrategy<Boolean> DEFAULT_WAIT = new ParkWait<>();
+
     private final Object UNSET = new Object();
     private final AtomicReference firstValue = new AtomicReference(
                                                                    UNSET);
     private final AtomicReference firstError = new AtomicReference(
                                                                    UNSET);
     private final Runnable onComplete;
+    private final WaitStrategy<Boolean> wait;
+    private final AtomicReference<Thread> waiter = new AtomicReference<>();
 
     private volatile Subscription s;
     private final Runnable requestOne = Memoize.memoizeRunnable(() -> this.s.request(1l));
 
-    private ValueSubscriber(final Runnable onComplete) {
+    private ValueSubscriber(final Runnable onComplete, final WaitStrategy<Boolean> wait) {
         super();
         this.onComplete = onComplete;
+        this.wait = wait;
     }
 
     public static <T> ValueSubscriber<T> subscriber(final Runnable onComplete) {
         return new ValueSubscriber<>(
-                                     onComplete);
+                                     onComplete, DEFAULT_WAIT);
     }
 
     public static <T> ValueSubscriber<T> subscriber() {
         return new ValueSubscriber<>(
                                      () -> {
-                                     });
+                                     }, DEFAULT_WAIT);
+    }
+
+    /**
+     * @param onComplete Runnable to execute when the Publisher completes
+     * @param wait WaitStrategy used by Threads blocking on the value
+     * @return ValueSubscriber
+     */
+    public static <T> ValueSubscriber<T> subscriber(final Runnable onComplete, final WaitStrategy<Boolean> wait) {
+        return new ValueSubscriber<>(
+                                     onComplete, wait);
     }
 
     @Override
@@ -84,12 +104,14 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
 
         Objects.requireNonNull(t);
         firstValue.compareAndSet(UNSET, t);
+        signal();
     }
 
     @Override
     public void onError(final Throwable t) {
         Objects.requireNonNull(t);
         firstError.compareAndSet(UNSET, t);
+        signal();
     }
 
     @Override
@@ -100,6 +122,7 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
             firstError.set(new NoSuchElementException(
                 "publisher has no elements"));
         }
+        signal();
 
     }
 
@@ -110,11 +133,31 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
         this.s.request(1);
     }
 
+    private void signal() {
+        final Thread waiting = waiter.get();
+        if (waiting != null)
+            LockSupport.unpark(waiting);
+    }
+
+    private void await() {
+        if (firstValue.get() != UNSET || firstError.get() != UNSET)
+            return;
+        final Thread current = Thread.currentThread();
+        waiter.set(current);
+        try {
+            wait.take(() -> firstValue.get() != UNSET || firstError.get() != UNSET ? Boolean.TRUE : null);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ExceptionSoftener.throwSoftenedException(e);
+        } finally {
+            waiter.compareAndSet(current, null);
+        }
+    }
+
     @Override
     public T orElse(T alt) {
 
-        while (firstValue.get() == UNSET && firstError.get() == UNSET)
-            LockSupport.parkNanos(1000000l);
+        await();
         if (firstValue.get() == UNSET)
             return alt;
 
@@ -123,8 +166,7 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
     @Override
     public T orElseGet(Supplier<? extends T> alt) {
 
-        while (firstValue.get() == UNSET && firstError.get() == UNSET)
-            LockSupport.parkNanos(1000000l);
+        await();
         if (firstValue.get() == UNSET)
             return alt.get();
 
@@ -141,8 +183,7 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
 
     private T throwingGet() {
 
-        while (firstValue.get() == UNSET && firstError.get() == UNSET)
-            LockSupport.parkNanos(1000000l);
+        await();
         if (firstValue.get() == UNSET)
             throw ExceptionSoftener.throwSoftenedException((Throwable) firstError.get());
 
@@ -178,8 +219,7 @@ public class ValueSubscriber<T> implements Subscriber<T>, Value<T> {
 
     @Override
     public <R> R fold(Function<? super T, ? extends R> present, Supplier<? extends R> absent) {
-        while (firstValue.get() == UNSET && firstError.get() == UNSET)
-            LockSupport.parkNanos(1000000l);
+        await();
         if (firstValue.get() == UNSET)
             return absent.get();
 
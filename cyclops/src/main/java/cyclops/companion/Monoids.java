@@ -57,6 +57,9 @@ public interface Monoids {
     static <T> Monoid<Vector<T>> vectorConcat() {
         return Monoid.of(Vector.empty(),Semigroups.persistentCollectionConcat());
     }
+    static <T> Monoid<FingerTree<T>> fingerTreeConcat() {
+        return Monoid.of(FingerTree.empty(),Semigroups.persistentCollectionConcat());
+    }
     static <T> Monoid<IntMap<T>> intMapConcat() {
         return Monoid.of(IntMap.empty(),Semigroups.persistentCollectionConcat());
     }
@@ -75,6 +78,9 @@ public interface Monoids {
     static <T> Monoid<BankersQueue<T>> bankersQueueConcat() {
         return Monoid.of(BankersQueue.empty(),Semigroups.persistentCollectionConcat());
     }
+    static <T> Monoid<RealTimeQueue<T>> realTimeQueueConcat() {
+        return Monoid.of(RealTimeQueue.empty(),Semigroups.persistentCollectionConcat());
+    }
     static <T> Monoid<LazyString> lazyStringConcat() {
         return Monoid.of(LazyString.empty(),Semigroups.persistentCollectionConcat());
     }
@@ -19,6 +19,9 @@ public class Reducers {
     public static <T> Reducer<BankersQueue<T>,T> toBankersQueue() {
         return Reducer.fromMonoid(Monoids.<T>bankersQueueConcat(),a->BankersQueue.of(a));
     }
+    public static <T> Reducer<RealTimeQueue<T>,T> toRealTimeQueue() {
+        return Reducer.fromMonoid(Monoids.<T>realTimeQueueConcat(),a->RealTimeQueue.of(a));
+    }
     public static <T> Reducer<Seq<T>,T> toSeq() {
         return Reducer.fromMonoid(Monoids.<T>seqConcat(),a->Seq.of(a));
     }
@@ -29,19 +32,22 @@ public class Reducers {
         return Reducer.fromMonoid(Monoids.<T>intMapConcat(),a->IntMap.of(a));
     }
     public static <T> Reducer<Vector<T>,T> toVector() {
-        return Reducer.fromMonoid(Monoids.<T>vectorConcat(),a->Vector.of(a));
+        return Reducer.fromMonoid(Monoids.<T>vectorConcat(),a->Vector.of(a),Vector.collector());
+    }
+    public static <T> Reducer<FingerTree<T>,T> toFingerTree() {
+        return Reducer.fromMonoid(Monoids.<T>fingerTreeConcat(),a->FingerTree.of(a),FingerTree.collector());
     }
     public static <T> Reducer<TreeSet<T>,T> toTreeSet(Comparator<T> c) {
-        return Reducer.fromMonoid(Monoids.<T>treeSetConcat(c),a->TreeSet.of(c,a));
+        return Reducer.fromMonoid(Monoids.<T>treeSetConcat(c),a->TreeSet.of(c,a),TreeSet.collector(c));
     }
     public static <T> Reducer<Bag<T>,T> toBag() {
         return Reducer.fromMonoid(Monoids.<T>bagConcat(),a->Bag.of(a));
     }
     public static <T extends Comparable<? super T>> Reducer<TreeSet<T>,T> toTreeSet() {
-        return Reducer.fromMonoid(Monoids.<T>treeSetConcat(Comparator.naturalOrder()),a->TreeSet.of(a));
+        return Reducer.fromMonoid(Monoids.<T>treeSetConcat(Comparator.naturalOrder()),a->TreeSet.of(a),TreeSet.collector(Comparator.<T>naturalOrder()));
     }
     public static <T> Reducer<HashSet<T>,T> toHashSet() {
-        return Reducer.fromMonoid(Monoids.<T>hashSetConcat(),a->HashSet.of(a));
+        return Reducer.fromMonoid(Monoids.<T>hashSetConcat(),a->HashSet.of(a),HashSet.collector());
     }
     public static <T> Reducer<TrieSet<T>,T> toTrieSet() {
         return Reducer.fromMonoid(Monoids.<T>trieSetConcat(),a->TrieSet.of(a));
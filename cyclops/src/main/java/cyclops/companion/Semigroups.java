@@ -74,6 +74,9 @@ public interface Semigroups {
     static <T> Semigroup<Vector<T>> vectorConcat() {
       return Semigroups.persistentCollectionConcat();
     }
+    static <T> Semigroup<FingerTree<T>> fingerTreeConcat() {
+      return Semigroups.persistentCollectionConcat();
+    }
     static <T> Semigroup<IntMap<T>> intMapConcat() {
       return Semigroups.persistentCollectionConcat();
     }
@@ -92,6 +95,9 @@ public interface Semigroups {
     static <T> Semigroup<BankersQueue<T>> bankersQueueConcat() {
       return Semigroups.persistentCollectionConcat();
     }
+    static <T> Semigroup<RealTimeQueue<T>> realTimeQueueConcat() {
+      return Semigroups.persistentCollectionConcat();
+    }
     static <T> Semigroup<LazyString> lazyStringConcat() {
       return Semigroups.persistentCollectionConcat();
     }
@@ -20,14 +20,14 @@ import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.Spouts;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Random;
 import java.util.Spliterator;
@@ -41,6 +41,13 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * A persistent list with cheap concatenation. Chains are binary trees of appended chains, kept height balanced as they
+ * are concatenated so get, take, drop and splitAt are O(log n) in the number of appended pieces, and iteration uses an
+ * explicit stack rather than recursion. Wrapped Iterables are not copied.
+ *
+ * @param <T> Data type of the elements in this Chain
+ */
 public abstract class Chain<T> implements ImmutableList<T>{
 
 
@@ -63,13 +70,79 @@ public abstract class Chain<T> implements ImmutableList<T>{
         return new Singleton<T>(value);
     }
     public static <T> NonEmptyChain<T> append(NonEmptyChain<? extends T> left, NonEmptyChain<? extends T> right){
-        return  new Append(left,right);
+        return  join((NonEmptyChain<T>)left,(NonEmptyChain<T>)right);
     }
     public static <T> NonEmptyChain<T> append(Chain<? extends T> left, NonEmptyChain<? extends T> right){
-        return left.isEmpty() ?  (NonEmptyChain<T>)right : new Append((NonEmptyChain<T>)left,right);
+        return left.isEmpty() ?  (NonEmptyChain<T>)right : join((NonEmptyChain<T>)left,(NonEmptyChain<T>)right);
     }
     public static <T> NonEmptyChain<T> append(NonEmptyChain<? extends T> left, Chain<? extends T> right){
-        return right.isEmpty() ?  (NonEmptyChain<T>)left : new Append(left,(NonEmptyChain<T>)right);
+        return right.isEmpty() ?  (NonEmptyChain<T>)left : join((NonEmptyChain<T>)left,(NonEmptyChain<T>)right);
+    }
+
+    //AVL style join, the depth of appended chains differs by at most one
+    static <T> NonEmptyChain<T> join(NonEmptyChain<T> left, NonEmptyChain<T> right){
+        int ld = left.depth();
+        int rd = right.depth();
+        if(ld > rd + 1)
+            return joinRight((Append<T>)left,right);
+        if(rd > ld + 1)
+            return joinLeft(left,(Append<T>)right);
+        return new Append<>(left,right);
+    }
+
+    private static <T> NonEmptyChain<T> joinRight(Append<T> left, NonEmptyChain<T> right){
+        NonEmptyChain<T> t = join(left.right,right);
+        int hl = left.left.depth();
+        if(t.depth() <= hl + 1)
+            return new Append<>(left.left,t);
+        Append<T> tc = (Append<T>)t;
+        if(tc.right.depth() >= tc.left.depth())
+            return new Append<>(new Append<>(left.left,tc.left),tc.right);
+        Append<T> tl = (Append<T>)tc.left;
+        return new Append<>(new Append<>(left.left,tl.left),new Append<>(tl.right,tc.right));
+    }
+
+    private static <T> NonEmptyChain<T> joinLeft(NonEmptyChain<T> left, Append<T> right){
+        NonEmptyChain<T> t = join(left,right.left);
+        int hr = right.right.depth();
+        if(t.depth() <= hr + 1)
+            return new Append<>(t,right.right);
+        Append<T> tc = (Append<T>)t;
+        if(tc.left.depth() >= tc.right.depth())
+            return new Append<>(tc.left,new Append<>(tc.right,right.right));
+        Append<T> tr = (Append<T>)tc.right;
+        return new Append<>(new Append<>(tc.left,tr.left),new Append<>(tr.right,right.right));
+    }
+
+    //depth of the tree of appended chains, 0 for leaves
+    int depth(){
+        return 0;
+    }
+
+    //true if size() can be answered without walking a wrapped Iterable
+    boolean sizeKnown(){
+        return true;
+    }
+
+    //split a chain into the first n elements and the remainder, O(log n) in the number of appended pieces
+    static <T> Tuple2<Chain<T>,Chain<T>> split(Chain<T> chain, long n){
+        if(n <= 0)
+            return Tuple.tuple(empty(),chain);
+        if(chain.sizeKnown() && n >= chain.size())
+            return Tuple.tuple(chain,empty());
+        if(chain instanceof Append && ((Append<T>)chain).left.sizeKnown()){
+            Append<T> append = (Append<T>)chain;
+            int ls = append.left.size();
+            if(n < ls){
+                Tuple2<Chain<T>,Chain<T>> t = split(append.left,n);
+                return Tuple.tuple(t._1(),t._2().concat(append.right));
+            }
+            Tuple2<Chain<T>,Chain<T>> t = split(append.right,n - ls);
+            return Tuple.tuple(append.left.concat(t._1()),t._2());
+        }
+        if(chain instanceof Wrap)
+            return ((Wrap<T>)chain).split(n);
+        return Tuple.tuple(wrap(ReactiveSeq.fromIterable(chain).take(n)),wrap(ReactiveSeq.fromIterable(chain).drop(n)));
     }
     public static <T> Chain<T> wrap(Iterable<T> it){
 
@@ -146,12 +219,18 @@ public abstract class Chain<T> implements ImmutableList<T>{
 
     @Override
     public Chain<T> drop(long num) {
-        return wrap(ReactiveSeq.fromIterable(this).drop(num));
+        return split(this,num)._2();
     }
 
     @Override
     public Chain<T> take(long num) {
-        return wrap(ReactiveSeq.fromIterable(this).take(num));
+        return split(this,num)._1();
+    }
+
+    @Override
+    public Tuple2<ImmutableList<T>, ImmutableList<T>> splitAt(int n) {
+        Tuple2<Chain<T>,Chain<T>> t = split(this,n);
+        return Tuple.tuple(t._1(),t._2());
     }
 
     @Override
@@ -733,7 +812,7 @@ public abstract class Chain<T> implements ImmutableList<T>{
 
         @Override
         public NonEmptyChain<T> concat(Chain<T> b) {
-            return b.isEmpty() ?  this : new Append(this,(NonEmptyChain<T>)b) ;
+            return b.isEmpty() ?  this : join(this,(NonEmptyChain<T>)b) ;
         }
 
         @Override
@@ -792,14 +871,34 @@ public abstract class Chain<T> implements ImmutableList<T>{
             return Tuple.tuple(head(),tail());
         }
     }
-    @AllArgsConstructor
     private static final class Append<T> extends NonEmptyChain<T>{
         private final NonEmptyChain<T> left;
         private final NonEmptyChain<T> right;
+        private final int depth;
+        private final boolean sizeKnown;
+        //computed on first use, wrapped Iterables are only counted when needed
+        private int size = -1;
+
+        Append(NonEmptyChain<T> left, NonEmptyChain<T> right) {
+            this.left = left;
+            this.right = right;
+            this.depth = Math.max(left.depth(),right.depth()) + 1;
+            this.sizeKnown = left.sizeKnown() && right.sizeKnown();
+        }
+
+        @Override
+        int depth() {
+            return depth;
+        }
+
+        @Override
+        boolean sizeKnown() {
+            return sizeKnown;
+        }
 
         @Override
         public NonEmptyChain<T> concat(Chain<T> b) {
-            return b.isEmpty() ? this : new Append(this,(NonEmptyChain<T>)b);
+            return b.isEmpty() ? this : join(this,(NonEmptyChain<T>)b);
         }
 
 
@@ -813,48 +912,59 @@ public abstract class Chain<T> implements ImmutableList<T>{
           return new ChainIterator<T>(this);
         }
 
+        //descend towards the leaf holding pos, returns null if pos is out of range
+        //stops early at an Append whose left side is a lazy Iterable, which must be walked instead
+        private Chain<T> leaf(int[] pos){
+            if(pos[0] < 0 || (sizeKnown && pos[0] >= size()))
+                return null;
+            Chain<T> node = this;
+            while(node instanceof Append){
+                Append<T> append = (Append<T>)node;
+                if(!append.left.sizeKnown())
+                    return node;
+                int ls = append.left.size();
+                if(pos[0] < ls){
+                    node = append.left;
+                }else{
+                    pos[0] -= ls;
+                    node = append.right;
+                }
+            }
+            return node;
+        }
+
         @Override
         public Option<T> get(int pos) {
-            return LazySeq.fromIterable(this).get(pos);
+            int[] index = {pos};
+            Chain<T> leaf = leaf(index);
+            if(leaf == null)
+                return Option.none();
+            return leaf instanceof Append ? LazySeq.fromIterable(leaf).get(index[0]) : leaf.get(index[0]);
         }
 
         @Override
         public T getOrElse(int pos, T alt) {
-            return LazySeq.fromIterable(this).getOrElse(pos,alt);
+            return get(pos).orElse(alt);
         }
 
         @Override
         public T getOrElseGet(int pos, Supplier<? extends T> alt) {
-            return LazySeq.fromIterable(this).getOrElseGet(pos,alt);
+            return get(pos).orElseGet(alt);
         }
 
         @Override
         public int size() {
-            return ReactiveSeq.fromIterable(this).size();
+            int local = size;
+            if(local < 0){
+                local = left.size() + right.size();
+                size = local;
+            }
+            return local;
         }
 
         @Override
         public Iterator<T> reverseIterator() {
-            return new Iterator<T>() {
-                Iterator<T> active = right.reverseIterator();
-                boolean first = true;
-                @Override
-                public boolean hasNext() {
-                    boolean res =  active.hasNext();
-                    if(!res && first){
-                        first = false;
-                        active = left.reverseIterator();
-                        res  = active.hasNext();
-                    }
-                    return res;
-
-                }
-
-                @Override
-                public T next() {
-                    return active.next();
-                }
-            };
+            return new ChainIterator<T>(this,true);
         }
 
         @Override
@@ -864,7 +974,11 @@ public abstract class Chain<T> implements ImmutableList<T>{
 
         @Override
         public T head() {
-            return getOrElse(0,null);
+            Chain<T> node = this;
+            while(node instanceof Append){
+                node = ((Append<T>)node).left;
+            }
+            return ((NonEmptyChain<T>)node).head();
         }
 
         @Override
@@ -872,13 +986,18 @@ public abstract class Chain<T> implements ImmutableList<T>{
             return Tuple.tuple(head(),tail());
         }
     }
-    @AllArgsConstructor(access = AccessLevel.PACKAGE)
     static final class Wrap<T> extends NonEmptyChain<T>{
         private final Iterable<T> it;
+        //computed on first use, so wrapping a lazy Iterable doesn't evaluate it
+        private int size = -1;
+
+        Wrap(Iterable<T> it) {
+            this.it = it;
+        }
 
         @Override
         public NonEmptyChain<T> concat(Chain<T> b) {
-            return b.isEmpty() ? this : new Append(this,(NonEmptyChain<T>)b) ;
+            return b.isEmpty() ? this : join(this,(NonEmptyChain<T>)b) ;
         }
 
         @Override
@@ -886,25 +1005,69 @@ public abstract class Chain<T> implements ImmutableList<T>{
             return false;
         }
 
+        @Override
+        boolean sizeKnown() {
+            if(size >= 0 || it instanceof Collection)
+                return true;
+            if(it instanceof Chain)
+                return ((Chain<T>)it).sizeKnown();
+            return it instanceof PersistentCollection && !(it instanceof LazySeq);
+        }
+
+        Tuple2<Chain<T>,Chain<T>> split(long n){
+            if(it instanceof List){
+                List<T> list = (List<T>)it;
+                return Tuple.tuple(new Wrap<>(list.subList(0,(int)n)),new Wrap<>(list.subList((int)n,list.size())));
+            }
+            if(it instanceof ImmutableList){
+                ImmutableList<T> list = (ImmutableList<T>)it;
+                return Tuple.tuple(wrap(list.take(n)),wrap(list.drop(n)));
+            }
+            return Tuple.tuple(wrap(ReactiveSeq.fromIterable(it).take(n)),wrap(ReactiveSeq.fromIterable(it).drop(n)));
+        }
 
         @Override
         public Option<T> get(int pos) {
-            return LazySeq.fromIterable(it).get(pos);
+            if(pos < 0)
+                return Option.none();
+            if(it instanceof List){
+                List<T> list = (List<T>)it;
+                return pos < list.size() ? Option.some(list.get(pos)) : Option.none();
+            }
+            Iterator<T> iterator = it.iterator();
+            for(int i=0;i<pos && iterator.hasNext();i++){
+                iterator.next();
+            }
+            return iterator.hasNext() ? Option.some(iterator.next()) : Option.none();
         }
 
         @Override
         public T getOrElse(int pos, T alt) {
-            return LazySeq.fromIterable(it).getOrElse(pos,alt);
+            return get(pos).orElse(alt);
         }
 
         @Override
         public T getOrElseGet(int pos, Supplier<? extends T> alt) {
-            return LazySeq.fromIterable(it).getOrElseGet(pos,alt);
+            return get(pos).orElseGet(alt);
         }
 
         @Override
         public int size() {
-            return ReactiveSeq.fromIterable(it).size();
+            int local = size;
+            if(local < 0){
+                if(it instanceof Collection){
+                    local = ((Collection<T>)it).size();
+                }else if(it instanceof PersistentCollection){
+                    local = ((PersistentCollection<T>)it).size();
+                }else{
+                    local = 0;
+                    for(Iterator<T> iterator = it.iterator(); iterator.hasNext(); iterator.next()){
+                        local++;
+                    }
+                }
+                size = local;
+            }
+            return local;
         }
 
         @Override
@@ -937,64 +1100,68 @@ public abstract class Chain<T> implements ImmutableList<T>{
         }
     }
 
-     static class ChainIterator<T> implements Iterator<T>{
+    //walks the appended chains with an explicit stack, leaves are visited left to right (or right to left in reverse)
+    static class ChainIterator<T> implements Iterator<T>{
 
-            Vector<NonEmptyChain<T>> rights = Vector.empty();
-            Iterator<T> current = null;
-             Chain<T> c;
-
-            public ChainIterator( Chain<T> chain ){
-                this.c = chain.isEmpty() ? null : chain;
-            }
+        private final boolean reverse;
+        private NonEmptyChain<T>[] stack = new NonEmptyChain[16];
+        private int depth;
+        private Iterator<T> current;
+        private boolean hasValue;
+        private T value;
 
+        public ChainIterator(Chain<T> chain){
+            this(chain,false);
+        }
 
+        ChainIterator(Chain<T> chain, boolean reverse){
+            this.reverse = reverse;
+            if(!chain.isEmpty())
+                push((NonEmptyChain<T>)chain);
+        }
 
+        private void push(NonEmptyChain<T> chain){
+            if(depth == stack.length)
+                stack = Arrays.copyOf(stack,depth * 2);
+            stack[depth++] = chain;
+        }
 
-            public boolean hasNext() {
-                return (c != null) || (current != null && current.hasNext());
+        @Override
+        public boolean hasNext() {
+            for(;;){
+                if(hasValue || (current != null && current.hasNext()))
+                    return true;
+                current = null;
+                if(depth == 0)
+                    return false;
+                NonEmptyChain<T> node = stack[--depth];
+                stack[depth] = null;
+                while(node instanceof Append){
+                    Append<T> append = (Append<T>)node;
+                    push(reverse ? append.left : append.right);
+                    node = reverse ? append.right : append.left;
+                }
+                if(node instanceof Singleton){
+                    value = ((Singleton<T>)node).value;
+                    hasValue = true;
+                }else{
+                    current = reverse ? node.reverseIterator() : node.iterator();
+                }
             }
+        }
 
-            @Override
-            public T next() {
-                Supplier<T> go = ()-> {
-                    boolean loop = true;
-
-                    while(loop) {
-                        loop = false;
-                        if (current != null && current.hasNext()) {
-                            return current.next();
-                        }
-                        current = null;
-                        if (c instanceof Singleton) {
-                            T value = ((Singleton<T>) c).value;
-                            c = rights.foldLeft((a, b) -> append(b, a))
-                                .orElse(null);
-                            rights = Vector.empty();
-                            return value;
-                        }
-                        if (c instanceof Append) {
-                            rights = rights.plus(((Append<T>) c).right);
-                            c = ((Append<T>) c).left;
-                            loop = true;
-                        }
-                        if(c instanceof Wrap){
-                            current = ((Wrap<T>)c).it.iterator();
-                            c = rights.foldLeft((a, b) -> append(b, a))
-                                .orElse(null);
-                            rights = Vector.empty();
-
-                            return current.next();
-
-                        }
-                        if(c instanceof EmptyChain || c == null){
-                            throw new NoSuchElementException();
-                        }
-                    }
-                    return null; //unreachable
-                };
-                return go.get();
-
+        @Override
+        public T next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            if(hasValue){
+                T res = value;
+                hasValue = false;
+                value = null;
+                return res;
             }
+            return current.next();
+        }
 
     }
 }
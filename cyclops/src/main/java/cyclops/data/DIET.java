@@ -6,6 +6,7 @@ import com.oath.cyclops.matching.Sealed2;
 import com.oath.cyclops.types.foldable.Folds;
 import cyclops.control.Option;
 import cyclops.control.Trampoline;
+import cyclops.function.Ordering;
 
 import com.oath.cyclops.hkt.DataWitness.diet;
 import cyclops.reactive.ReactiveSeq;
@@ -15,14 +16,18 @@ import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.Function;
 
 import static cyclops.control.Trampoline.done;
 import static cyclops.data.tuple.Tuple.tuple;
 
-//Discrete Interval Encoded Tree
+//Discrete Interval Encoded Tree, kept height balanced (AVL)
 public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
                                  Iterable<T>,
                                  Higher<diet,T>,
@@ -32,24 +37,80 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
         return Nil.INSTANCE;
     }
     public static <T> DIET<T> cons(Range<T> focus){
-        return cons(empty(),focus,empty());
+        return new Node<>(empty(),focus,empty());
     }
     public static <T> DIET<T> cons(DIET<T> left, Range<T> focus, DIET<T> right){
-        return new Node(left,focus,right);
+        return Node.join(left,focus,right);
     }
     default boolean contains(T value){
-        return containsRec(value).result();
+        DIET<T> next = this;
+        while(!next.isEmpty()){
+            Node<T> node = (Node<T>)next;
+            Ordering<? super T> ordering = node.focus.ordering();
+            if(ordering.isLessThan(value,node.focus.start))
+                next = node.left;
+            else if(ordering.isLessThan(value,node.focus.end))
+                return true;
+            else
+                next = node.right;
+        }
+        return false;
     }
     default boolean contains(Range<T> range){
-        return containsRec(range).result();
+        DIET<T> next = this;
+        while(!next.isEmpty()){
+            Node<T> node = (Node<T>)next;
+            if(node.focus.contains(range))
+                return true;
+            next = node.focus.ordering().isLessThan(range.start,node.focus.start) ? node.left : node.right;
+        }
+        return false;
     }
     default DIET<T> add(T value, Enumeration<T> enm, Comparator<? super T> comp){
         return enm.succ(value).fold(s-> {
             return add(Range.range(value, s, enm, comp));
         },()->this);
     }
-    Trampoline<Boolean> containsRec(T value);
-    Trampoline<Boolean> containsRec(Range<T> range);
+    default Trampoline<Boolean> containsRec(T value){
+        return done(contains(value));
+    }
+    default Trampoline<Boolean> containsRec(Range<T> range){
+        return done(contains(range));
+    }
+
+    /**
+     * Add many ranges at once, the ranges are sorted and merged with those already present and a balanced DIET built
+     * from the result in a single pass.
+     */
+    default DIET<T> addAll(Iterable<? extends Range<T>> ranges){
+        List<Range<T>> sorted = new ArrayList<>();
+        Iterator<Range<T>> existing = rangeIterator();
+        while(existing.hasNext())
+            sorted.add(existing.next());
+        int present = sorted.size();
+        for(Range<T> next : ranges)
+            sorted.add(next);
+        if(sorted.size()==present)
+            return this;
+        Ordering<? super T> ordering = sorted.get(0).ordering();
+        //existing ranges are already in order, leaving a single run for the incoming ranges to be merged with
+        sorted.sort((a,b)->ordering.compare(a.start,b.start));
+        Range<T>[] merged = new Range[sorted.size()];
+        int size = 0;
+        Range<T> current = sorted.get(0);
+        for(int i=1;i<sorted.size();i++){
+            Range<T> next = sorted.get(i);
+            if(ordering.isLessThanOrEqual(next.start,current.end)){
+                if(ordering.isGreaterThan(next.end,current.end))
+                    current = Range.range(current.start,next.end,current.enumeration(),current.ordering());
+            }else{
+                merged[size++]=current;
+                current = next;
+            }
+        }
+        merged[size++]=current;
+        return Node.build(merged,0,size-1);
+    }
 
 
     DIET<T> add(Range<T> range);
@@ -61,98 +122,156 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
     <R> DIET<R> flatMap(Function<? super T, ? extends DIET<? extends R>> fn);
     DIET<T> map(Function<? super T, ? extends T> fn);
     LazySeq<T> lazySeq();
-    ReactiveSeq<T> stream();
-    ReactiveSeq<Range<T>> streamRanges();
+    default ReactiveSeq<T> stream(){
+        return streamRanges().concatMap(r->r);
+    }
+    default ReactiveSeq<Range<T>> streamRanges(){
+        return ReactiveSeq.fromIterable(()->rangeIterator());
+    }
+    /**
+     * @return The ranges not covered by this DIET that lie between its first and last ranges, in ascending order
+     */
+    default ReactiveSeq<Range<T>> gaps(){
+        return ReactiveSeq.fromIterable(()->new Gaps<>(rangeIterator()));
+    }
+    default Iterator<Range<T>> rangeIterator(){
+        return new Ranges<>(this);
+    }
     default Iterator<T> iterator(){
         return stream().iterator();
     }
 
 
     boolean isEmpty();
-    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+
     public static final class Node<T> implements DIET<T>,Deconstruct3<DIET<T>,Range<T>,DIET<T>>, Serializable {
         private final DIET<T> left;
         private final Range<T> focus;
         private final DIET<T> right;
+        private final int height;
 
         private static final long serialVersionUID = 1L;
 
-        @Override
-        public Trampoline<Boolean> containsRec(T value) {
-            if(focus.ordering().isLessThan(value,focus.start))
-                return left.containsRec(value);
-            if(focus.ordering().isGreaterThan(value,focus.end))
-                return right.containsRec(value);
-            return done(focus.contains(value));
+        private Node(DIET<T> left, Range<T> focus, DIET<T> right) {
+            this.left = left;
+            this.focus = focus;
+            this.right = right;
+            this.height = Math.max(height(left),height(right)) + 1;
+        }
 
+        //DIETs serialized before heights were tracked
+        private Object readResolve(){
+            return height==0 ? new Node<>(left,focus,right) : this;
         }
 
-        public DIET<T> add(T value){
-            return add(value,focus.enumeration(),focus.ordering());
+        private static int height(DIET<?> diet){
+            return diet.isEmpty() ? 0 : ((Node<?>)diet).height;
         }
 
-        @Override
-        public Trampoline<Boolean> containsRec(Range<T> range) {
-            if(focus.contains(range))
-                 return done(true);
-            if(focus.ordering().isLessThan(range.start,focus.start))
-                return left.containsRec(range);
-            return right.containsRec(range);
-        }
-        private Tuple2<Range<T>,DIET<T>> max(){
-           return right.fold(s->s.max().transform((r, d)->tuple(r,cons(left,focus,d))), n->tuple(focus,left));
-        }
-        private Trampoline<Tuple2<DIET<T>,T>> findRightAndEndingPoint(T value){
-            //            value
-            //                    start         (This is right Diet, end at old start)
-            if(focus.ordering().isLessThan(value,focus.start)) {
-                return done(tuple(this, value));
+        //rotate when the heights of left and right differ by two
+        private static <T> DIET<T> balance(DIET<T> left, Range<T> focus, DIET<T> right){
+            int hl = height(left);
+            int hr = height(right);
+            if(hl > hr + 1){
+                Node<T> l = (Node<T>)left;
+                if(height(l.left) >= height(l.right))
+                    return new Node<>(l.left,l.focus,new Node<>(l.right,focus,right));
+                Node<T> lr = (Node<T>)l.right;
+                return new Node<>(new Node<>(l.left,l.focus,lr.left),lr.focus,new Node<>(lr.right,focus,right));
+            }
+            if(hr > hl + 1){
+                Node<T> r = (Node<T>)right;
+                if(height(r.right) >= height(r.left))
+                    return new Node<>(new Node<>(left,focus,r.left),r.focus,r.right);
+                Node<T> rl = (Node<T>)r.left;
+                return new Node<>(new Node<>(left,focus,rl.left),rl.focus,new Node<>(rl.right,r.focus,r.right));
+            }
+            return new Node<>(left,focus,right);
+        }
+
+        /**
+         * Join two DIETs of any height around a range that lies between them
+         */
+        private static <T> DIET<T> join(DIET<T> left, Range<T> focus, DIET<T> right){
+            int hl = height(left);
+            int hr = height(right);
+            if(hl > hr + 1){
+                Node<T> l = (Node<T>)left;
+                return balance(l.left,l.focus,join(l.right,focus,right));
             }
-            //            value
-            //                   end
-            //    start                 (right is right diet, end new at old end)
-            if(focus.ordering().isLessThanOrEqual(value,focus.end))
-                return done(tuple(right,focus.end));
-            //             value
-            //                                  end
-            //                    start              (split rightwad diet recursively)
-            return left.fold(p->p.findRightAndEndingPoint(value), leftNil->done(tuple(leftNil,value)));
+            if(hr > hl + 1){
+                Node<T> r = (Node<T>)right;
+                return balance(join(left,focus,r.left),r.focus,r.right);
+            }
+            return new Node<>(left,focus,right);
+        }
 
+        private static <T> DIET<T> merge(DIET<T> l,DIET<T> r) {
+            if(r.isEmpty())
+                return l;
+            if(l.isEmpty())
+                return r;
+            Tuple2<Range<T>, DIET<T>> min = ((Node<T>)r).removeMin();
+            return join(l,min._1(),min._2());
+        }
 
+        private Tuple2<Range<T>,DIET<T>> removeMin(){
+            if(left.isEmpty())
+                return tuple(focus,right);
+            Tuple2<Range<T>, DIET<T>> min = ((Node<T>)left).removeMin();
+            return tuple(min._1(),balance(min._2(),focus,right));
         }
 
-        private Trampoline<Tuple2<DIET<T>,T>> findLeftAndStartingPoint(T value){
-               //            value
-               //       end         (This is leftward Diet, start new at end)
-               if(focus.ordering().isGreaterThan(value,focus.end)) {
-                   return done(tuple(this, value));
-               }
-               //                        value
-               //                                 end
-               //<-- left  -->    start                 (Left is leftward diet, start new at start)
-               if(focus.ordering().isGreaterThanOrEqual(value,focus.start))
-                   return done(tuple(left,focus.start));
-               //             value
-               //                                  end
-               //   <--     left         --> start               (split leftward diet recursively)
-               return left.fold(p->p.findLeftAndStartingPoint(value), leftNil->done(tuple(leftNil,value)));
+        static <T> DIET<T> build(Range<T>[] sorted, int lo, int hi){
+            if(hi<lo)
+                return empty();
+            int mid = (lo + hi) >>> 1;
+            return new Node<>(build(sorted,lo,mid-1),sorted[mid],build(sorted,mid+1,hi));
+        }
 
+        public DIET<T> add(T value){
+            return add(value,focus.enumeration(),focus.ordering());
+        }
 
+        //remove the ranges in diet that overlap or touch a new range starting at start, returning the new start
+        private static <T> Tuple2<DIET<T>,T> absorbLeft(DIET<T> diet, T start){
+            if(diet.isEmpty())
+                return tuple(diet,start);
+            Node<T> node = (Node<T>)diet;
+            Ordering<? super T> ordering = node.focus.ordering();
+            if(ordering.isLessThan(node.focus.end,start)){
+                Tuple2<DIET<T>, T> res = absorbLeft(node.right,start);
+                return tuple(join(node.left,node.focus,res._1()),res._2());
+            }
+            //everything to the right of this node lies within the new range
+            return absorbLeft(node.left,(T)ordering.min(node.focus.start,start));
+        }
+
+        //remove the ranges in diet that overlap or touch a new range ending at end, returning the new end
+        private static <T> Tuple2<DIET<T>,T> absorbRight(DIET<T> diet, T end){
+            if(diet.isEmpty())
+                return tuple(diet,end);
+            Node<T> node = (Node<T>)diet;
+            Ordering<? super T> ordering = node.focus.ordering();
+            if(ordering.isGreaterThan(node.focus.start,end)){
+                Tuple2<DIET<T>, T> res = absorbRight(node.left,end);
+                return tuple(join(res._1(),node.focus,node.right),res._2());
+            }
+            return absorbRight(node.right,(T)ordering.max(node.focus.end,end));
         }
+
         @Override
         public DIET<T> add(Range<T> range) {
-            if(contains(range))
+            Ordering<? super T> ordering = focus.ordering();
+            if(ordering.isLessThan(focus.end,range.start))
+                return join(left,focus,right.add(range));
+            if(ordering.isGreaterThan(focus.start,range.end))
+                return join(left.add(range),focus,right);
+            if(focus.contains(range))
                 return this;
-            Tuple2<Range<T>, Option<Range<T>>> t = focus.plusAll(range);
-            return t._2().fold(s-> t._1()==focus? cons(left,focus,right.add(s)) : cons(left.add(s),focus,right),()->{
-
-                //create new expanded range and rebalance the trees
-                Tuple2<DIET<T>,T> leftAndStart = left.fold(l->l.findLeftAndStartingPoint(t._1().start).get(), n->tuple(n,t._1().start));
-                Tuple2<DIET<T>,T> rightAndEnd = right.fold(l->l.findRightAndEndingPoint(t._1().end).get(), n->tuple(n,t._1().start));
-
-                return cons(leftAndStart._1(), Range.range(leftAndStart._2(), rightAndEnd._2(), focus.enumeration(), focus.ordering()), rightAndEnd._1());
-
-            });
+            Tuple2<DIET<T>, T> leftAndStart = absorbLeft(left,(T)ordering.min(focus.start,range.start));
+            Tuple2<DIET<T>, T> rightAndEnd = absorbRight(right,(T)ordering.max(focus.end,range.end));
+            return join(leftAndStart._1(), Range.range(leftAndStart._2(), rightAndEnd._2(), focus.enumeration(), ordering), rightAndEnd._1());
         }
 
         @Override
@@ -162,53 +281,38 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
             },()->this);
         }
 
-
-        private static <T> DIET<T> merge(DIET<T> l,DIET<T> r) {
-            if(r.isEmpty())
-                return l;
-            if(l.isEmpty())
-                return r;
-            Node<T> left = l.fold(i->i,n->null);
-            Node<T> right = r.fold(i->i,n->null);
-
-            return left.fold(s -> {
-
-                        Tuple2<Range<T>, DIET<T>> t2 = left.max();
-                        DIET<T> x = cons(t2._2(), t2._1(), right);
-                        return x;
-                    }
-                    , n -> right);
-        }
-
         @Override
         public DIET<T> remove(Range<T> range) {
-
+            DIET<T> l = range.startsBefore(focus) ? left.remove(range) : left;
+            DIET<T> r = range.endsAfter(focus) ? right.remove(range) : right;
+            if(l==left && r==right && (focus.ordering().isLessThan(focus.end,range.start) || focus.ordering().isGreaterThanOrEqual(focus.start,range.end)))
+                return this;
 
             Option<Tuple2<Range<T>, Option<Range<T>>>> x = focus.minusAll(range);
 
-            return x.fold(s->s.transform((r, mr) ->  mr.fold(sr ->{
-
-                       return merge(cons( left,r, empty()),cons(empty(),sr,  right));
-                    },() -> cons(range.startsBefore(focus) ? left.remove(range) : left, r, range.endsAfter(focus) ? right.remove(range) : right))
-                                            ),
+            //only keep the non-empty halves, an empty range left in the tree would split a gap in two
+            return x.fold(s->s.transform((first, second) -> {
+                        DIET<T> rest = second.filter(Node::nonEmpty).fold(sr ->join(empty(),sr,r), () -> r);
+                        return nonEmpty(first) ? join(l, first, rest) : merge(l, rest);
+                    }),
                     //none
-                    ()->merge(left,right));
-//
+                    ()->merge(l,r));
+        }
+
+        private static <T> boolean nonEmpty(Range<T> range){
+            return range.ordering().isLessThan(range.start,range.end);
         }
 
         @Override
         public <R> DIET<R> map(Function<? super T, ? extends R> fn, Enumeration<R> enm, Comparator<? super R> comp) {
-            Range<R> r = focus.map(fn,enm,comp);
-            DIET<R> l2 = left.map(fn,enm,comp);
-            return merge(l2.add(r),right.map(fn,enm,comp));
-
+            return DIET.<R>empty().addAll(streamRanges().map(r->r.map(fn,enm,comp)));
         }
 
         @Override
         public <R> DIET<R> flatMap(Function<? super T, ? extends DIET<? extends R>> fn) {
             ReactiveSeq<DIET<R>> x = stream().map(t -> (DIET<R>)fn.apply(t));
             ReactiveSeq<Range<R>> y = x.flatMap(d -> d.streamRanges());
-            return y.foldLeft(DIET.empty(),(a,b)->a.add(b));
+            return DIET.<R>empty().addAll(y);
         }
 
         @Override
@@ -221,15 +325,6 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
             return left.lazySeq().append(()->focus.lazySeq()).append(()->right.lazySeq());
         }
 
-        @Override
-        public ReactiveSeq<T> stream() {
-            return left.stream().appendStream(focus.stream()).appendStream(right.stream());
-        }
-        @Override
-        public ReactiveSeq<Range<T>> streamRanges() {
-            return left.streamRanges().append(focus).appendStream(right.streamRanges());
-        }
-
 
         public boolean isEmpty(){
             return false;
@@ -260,16 +355,6 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
 
         private static final long serialVersionUID = 1L;
 
-        @Override
-        public Trampoline<Boolean> containsRec(T value) {
-            return done(false);
-        }
-
-        @Override
-        public Trampoline<Boolean> containsRec(Range<T> range) {
-            return done(false);
-        }
-
         @Override
         public DIET<T> add(Range<T> range) {
             return DIET.cons(range);
@@ -331,4 +416,73 @@ public interface DIET<T> extends Sealed2<DIET.Node<T>,DIET.Nil<T>>,
             return "{}";
         }
     }
+
+    /**
+     * In-order walk over the ranges of a DIET
+     */
+    static final class Ranges<T> implements Iterator<Range<T>> {
+        private Node<T>[] stack = new Node[8];
+        private int depth;
+
+        Ranges(DIET<T> root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(DIET<T> diet){
+            DIET<T> next = diet;
+            while(!next.isEmpty()){
+                Node<T> node = (Node<T>)next;
+                if(depth==stack.length)
+                    stack = Arrays.copyOf(stack,depth * 2);
+                stack[depth++] = node;
+                next = node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth>0;
+        }
+
+        @Override
+        public Range<T> next() {
+            if(depth==0)
+                throw new NoSuchElementException();
+            Node<T> node = stack[--depth];
+            stack[depth] = null;
+            pushLeft(node.right);
+            return node.focus;
+        }
+    }
+
+    static final class Gaps<T> implements Iterator<Range<T>> {
+        private final Iterator<Range<T>> ranges;
+        private Range<T> previous;
+        private Range<T> next;
+
+        Gaps(Iterator<Range<T>> ranges) {
+            this.ranges = ranges;
+            this.previous = ranges.hasNext() ? ranges.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while(next==null && ranges.hasNext()){
+                Range<T> current = ranges.next();
+                if(previous.ordering().isLessThan(previous.end,current.start))
+                    next = Range.range(previous.end,current.start,previous.enumeration(),previous.ordering());
+                previous = current;
+            }
+            return next!=null;
+        }
+
+        @Override
+        public Range<T> next() {
+            if(!hasNext())
+                throw new NoSuchElementException();
+            Range<T> res = next;
+            next = null;
+            return res;
+        }
+    }
 }
@@ -0,0 +1,1071 @@
+package cyclops.data;
+
+
+import com.oath.cyclops.hkt.DataWitness.fingerTree;
+import com.oath.cyclops.hkt.Higher;
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.persistent.PersistentIndexed;
+import cyclops.control.Either;
+import cyclops.control.Option;
+import cyclops.data.base.SizedTree;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.data.tuple.Tuple3;
+import cyclops.data.tuple.Tuple4;
+import cyclops.function.Function3;
+import cyclops.function.Function4;
+import cyclops.function.Monoid;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AllArgsConstructor;
+import org.reactivestreams.Publisher;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A persistent sequence backed by a 2-3 finger tree measured by size. Elements can be added and removed at
+ * either end in amortized O(1), while concatenation, splitting, indexed access and updates are O(log n).
+ * FingerTree can be used as a deque or as a FIFO queue via {@link #enqueue(Object)} / {@link #dequeue(Object)}.
+ *
+ * <pre>
+ * {@code
+ *   FingerTree<Integer> window = FingerTree.of(1,2,3)
+ *                                          .enqueue(4)
+ *                                          .drop(1);
+ *   //[2,3,4]
+ *
+ *   Tuple2<ImmutableList<Integer>,ImmutableList<Integer>> halves = window.splitAt(1);
+ *   //([2],[3,4])
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of the elements in this FingerTree
+ */
+public class FingerTree<T> implements ImmutableList<T>,
+                                      Serializable,
+                                      Higher<fingerTree,T> {
+
+    private static final long serialVersionUID = 1L;
+    private static final FingerTree EMPTY = new FingerTree<>(SizedTree.empty());
+
+    private final SizedTree tree;
+
+    private FingerTree(SizedTree tree) {
+        this.tree = tree;
+    }
+
+    public static <T> FingerTree<T> empty(){
+        return EMPTY;
+    }
+
+    public static <T> FingerTree<T> of(T... values){
+        SizedTree res = SizedTree.empty();
+        for(T next : values){
+            res = res.append(next);
+        }
+        return new FingerTree<>(res);
+    }
+
+    public static <T> FingerTree<T> fromIterable(Iterable<T> it){
+        if(it instanceof FingerTree){
+            return (FingerTree<T>)it;
+        }
+        return fromIterator(it.iterator());
+    }
+
+    public static <T> FingerTree<T> fromIterator(Iterator<T> it){
+        SizedTree res = SizedTree.empty();
+        while(it.hasNext()){
+            res = res.append(it.next());
+        }
+        return new FingerTree<>(res);
+    }
+
+    public static <T> FingerTree<T> fromStream(Stream<T> stream){
+        return fromIterator(stream.iterator());
+    }
+
+    public static <T> Collector<T, List<T>, FingerTree<T>> collector() {
+        Collector<T, ?, List<T>> c  = Collectors.toList();
+        return Collectors.<T, List<T>, Iterable<T>,FingerTree<T>>collectingAndThen((Collector)c,FingerTree::fromIterable);
+    }
+
+    public static <T> FingerTree<T> fill(T t, int max){
+        SizedTree res = SizedTree.empty();
+        for(int i=0;i<max;i++){
+            res = res.append(t);
+        }
+        return new FingerTree<>(res);
+    }
+
+    public static <U, T> FingerTree<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+        return fromStream(ReactiveSeq.unfold(seed,unfolder));
+    }
+
+    public static <T> FingerTree<T> iterate(final T seed, Predicate<? super T> pred, final UnaryOperator<T> f) {
+        return fromStream(ReactiveSeq.iterate(seed,pred,f));
+    }
+
+    public static <T> FingerTree<T> iterate(final T seed, final UnaryOperator<T> f,int max) {
+        return fromStream(ReactiveSeq.iterate(seed,f).limit(max));
+    }
+
+    public static <T, U> Tuple2<FingerTree<T>, FingerTree<U>> unzip(final FingerTree<Tuple2<T, U>> sequence) {
+        return ReactiveSeq.unzip(sequence.stream()).transform((a, b)->Tuple.tuple(fromStream(a),fromStream(b)));
+    }
+
+    public static <T> FingerTree<T> generate(Supplier<T> s, int max){
+        return fromStream(ReactiveSeq.generate(s).limit(max));
+    }
+
+    public static FingerTree<Integer> range(final int start, final int end) {
+        return FingerTree.fromStream(ReactiveSeq.range(start,end));
+    }
+
+    public static FingerTree<Integer> range(final int start, final int step, final int end) {
+        return FingerTree.fromStream(ReactiveSeq.range(start,step,end));
+    }
+
+    public static FingerTree<Long> rangeLong(final long start, final long end) {
+        return FingerTree.fromStream(ReactiveSeq.rangeLong(start, end));
+    }
+
+    public static FingerTree<Long> rangeLong(final long start, final long step, final long end) {
+        return FingerTree.fromStream(ReactiveSeq.rangeLong(start,step,end));
+    }
+
+    public static  <T,R> FingerTree<R> tailRec(T initial, Function<? super T, ? extends FingerTree<? extends Either<T, R>>> fn) {
+        FingerTree<Either<T, R>> next = FingerTree.of(Either.left(initial));
+
+        boolean newValue[] = {true};
+        for(;;){
+
+            next = next.flatMap(e -> e.fold(s -> {
+                    newValue[0]=true;
+                    return fn.apply(s);
+                },
+                p -> {
+                    newValue[0]=false;
+                    return FingerTree.of(e);
+                }));
+            if(!newValue[0])
+                break;
+
+        }
+
+        return FingerTree.fromStream(Either.sequenceRight(next).orElse(ReactiveSeq.empty()));
+    }
+
+    public static <T> FingerTree<T> narrowK(final Higher<fingerTree, T> list) {
+        return (FingerTree<T>)list;
+    }
+
+    public static <C2,T> Higher<C2, Higher<fingerTree,T>> widen2(Higher<C2, FingerTree<T>> list){
+        return (Higher)list;
+    }
+
+    public static <T> Higher<fingerTree, T> widen(FingerTree<T> narrow) {
+        return narrow;
+    }
+
+    /**
+     * Add an element to the back of this FingerTree (when used as a FIFO queue)
+     *
+     * @param value Value to enqueue
+     * @return FingerTree with value appended
+     */
+    public FingerTree<T> enqueue(T value){
+        return append(value);
+    }
+
+    /**
+     * Remove the element at the front of this FingerTree (when used as a FIFO queue)
+     *
+     * @param defaultValue Value to return if this FingerTree is empty
+     * @return The first element (or defaultValue) and the remaining elements
+     */
+    public Tuple2<T,FingerTree<T>> dequeue(T defaultValue){
+        if(tree.isEmpty())
+            return Tuple.tuple(defaultValue,this);
+        return Tuple.tuple((T)tree.head(),new FingerTree<>(tree.tail()));
+    }
+
+    @Override
+    public T last(T alt){
+        return tree.isEmpty() ? alt : (T)tree.last();
+    }
+
+    @Override
+    public int size(){
+        return tree.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tree.isEmpty();
+    }
+
+    @Override
+    public Iterator<T> iterator(){
+        return (Iterator<T>)tree.iterator();
+    }
+
+    @Override
+    public ReactiveSeq<T> stream(){
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    @Override
+    public FingerTree<T> plus(T value){
+        return append(value);
+    }
+
+    @Override
+    public FingerTree<T> plusAll(Iterable<? extends T> list) {
+        return appendAll(list);
+    }
+
+    @Override
+    public FingerTree<T> prepend(T value) {
+        return new FingerTree<>(tree.prepend(value));
+    }
+
+    @Override
+    public FingerTree<T> append(T value) {
+        return new FingerTree<>(tree.append(value));
+    }
+
+    @Override
+    public FingerTree<T> prependAll(Iterable<? extends T> value) {
+        if(value instanceof FingerTree){
+            return concat((FingerTree<T>)value,this);
+        }
+        return concat(fromIterable((Iterable<T>)value),this);
+    }
+
+    @Override
+    public FingerTree<T> appendAll(Iterable<? extends T> value) {
+        if(value instanceof FingerTree){
+            return concat(this,(FingerTree<T>)value);
+        }
+        SizedTree res = tree;
+        for(T next : value){
+            res = res.append(next);
+        }
+        return new FingerTree<>(res);
+    }
+
+    @Override
+    public FingerTree<T> appendAll(T... values) {
+        return appendAll(Arrays.asList(values));
+    }
+
+    @Override
+    public FingerTree<T> prependAll(T... values) {
+        return concat(of(values),this);
+    }
+
+    private static <T> FingerTree<T> concat(FingerTree<T> left, FingerTree<T> right){
+        if(left.isEmpty())
+            return right;
+        if(right.isEmpty())
+            return left;
+        return new FingerTree<>(SizedTree.concat(left.tree,right.tree));
+    }
+
+    @Override
+    public FingerTree<T> drop(long num) {
+        if(num<=0)
+            return this;
+        if(num>=size())
+            return empty();
+        return new FingerTree<>(tree.split((int)num)[1]);
+    }
+
+    @Override
+    public FingerTree<T> take(long num) {
+        if(num<=0)
+            return empty();
+        if(num>=size())
+            return this;
+        return new FingerTree<>(tree.split((int)num)[0]);
+    }
+
+    public FingerTree<T> takeRight(int num){
+        if(num<=0)
+            return empty();
+        return drop(size()-num);
+    }
+
+    public FingerTree<T> dropRight(int num){
+        if(num<=0)
+            return this;
+        if(num==1 && !tree.isEmpty())
+            return new FingerTree<>(tree.init());
+        return take(size()-num);
+    }
+
+    @Override
+    public Tuple2<ImmutableList<T>, ImmutableList<T>> splitAt(int n) {
+        SizedTree[] split = tree.split(n);
+        return Tuple.tuple(new FingerTree<>(split[0]),new FingerTree<>(split[1]));
+    }
+
+    public FingerTree<T> subList(int start, int end){
+        return drop(start).take(end-start);
+    }
+
+    @Override
+    public FingerTree<T> slice(long from, long to) {
+        long start = Math.max(from,0);
+        return drop(start).take(Math.max(to-start,0));
+    }
+
+    @Override
+    public FingerTree<T> removeAt(long i) {
+        if(i<0||i>=size())
+            return this;
+        SizedTree[] split = tree.split((int)i);
+        return new FingerTree<>(SizedTree.concat(split[0],split[1].tail()));
+    }
+
+    @Override
+    public FingerTree<T> removeValue(T e) {
+        return removeFirst(i-> Objects.equals(i,e));
+    }
+
+    @Override
+    public FingerTree<T> removeAll(Iterable<? extends T> list) {
+        return fromStream(this.stream().removeAll(list));
+    }
+
+    @Override
+    public FingerTree<T> deleteBetween(int start, int end) {
+        if(start>=end || end<=0 || start>=size())
+            return this;
+        return concat(take(start),drop(end));
+    }
+
+    @Override
+    public FingerTree<T> insertAt(int pos, T... values) {
+        return insertAt(pos,of(values));
+    }
+
+    @Override
+    public FingerTree<T> insertAt(int i, T e){
+        if(i<=0)
+            return prepend(e);
+        if(i>=size())
+            return append(e);
+        SizedTree[] split = tree.split(i);
+        return new FingerTree<>(SizedTree.concat(split[0].append(e),split[1]));
+    }
+
+    @Override
+    public FingerTree<T> insertAt(int pos, Iterable<? extends T> values) {
+        FingerTree<T> middle = fromIterable((Iterable<T>)values);
+        if(pos<=0)
+            return concat(middle,this);
+        if(pos>=size())
+            return concat(this,middle);
+        return concat(concat(take(pos),middle),drop(pos));
+    }
+
+    @Override
+    public FingerTree<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
+        return insertAt(pos,(Iterable<? extends T>)values);
+    }
+
+    @Override
+    public FingerTree<T> insertStreamAt(int pos, Stream<T> stream) {
+        return insertAt(pos,fromStream(stream));
+    }
+
+    public FingerTree<T> plusAll(int i, Iterable<? extends T> values){
+        return insertAt(i,values);
+    }
+
+    @Override
+    public FingerTree<T> updateAt(int pos, T value) {
+        if(pos<0||pos>=size()){
+            return this;
+        }
+        SizedTree[] split = tree.split(pos);
+        return new FingerTree<>(SizedTree.concat(split[0],split[1].tail().prepend(value)));
+    }
+
+    public Either<Integer,FingerTree<T>> set(int pos, T value) {
+        if (pos < 0 || pos >= size()) {
+            return Either.left(size());
+        }
+        return Either.right(updateAt(pos, value));
+    }
+
+    public Either<Integer,FingerTree<T>> delete(int pos){
+        if(pos<0||pos>=size()){
+            return Either.left(size());
+        }
+        return Either.right(removeAt(pos));
+    }
+
+    @Override
+    public Option<T> get(int pos){
+        if(pos<0||pos>=size()){
+            return Option.none();
+        }
+        return Option.some((T)tree.get(pos));
+    }
+
+    @Override
+    public T getOrElse(int pos, T alt) {
+        if(pos<0||pos>=size()){
+            return alt;
+        }
+        return (T)tree.get(pos);
+    }
+
+    @Override
+    public T getOrElseGet(int pos, Supplier<? extends T> alt) {
+        if(pos<0||pos>=size()){
+            return alt.get();
+        }
+        return (T)tree.get(pos);
+    }
+
+    @Override
+    public FingerTree<T> reverse() {
+        return new FingerTree<>(tree.reverse());
+    }
+
+    @Override
+    public <R> FingerTree<R> map(Function<? super T, ? extends R> fn){
+        return new FingerTree<>(tree.map((Function<Object,Object>)fn));
+    }
+
+    @Override
+    public FingerTree<T> filter(Predicate<? super T> pred){
+        SizedTree res = SizedTree.empty();
+        for (T t : this) {
+            if(pred.test(t)) {
+                res = res.append(t);
+            }
+        }
+        return res.size()==size() ? this : new FingerTree<>(res);
+    }
+
+    @Override
+    public <R> FingerTree<R> flatMap(Function<? super T, ? extends ImmutableList<? extends R>> fn){
+        return concatMap(fn);
+    }
+
+    @Override
+    public <R> FingerTree<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        SizedTree res = SizedTree.empty();
+        for (T t : this) {
+            for(R next : fn.apply(t)){
+                res = res.append(next);
+            }
+        }
+        return new FingerTree<>(res);
+    }
+
+    @Override
+    public <R> FingerTree<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return fromIterable(stream().mergeMap(fn));
+    }
+
+    @Override
+    public <R> FingerTree<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn) {
+        return fromIterable(stream().mergeMap(maxConcurecy,fn));
+    }
+
+    @Override
+    public <U, R> FingerTree<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        SizedTree res = SizedTree.empty();
+        Iterator<? extends U> it = other.iterator();
+        for (T t : this) {
+            if(!it.hasNext())
+                break;
+            res = res.append(zipper.apply(t, it.next()));
+        }
+        return new FingerTree<>(res);
+    }
+
+    @Override
+    public FingerTree<T> takeWhile(Predicate<? super T> p) {
+        return take(prefixLength(p));
+    }
+
+    @Override
+    public FingerTree<T> dropWhile(Predicate<? super T> p) {
+        return drop(prefixLength(p));
+    }
+
+    @Override
+    public FingerTree<T> takeUntil(Predicate<? super T> p) {
+        return takeWhile(p.negate());
+    }
+
+    @Override
+    public FingerTree<T> dropUntil(Predicate<? super T> p) {
+        return dropWhile(p.negate());
+    }
+
+    private int prefixLength(Predicate<? super T> p){
+        int count = 0;
+        for(T next : this){
+            if(!p.test(next))
+                break;
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public boolean containsValue(T value) {
+        return stream().filter(i->Objects.equals(i,value)).findFirst().isPresent();
+    }
+
+    @Override
+    public <R> FingerTree<R> unitIterable(Iterable<R> it){
+        return fromIterable(it);
+    }
+
+    @Override
+    public <R> FingerTree<R> unitStream(Stream<R> stream) {
+        return fromStream(stream);
+    }
+
+    @Override
+    public FingerTree<T> emptyUnit() {
+        return empty();
+    }
+
+    @Override
+    public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+        return isEmpty() ? fn2.apply(FingerTreeNone.empty()) : fn1.apply(new FingerTreeSome<>(tree));
+    }
+
+    @Override
+    public FingerTree<T> onEmpty(T value) {
+        return isEmpty() ? FingerTree.of(value) : this;
+    }
+
+    @Override
+    public FingerTree<T> onEmptyGet(Supplier<? extends T> supplier) {
+        return isEmpty() ? FingerTree.of(supplier.get()) : this;
+    }
+
+    @Override
+    public ImmutableList<T> onEmptySwitch(Supplier<? extends ImmutableList<T>> supplier) {
+        if(!isEmpty())
+            return this;
+        return supplier.get();
+    }
+
+    @Override
+    public String toString() {
+        return stream().join(", ","[","]");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof PersistentIndexed))
+            return false;
+        return equalToDirectAccess((Iterable<T>)o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (T e : this)
+            hashCode = 31*hashCode + (e==null ? 0 : e.hashCode());
+        return hashCode;
+    }
+
+    private Object writeReplace() {
+        return new Proxy(this);
+    }
+
+    private Object readResolve() throws InvalidObjectException {
+        throw new InvalidObjectException("Use Serialization Proxy instead.");
+    }
+
+    @AllArgsConstructor
+    private static final class Proxy<T> implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+        transient FingerTree<T> v;
+
+        private void writeObject(ObjectOutputStream s) throws IOException {
+            s.defaultWriteObject();
+            s.writeInt(v.size());
+            for(T next : v){
+                s.writeObject(next);
+            }
+        }
+
+        private Object readResolve() {
+            return v;
+        }
+
+        private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
+            s.defaultReadObject();
+            final int size = s.readInt();
+            SizedTree res = SizedTree.empty();
+            for (int i = 0; i < size; i++) {
+                res = res.append(s.readObject());
+            }
+            v = new FingerTree<>(res);
+        }
+    }
+
+    static final class FingerTreeSome<T> extends FingerTree<T> implements ImmutableList.Some<T>{
+
+        FingerTreeSome(SizedTree tree) {
+            super(tree);
+        }
+
+        @Override
+        public ImmutableList<T> tail() {
+            return new FingerTree<>(((FingerTree<T>)this).tree.tail());
+        }
+
+        @Override
+        public T head() {
+            return (T)((FingerTree<T>)this).tree.head();
+        }
+
+        @Override
+        public FingerTreeSome<T> reverse() {
+            return new FingerTreeSome<>(((FingerTree<T>)this).tree.reverse());
+        }
+
+        @Override
+        public Tuple2<T, ImmutableList<T>> unapply() {
+            return Tuple.tuple(head(),tail());
+        }
+    }
+
+    static final class FingerTreeNone<T> implements ImmutableList.None<T>{
+        static FingerTreeNone Instance = new FingerTreeNone();
+
+        @Override
+        public<R> FingerTree<R> unitIterable(Iterable<R> it){
+            if(it instanceof FingerTree){
+                return (FingerTree<R>)it;
+            }
+            return fromIterable(it);
+        }
+
+        public static <T> FingerTreeNone<T> empty(){
+            return Instance;
+        }
+        @Override
+        public <R> ImmutableList<R> unitStream(Stream<R> stream) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> emptyUnit() {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> drop(long num) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> take(long num) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> prepend(T value) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> append(T value) {
+            return plus(value);
+        }
+
+        @Override
+        public ImmutableList<T> prependAll(Iterable<? extends T> value) {
+            return empty();
+        }
+
+
+
+        @Override
+        public ImmutableList<T> appendAll(Iterable<? extends T> value) {
+            return empty();
+        }
+
+        @Override
+        public ImmutableList<T> reverse() {
+            return empty();
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            return Option.none();
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            return alt;
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<? extends T> alt) {
+            return alt.get();
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.empty();
+        }
+
+        @Override
+        public ImmutableList<T> filter(Predicate<? super T> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> map(Function<? super T, ? extends R> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> flatMap(Function<? super T, ? extends ImmutableList<? extends R>> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+            return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+          return empty();
+        }
+
+        @Override
+        public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn) {
+          return empty();
+        }
+
+      @Override
+        public ImmutableList<T> onEmpty(T value) {
+            return FingerTree.of(value);
+        }
+
+        @Override
+        public ImmutableList<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return FingerTree.of(supplier.get());
+        }
+
+
+        @Override
+        public ImmutableList<T> onEmptySwitch(Supplier<? extends ImmutableList<T>> supplier) {
+            return supplier.get();
+        }
+    }
+
+    @Override
+    public <R1, R2, R3, R> FingerTree<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach4(iterable1,iterable2,iterable3,yieldingFunction);
+    }
+
+    @Override
+    public <R1, R2, R3, R> FingerTree<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, Boolean> filterFunction, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach4(iterable1,iterable2,iterable3,filterFunction,yieldingFunction);
+    }
+
+    @Override
+    public <R1, R2, R> FingerTree<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach3(iterable1,iterable2,yieldingFunction);
+    }
+
+    @Override
+    public <R1, R2, R> FingerTree<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, Boolean> filterFunction, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach3(iterable1,iterable2,filterFunction,yieldingFunction);
+    }
+
+    @Override
+    public <R1, R> FingerTree<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach2(iterable1,yieldingFunction);
+    }
+
+    @Override
+    public <R1, R> FingerTree<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, Boolean> filterFunction, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+        return (FingerTree<R>) ImmutableList.super.forEach2(iterable1,filterFunction,yieldingFunction);
+    }
+
+    @Override
+    public FingerTree<T> removeFirst(Predicate<? super T> pred) {
+        return (FingerTree<T>)ImmutableList.super.removeFirst(pred);
+    }
+
+    @Override
+    public FingerTree<T> replaceFirst(T currentElement, T newElement) {
+        return (FingerTree<T>)ImmutableList.super.replaceFirst(currentElement,newElement);
+    }
+
+    @Override
+    public <U> FingerTree<U> ofType(Class<? extends U> type) {
+        return (FingerTree<U>)ImmutableList.super.ofType(type);
+    }
+
+    @Override
+    public FingerTree<T> filterNot(Predicate<? super T> predicate) {
+        return (FingerTree<T>)ImmutableList.super.filterNot(predicate);
+    }
+
+    @Override
+    public FingerTree<T> notNull() {
+        return (FingerTree<T>)ImmutableList.super.notNull();
+    }
+
+    @Override
+    public FingerTree<T> peek(Consumer<? super T> c) {
+        return (FingerTree<T>)ImmutableList.super.peek(c);
+    }
+
+    @Override
+    public FingerTree<T> removeStream(Stream<? extends T> stream) {
+        return (FingerTree<T>)ImmutableList.super.removeStream(stream);
+    }
+
+    @Override
+    public FingerTree<T> retainAll(Iterable<? extends T> it) {
+        return (FingerTree<T>)ImmutableList.super.retainAll(it);
+    }
+
+    @Override
+    public FingerTree<T> retainStream(Stream<? extends T> stream) {
+        return (FingerTree<T>)ImmutableList.super.retainStream(stream);
+    }
+
+    @Override
+    public FingerTree<T> retainAll(T... values) {
+        return (FingerTree<T>)ImmutableList.super.retainAll(values);
+    }
+
+    @Override
+    public FingerTree<ReactiveSeq<T>> permutations() {
+        return (FingerTree<ReactiveSeq<T>>)ImmutableList.super.permutations();
+    }
+
+    @Override
+    public FingerTree<ReactiveSeq<T>> combinations(int size) {
+        return (FingerTree<ReactiveSeq<T>>)ImmutableList.super.combinations(size);
+    }
+
+    @Override
+    public FingerTree<ReactiveSeq<T>> combinations() {
+        return (FingerTree<ReactiveSeq<T>>)ImmutableList.super.combinations();
+    }
+
+    @Override
+    public <T2, R> FingerTree<R> zip(BiFunction<? super T, ? super T2, ? extends R> fn, Publisher<? extends T2> publisher) {
+        return (FingerTree<R>)ImmutableList.super.zip(fn, publisher);
+    }
+
+    @Override
+    public <U, R> FingerTree<R> zipWithStream(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return (FingerTree<R>)ImmutableList.super.zipWithStream(other,zipper);
+    }
+
+    @Override
+    public <U> FingerTree<Tuple2<T, U>> zipWithPublisher(Publisher<? extends U> other) {
+        return (FingerTree)ImmutableList.super.zipWithPublisher(other);
+    }
+
+    @Override
+    public <U> FingerTree<Tuple2<T, U>> zip(Iterable<? extends U> other) {
+        return (FingerTree)ImmutableList.super.zip(other);
+    }
+
+    @Override
+    public <S, U, R> FingerTree<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Function3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        return (FingerTree<R>)ImmutableList.super.zip3(second,third,fn3);
+    }
+
+    @Override
+    public <T2, T3, T4, R> FingerTree<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth, Function4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return (FingerTree<R>)ImmutableList.super.zip4(second,third,fourth,fn);
+    }
+
+    @Override
+    public FingerTree<T> combine(BiPredicate<? super T, ? super T> predicate, BinaryOperator<T> op) {
+        return (FingerTree<T>)ImmutableList.super.combine(predicate,op);
+    }
+
+    @Override
+    public FingerTree<T> combine(Monoid<T> op, BiPredicate<? super T, ? super T> predicate) {
+        return (FingerTree<T>)ImmutableList.super.combine(op,predicate);
+    }
+
+    @Override
+    public FingerTree<T> cycle(long times) {
+        return (FingerTree<T>)ImmutableList.super.cycle(times);
+    }
+
+    @Override
+    public FingerTree<T> cycle(Monoid<T> m, long times) {
+        return (FingerTree<T>)ImmutableList.super.cycle(m,times);
+    }
+
+    @Override
+    public FingerTree<T> cycleWhile(Predicate<? super T> predicate) {
+        return (FingerTree<T>) ImmutableList.super.cycleWhile(predicate);
+    }
+
+    @Override
+    public FingerTree<T> cycleUntil(Predicate<? super T> predicate) {
+        return (FingerTree<T>) ImmutableList.super.cycleUntil(predicate);
+    }
+
+    @Override
+    public <S, U> FingerTree<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
+        return (FingerTree) ImmutableList.super.zip3(second,third);
+    }
+
+    @Override
+    public <T2, T3, T4> FingerTree<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
+        return (FingerTree) ImmutableList.super.zip4(second,third,fourth);
+    }
+
+    @Override
+    public FingerTree<Tuple2<T, Long>> zipWithIndex() {
+        return (FingerTree<Tuple2<T,Long>>) ImmutableList.super.zipWithIndex();
+    }
+
+    @Override
+    public FingerTree<Seq<T>> sliding(int windowSize) {
+        return (FingerTree<Seq<T>>) ImmutableList.super.sliding(windowSize);
+    }
+
+    @Override
+    public FingerTree<Seq<T>> sliding(int windowSize, int increment) {
+        return (FingerTree<Seq<T>>) ImmutableList.super.sliding(windowSize,increment);
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> FingerTree<C> grouped(int size, Supplier<C> supplier) {
+        return (FingerTree<C>) ImmutableList.super.grouped(size,supplier);
+    }
+
+    @Override
+    public FingerTree<Vector<T>> groupedUntil(Predicate<? super T> predicate) {
+        return (FingerTree<Vector<T>>) ImmutableList.super.groupedUntil(predicate);
+    }
+
+    @Override
+    public FingerTree<Vector<T>> groupedUntil(BiPredicate<Vector<? super T>, ? super T> predicate) {
+        return (FingerTree<Vector<T>>) ImmutableList.super.groupedUntil(predicate);
+    }
+
+    @Override
+    public <U> FingerTree<Tuple2<T, U>> zipWithStream(Stream<? extends U> other) {
+        return (FingerTree) ImmutableList.super.zipWithStream(other);
+    }
+
+    @Override
+    public FingerTree<Vector<T>> groupedWhile(Predicate<? super T> predicate) {
+        return (FingerTree<Vector<T>>) ImmutableList.super.groupedWhile(predicate);
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> FingerTree<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (FingerTree<C>) ImmutableList.super.groupedWhile(predicate,factory);
+    }
+
+    @Override
+    public <C extends PersistentCollection<? super T>> FingerTree<C> groupedUntil(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (FingerTree<C>) ImmutableList.super.groupedUntil(predicate,factory);
+    }
+
+    @Override
+    public FingerTree<Vector<T>> grouped(int groupSize) {
+        return (FingerTree<Vector<T>>) ImmutableList.super.grouped(groupSize);
+    }
+
+    @Override
+    public FingerTree<T> distinct() {
+        return (FingerTree<T>) ImmutableList.super.distinct();
+    }
+
+    @Override
+    public FingerTree<T> scanLeft(Monoid<T> monoid) {
+        return (FingerTree<T>) ImmutableList.super.scanLeft(monoid);
+    }
+
+    @Override
+    public <U> FingerTree<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return (FingerTree<U>) ImmutableList.super.scanLeft(seed,function);
+    }
+
+    @Override
+    public FingerTree<T> scanRight(Monoid<T> monoid) {
+        return (FingerTree<T>) ImmutableList.super.scanRight(monoid);
+    }
+
+    @Override
+    public <U> FingerTree<U> scanRight(U identity, BiFunction<? super T, ? super U, ? extends U> combiner) {
+        return (FingerTree<U>) ImmutableList.super.scanRight(identity,combiner);
+    }
+
+    @Override
+    public FingerTree<T> sorted() {
+        return (FingerTree<T>) ImmutableList.super.sorted();
+    }
+
+    @Override
+    public FingerTree<T> sorted(Comparator<? super T> c) {
+        return (FingerTree<T>) ImmutableList.super.sorted(c);
+    }
+
+    @Override
+    public FingerTree<T> intersperse(T value) {
+        return (FingerTree<T>) ImmutableList.super.intersperse(value);
+    }
+
+    @Override
+    public FingerTree<T> shuffle() {
+        return (FingerTree<T>) ImmutableList.super.shuffle();
+    }
+
+    @Override
+    public FingerTree<T> shuffle(Random random) {
+        return (FingerTree<T>) ImmutableList.super.shuffle(random);
+    }
+
+    @Override
+    public FingerTree<T> prependStream(Stream<? extends T> stream) {
+        return (FingerTree<T>) ImmutableList.super.prependStream(stream);
+    }
+
+    @Override
+    public <U extends Comparable<? super U>> FingerTree<T> sorted(Function<? super T, ? extends U> function) {
+        return (FingerTree<T>) ImmutableList.super.sorted(function);
+    }
+}
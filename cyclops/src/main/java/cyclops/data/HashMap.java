@@ -10,6 +10,7 @@ import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.hashMap;
 import cyclops.data.base.HAMT;
 import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
@@ -39,22 +40,22 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
         return res.put(k,v);
     }
 
+    public static <K,V> Builder<K,V> builder(){
+        return new Builder<>(new HAMT.Transient<>());
+    }
+
     public static <K,V> HashMap<K,V> fromMap(Map<K,V> map){
-        HashMap<K,V> res = empty();
+        HAMT.Transient<K,V> res = new HAMT.Transient<>();
         for(Map.Entry<K,V> next : map.entrySet()){
-            res = res.put(next.getKey(),next.getValue());
+            res.put(next.getKey(),next.getValue());
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
     public static <K,V> HashMap<K,V> fromMap(PersistentMap<K,V> map){
         if(map instanceof HashMap){
             return (HashMap)map;
         }
-        HashMap<K,V> res = empty();
-        for(Tuple2<K,V> next : map){
-            res = res.put(next._1(),next._2());
-        }
-        return res;
+        return HashMap.<K,V>builder().putAll(map).build();
     }
     public static <K,V> HashMap<K,V> of(K k1,V v1,K k2, V v2){
         HashMap<K,V> res = empty();
@@ -62,13 +63,19 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
     }
 
     public static <K,V> HashMap<K,V> fromStream(Stream<Tuple2<K,V>> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.put(t2._1(),t2._2()));
+        Builder<K,V> res = builder();
+        stream.forEachOrdered(t2->res.put(t2._1(),t2._2()));
+        return res.build();
     }
 
     public int size(){
         return map.size();
     }
 
+    HAMT.Transient<K,V> transientMap(){
+        return new HAMT.Transient<>(map);
+    }
+
 
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
@@ -155,11 +162,11 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> removeAll(K... keys) {
-        HAMT.Node<K,V> cur = map;
+        HAMT.Transient<K,V> cur = transientMap();
         for(K key : keys){
-            cur = cur.minus(0,key.hashCode(),key);
+            cur.remove(key);
         }
-        return new HashMap<>(cur);
+        return new HashMap<>(cur.freeze());
     }
 
     @Override
@@ -198,27 +205,72 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
 
     @Override
     public HashMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        HashMap<K,V> res = this;
-        for(Tuple2<? extends K, ? extends V> e : map){
-            res = res.put(e._1(),e._2());
+        if(map instanceof HashMap){
+            return new HashMap<>(HAMT.union(this.map,((HashMap<K,V>)map).map));
         }
-        return res;
+        return new Builder<>(transientMap()).putAll(map)
+                                            .build();
+    }
+
+    /**
+     * Merge the entries of both maps, where a key is present in both the values are combined with the supplied function.
+     * Subtrees of the underlying HAMTs that are only present in one map are shared with the result.
+     *
+     * <pre>
+     * {@code
+     *  HashMap.of("a",1,"b",2).union(HashMap.of("b",10,"c",3),Integer::sum);
+     *  //[a=1,b=12,c=3]
+     * }
+     * </pre>
+     *
+     * @param map HashMap to merge with
+     * @param merge Combines the value in this map with the value in the supplied map
+     * @return Merged HashMap
+     */
+    public HashMap<K, V> union(HashMap<K, V> map, BiFunction<? super V, ? super V, ? extends V> merge) {
+        return new HashMap<>(HAMT.union(this.map,map.map,merge));
+    }
+
+    /**
+     * @param map HashMap whose keys should be retained
+     * @return HashMap with the entries from this map whose keys are also present in the supplied map
+     */
+    public HashMap<K, V> intersection(HashMap<K, ?> map) {
+        return new HashMap<>(HAMT.intersection(this.map,map.map));
+    }
+
+    /**
+     * @param map HashMap to intersect with
+     * @param merge Combines the value in this map with the value in the supplied map
+     * @return HashMap with the keys present in both maps
+     */
+    public HashMap<K, V> intersection(HashMap<K, V> map, BiFunction<? super V, ? super V, ? extends V> merge) {
+        return new HashMap<>(HAMT.intersection(this.map,map.map,merge));
+    }
+
+    /**
+     * @param map HashMap whose keys should be removed
+     * @return HashMap with the entries from this map whose keys are not present in the supplied map
+     */
+    public HashMap<K, V> difference(HashMap<K, ?> map) {
+        return new HashMap<>(HAMT.difference(this.map,map.map));
     }
 
-
-
     @Override
     public HashMap<K, V> removeAllKeys(Iterable<? extends K> keys) {
-        HashMap<K,V> res = this;
+        if(keys instanceof HashSet){
+            return new HashMap<>(HAMT.difference(map,((HashSet<K>)keys).getMap()));
+        }
+        HAMT.Transient<K,V> res = transientMap();
         for(K e : keys){
-            res = res.remove(e);
+            res.remove(e);
         }
-        return res;
+        return new HashMap<>(res.freeze());
     }
 
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return map.iterator();
     }
 
     @Override
@@ -231,7 +283,9 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
         if (this == o) return true;
         if (o == null)
           return false;
-
+        if(o instanceof HashMap){
+          return HAMT.equivalent(map,((HashMap<K,V>)o).map);
+        }
         if(o instanceof PersistentMap){
           PersistentMap<K,V> m = (PersistentMap<K,V>)o;
           return equalTo(m);
@@ -325,4 +379,46 @@ public final class HashMap<K,V> implements ImmutableMap<K,V>,PersistentMap<K,V>,
   public String printHAMT(){
       return this.map.toString();
   }
+
+    /**
+     * Mutable builder for HashMaps, entries are added to the underlying HAMT in place and build is O(1).
+     * A Builder should not be shared across threads.
+     *
+     * <pre>
+     * {@code
+     *  HashMap<String,Integer> map = HashMap.<String,Integer>builder()
+     *                                       .put("hello",1)
+     *                                       .put("world",2)
+     *                                       .build();
+     * }
+     * </pre>
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Builder<K,V> {
+        private final HAMT.Transient<K,V> map;
+
+        public Builder<K,V> put(K key, V value){
+            map.put(key,value);
+            return this;
+        }
+        public Builder<K,V> putAll(Iterable<? extends Tuple2<? extends K, ? extends V>> entries){
+            for(Tuple2<? extends K, ? extends V> next : entries){
+                map.put(next._1(),next._2());
+            }
+            return this;
+        }
+        public Builder<K,V> remove(K key){
+            map.remove(key);
+            return this;
+        }
+        public int size(){
+            return map.size();
+        }
+        public HashMap<K,V> build(){
+            return new HashMap<>(map.freeze());
+        }
+    }
 }
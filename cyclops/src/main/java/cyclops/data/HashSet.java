@@ -25,7 +25,6 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -34,9 +33,11 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     @Getter
     private final HAMT.Node<T,T> map;
 
-    static <T> Collector<T, Set<T>, HashSet<T>> collector() {
-        Collector<T, ?, Set<T>> c  = Collectors.toSet();
-        return Collectors.<T, Set<T>, Iterable<T>,HashSet<T>>collectingAndThen((Collector)c,HashSet::fromIterable);
+    public static <T> Collector<T, Builder<T>, HashSet<T>> collector() {
+        return Collector.of(HashSet::builder,Builder::add,Builder::addAll,Builder::build,Collector.Characteristics.UNORDERED);
+    }
+    public static <T> Builder<T> builder(){
+        return new Builder<>(new HAMT.Transient<>());
     }
 
     public static <T> HashSet<T> empty(){
@@ -48,11 +49,8 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
         return new HashSet<>(tree);
     }
     public static <T> HashSet<T> of(T... values){
-        HAMT.Node<T, T> tree = HAMT.empty();
-        for(T value : values){
-            tree = tree.plus(0,value.hashCode(),value,value);
-        }
-        return new HashSet<>(tree);
+        return HashSet.<T>builder().addAll(values)
+                                   .build();
     }
     public static <U, T> HashSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
         return fromStream(ReactiveSeq.unfold(seed,unfolder));
@@ -96,10 +94,13 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
     }
 
     public static <T> HashSet<T> fromStream(Stream<T> stream){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(),(m,t2)->m.plus(t2));
+        Builder<T> res = builder();
+        stream.forEachOrdered(res::add);
+        return res.build();
     }
     public static <T> HashSet<T> fromIterable(Iterable<T> it){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(),(m, t2)->m.plus(t2));
+        return HashSet.<T>builder().addAll(it)
+                                   .build();
     }
     public static <T> HashSet<T> fromIterator(Iterator<T> it){
       return fromIterable((()->it));
@@ -210,21 +211,24 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> plusAll(Iterable<? extends T> list) {
-          HashSet<T> res = this;
-          for(T next : list){
-              res = res.plus(next);
+          if(list instanceof HashSet){
+              return new HashSet<>(HAMT.union(map,((HashSet<T>)list).map));
           }
-          return res;
+          return new Builder<T>(new HAMT.Transient<>(map)).addAll(list)
+                                                          .build();
       }
 
 
       @Override
       public HashSet<T> removeAll(Iterable<? extends T> list) {
-          HashSet<T> res = this;
+          if(list instanceof HashSet){
+              return new HashSet<>(HAMT.difference(map,((HashSet<T>)list).map));
+          }
+          HAMT.Transient<T,T> res = new HAMT.Transient<>(map);
           for(T next : list){
-              res = res.removeValue(next);
+              res.remove(next);
           }
-          return res;
+          return new HashSet<>(res.freeze());
       }
 
       @Override
@@ -234,13 +238,26 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public Iterator<T> iterator() {
-          return stream().iterator();
+          Iterator<Tuple2<T,T>> it = map.iterator();
+          return new Iterator<T>() {
+              @Override
+              public boolean hasNext() {
+                  return it.hasNext();
+              }
+
+              @Override
+              public T next() {
+                  return it.next()._1();
+              }
+          };
       }
 
       @Override
       public boolean equals(Object o) {
           if(!(o instanceof PersistentSet) || o==null)
               return false;
+          if(o instanceof HashSet)
+              return HAMT.equivalent(map,((HashSet<T>)o).map);
           PersistentSet s = (PersistentSet)o;
          for(T next : this){
              if(!s.containsValue(next))
@@ -344,6 +361,9 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
 
       @Override
       public HashSet<T> retainAll(Iterable<? extends T> it) {
+          if(it instanceof HashSet){
+              return new HashSet<>(HAMT.intersection(map,((HashSet<T>)it).map));
+          }
           return (HashSet<T>)ImmutableSet.super.retainAll(it);
       }
 
@@ -670,4 +690,54 @@ public final class HashSet<T> implements  ImmutableSet<T>,Higher<hashSet,T> , Se
       public HashSet<T> insertAt(int pos, T... values) {
           return (HashSet<T>) ImmutableSet.super.insertAt(pos,values);
       }
+
+    /**
+     * Mutable builder for HashSets, values are added to the underlying HAMT in place and build is O(1).
+     * A Builder should not be shared across threads.
+     *
+     * <pre>
+     * {@code
+     *  HashSet<Integer> set = HashSet.<Integer>builder()
+     *                                .add(1)
+     *                                .addAll(Arrays.asList(2,3))
+     *                                .build();
+     * }
+     * </pre>
+     *
+     * @param <T> Data type of the elements
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Builder<T> {
+        private final HAMT.Transient<T,T> map;
+
+        public Builder<T> add(T value){
+            map.put(value,value);
+            return this;
+        }
+        public Builder<T> addAll(T... values){
+            for(T next : values){
+                map.put(next,next);
+            }
+            return this;
+        }
+        public Builder<T> addAll(Iterable<? extends T> values){
+            for(T next : values){
+                map.put(next,next);
+            }
+            return this;
+        }
+        public Builder<T> addAll(Builder<? extends T> values){
+            return addAll(values.build());
+        }
+        public Builder<T> remove(T value){
+            map.remove(value);
+            return this;
+        }
+        public int size(){
+            return map.size();
+        }
+        public HashSet<T> build(){
+            return new HashSet<>(map.freeze());
+        }
+    }
 }
@@ -0,0 +1,149 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.base.IntIntTrie;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent map from primitive int keys to primitive int values, neither are boxed so a counter keyed by numeric ids
+ * costs two ints per entry plus the trie overhead. getOrElse, containsKey, put and merge don't box.
+ *
+ * <pre>
+ * {@code
+ *  IntIntMap counts = IntIntMap.empty();
+ *  for(int id : ids)
+ *      counts = counts.merge(id,1,Integer::sum);
+ *  counts.getOrElse(42,0);
+ * }
+ * </pre>
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntIntMap implements Iterable<Tuple2<Integer,Integer>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final IntIntMap EMPTY = new IntIntMap(IntIntTrie.empty());
+    private final IntIntTrie trie;
+
+    public static IntIntMap empty(){
+        return EMPTY;
+    }
+
+    public static IntIntMap of(int key, int value){
+        return empty().put(key,value);
+    }
+
+    public static IntIntMap of(int k1, int v1, int k2, int v2){
+        return empty().put(k1,v1)
+                      .put(k2,v2);
+    }
+
+    public static IntIntMap fromMap(Map<Integer,Integer> map){
+        IntIntTrie res = IntIntTrie.empty();
+        for(Map.Entry<Integer,Integer> next : map.entrySet()){
+            res = res.put(next.getKey(),next.getValue());
+        }
+        return new IntIntMap(res);
+    }
+
+    public IntIntMap put(int key, int value){
+        IntIntTrie res = trie.put(key,value);
+        return res==trie ? this : new IntIntMap(res);
+    }
+
+    public IntIntMap putAll(IntIntMap map){
+        IntIntTrie res = trie;
+        PrimitiveIterator.OfInt keys = map.trie.keyIterator();
+        PrimitiveIterator.OfInt values = map.trie.valueIterator();
+        while(keys.hasNext()){
+            res = res.put(keys.nextInt(),values.nextInt());
+        }
+        return new IntIntMap(res);
+    }
+
+    /**
+     * Combine value with the current value for key (or insert value if the key is absent)
+     *
+     * @param key Key to update
+     * @param value Value to insert or combine with the current value
+     * @param fn Combines the current value (first argument) with value
+     * @return Updated map
+     */
+    public IntIntMap merge(int key, int value, IntBinaryOperator fn){
+        int updated = trie.containsKey(key) ? fn.applyAsInt(trie.getOrElse(key,0),value) : value;
+        return put(key,updated);
+    }
+
+    public IntIntMap remove(int key){
+        IntIntTrie res = trie.minus(key);
+        return res==trie ? this : new IntIntMap(res);
+    }
+
+    public Option<Integer> get(int key){
+        return trie.get(key);
+    }
+
+    public int getOrElse(int key, int alt){
+        return trie.getOrElse(key,alt);
+    }
+
+    public boolean containsKey(int key){
+        return trie.containsKey(key);
+    }
+
+    public int size(){
+        return trie.size();
+    }
+
+    public boolean isEmpty(){
+        return trie.isEmpty();
+    }
+
+    public IntStream keys(){
+        return StreamSupport.intStream(Spliterators.spliterator(trie.keyIterator(),size(), Spliterator.DISTINCT),false);
+    }
+
+    public IntStream values(){
+        return StreamSupport.intStream(Spliterators.spliterator(trie.valueIterator(),size(), 0),false);
+    }
+
+    public ReactiveSeq<Tuple2<Integer,Integer>> stream(){
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    @Override
+    public Iterator<Tuple2<Integer, Integer>> iterator() {
+        return trie.iterator(Tuple::tuple);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IntIntMap))
+            return false;
+        return trie.equals(((IntIntMap)o).trie);
+    }
+
+    @Override
+    public int hashCode() {
+        return trie.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return stream().map(t->"{"+t._1()+"="+t._2()+"}").join(", ","[","]");
+    }
+}
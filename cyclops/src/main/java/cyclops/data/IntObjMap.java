@@ -0,0 +1,209 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.control.Option;
+import cyclops.data.base.LongTrie;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent map with primitive int keys. Keys are stored unboxed and getOrElse / containsKey don't allocate,
+ * the PersistentMap&lt;Integer,V&gt; methods are provided for interop.
+ * The primitive put / getOrElse are named putInt / getOrElseInt so they can't clash with the boxed overloads when V is Integer,
+ * equals and hashCode follow the PersistentMap contract so an IntObjMap is equal to a HashMap with the same entries.
+ *
+ * <pre>
+ * {@code
+ *  IntObjMap<String> names = IntObjMap.<String>empty().putInt(10,"hello")
+ *                                                     .putInt(20,"world");
+ *  names.getOrElseInt(10,"missing");
+ *  //"hello"
+ * }
+ * </pre>
+ *
+ * @param <V> Value type
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class IntObjMap<V> implements PersistentMap<Integer,V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private final LongTrie<V> trie;
+
+    public static <V> IntObjMap<V> empty(){
+        return new IntObjMap<>(LongTrie.empty());
+    }
+
+    public static <V> IntObjMap<V> of(int key, V value){
+        return IntObjMap.<V>empty().putInt(key,value);
+    }
+
+    public static <V> IntObjMap<V> of(int k1, V v1, int k2, V v2){
+        return IntObjMap.<V>empty().putInt(k1,v1)
+                                   .putInt(k2,v2);
+    }
+
+    public static <V> IntObjMap<V> fromMap(Map<Integer,? extends V> map){
+        LongTrie<V> res = LongTrie.empty();
+        for(Map.Entry<Integer,? extends V> next : map.entrySet()){
+            res = res.put(next.getKey(),next.getValue());
+        }
+        return new IntObjMap<>(res);
+    }
+
+    public static <V> IntObjMap<V> fromStream(Stream<? extends Tuple2<Integer,? extends V>> stream){
+        LongTrie<V> res = LongTrie.empty();
+        for(Iterator<? extends Tuple2<Integer,? extends V>> it = stream.iterator();it.hasNext();){
+            Tuple2<Integer,? extends V> next = it.next();
+            res = res.put(next._1(),next._2());
+        }
+        return new IntObjMap<>(res);
+    }
+
+    public IntObjMap<V> putInt(int key, V value){
+        LongTrie<V> res = trie.put(key,value);
+        return res==trie ? this : new IntObjMap<>(res);
+    }
+
+    @Override
+    public IntObjMap<V> put(Integer key, V value) {
+        return putInt(key.intValue(),value);
+    }
+
+    @Override
+    public IntObjMap<V> putAll(PersistentMap<? extends Integer, ? extends V> map) {
+        LongTrie<V> res = trie;
+        for(Tuple2<? extends Integer, ? extends V> next : map){
+            res = res.put(next._1(),next._2());
+        }
+        return new IntObjMap<>(res);
+    }
+
+    public IntObjMap<V> remove(int key){
+        LongTrie<V> res = trie.minus(key);
+        return res==trie ? this : new IntObjMap<>(res);
+    }
+
+    @Override
+    public IntObjMap<V> remove(Integer key) {
+        return remove(key.intValue());
+    }
+
+    @Override
+    public IntObjMap<V> removeAllKeys(Iterable<? extends Integer> keys) {
+        LongTrie<V> res = trie;
+        for(Integer next : keys){
+            res = res.minus(next);
+        }
+        return new IntObjMap<>(res);
+    }
+
+    public Option<V> get(int key){
+        return trie.get(key);
+    }
+
+    @Override
+    public Option<V> get(Integer key) {
+        return get(key.intValue());
+    }
+
+    public V getOrElseInt(int key, V alt){
+        return trie.getOrElse(key,alt);
+    }
+
+    @Override
+    public V getOrElse(Integer key, V alt) {
+        return getOrElseInt(key.intValue(),alt);
+    }
+
+    public V getOrElseGet(int key, Supplier<? extends V> alt){
+        return trie.getOrElseGet(key,alt);
+    }
+
+    @Override
+    public V getOrElseGet(Integer key, Supplier<? extends V> alt) {
+        return getOrElseGet(key.intValue(),alt);
+    }
+
+    public boolean containsKey(int key){
+        return trie.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(Integer key) {
+        return containsKey(key.intValue());
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    /**
+     * @return the keys of this map as a primitive IntStream
+     */
+    public IntStream keys(){
+        PrimitiveIterator.OfLong it = trie.keyIterator();
+        PrimitiveIterator.OfInt ints = new PrimitiveIterator.OfInt() {
+            @Override
+            public int nextInt() {
+                return (int)it.nextLong();
+            }
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+        };
+        return StreamSupport.intStream(Spliterators.spliterator(ints,size(), Spliterator.DISTINCT | Spliterator.NONNULL),false);
+    }
+
+    @Override
+    public Iterator<Tuple2<Integer, V>> iterator() {
+        return trie.iterator((k,v)->Tuple.tuple((int)k,v));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null)
+            return false;
+        if(o instanceof IntObjMap){
+            return trie.equals(((IntObjMap<V>)o).trie);
+        }
+        if(o instanceof PersistentMap){
+            return equalTo((PersistentMap<Integer,V>)o);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        //same sum of Tuple2 hashes as HashMap and TreeMap, without boxing each entry
+        int hash = 0;
+        PrimitiveIterator.OfLong keys = trie.keyIterator();
+        Iterator<V> values = trie.valueIterator();
+        while(keys.hasNext()){
+            hash += 31 * (31 + (int)keys.nextLong()) + Objects.hashCode(values.next());
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return stream().map(t->"{"+t._1()+"="+t._2()+"}").join(", ","[","]");
+    }
+}
@@ -301,6 +301,31 @@ public interface LazySeq<T> extends  ImmutableList<T>,
                                 return ()->fromIterator(it);
                             } ) : empty()));
     }
+    /**
+     * Create a LazySeq that pulls values from the supplied Iterable 32 at a time. Each chunk is materialized together,
+     * and map and filter over a chunked LazySeq evaluate a chunk at a time, so the cost of laziness is paid once per chunk
+     * rather than once per element.
+     *
+     * <pre>
+     * {@code
+     *  LazySeq.chunked(ReactiveSeq.range(0,10_000_000))
+     *         .map(i->i*2)
+     *         .filter(i->i%3==0)
+     *         .foldLeft(0L,(a,b)->a+b);
+     * }
+     * </pre>
+     *
+     * @param it Iterable to populate LazySeq from
+     * @return LazySeq that evaluates in chunks
+     */
+    static <T> LazySeq<T> chunked(Iterable<? extends T> it){
+        return chunked(it,Chunks.SIZE);
+    }
+    static <T> LazySeq<T> chunked(Iterable<? extends T> it, int chunkSize){
+        if(chunkSize<1)
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        return Chunks.fromIterator(it.iterator(),chunkSize);
+    }
     static <T> LazySeq<T> fromStream(Stream<T> stream){
         Iterator<T> t = stream.iterator();
         return new Lazy<>(Eval.later(()->t.hasNext() ? cons(Eval.later(()->t.next()),head-> {
@@ -528,8 +553,11 @@ public interface LazySeq<T> extends  ImmutableList<T>,
     }
     default <R> R foldLeft(R zero, BiFunction<R, ? super T, R> f){
         R acc= zero;
-        for(T next : this){
-            acc= f.apply(acc,next);
+        LazySeq<T> next = this;
+        Cons<T> cons;
+        while((cons = next.foldLazySeq(c->c, n->null))!=null){
+            acc= f.apply(acc,cons.head.get());
+            next = cons.tail.get();
         }
         return acc;
     }
@@ -1003,6 +1031,8 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
       @Override
       public <R> LazySeq<R> map(Function<? super T, ? extends R> fn) {
+            if(tail instanceof Chunks.Strict)
+                return Chunks.map(this,fn);
             Eval<R> newHead = head.map(fn);
             Supplier<LazySeq<R>> s= ()->tail.get().map(fn);
             return    LazySeq.cons(newHead,s);
@@ -1015,6 +1045,8 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
       @Override
       public LazySeq<T> filter(Predicate<? super T> pred) {
+        if(tail instanceof Chunks.Strict)
+            return Chunks.filter(this,pred);
         return fromStream(stream().filter(pred));
       }
 
@@ -1224,6 +1256,97 @@ public interface LazySeq<T> extends  ImmutableList<T>,
 
     }
 
+    /**
+     * Chunks are runs of Cons cells built together, every cell but the last has a Strict tail. The last cell has a
+     * lazy tail that produces the next chunk.
+     */
+    final class Chunks {
+        static final int SIZE = 32;
+
+        private Chunks(){
+        }
+
+        static final class Strict<T> implements Supplier<LazySeq<T>>, Serializable {
+            private static final long serialVersionUID = 1L;
+            private final LazySeq<T> value;
+
+            Strict(LazySeq<T> value) {
+                this.value = value;
+            }
+
+            @Override
+            public LazySeq<T> get() {
+                return value;
+            }
+        }
+
+        static <T> LazySeq<T> fromIterator(Iterator<? extends T> it, int chunkSize){
+            return new Lazy<>(()->{
+                Object[] values = new Object[chunkSize];
+                int length = 0;
+                while(length<chunkSize && it.hasNext()){
+                    values[length++] = it.next();
+                }
+                if(length==0)
+                    return empty();
+                return build(values,length,()->fromIterator(it,chunkSize));
+            });
+        }
+
+        static <T> Cons<T> build(Object[] values, int length, Supplier<LazySeq<T>> rest){
+            Cons<T> res = new Cons<>(Eval.now((T)values[length-1]),Memoize.memoizeSupplier(rest));
+            for(int i=length-2;i>=0;i--){
+                res = new Cons<>(Eval.now((T)values[i]),new Strict<>(res));
+            }
+            return res;
+        }
+
+        static <T,R> LazySeq<R> map(Cons<T> first, Function<? super T, ? extends R> fn){
+            return new Lazy<>(()->{
+                Object[] values = new Object[SIZE];
+                int length = 0;
+                Cons<T> cell = first;
+                for(;;){
+                    if(length==values.length)
+                        values = Arrays.copyOf(values,length * 2);
+                    values[length++] = fn.apply(cell.head.get());
+                    if(!(cell.tail instanceof Strict))
+                        break;
+                    cell = (Cons<T>)cell.tail.get();
+                }
+                Supplier<LazySeq<T>> rest = cell.tail;
+                return build(values,length,()->rest.get().map(fn));
+            });
+        }
+
+        static <T> LazySeq<T> filter(Cons<T> first, Predicate<? super T> pred){
+            return new Lazy<>(()->{
+                Object[] values = new Object[SIZE];
+                Cons<T> cell = first;
+                while(cell!=null){
+                    int length = 0;
+                    for(;;){
+                        T next = cell.head.get();
+                        if(pred.test(next)){
+                            if(length==values.length)
+                                values = Arrays.copyOf(values,length * 2);
+                            values[length++] = next;
+                        }
+                        if(!(cell.tail instanceof Strict))
+                            break;
+                        cell = (Cons<T>)cell.tail.get();
+                    }
+                    Supplier<LazySeq<T>> rest = cell.tail;
+                    if(length>0)
+                        return build(values,length,()->rest.get().filter(pred));
+                    //skip chunks with no matches iteratively, rather than recursing through filter
+                    cell = rest.get().foldLazySeq(c->c, n->null);
+                }
+                return empty();
+            });
+        }
+    }
+
     @AllArgsConstructor
     public static class Lazy<T> implements LazySeq<T>{
 
@@ -4,6 +4,7 @@ package cyclops.data;
 import com.oath.cyclops.hkt.Higher;
 import cyclops.control.Option;
 import com.oath.cyclops.hkt.DataWitness.lazyString;
+import cyclops.data.base.Rope;
 import cyclops.reactive.ReactiveSeq;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -19,20 +20,38 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+/**
+ * A persistent, lazy String backed by a rope of String chunks. Concatenation, substring, get and updates are O(log n)
+ * and don't copy the underlying text, mapping chars (mapChar, toUpperCase, toLowerCase) is applied lazily as chars are read.
+ * Operations with no natural rope equivalent (filter, distinct, sorted etc) are evaluated lazily via LazySeq.
+ *
+ * LazyString is a CharSequence so it can be passed directly to regular expressions and parsers.
+ *
+ * <pre>
+ * {@code
+ *  LazyString text = LazyString.of(payload);
+ *  Matcher m = pattern.matcher(text.substring(1024,2048));
+ * }
+ * </pre>
+ */
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, Serializable {
+public final class LazyString implements ImmutableList<Character>,Higher<lazyString,Character>, CharSequence, Serializable {
     private static final long serialVersionUID = 1L;
-    private final LazySeq<Character> string;
+    private final Rope rope;
 
-    private static final LazyString Nil = fromLazySeq(LazySeq.empty());
+    private static final LazyString Nil = new LazyString(Rope.empty());
     public static LazyString fromLazySeq(LazySeq<Character> string){
-        return new LazyString(string);
+        return new LazyString(Rope.deferred(string));
     }
     public static LazyString fromIterable(Iterable<Character> string){
-        return new LazyString(LazySeq.fromIterable(string));
+        if(string instanceof LazyString)
+            return (LazyString)string;
+        return fromLazySeq(LazySeq.fromIterable(string));
     }
     public static LazyString of(CharSequence seq){
-        return fromLazySeq(LazySeq.fromStream( seq.chars().mapToObj(i -> (char) i)));
+        if(seq instanceof LazyString)
+            return (LazyString)seq;
+        return new LazyString(Rope.of(seq.toString()));
     }
 
 
@@ -52,8 +71,35 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
         return Nil;
     }
 
+    @Override
+    public LazySeq<Character> lazySeq(){
+        Iterable<Character> source = rope.unforcedSource();
+        if(source instanceof LazySeq)
+            return (LazySeq<Character>)source;
+        return LazySeq.fromIterator(iterator());
+    }
+
+    @Override
+    public Iterator<Character> iterator() {
+        Iterable<Character> source = rope.unforcedSource();
+        if(source!=null)
+            return source.iterator();
+        PrimitiveIterator.OfInt chars = rope.charIterator();
+        return new Iterator<Character>() {
+            @Override
+            public boolean hasNext() {
+                return chars.hasNext();
+            }
+
+            @Override
+            public Character next() {
+                return (char)chars.nextInt();
+            }
+        };
+    }
+
     public LazyString op(Function<? super LazySeq<Character>, ? extends LazySeq<Character>> custom){
-        return fromLazySeq(custom.apply(string));
+        return fromLazySeq(custom.apply(lazySeq()));
     }
 
     public LazyString substring(int start){
@@ -62,81 +108,140 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
     public LazyString substring(int start, int end){
         return drop(start).take(end-start);
     }
+
+    /**
+     * Upper case each char (via Character#toUpperCase), applied lazily as chars are read
+     */
     public LazyString toUpperCase(){
-        return fromLazySeq(string.map(c->c.toString().toUpperCase().charAt(0)));
+        return new LazyString(rope.map(c->Character.toUpperCase((char)c)));
     }
+    /**
+     * Lower case each char (via Character#toLowerCase), applied lazily as chars are read
+     */
     public LazyString toLowerCase(){
-        return fromLazySeq(string.map(c->c.toString().toLowerCase().charAt(0)));
+        return new LazyString(rope.map(c->Character.toLowerCase((char)c)));
     }
     public LazySeq<LazyString> words() {
-        return string.split(t -> t.equals(' ')).map(l-> fromLazySeq(l));
+        return split(' ');
     }
     public LazySeq<LazyString> lines() {
-        return string.split(t -> t.equals('\n')).map(l-> fromLazySeq(l));
-    }
+        return split('\n');
+    }
+    private LazySeq<LazyString> split(char separator){
+        return LazySeq.defer(()->{
+            Rope text = rope.force();
+            PrimitiveIterator.OfInt chars = text.charIterator();
+            return LazySeq.fromIterator(new Iterator<LazyString>() {
+                int index = 0;
+                LazyString next = null;
+
+                @Override
+                public boolean hasNext() {
+                    if(next!=null)
+                        return true;
+                    int start = -1;
+                    int end = -1;
+                    while(chars.hasNext()){
+                        char c = (char)chars.nextInt();
+                        int pos = index++;
+                        if(c==separator) {
+                            if(start!=-1) {
+                                end = pos;
+                                break;
+                            }
+                        }else if(start==-1){
+                            start = pos;
+                        }
+                    }
+                    if(start==-1)
+                        return false;
+                    if(end==-1)
+                        end = index;
+                    next = new LazyString(text.subSequence(start,end));
+                    return true;
+                }
+
+                @Override
+                public LazyString next() {
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    LazyString res = next;
+                    next = null;
+                    return res;
+                }
+            });
+        });
+    }
+    /**
+     * Map each char, the function is applied lazily as chars are read
+     */
     public LazyString mapChar(Function<Character,Character> fn){
-        return fromLazySeq(string.map(fn));
+        return new LazyString(rope.map(c->fn.apply((char)c)));
     }
     public LazyString flatMapChar(Function<Character,LazyString> fn){
-        return fromLazySeq(string.flatMap(fn.andThen(s->s.string)));
+        return fromLazySeq(lazySeq().flatMap(fn.andThen(s->s.lazySeq())));
     }
 
     @Override
     public LazyString filter(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filter(predicate));
+        return fromLazySeq(lazySeq().filter(predicate));
     }
 
     @Override
     public <R> ImmutableList<R> map(Function<? super Character, ? extends R> fn) {
-        return string.map(fn);
+        return lazySeq().map(fn);
     }
 
     @Override
     public <R> ImmutableList<R> flatMap(Function<? super Character, ? extends ImmutableList<? extends R>> fn) {
-        return  string.flatMap(fn);
+        return  lazySeq().flatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> concatMap(Function<? super Character, ? extends Iterable<? extends R>> fn) {
-        return  string.concatMap(fn);
+        return  lazySeq().concatMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(fn);
+      return lazySeq().mergeMap(fn);
     }
 
     @Override
     public <R> ImmutableList<R> mergeMap(int maxConcurecy, Function<? super Character, ? extends Publisher<? extends R>> fn) {
-      return string.mergeMap(maxConcurecy,fn);
+      return lazySeq().mergeMap(maxConcurecy,fn);
     }
 
   @Override
     public <R> R fold(Function<? super Some<Character>, ? extends R> fn1, Function<? super None<Character>, ? extends R> fn2) {
-        return string.fold(fn1,fn2);
+        return lazySeq().fold(fn1,fn2);
     }
 
     @Override
     public LazyString onEmpty(Character value) {
-        return fromLazySeq(string.onEmpty(value));
+        return new LazyString(Rope.deferred(()->rope.isEmpty() ? Rope.of(value) : rope.force()));
     }
 
     @Override
     public LazyString onEmptyGet(Supplier<? extends Character> supplier) {
-        return fromLazySeq(string.onEmptyGet(supplier));
+        return new LazyString(Rope.deferred(()->rope.isEmpty() ? Rope.of(supplier.get()) : rope.force()));
     }
 
 
     @Override
     public ImmutableList<Character> onEmptySwitch(Supplier<? extends ImmutableList<Character>> supplier) {
-        return string.onEmptySwitch(supplier);
+        return lazySeq().onEmptySwitch(supplier);
     }
 
     public ReactiveSeq<Character> stream(){
-        return string.stream();
+        return ReactiveSeq.fromIterable(this);
     }
     public LazyString take(final long n) {
-        return fromLazySeq(string.take(n));
+        if(n<=0)
+            return empty();
+        if(unforced())
+            return fromLazySeq(lazySeq().take(n));
+        return slice(0,n);
 
     }
 
@@ -152,248 +257,333 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public LazyString replaceFirst(Character currentElement, Character newElement) {
-        return fromLazySeq(string.replaceFirst(currentElement,newElement));
+        return fromLazySeq(lazySeq().replaceFirst(currentElement,newElement));
     }
 
     @Override
     public LazyString removeFirst(Predicate<? super Character> pred) {
-        return fromLazySeq(string.removeFirst(pred));
+        return fromLazySeq(lazySeq().removeFirst(pred));
     }
 
     @Override
     public LazyString subList(int start, int end) {
-        return fromLazySeq(string.subList(start,end));
+        if(unforced())
+            return fromLazySeq(lazySeq().subList(start,end));
+        if(start>0)
+            return drop(start).take(end-start);
+        return take(end);
     }
 
 
     @Override
     public LazyString filterNot(Predicate<? super Character> predicate) {
-        return fromLazySeq(string.filterNot(predicate));
+        return fromLazySeq(lazySeq().filterNot(predicate));
     }
 
     @Override
     public LazyString notNull() {
-        return fromLazySeq(string.notNull());
+        return fromLazySeq(lazySeq().notNull());
     }
 
     @Override
     public LazyString peek(Consumer<? super Character> c) {
-        return fromLazySeq(string.peek(c));
+        return fromLazySeq(lazySeq().peek(c));
     }
 
     @Override
     public LazyString tailOrElse(ImmutableList<Character> tail) {
-        return fromLazySeq(string.tailOrElse(LazySeq.fromIterable(tail)));
+        if(isEmpty())
+            return fromIterable(tail);
+        return drop(1);
     }
 
     @Override
     public LazyString removeStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.removeStream(stream));
+        return fromLazySeq(lazySeq().removeStream(stream));
     }
 
     @Override
     public LazyString removeAt(long pos) {
-        return fromLazySeq(string.removeAt(pos));
+        if(unforced())
+            return fromLazySeq(lazySeq().removeAt(pos));
+        int len = length();
+        if(pos<0 || pos>=len)
+            return this;
+        return new LazyString(rope.subSequence(0,(int)pos).concat(rope.subSequence((int)pos+1,len)));
     }
 
     @Override
     public LazyString removeAll(Character... values) {
-        return fromLazySeq(string.removeAll(values));
+        return fromLazySeq(lazySeq().removeAll(values));
     }
 
     @Override
     public LazyString retainAll(Iterable<? extends Character> it) {
-        return fromLazySeq(string.retainAll(it));
+        return fromLazySeq(lazySeq().retainAll(it));
     }
 
     @Override
     public LazyString retainStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.retainStream(stream));
+        return fromLazySeq(lazySeq().retainStream(stream));
     }
 
     @Override
     public LazyString retainAll(Character... values) {
-        return fromLazySeq(string.retainAll(values));
+        return fromLazySeq(lazySeq().retainAll(values));
     }
 
     @Override
     public LazyString distinct() {
-        return fromLazySeq(string.distinct());
+        return fromLazySeq(lazySeq().distinct());
     }
 
     @Override
     public LazyString sorted() {
-        return fromLazySeq(string.sorted());
+        return fromLazySeq(lazySeq().sorted());
     }
 
     @Override
     public LazyString sorted(Comparator<? super Character> c) {
-        return fromLazySeq(string.sorted(c));
+        return fromLazySeq(lazySeq().sorted(c));
     }
 
     @Override
     public LazyString takeWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeWhile(p));
+        return fromLazySeq(lazySeq().takeWhile(p));
     }
 
     @Override
     public LazyString dropWhile(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropWhile(p));
+        return fromLazySeq(lazySeq().dropWhile(p));
     }
 
     @Override
     public LazyString takeUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.takeUntil(p));
+        return fromLazySeq(lazySeq().takeUntil(p));
     }
 
     @Override
     public LazyString dropUntil(Predicate<? super Character> p) {
-        return fromLazySeq(string.dropUntil(p));
+        return fromLazySeq(lazySeq().dropUntil(p));
     }
 
     @Override
     public LazyString dropRight(int num) {
-        return fromLazySeq(string.dropRight(num));
+        if(num<=0)
+            return this;
+        if(unforced())
+            return fromLazySeq(lazySeq().dropRight(num));
+        return slice(0,(long)length()-num);
     }
 
     @Override
     public LazyString takeRight(int num) {
-        return fromLazySeq(string.takeRight(num));
+        if(num<=0)
+            return empty();
+        if(unforced())
+            return fromLazySeq(lazySeq().takeRight(num));
+        return slice((long)length()-num,length());
     }
 
     @Override
     public LazyString shuffle() {
-        return fromLazySeq(string.shuffle());
+        return fromLazySeq(lazySeq().shuffle());
     }
 
     @Override
     public LazyString shuffle(Random random) {
-        return fromLazySeq(string.shuffle(random));
+        return fromLazySeq(lazySeq().shuffle(random));
     }
 
     @Override
     public LazyString slice(long from, long to) {
-        return fromLazySeq(string.slice(from,to));
+        if(unforced())
+            return fromLazySeq(lazySeq().slice(from,to));
+        int len = length();
+        int start = (int)Math.max(0,Math.min(from,len));
+        int end = (int)Math.max(start,Math.min(to,len));
+        if(start==0 && end==len)
+            return this;
+        return new LazyString(rope.subSequence(start,end));
     }
 
     @Override
     public <U extends Comparable<? super U>> LazyString sorted(Function<? super Character, ? extends U> function) {
-        return fromLazySeq(string.sorted(function));
+        return fromLazySeq(lazySeq().sorted(function));
     }
 
     @Override
     public LazyString prependStream(Stream<? extends Character> stream) {
-        return fromLazySeq(string.prependStream(stream));
+        return prependAll(LazySeq.fromStream(stream));
     }
 
     @Override
     public LazyString appendAll(Character... values) {
-        return fromLazySeq(string.appendAll(values));
+        return new LazyString(rope.concat(chars(values)));
     }
 
     @Override
     public LazyString prependAll(Character... values) {
-        return fromLazySeq(string.prependAll(values));
+        return new LazyString(chars(values).concat(rope));
     }
 
     @Override
     public LazyString insertAt(int pos, Character... values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insertAt(pos,chars(values));
     }
 
     @Override
     public LazyString deleteBetween(int start, int end) {
-        return fromLazySeq(string.deleteBetween(start,end));
+        if(unforced())
+            return fromLazySeq(lazySeq().deleteBetween(start,end));
+        int len = length();
+        int from = Math.max(0,Math.min(start,len));
+        int to = Math.max(from,Math.min(end,len));
+        if(from==to)
+            return this;
+        return new LazyString(rope.subSequence(0,from).concat(rope.subSequence(to,len)));
     }
 
     @Override
     public LazyString insertStreamAt(int pos, Stream<Character> stream) {
-        return fromLazySeq(string.insertStreamAt(pos,stream));
+        return insertAt(pos,LazySeq.fromStream(stream));
     }
 
 
 
     @Override
     public LazyString plusAll(Iterable<? extends Character> list) {
-        return fromLazySeq(string.plusAll(list));
+        return prependAll(list);
     }
 
     @Override
     public LazyString plus(Character value) {
-        return fromLazySeq(string.plus(value));
+        return prepend(value);
     }
 
     @Override
     public LazyString removeValue(Character value) {
-        return fromLazySeq(string.removeValue(value));
+        return fromLazySeq(lazySeq().removeValue(value));
     }
 
 
     @Override
     public LazyString removeAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.removeAll(value));
+        return fromLazySeq(lazySeq().removeAll(value));
     }
 
     @Override
     public LazyString updateAt(int pos, Character value) {
-        return fromLazySeq(string.updateAt(pos,value));
+        if(unforced())
+            return fromLazySeq(lazySeq().updateAt(pos,value));
+        int len = length();
+        if(pos<0 || pos>=len)
+            return this;
+        return new LazyString(rope.subSequence(0,pos).concat(Rope.of(value))
+                                                    .concat(rope.subSequence(pos+1,len)));
     }
 
     @Override
     public LazyString insertAt(int pos, Iterable<? extends Character> values) {
-        return fromLazySeq(string.insertAt(pos,values));
+        return insertAt(pos,rope(values));
     }
 
     @Override
     public LazyString insertAt(int i, Character value) {
-        return fromLazySeq(string.insertAt(i,value));
+        return insertAt(i,Rope.of(value));
+    }
+
+    private LazyString insertAt(int pos, Rope values){
+        if(unforced() || !values.isForced())
+            return fromLazySeq(lazySeq().insertAt(pos,new LazyString(values)));
+        int len = length();
+        int at = Math.max(0,Math.min(pos,len));
+        return new LazyString(rope.subSequence(0,at).concat(values)
+                                                   .concat(rope.subSequence(at,len)));
+    }
+
+    private static Rope chars(Character... values){
+        StringBuilder sb = new StringBuilder(values.length);
+        for(Character next : values){
+            sb.append(next.charValue());
+        }
+        return Rope.of(sb.toString());
+    }
+    private static Rope rope(Iterable<? extends Character> values){
+        if(values instanceof LazyString)
+            return ((LazyString)values).rope;
+        return Rope.deferred(LazySeq.fromIterable((Iterable<Character>)values));
     }
 
     public LazyString  drop(final long num) {
-        return fromLazySeq(string.drop(num));
+        if(num<=0)
+            return this;
+        if(unforced())
+            return fromLazySeq(lazySeq().drop(num));
+        return slice(num,length());
     }
     public LazyString  reverse() {
-        return fromLazySeq(string.reverse());
+        return new LazyString(Rope.deferred(()->{
+            int len = rope.length();
+            char[] reversed = new char[len];
+            PrimitiveIterator.OfInt chars = rope.charIterator();
+            for(int i=len-1;i>=0;i--){
+                reversed[i]=(char)chars.nextInt();
+            }
+            return Rope.of(new String(reversed));
+        }));
     }
     public Option<Character> get(int pos){
-        return string.get(pos);
+        if(unforced())
+            return lazySeq().get(pos);
+        if(pos<0 || pos>=length())
+            return Option.none();
+        return Option.some(rope.charAt(pos));
     }
 
     @Override
     public Character getOrElse(int pos, Character alt) {
-        return string.getOrElse(pos,alt);
+        if(unforced())
+            return lazySeq().getOrElse(pos,alt);
+        if(pos<0 || pos>=length())
+            return alt;
+        return rope.charAt(pos);
     }
 
     @Override
     public Character getOrElseGet(int pos, Supplier<? extends Character> alt) {
-        return string.getOrElseGet(pos,alt);
+        if(unforced())
+            return lazySeq().getOrElseGet(pos,alt);
+        if(pos<0 || pos>=length())
+            return alt.get();
+        return rope.charAt(pos);
     }
 
     public LazyString prepend(Character value){
-        return fromLazySeq(string.prepend(value));
+        return new LazyString(Rope.of(value).concat(rope));
     }
 
     @Override
     public LazyString append(Character value) {
-        return fromLazySeq(string.append(value));
+        return new LazyString(rope.concat(Rope.of(value)));
     }
 
     @Override
     public LazyString prependAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.prependAll(value)) ;
+        return new LazyString(rope(value).concat(rope));
     }
 
 
     @Override
     public LazyString appendAll(Iterable<? extends Character> value) {
-        return fromLazySeq(string.appendAll(value)) ;
+        return new LazyString(rope.concat(rope(value)));
     }
 
     public LazyString prependAll(LazyString value){
-        return fromLazySeq(string.prependAll(value.string));
+        return new LazyString(value.rope.concat(rope));
     }
     public LazyString append(String s){
-        return fromLazySeq(string.appendAll(LazySeq.fromStream( s.chars().mapToObj(i -> (char) i))));
+        return new LazyString(rope.concat(Rope.of(s)));
     }
     public int size(){
         return length();
@@ -401,23 +591,67 @@ public final class LazyString implements ImmutableList<Character>,Higher<lazyStr
 
     @Override
     public boolean isEmpty() {
-        return string.isEmpty();
+        Iterable<Character> source = rope.unforcedSource();
+        if(source instanceof LazySeq)
+            return ((LazySeq<Character>)source).isEmpty();
+        if(source!=null)
+            return !source.iterator().hasNext();
+        return rope.isEmpty();
+    }
+
+    //true while the rope is still built lazily from a (possibly infinite) source, index based operations must not force it
+    private boolean unforced(){
+        return rope.unforcedSource()!=null;
     }
 
     public int length(){
-        return string.size();
+        return rope.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return rope.charAt(index);
     }
+
+    @Override
+    public LazyString subSequence(int start, int end) {
+        return new LazyString(rope.subSequence(start,end));
+    }
+
     public String toString(){
-        return string.stream().join("");
+        return rope.toString();
     }
 
     @Override
     public int hashCode() {
-        return this.string.hashCode();
+        if(rope.unforcedSource()!=null)
+            return lazySeq().hashCode();
+        int hashCode = 1;
+        PrimitiveIterator.OfInt chars = rope.charIterator();
+        while(chars.hasNext()){
+            hashCode = 31*hashCode + chars.nextInt();
+        }
+        return hashCode;
     }
 
     @Override
     public boolean equals(Object obj) {
-        return this.string.equals(obj);
+        if(obj==this)
+            return true;
+        if(obj instanceof LazyString){
+            LazyString other = (LazyString)obj;
+            if(rope.unforcedSource()==null && other.rope.unforcedSource()==null){
+                if(length()!=other.length())
+                    return false;
+                PrimitiveIterator.OfInt a = rope.charIterator();
+                PrimitiveIterator.OfInt b = other.rope.charIterator();
+                while(a.hasNext()){
+                    if(a.nextInt()!=b.nextInt())
+                        return false;
+                }
+                return true;
+            }
+        }
+        return lazySeq().equals(obj);
     }
 }
@@ -0,0 +1,501 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+
+/**
+ * A persistent, height balanced discrete interval encoding tree over primitive longs. Values are stored as disjoint
+ * half-open intervals [start, end), adjacent or overlapping intervals are merged as they are added, so a set of
+ * mostly contiguous values (such as acknowledged message offsets) costs one node per run rather than one per value.
+ * add, remove and contains don't box.
+ *
+ * <pre>
+ * {@code
+ *  LongDIET acked = LongDIET.empty();
+ *  for(long offset : offsets)
+ *      acked = acked.add(offset);
+ *  acked.gaps().forEachInterval((start,end)->redeliver(start,end));
+ * }
+ * </pre>
+ *
+ * Long.MAX_VALUE itself can not be stored as intervals are exclusive of their end, add and addAll throw an
+ * IllegalArgumentException when passed it (a range ending at Long.MAX_VALUE is fine).
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongDIET implements Iterable<Tuple2<Long,Long>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private static final LongDIET EMPTY = new LongDIET(null);
+    private final Node root;
+
+    public static LongDIET empty(){
+        return EMPTY;
+    }
+    public static LongDIET of(long... values){
+        return EMPTY.addAll(values);
+    }
+    public static LongDIET range(long start, long end){
+        return EMPTY.add(start,end);
+    }
+
+    /**
+     * @throws IllegalArgumentException if value is Long.MAX_VALUE
+     */
+    public LongDIET add(long value){
+        if(value==Long.MAX_VALUE)
+            throw maxValue();
+        return add(value,value+1);
+    }
+
+    /**
+     * @param start First value to add (inclusive)
+     * @param end Last value to add (exclusive)
+     */
+    public LongDIET add(long start, long end){
+        if(start>=end)
+            return this;
+        Node res = add(root,start,end);
+        return res==root ? this : new LongDIET(res);
+    }
+
+    /**
+     * Add many values at once, they are sorted, merged with the intervals already present and a balanced tree built
+     * from the result in a single pass.
+     *
+     * @throws IllegalArgumentException if values contains Long.MAX_VALUE
+     */
+    public LongDIET addAll(long... values){
+        if(values.length==0)
+            return this;
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        if(sorted[sorted.length-1]==Long.MAX_VALUE)
+            throw maxValue();
+        long[] starts = new long[sorted.length];
+        long[] ends = new long[sorted.length];
+        int size = 0;
+        for(long next : sorted){
+            if(size>0 && next<=ends[size-1]){
+                ends[size-1] = Math.max(ends[size-1],next+1);
+            }else{
+                starts[size] = next;
+                ends[size++] = next+1;
+            }
+        }
+        return addAll(starts,ends,size);
+    }
+
+    public LongDIET addAll(LongDIET diet){
+        if(diet.isEmpty())
+            return this;
+        if(isEmpty())
+            return diet;
+        int size = diet.intervalCount();
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        diet.copyTo(starts,ends);
+        return addAll(starts,ends,size);
+    }
+
+    private LongDIET addAll(long[] starts, long[] ends, int size){
+        int present = intervalCount();
+        long[] presentStarts = new long[present];
+        long[] presentEnds = new long[present];
+        copyTo(presentStarts,presentEnds);
+        long[] resStarts = new long[present + size];
+        long[] resEnds = new long[present + size];
+        int res = 0;
+        int i = 0;
+        int j = 0;
+        while(i<present || j<size){
+            long start;
+            long end;
+            if(j==size || (i<present && presentStarts[i]<=starts[j])){
+                start = presentStarts[i];
+                end = presentEnds[i++];
+            }else{
+                start = starts[j];
+                end = ends[j++];
+            }
+            if(res>0 && start<=resEnds[res-1]){
+                resEnds[res-1] = Math.max(resEnds[res-1],end);
+            }else{
+                resStarts[res] = start;
+                resEnds[res++] = end;
+            }
+        }
+        return new LongDIET(build(resStarts,resEnds,0,res-1));
+    }
+
+    public LongDIET remove(long value){
+        return remove(value,value+1);
+    }
+
+    /**
+     * @param start First value to remove (inclusive)
+     * @param end Last value to remove (exclusive)
+     */
+    public LongDIET remove(long start, long end){
+        if(start>=end)
+            return this;
+        Node res = remove(root,start,end);
+        return res==root ? this : new LongDIET(res);
+    }
+
+    public boolean contains(long value){
+        Node node = root;
+        while(node!=null){
+            if(value<node.start)
+                node = node.left;
+            else if(value<node.end)
+                return true;
+            else
+                node = node.right;
+        }
+        return false;
+    }
+
+    /**
+     * @return true if every value in [start, end) is present
+     */
+    public boolean contains(long start, long end){
+        if(start>=end)
+            return true;
+        Node node = root;
+        while(node!=null){
+            if(start<node.start)
+                node = node.left;
+            else if(start<node.end)
+                return end<=node.end;
+            else
+                node = node.right;
+        }
+        return false;
+    }
+
+    /**
+     * @return The intervals missing between the first and last values present
+     */
+    public LongDIET gaps(){
+        int size = intervalCount();
+        if(size<2)
+            return EMPTY;
+        long[] starts = new long[size];
+        long[] ends = new long[size];
+        copyTo(starts,ends);
+        long[] gapStarts = new long[size-1];
+        long[] gapEnds = new long[size-1];
+        for(int i=1;i<size;i++){
+            gapStarts[i-1] = ends[i-1];
+            gapEnds[i-1] = starts[i];
+        }
+        return new LongDIET(build(gapStarts,gapEnds,0,size-2));
+    }
+
+    public Option<Long> first(){
+        if(root==null)
+            return Option.none();
+        Node node = root;
+        while(node.left!=null)
+            node = node.left;
+        return Option.some(node.start);
+    }
+
+    public Option<Long> last(){
+        if(root==null)
+            return Option.none();
+        Node node = root;
+        while(node.right!=null)
+            node = node.right;
+        return Option.some(node.end-1);
+    }
+
+    /**
+     * @return The number of values present
+     */
+    public long count(){
+        return root==null ? 0 : root.count;
+    }
+
+    public int intervalCount(){
+        return root==null ? 0 : root.intervals;
+    }
+
+    public boolean isEmpty(){
+        return root==null;
+    }
+
+    public void forEachInterval(IntervalConsumer consumer){
+        Intervals it = new Intervals(root);
+        while(it.hasNext()){
+            Node next = it.nextNode();
+            consumer.accept(next.start,next.end);
+        }
+    }
+
+    public LongStream values(){
+        return ReactiveSeq.fromIterable(this)
+                          .flatMapToLong(t->LongStream.range(t._1(),t._2()));
+    }
+
+    public ReactiveSeq<Tuple2<Long,Long>> stream(){
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    /**
+     * @return Iterator over the intervals [start, end) in ascending order
+     */
+    @Override
+    public Iterator<Tuple2<Long, Long>> iterator() {
+        Intervals it = new Intervals(root);
+        return new Iterator<Tuple2<Long, Long>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public Tuple2<Long, Long> next() {
+                Node next = it.nextNode();
+                return Tuple.tuple(next.start,next.end);
+            }
+        };
+    }
+
+    private void copyTo(long[] starts, long[] ends){
+        Intervals it = new Intervals(root);
+        int i = 0;
+        while(it.hasNext()){
+            Node next = it.nextNode();
+            starts[i] = next.start;
+            ends[i++] = next.end;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof LongDIET))
+            return false;
+        LongDIET other = (LongDIET) o;
+        if (intervalCount() != other.intervalCount() || count() != other.count())
+            return false;
+        Intervals a = new Intervals(root);
+        Intervals b = new Intervals(other.root);
+        while(a.hasNext()){
+            Node x = a.nextNode();
+            Node y = b.nextNode();
+            if(x.start!=y.start || x.end!=y.end)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int[] hash = {1};
+        forEachInterval((start,end)->hash[0] = 31 * (31 * hash[0] + Long.hashCode(start)) + Long.hashCode(end));
+        return hash[0];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        forEachInterval((start,end)->{
+            if(sb.length()>1)
+                sb.append(", ");
+            sb.append('[').append(start).append(" .. ").append(end).append(')');
+        });
+        return sb.append(']').toString();
+    }
+
+    @FunctionalInterface
+    public interface IntervalConsumer {
+        void accept(long start, long end);
+    }
+
+    private static IllegalArgumentException maxValue(){
+        return new IllegalArgumentException("Long.MAX_VALUE can not be stored in a LongDIET, intervals are exclusive of their end");
+    }
+
+    private static Node add(Node node, long start, long end){
+        if(node==null)
+            return new Node(null,start,end,null);
+        if(node.end<start){
+            Node right = add(node.right,start,end);
+            return right==node.right ? node : join(node.left,node.start,node.end,right);
+        }
+        if(node.start>end){
+            Node left = add(node.left,start,end);
+            return left==node.left ? node : join(left,node.start,node.end,node.right);
+        }
+        if(node.start<=start && end<=node.end)
+            return node;
+        long[] bound = {Math.min(node.start,start)};
+        Node left = absorbLeft(node.left,bound);
+        long newStart = bound[0];
+        bound[0] = Math.max(node.end,end);
+        Node right = absorbRight(node.right,bound);
+        return join(left,newStart,bound[0],right);
+    }
+
+    //remove the intervals that overlap or touch a new interval starting at bound[0], updating bound[0] to the new start
+    private static Node absorbLeft(Node node, long[] bound){
+        if(node==null)
+            return null;
+        if(node.end<bound[0])
+            return join(node.left,node.start,node.end,absorbLeft(node.right,bound));
+        bound[0] = Math.min(bound[0],node.start);
+        return absorbLeft(node.left,bound);
+    }
+
+    //remove the intervals that overlap or touch a new interval ending at bound[0], updating bound[0] to the new end
+    private static Node absorbRight(Node node, long[] bound){
+        if(node==null)
+            return null;
+        if(node.start>bound[0])
+            return join(absorbRight(node.left,bound),node.start,node.end,node.right);
+        bound[0] = Math.max(bound[0],node.end);
+        return absorbRight(node.right,bound);
+    }
+
+    private static Node remove(Node node, long start, long end){
+        if(node==null)
+            return null;
+        Node left = start<node.start ? remove(node.left,start,end) : node.left;
+        Node right = end>node.end ? remove(node.right,start,end) : node.right;
+        if(node.end<=start || node.start>=end)
+            return left==node.left && right==node.right ? node : join(left,node.start,node.end,right);
+        boolean keepStart = node.start<start;
+        boolean keepEnd = node.end>end;
+        if(keepStart && keepEnd)
+            return join(left,node.start,start,join(null,end,node.end,right));
+        if(keepStart)
+            return join(left,node.start,start,right);
+        if(keepEnd)
+            return join(left,end,node.end,right);
+        return merge(left,right);
+    }
+
+    private static Node merge(Node left, Node right){
+        if(left==null)
+            return right;
+        if(right==null)
+            return left;
+        Node min = right;
+        while(min.left!=null)
+            min = min.left;
+        return join(left,min.start,min.end,removeMin(right));
+    }
+
+    private static Node removeMin(Node node){
+        if(node.left==null)
+            return node.right;
+        return balance(removeMin(node.left),node.start,node.end,node.right);
+    }
+
+    private static Node build(long[] starts, long[] ends, int lo, int hi){
+        if(hi<lo)
+            return null;
+        int mid = (lo + hi) >>> 1;
+        return new Node(build(starts,ends,lo,mid-1),starts[mid],ends[mid],build(starts,ends,mid+1,hi));
+    }
+
+    private static int height(Node node){
+        return node==null ? 0 : node.height;
+    }
+
+    //rotate when the heights of left and right differ by two
+    private static Node balance(Node left, long start, long end, Node right){
+        int hl = height(left);
+        int hr = height(right);
+        if(hl > hr + 1){
+            if(height(left.left) >= height(left.right))
+                return new Node(left.left,left.start,left.end,new Node(left.right,start,end,right));
+            Node lr = left.right;
+            return new Node(new Node(left.left,left.start,left.end,lr.left),lr.start,lr.end,new Node(lr.right,start,end,right));
+        }
+        if(hr > hl + 1){
+            if(height(right.right) >= height(right.left))
+                return new Node(new Node(left,start,end,right.left),right.start,right.end,right.right);
+            Node rl = right.left;
+            return new Node(new Node(left,start,end,rl.left),rl.start,rl.end,new Node(rl.right,right.start,right.end,right.right));
+        }
+        return new Node(left,start,end,right);
+    }
+
+    //join two trees of any height around an interval that lies between them
+    private static Node join(Node left, long start, long end, Node right){
+        int hl = height(left);
+        int hr = height(right);
+        if(hl > hr + 1)
+            return balance(left.left,left.start,left.end,join(left.right,start,end,right));
+        if(hr > hl + 1)
+            return balance(join(left,start,end,right.left),right.start,right.end,right.right);
+        return new Node(left,start,end,right);
+    }
+
+    private static final class Node implements Serializable {
+        private static final long serialVersionUID = 1L;
+        final Node left;
+        final long start;
+        final long end;
+        final Node right;
+        final int height;
+        final int intervals;
+        final long count;
+
+        Node(Node left, long start, long end, Node right) {
+            this.left = left;
+            this.start = start;
+            this.end = end;
+            this.right = right;
+            this.height = Math.max(LongDIET.height(left),LongDIET.height(right)) + 1;
+            this.intervals = (left==null ? 0 : left.intervals) + 1 + (right==null ? 0 : right.intervals);
+            this.count = (left==null ? 0 : left.count) + (end - start) + (right==null ? 0 : right.count);
+        }
+    }
+
+    private static final class Intervals {
+        private Node[] stack = new Node[8];
+        private int depth;
+
+        Intervals(Node root) {
+            pushLeft(root);
+        }
+
+        private void pushLeft(Node node){
+            Node next = node;
+            while(next!=null){
+                if(depth==stack.length)
+                    stack = Arrays.copyOf(stack,depth * 2);
+                stack[depth++] = next;
+                next = next.left;
+            }
+        }
+
+        boolean hasNext() {
+            return depth>0;
+        }
+
+        Node nextNode() {
+            if(depth==0)
+                throw new NoSuchElementException();
+            Node node = stack[--depth];
+            stack[depth] = null;
+            pushLeft(node.right);
+            return node;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.control.Option;
+import cyclops.data.base.LongTrie;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A persistent map with primitive long keys. Keys are stored unboxed and getOrElse / containsKey don't allocate,
+ * the PersistentMap&lt;Long,V&gt; methods are provided for interop.
+ * The primitive put / getOrElse are named putLong / getOrElseLong so they can't clash with the boxed overloads when V is Long,
+ * equals and hashCode follow the PersistentMap contract so a LongObjMap is equal to a HashMap with the same entries.
+ *
+ * <pre>
+ * {@code
+ *  LongObjMap<String> names = LongObjMap.<String>empty().putLong(10L,"hello")
+ *                                                     .putLong(20L,"world");
+ *  names.getOrElseLong(10L,"missing");
+ *  //"hello"
+ * }
+ * </pre>
+ *
+ * @param <V> Value type
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LongObjMap<V> implements PersistentMap<Long,V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+    private final LongTrie<V> trie;
+
+    public static <V> LongObjMap<V> empty(){
+        return new LongObjMap<>(LongTrie.empty());
+    }
+
+    public static <V> LongObjMap<V> of(long key, V value){
+        return LongObjMap.<V>empty().putLong(key,value);
+    }
+
+    public static <V> LongObjMap<V> of(long k1, V v1, long k2, V v2){
+        return LongObjMap.<V>empty().putLong(k1,v1)
+                                   .putLong(k2,v2);
+    }
+
+    public static <V> LongObjMap<V> fromMap(Map<Long,? extends V> map){
+        LongTrie<V> res = LongTrie.empty();
+        for(Map.Entry<Long,? extends V> next : map.entrySet()){
+            res = res.put(next.getKey(),next.getValue());
+        }
+        return new LongObjMap<>(res);
+    }
+
+    public static <V> LongObjMap<V> fromStream(Stream<? extends Tuple2<Long,? extends V>> stream){
+        LongTrie<V> res = LongTrie.empty();
+        for(Iterator<? extends Tuple2<Long,? extends V>> it = stream.iterator();it.hasNext();){
+            Tuple2<Long,? extends V> next = it.next();
+            res = res.put(next._1(),next._2());
+        }
+        return new LongObjMap<>(res);
+    }
+
+    public LongObjMap<V> putLong(long key, V value){
+        LongTrie<V> res = trie.put(key,value);
+        return res==trie ? this : new LongObjMap<>(res);
+    }
+
+    @Override
+    public LongObjMap<V> put(Long key, V value) {
+        return putLong(key.longValue(),value);
+    }
+
+    @Override
+    public LongObjMap<V> putAll(PersistentMap<? extends Long, ? extends V> map) {
+        LongTrie<V> res = trie;
+        for(Tuple2<? extends Long, ? extends V> next : map){
+            res = res.put(next._1(),next._2());
+        }
+        return new LongObjMap<>(res);
+    }
+
+    public LongObjMap<V> remove(long key){
+        LongTrie<V> res = trie.minus(key);
+        return res==trie ? this : new LongObjMap<>(res);
+    }
+
+    @Override
+    public LongObjMap<V> remove(Long key) {
+        return remove(key.longValue());
+    }
+
+    @Override
+    public LongObjMap<V> removeAllKeys(Iterable<? extends Long> keys) {
+        LongTrie<V> res = trie;
+        for(Long next : keys){
+            res = res.minus(next);
+        }
+        return new LongObjMap<>(res);
+    }
+
+    public Option<V> get(long key){
+        return trie.get(key);
+    }
+
+    @Override
+    public Option<V> get(Long key) {
+        return get(key.longValue());
+    }
+
+    public V getOrElseLong(long key, V alt){
+        return trie.getOrElse(key,alt);
+    }
+
+    @Override
+    public V getOrElse(Long key, V alt) {
+        return getOrElseLong(key.longValue(),alt);
+    }
+
+    public V getOrElseGet(long key, Supplier<? extends V> alt){
+        return trie.getOrElseGet(key,alt);
+    }
+
+    @Override
+    public V getOrElseGet(Long key, Supplier<? extends V> alt) {
+        return getOrElseGet(key.longValue(),alt);
+    }
+
+    public boolean containsKey(long key){
+        return trie.containsKey(key);
+    }
+
+    @Override
+    public boolean containsKey(Long key) {
+        return containsKey(key.longValue());
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    /**
+     * @return the keys of this map as a primitive LongStream
+     */
+    public LongStream keys(){
+        return StreamSupport.longStream(Spliterators.spliterator(trie.keyIterator(),size(), Spliterator.DISTINCT | Spliterator.NONNULL),false);
+    }
+
+    @Override
+    public Iterator<Tuple2<Long, V>> iterator() {
+        return trie.iterator(Tuple::tuple);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null)
+            return false;
+        if(o instanceof LongObjMap){
+            return trie.equals(((LongObjMap<V>)o).trie);
+        }
+        if(o instanceof PersistentMap){
+            return equalTo((PersistentMap<Long,V>)o);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        //same sum of Tuple2 hashes as HashMap and TreeMap, without boxing each entry
+        int hash = 0;
+        PrimitiveIterator.OfLong keys = trie.keyIterator();
+        Iterator<V> values = trie.valueIterator();
+        while(keys.hasNext()){
+            hash += 31 * (31 + Long.hashCode(keys.nextLong())) + Objects.hashCode(values.next());
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return stream().map(t->"{"+t._1()+"="+t._2()+"}").join(", ","[","]");
+    }
+}
@@ -0,0 +1,1033 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.persistent.PersistentCollection;
+import com.oath.cyclops.types.persistent.PersistentQueue;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple3;
+import cyclops.data.tuple.Tuple4;
+import cyclops.function.Function3;
+import cyclops.function.Function4;
+import cyclops.function.Monoid;
+import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.reactivestreams.Publisher;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A persistent FIFO queue with O(1) worst case enqueue, head and tail (Okasaki's real-time queue).
+ *
+ * Like {@link BankersQueue} elements are enqueued onto a strict rear list, but rather than reversing the rear onto the
+ * front in a single O(n) step when it grows too large, the reversal is set up lazily and one step of it is forced on
+ * every subsequent operation. No single enqueue or dequeue ever pays for more than a constant amount of work, which
+ * makes this queue a better fit than BankersQueue for latency sensitive code (the amortized cost is slightly higher).
+ *
+ * <pre>
+ * {@code
+ *   RealTimeQueue<Integer> q = RealTimeQueue.of(1,2,3)
+ *                                           .enqueue(4);
+ *   q.dequeue(-1);
+ *   //(1,[2,3,4])
+ * }
+ * </pre>
+ *
+ * @param <T> Data type of elements in this queue
+ */
+public interface RealTimeQueue<T> extends ImmutableQueue<T>, Serializable {
+
+    static <T> Collector<T, List<T>, RealTimeQueue<T>> collector() {
+        Collector<T, ?, List<T>> c  = Collectors.toList();
+        return Collectors.<T, List<T>, Iterable<T>,RealTimeQueue<T>>collectingAndThen((Collector)c,RealTimeQueue::fromIterable);
+    }
+    static <T> RealTimeQueue<T> fromStream(Stream<T> stream){
+        return fromIterable(ReactiveSeq.fromStream(stream));
+    }
+    static <T> RealTimeQueue<T> fromIterable(Iterable<T> iterable){
+        if(iterable instanceof RealTimeQueue)
+            return (RealTimeQueue<T>)iterable;
+        return Cons.fromIterator(iterable.iterator());
+    }
+    static <T> RealTimeQueue<T> fromIterator(Iterator<T> it){
+        return Cons.fromIterator(it);
+    }
+    static <T> RealTimeQueue<T> of(T... values) {
+        return Cons.fromIterator(Arrays.asList(values).iterator());
+    }
+    public static <T> RealTimeQueue<T> empty(){
+        return Nil.Instance;
+    }
+
+    @Override
+    default <R> RealTimeQueue<R> unitIterable(Iterable<R> it){
+        return fromIterable(it);
+    }
+
+    default Tuple2<T,RealTimeQueue<T>> dequeue(T defaultValue){
+        return foldRealTimeQueue(c->c.dequeue(), n->Tuple.tuple(defaultValue,this));
+    }
+
+    int size();
+
+    boolean isEmpty();
+    RealTimeQueue<T> enqueue(T value);
+    <R> RealTimeQueue<R> map(Function<? super T, ? extends R> map);
+    <R> RealTimeQueue<R> flatMap(Function<? super T, ? extends ImmutableQueue<? extends R>> fn);
+
+    default Option<T> get(int n){
+        return Option.none();
+    }
+
+    default ReactiveSeq<T> stream(){
+        return ReactiveSeq.fromIterable(this);
+    }
+
+    @Override
+    default LazySeq<T> lazySeq() {
+        return LazySeq.fromIterable(this);
+    }
+
+    @Override
+    default RealTimeQueue<T> emptyUnit(){
+        return empty();
+    }
+
+    @Override
+    default <R> RealTimeQueue<R> unitStream(Stream<R> stream){
+        return fromStream(stream);
+    }
+
+    RealTimeQueue<T> replace(T currentElement, T newElement);
+
+    @Override
+    default RealTimeQueue<T> removeFirst(Predicate<? super T> pred) {
+        return fromStream(stream().removeFirst(pred));
+    }
+
+    <R> R foldRealTimeQueue(Function<? super Cons<T>, ? extends R> fn1, Function<? super Nil<T>, ? extends R> fn2);
+
+    default RealTimeQueue<T> tail(){
+        return foldRealTimeQueue(cons-> cons.tail(), nil->nil);
+    }
+    @Override
+    default RealTimeQueue<T> drop(long num) {
+        RealTimeQueue<T> res = this;
+        for(long i=0;i<num && !res.isEmpty();i++){
+            res = res.tail();
+        }
+        return res;
+    }
+
+    @Override
+    default RealTimeQueue<T> take(long num) {
+        if(num>=size())
+            return this;
+        return unitStream(stream().take(num));
+    }
+
+    @Override
+    RealTimeQueue<T> prepend(T value);
+    @Override
+    default RealTimeQueue<T> prependAll(Iterable<? extends T> value){
+        Iterator<? extends T> it = ReactiveSeq.fromIterable(value).reverse().iterator();
+        RealTimeQueue<T> res= this;
+        while(it.hasNext()){
+            res = res.prepend(it.next());
+        }
+        return res;
+    }
+
+    @Override
+    default RealTimeQueue<T> append(T value) {
+        return enqueue(value);
+    }
+
+    @Override
+    default RealTimeQueue<T> appendAll(Iterable<? extends T> value) {
+        Iterator<? extends T> it = value.iterator();
+        RealTimeQueue<T> res= this;
+        while(it.hasNext()){
+            res = res.enqueue(it.next());
+        }
+        return res;
+    }
+
+    @Override
+    default RealTimeQueue<T> reverse() {
+        return unitStream(stream().reverse());
+    }
+
+    @Override
+    default RealTimeQueue<T> filter(Predicate<? super T> fn) {
+        return unitStream(stream().filter(fn));
+    }
+
+    @Override
+    default RealTimeQueue<T> minus() {
+        return dequeue(null)._2();
+    }
+
+    @Override
+    default RealTimeQueue<T> plusAll(Iterable<? extends T> list) {
+        return appendAll(list);
+    }
+
+    @Override
+    default RealTimeQueue<T> removeValue(T value) {
+        return removeFirst(e->Objects.equals(e,value));
+    }
+
+    @Override
+    default RealTimeQueue<T> removeAll(T... values) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.removeAll(values);
+    }
+    default RealTimeQueue<T> removeAll(Iterable<? extends T> it){
+        return (RealTimeQueue<T>) ImmutableQueue.super.removeAll(it);
+    }
+
+    @Override
+    default RealTimeQueue<T> plus(T value){
+        return enqueue(value);
+    }
+
+    /**
+     * A non-empty queue. The front is a lazy list of {@link Cell}s, the rear a strict list of enqueued elements (most
+     * recent first) and the schedule a suffix of the front whose cells have not been evaluated yet. Every operation
+     * forces one cell of the schedule, and a new rotation of the rear onto the front is started once the schedule
+     * is exhausted, so by the time a dequeue reaches a cell it has always been evaluated already.
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Cons<T> implements RealTimeQueue<T>, ImmutableQueue.Some<T> {
+        private static final long serialVersionUID = 1L;
+        private final Cell<T> front;
+        private final int sizeFront;
+        private final Seq<T> rear;
+        private final Cell<T> schedule;
+
+        private static <T> RealTimeQueue<T> fromIterator(Iterator<? extends T> it){
+            ArrayList<T> values = new ArrayList<>();
+            while(it.hasNext()){
+                values.add(it.next());
+            }
+            if(values.isEmpty())
+                return empty();
+            Cell<T> front = null;
+            for(int i=values.size()-1;i>=0;i--){
+                front = new Cell<>(values.get(i),front);
+            }
+            return new Cons<>(front,values.size(),Seq.empty(),null);
+        }
+
+        private static <T> RealTimeQueue<T> exec(Cell<T> front, int sizeFront, Seq<T> rear, Cell<T> schedule) {
+            if(front==null && rear.isEmpty())
+                return empty();
+            if(schedule!=null)
+                return new Cons<>(front,sizeFront,rear,schedule.tail());
+            if(rear.isEmpty())
+                return new Cons<>(front,sizeFront,rear,null);
+            Cell<T> rotated = rotate(front,rear,null);
+            return new Cons<>(rotated,sizeFront+rear.size(),Seq.empty(),rotated);
+        }
+
+        /*
+         * Lazily computes front ++ reverse(rear) ++ acc, moving one element of rear onto acc for each step through
+         * the front. The rear is at most one longer than the front when a rotation starts, so it is exhausted
+         * by the time the front is.
+         */
+        private static <T> Cell<T> rotate(Cell<T> front, Seq<T> rear, Cell<T> acc){
+            if(front==null){
+                Cell<T> res = acc;
+                for(T next : rear){
+                    res = new Cell<>(next,res);
+                }
+                return res;
+            }
+            if(rear.isEmpty()){
+                return new Cell<>(front.head,()->rotate(front.tail(),rear,acc));
+            }
+            Seq.Cons<T> r = (Seq.Cons<T>)rear;
+            return new Cell<>(front.head,()->rotate(front.tail(),r.tail,new Cell<>(r.head,acc)));
+        }
+
+        @Override
+        public int size() {
+            return sizeFront + rear.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return false;
+        }
+
+        @Override
+        public RealTimeQueue<T> enqueue(T value) {
+            return exec(front,sizeFront,rear.prepend(value),schedule);
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> map(Function<? super T, ? extends R> map) {
+            ArrayList<R> mapped = new ArrayList<>(size());
+            for(T next : this){
+                mapped.add(map.apply(next));
+            }
+            return fromIterator(mapped.iterator());
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> flatMap(Function<? super T, ? extends ImmutableQueue<? extends R>> fn) {
+            return fromStream(stream().concatMap(fn));
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+            return fromStream(stream().concatMap(fn));
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+            return fromStream(stream().mergeMap(fn));
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn) {
+            return fromStream(stream().mergeMap(maxConcurecy,fn));
+        }
+
+        @Override
+        public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+            return fn1.apply(this);
+        }
+        @Override
+        public <R> R foldRealTimeQueue(Function<? super Cons<T>, ? extends R> fn1, Function<? super Nil<T>, ? extends R> fn2) {
+            return fn1.apply(this);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmpty(T value) {
+            return this;
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return this;
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptySwitch(Supplier<? extends ImmutableQueue<T>> supplier) {
+            return this;
+        }
+
+        public Tuple2<T,RealTimeQueue<T>> dequeue() {
+            return Tuple.tuple(front.head,tail());
+        }
+        public T head(){
+            return front.head;
+        }
+        public RealTimeQueue<T> tail() {
+            return exec(front.tail(),sizeFront-1,rear,schedule);
+        }
+
+        public RealTimeQueue<T> replace(T currentElement, T newElement) {
+            ArrayList<T> values = new ArrayList<>(size());
+            boolean replaced = false;
+            for(T next : this){
+                if(!replaced && Objects.equals(next,currentElement)){
+                    values.add(newElement);
+                    replaced = true;
+                }else{
+                    values.add(next);
+                }
+            }
+            return replaced ? fromIterator(values.iterator()) : this;
+        }
+
+        public Option<T> get(int n) {
+            if(n<0 || n>=size())
+                return Option.none();
+            return Option.some(getAt(n));
+        }
+
+        @Override
+        public T getOrElse(int n, T alt) {
+            if(n<0 || n>=size())
+                return alt;
+            return getAt(n);
+        }
+
+        @Override
+        public T getOrElseGet(int n, Supplier<? extends T> alt) {
+            if(n<0 || n>=size())
+                return alt.get();
+            return getAt(n);
+        }
+
+        private T getAt(int n){
+            if(n<sizeFront){
+                Cell<T> next = front;
+                for(int i=0;i<n;i++){
+                    next = next.tail();
+                }
+                return next.head;
+            }
+            return rear.getOrElse(size()-n-1,null);
+        }
+
+        @Override
+        public RealTimeQueue<T> prepend(T value) {
+            return new Cons<>(new Cell<>(value,front),sizeFront+1,rear,schedule);
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                Cell<T> next = front;
+                Iterator<T> back = null;
+
+                @Override
+                public boolean hasNext() {
+                    if(next!=null)
+                        return true;
+                    if(back==null)
+                        back = rear.reverse().iterator();
+                    return back.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    if(next!=null){
+                        T res = next.head;
+                        next = next.tail();
+                        return res;
+                    }
+                    if(!hasNext())
+                        throw new NoSuchElementException();
+                    return back.next();
+                }
+            };
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = 1;
+            for (T next : this)
+                hashCode = 31*hashCode + (next==null ? 0 : next.hashCode());
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj==null)
+                return false;
+            if (obj == this)
+                return true;
+            if(obj instanceof PersistentQueue) {
+                return equalToIteration((Iterable)obj);
+            }
+            return false;
+        }
+
+        @Override
+        public String toString(){
+            return seq().toString();
+        }
+
+        @Override
+        public Tuple2<T, ImmutableQueue<T>> unapply() {
+            Tuple2<T, ImmutableQueue<T>> x = (Tuple2)dequeue();
+            return x;
+        }
+
+        private Object writeReplace() {
+            return new Proxy<>(this);
+        }
+        private Object readResolve() throws InvalidObjectException {
+            throw new InvalidObjectException("Use Serialization Proxy instead.");
+        }
+
+        /*
+         * A cell of the lazily rotated front. The tail is either set directly or computed once from the thunk, which
+         * is cleared after the tail has been written so readers that see a null thunk also see the tail.
+         */
+        private static final class Cell<T> {
+            final T head;
+            private Cell<T> tail;
+            private volatile Supplier<Cell<T>> thunk;
+
+            Cell(T head, Cell<T> tail) {
+                this.head = head;
+                this.tail = tail;
+            }
+
+            Cell(T head, Supplier<Cell<T>> thunk) {
+                this.head = head;
+                this.thunk = thunk;
+            }
+
+            Cell<T> tail() {
+                if(thunk!=null){
+                    synchronized (this){
+                        Supplier<Cell<T>> s = thunk;
+                        if(s!=null){
+                            tail = s.get();
+                            thunk = null;
+                        }
+                    }
+                }
+                return tail;
+            }
+        }
+
+        @AllArgsConstructor
+        private static final class Proxy<T> implements Serializable {
+
+            private static final long serialVersionUID = 1L;
+            transient RealTimeQueue<T> q;
+
+            private void writeObject(ObjectOutputStream s) throws IOException {
+                s.defaultWriteObject();
+                s.writeInt(q.size());
+                for(T next : q){
+                    s.writeObject(next);
+                }
+            }
+            private Object readResolve() {
+                return q;
+            }
+
+            private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
+                s.defaultReadObject();
+                final int size = s.readInt();
+                ArrayList<T> values = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    values.add((T) s.readObject());
+                }
+                q = fromIterator(values.iterator());
+            }
+        }
+    }
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public final class Nil<T> implements RealTimeQueue<T>,ImmutableQueue.None<T> {
+        private static final long serialVersionUID = 1L;
+        static Nil Instance = new Nil();
+
+        public <R> R foldRight(R zero, BiFunction<? super T, ? super R, ? extends R> f) {
+            return zero;
+        }
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return true;
+        }
+
+        @Override
+        public RealTimeQueue<T> enqueue(T value) {
+            return of(value);
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> map(Function<? super T, ? extends R> map) {
+            return Instance;
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> flatMap(Function<? super T, ? extends ImmutableQueue<? extends R>> fn) {
+            return Instance;
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+            return Instance;
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn) {
+          return Instance;
+        }
+
+        @Override
+        public <R> RealTimeQueue<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn) {
+          return Instance;
+        }
+
+      @Override
+        public <R> R fold(Function<? super Some<T>, ? extends R> fn1, Function<? super None<T>, ? extends R> fn2) {
+            return fn2.apply(this);
+        }
+        @Override
+        public <R> R foldRealTimeQueue(Function<? super Cons<T>, ? extends R> fn1, Function<? super Nil<T>, ? extends R> fn2) {
+            return fn2.apply(this);
+        }
+
+        @Override
+        public RealTimeQueue<T> prepend(T value) {
+            return enqueue(value);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmpty(T value) {
+            return RealTimeQueue.of(value);
+        }
+
+        @Override
+        public ImmutableQueue<T> onEmptyGet(Supplier<? extends T> supplier) {
+            return RealTimeQueue.of(supplier.get());
+        }
+
+
+        @Override
+        public ImmutableQueue<T> onEmptySwitch(Supplier<? extends ImmutableQueue<T>> supplier) {
+            return supplier.get();
+        }
+
+        @Override
+        public RealTimeQueue<T> replace(T currentElement, T newElement) {
+            return this;
+        }
+
+
+        @Override
+        public LazySeq<T> lazySeq() {
+            return LazySeq.empty();
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            return alt;
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<? extends T> alt) {
+            return alt.get();
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if(obj instanceof PersistentQueue){
+                return ((PersistentQueue)obj).size()==0;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString(){
+            return seq().toString();
+        }
+        private Object readResolve() {
+          return Instance;
+       }
+    }
+
+
+    default RealTimeQueue<T> takeWhile(Predicate<? super T> p) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.takeWhile(p);
+    }
+    default RealTimeQueue<T> dropWhile(Predicate<? super T> p) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.dropWhile(p);
+    }
+
+    default Tuple2<RealTimeQueue<T>,RealTimeQueue<T>> duplicate(){
+        return Tuple.tuple(this,this);
+    }
+    default <R1, R2> Tuple2<RealTimeQueue<R1>, RealTimeQueue<R2>> unzip(Function<? super T, Tuple2<? extends R1, ? extends R2>> fn) {
+        Tuple2<RealTimeQueue<R1>, RealTimeQueue<Tuple2<? extends R1, ? extends R2>>> x = map(fn).duplicate().map1(s -> s.map(Tuple2::_1));
+        return x.map2(s -> s.map(Tuple2::_2));
+    }
+
+
+
+    default <R> R foldLeft(R zero, BiFunction<R, ? super T, R> f){
+        R acc= zero;
+        for(T next : this){
+            acc= f.apply(acc,next);
+        }
+        return acc;
+    }
+    @Override
+    <R> RealTimeQueue<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn);
+
+    @Override
+    <R> RealTimeQueue<R> mergeMap(Function<? super T, ? extends Publisher<? extends R>> fn);
+
+    @Override
+    <R> RealTimeQueue<R> mergeMap(int maxConcurecy, Function<? super T, ? extends Publisher<? extends R>> fn);
+
+  @Override
+    default <U> RealTimeQueue<U> ofType(Class<? extends U> type) {
+        return (RealTimeQueue<U>)ImmutableQueue.super.ofType(type);
+    }
+
+    @Override
+    default RealTimeQueue<T> filterNot(Predicate<? super T> predicate) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.filterNot(predicate);
+    }
+
+    @Override
+    default RealTimeQueue<T> notNull() {
+        return (RealTimeQueue<T>)ImmutableQueue.super.notNull();
+    }
+
+    @Override
+    default RealTimeQueue<T> peek(Consumer<? super T> c) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.peek(c);
+    }
+
+
+
+    @Override
+    default RealTimeQueue<T> removeStream(Stream<? extends T> stream) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.removeStream(stream);
+    }
+
+    @Override
+    default RealTimeQueue<T> retainAll(Iterable<? extends T> it) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.retainAll(it);
+    }
+
+    @Override
+    default RealTimeQueue<T> retainStream(Stream<? extends T> stream) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.retainStream(stream);
+    }
+
+    @Override
+    default RealTimeQueue<T> retainAll(T... values) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.retainAll(values);
+    }
+
+    @Override
+    default RealTimeQueue<ReactiveSeq<T>> permutations() {
+        return (RealTimeQueue<ReactiveSeq<T>>)ImmutableQueue.super.permutations();
+    }
+
+    @Override
+    default RealTimeQueue<ReactiveSeq<T>> combinations(int size) {
+        return (RealTimeQueue<ReactiveSeq<T>>)ImmutableQueue.super.combinations(size);
+    }
+
+    @Override
+    default RealTimeQueue<ReactiveSeq<T>> combinations() {
+        return (RealTimeQueue<ReactiveSeq<T>>)ImmutableQueue.super.combinations();
+    }
+
+  @Override
+    default <T2, R> RealTimeQueue<R> zip(BiFunction<? super T, ? super T2, ? extends R> fn, Publisher<? extends T2> publisher) {
+        return (RealTimeQueue<R>)ImmutableQueue.super.zip(fn, publisher);
+    }
+
+    @Override
+    default <U, R> RealTimeQueue<R> zipWithStream(Stream<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return (RealTimeQueue<R>)ImmutableQueue.super.zipWithStream(other,zipper);
+    }
+
+    @Override
+    default <U> RealTimeQueue<Tuple2<T, U>> zipWithPublisher(Publisher<? extends U> other) {
+        return (RealTimeQueue)ImmutableQueue.super.zipWithPublisher(other);
+    }
+
+    @Override
+    default <U> RealTimeQueue<Tuple2<T, U>> zip(Iterable<? extends U> other) {
+        return (RealTimeQueue)ImmutableQueue.super.zip(other);
+    }
+
+    @Override
+    default <S, U, R> RealTimeQueue<R> zip3(Iterable<? extends S> second, Iterable<? extends U> third, Function3<? super T, ? super S, ? super U, ? extends R> fn3) {
+        return (RealTimeQueue<R>)ImmutableQueue.super.zip3(second,third,fn3);
+    }
+
+    @Override
+    default <T2, T3, T4, R> RealTimeQueue<R> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth, Function4<? super T, ? super T2, ? super T3, ? super T4, ? extends R> fn) {
+        return (RealTimeQueue<R>)ImmutableQueue.super.zip4(second,third,fourth,fn);
+    }
+
+    @Override
+    default RealTimeQueue<T> combine(BiPredicate<? super T, ? super T> predicate, BinaryOperator<T> op) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.combine(predicate,op);
+    }
+
+    @Override
+    default RealTimeQueue<T> combine(Monoid<T> op, BiPredicate<? super T, ? super T> predicate) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.combine(op,predicate);
+    }
+
+    @Override
+    default RealTimeQueue<T> cycle(long times) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.cycle(times);
+    }
+
+    @Override
+    default RealTimeQueue<T> cycle(Monoid<T> m, long times) {
+        return (RealTimeQueue<T>)ImmutableQueue.super.cycle(m,times);
+    }
+
+    @Override
+    default RealTimeQueue<T> cycleWhile(Predicate<? super T> predicate) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.cycleWhile(predicate);
+    }
+
+    @Override
+    default RealTimeQueue<T> cycleUntil(Predicate<? super T> predicate) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.cycleUntil(predicate);
+    }
+
+    @Override
+    default <U, R> RealTimeQueue<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
+        return (RealTimeQueue<R>) ImmutableQueue.super.zip(other,zipper);
+    }
+
+    @Override
+    default <S, U> RealTimeQueue<Tuple3<T, S, U>> zip3(Iterable<? extends S> second, Iterable<? extends U> third) {
+        return (RealTimeQueue) ImmutableQueue.super.zip3(second,third);
+    }
+
+    @Override
+    default <T2, T3, T4> RealTimeQueue<Tuple4<T, T2, T3, T4>> zip4(Iterable<? extends T2> second, Iterable<? extends T3> third, Iterable<? extends T4> fourth) {
+        return (RealTimeQueue) ImmutableQueue.super.zip4(second,third,fourth);
+    }
+
+    @Override
+    default RealTimeQueue<Tuple2<T, Long>> zipWithIndex() {
+        return (RealTimeQueue<Tuple2<T,Long>>) ImmutableQueue.super.zipWithIndex();
+    }
+
+    @Override
+    default RealTimeQueue<Seq<T>> sliding(int windowSize) {
+        return (RealTimeQueue<Seq<T>>) ImmutableQueue.super.sliding(windowSize);
+    }
+
+    @Override
+    default RealTimeQueue<Seq<T>> sliding(int windowSize, int increment) {
+        return (RealTimeQueue<Seq<T>>) ImmutableQueue.super.sliding(windowSize,increment);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> RealTimeQueue<C> grouped(int size, Supplier<C> supplier) {
+        return (RealTimeQueue<C>) ImmutableQueue.super.grouped(size,supplier);
+    }
+
+    @Override
+    default RealTimeQueue<Vector<T>> groupedUntil(Predicate<? super T> predicate) {
+        return (RealTimeQueue<Vector<T>>) ImmutableQueue.super.groupedUntil(predicate);
+    }
+
+    @Override
+    default RealTimeQueue<Vector<T>> groupedUntil(BiPredicate<Vector<? super T>, ? super T> predicate) {
+        return (RealTimeQueue<Vector<T>>) ImmutableQueue.super.groupedUntil(predicate);
+    }
+
+    @Override
+    default <U> RealTimeQueue<Tuple2<T, U>> zipWithStream(Stream<? extends U> other) {
+        return (RealTimeQueue) ImmutableQueue.super.zipWithStream(other);
+    }
+
+    @Override
+    default RealTimeQueue<Vector<T>> groupedWhile(Predicate<? super T> predicate) {
+        return (RealTimeQueue<Vector<T>>) ImmutableQueue.super.groupedWhile(predicate);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> RealTimeQueue<C> groupedWhile(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (RealTimeQueue<C>) ImmutableQueue.super.groupedWhile(predicate,factory);
+    }
+
+    @Override
+    default <C extends PersistentCollection<? super T>> RealTimeQueue<C> groupedUntil(Predicate<? super T> predicate, Supplier<C> factory) {
+        return (RealTimeQueue<C>) ImmutableQueue.super.groupedUntil(predicate,factory);
+    }
+
+    @Override
+    default RealTimeQueue<Vector<T>> grouped(int groupSize) {
+        return (RealTimeQueue<Vector<T>>) ImmutableQueue.super.grouped(groupSize);
+    }
+
+    @Override
+    default RealTimeQueue<T> distinct() {
+        return (RealTimeQueue<T>) ImmutableQueue.super.distinct();
+    }
+
+    @Override
+    default RealTimeQueue<T> scanLeft(Monoid<T> monoid) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.scanLeft(monoid);
+    }
+
+    @Override
+    default <U> RealTimeQueue<U> scanLeft(U seed, BiFunction<? super U, ? super T, ? extends U> function) {
+        return (RealTimeQueue<U>) ImmutableQueue.super.scanLeft(seed,function);
+    }
+
+    @Override
+    default RealTimeQueue<T> scanRight(Monoid<T> monoid) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.scanRight(monoid);
+    }
+
+    @Override
+    default <U> RealTimeQueue<U> scanRight(U identity, BiFunction<? super T, ? super U, ? extends U> combiner) {
+        return (RealTimeQueue<U>) ImmutableQueue.super.scanRight(identity,combiner);
+    }
+
+    @Override
+    default RealTimeQueue<T> sorted() {
+        return (RealTimeQueue<T>) ImmutableQueue.super.sorted();
+    }
+
+    @Override
+    default RealTimeQueue<T> sorted(Comparator<? super T> c) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.sorted(c);
+    }
+
+
+
+    @Override
+    default RealTimeQueue<T> takeUntil(Predicate<? super T> p) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.takeUntil(p);
+    }
+
+    @Override
+    default RealTimeQueue<T> dropUntil(Predicate<? super T> p) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.dropUntil(p);
+    }
+
+    @Override
+    default RealTimeQueue<T> dropRight(int num) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.dropRight(num);
+    }
+
+    @Override
+    default RealTimeQueue<T> takeRight(int num) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.takeRight(num);
+    }
+
+
+
+    @Override
+    default RealTimeQueue<T> intersperse(T value) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.intersperse(value);
+    }
+
+    @Override
+    default RealTimeQueue<T> shuffle() {
+        return (RealTimeQueue<T>) ImmutableQueue.super.shuffle();
+    }
+
+    @Override
+    default RealTimeQueue<T> shuffle(Random random) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.shuffle(random);
+    }
+
+    @Override
+    default RealTimeQueue<T> slice(long from, long to) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.slice(from,to);
+    }
+
+
+    @Override
+    default RealTimeQueue<T> prependStream(Stream<? extends T> stream) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.prependStream(stream);
+    }
+
+    @Override
+    default RealTimeQueue<T> appendAll(T... values) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.appendAll(values);
+    }
+
+    @Override
+    default RealTimeQueue<T> prependAll(T... values) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.prependAll(values);
+    }
+
+    @Override
+    default RealTimeQueue<T> deleteBetween(int start, int end) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.deleteBetween(start,end);
+    }
+
+    @Override
+    default RealTimeQueue<T> insertStreamAt(int pos, Stream<T> stream) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.insertStreamAt(pos,stream);
+    }
+
+
+
+    @Override
+    default <U extends Comparable<? super U>> RealTimeQueue<T> sorted(Function<? super T, ? extends U> function) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.sorted(function);
+    }
+    default String mkString(){
+        return stream().join(",","[","]");
+    }
+
+
+  @Override
+  default <R1, R2, R3, R> RealTimeQueue<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach4(iterable1,iterable2,iterable3,yieldingFunction);
+  }
+
+  @Override
+  default <R1, R2, R3, R> RealTimeQueue<R> forEach4(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends Iterable<R3>> iterable3, Function4<? super T, ? super R1, ? super R2, ? super R3, Boolean> filterFunction, Function4<? super T, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach4(iterable1,iterable2,iterable3,filterFunction,yieldingFunction);
+  }
+
+  @Override
+  default <R1, R2, R> RealTimeQueue<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach3(iterable1,iterable2,yieldingFunction);
+  }
+
+  @Override
+  default <R1, R2, R> RealTimeQueue<R> forEach3(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends Iterable<R2>> iterable2, Function3<? super T, ? super R1, ? super R2, Boolean> filterFunction, Function3<? super T, ? super R1, ? super R2, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach3(iterable1,iterable2,filterFunction,yieldingFunction);
+  }
+
+  @Override
+  default <R1, R> RealTimeQueue<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach2(iterable1,yieldingFunction);
+  }
+
+  @Override
+  default <R1, R> RealTimeQueue<R> forEach2(Function<? super T, ? extends Iterable<R1>> iterable1, BiFunction<? super T, ? super R1, Boolean> filterFunction, BiFunction<? super T, ? super R1, ? extends R> yieldingFunction) {
+    return (RealTimeQueue< R>) ImmutableQueue.super.forEach2(iterable1,filterFunction,yieldingFunction);
+  }
+
+    @Override
+    default RealTimeQueue<T> removeAt(long pos) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.removeAt(pos);
+    }
+
+
+    @Override
+    default RealTimeQueue<T> updateAt(int pos, T value) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.updateAt(pos,value);
+    }
+
+    @Override
+    default RealTimeQueue<T> insertAt(int pos, Iterable<? extends T> values) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.insertAt(pos,values);
+    }
+
+    @Override
+    default RealTimeQueue<T> insertAt(int i, T value) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.insertAt(i,value);
+    }
+
+    @Override
+    default RealTimeQueue<T> insertAt(int pos, T... values) {
+        return (RealTimeQueue<T>) ImmutableQueue.super.insertAt(pos,values);
+    }
+}
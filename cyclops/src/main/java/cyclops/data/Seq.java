@@ -784,13 +784,65 @@ public interface Seq<T> extends ImmutableList<T>,
         }
 
 
+        //builds the list back to front from the first length values, so no intermediate reversed list is needed
+        private static <T> Seq<T> fromArray(Object[] values, int length){
+            Seq<T> res = empty();
+            for(int i=length-1;i>=0;i--){
+                res = new Cons<>((T)values[i],res,length-i,null);
+            }
+            return res;
+        }
+
         @Override
         public <R> Seq<R> map(Function<? super T, ? extends R> fn) {
-          Seq<R> res = empty();
-          for (T t : this) {
-            res = res.prepend(fn.apply(t));
+          Object[] values = new Object[size];
+          int length = 0;
+          for(Seq<T> next = this; next instanceof Cons;){
+            Cons<T> cons = (Cons<T>)next;
+            values[length++] = fn.apply(cons.head);
+            next = cons.tail;
+          }
+          return fromArray(values,length);
+        }
+
+        @Override
+        public Seq<T> filter(Predicate<? super T> pred) {
+          Object[] values = new Object[size];
+          int length = 0;
+          for(Seq<T> next = this; next instanceof Cons;){
+            Cons<T> cons = (Cons<T>)next;
+            if(pred.test(cons.head))
+              values[length++] = cons.head;
+            next = cons.tail;
+          }
+          return length==size ? this : fromArray(values,length);
+        }
+
+        @Override
+        public <R> R foldLeft(R zero, BiFunction<R, ? super T, R> f) {
+          R acc = zero;
+          for(Seq<T> next = this; next instanceof Cons;){
+            Cons<T> cons = (Cons<T>)next;
+            acc = f.apply(acc,cons.head);
+            next = cons.tail;
+          }
+          return acc;
+        }
+
+        @Override
+        public <R> R foldRight(R zero, BiFunction<? super T, ? super R, ? extends R> f) {
+          Object[] values = new Object[size];
+          int length = 0;
+          for(Seq<T> next = this; next instanceof Cons;){
+            Cons<T> cons = (Cons<T>)next;
+            values[length++] = cons.head;
+            next = cons.tail;
+          }
+          R acc = zero;
+          for(int i=length-1;i>=0;i--){
+            acc = f.apply((T)values[i],acc);
           }
-          return res.reverse();
+          return acc;
         }
 
         @Override
@@ -1005,13 +1057,13 @@ public interface Seq<T> extends ImmutableList<T>,
 
         @Override
         public <R> Seq<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> mapper) {
-          Seq<R> res = empty();
+          List<R> values = new ArrayList<>(size);
           for (T t : this) {
             for(R r : mapper.apply(t)) {
-              res = res.prepend(r);
+              values.add(r);
             }
           }
-          return res.reverse();
+          return fromArray(values.toArray(),values.size());
         }
 
       @Override
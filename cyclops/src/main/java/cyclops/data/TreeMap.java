@@ -9,8 +9,6 @@ import cyclops.function.Function4;
 import com.oath.cyclops.hkt.DataWitness.treeMap;
 import cyclops.data.base.RedBlackTree;
 import cyclops.reactive.ReactiveSeq;
-import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import lombok.experimental.Wither;
@@ -23,7 +21,6 @@ import java.util.Objects;
 import java.util.function.*;
 import java.util.stream.Stream;
 
-@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
                                             Higher2<treeMap,K,V>,
                                             Serializable{
@@ -33,6 +30,10 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     @Wither()
     private final Comparator<K> comparator;
 
+    private TreeMap(RedBlackTree.Tree<K, V> map, Comparator<K> comparator) {
+        this.map = RedBlackTree.rootIsBlack(map);
+        this.comparator = comparator;
+    }
 
     public ReactiveSeq<Tuple2<K,V>> stream(){
         return map.stream();
@@ -49,7 +50,7 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     }
 
     public static <K,V> TreeMap<K,V> fromStream(Stream<Tuple2<K,V>> stream, Comparator<K> comp){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(comp),(m,t2)->m.put(t2._1(),t2._2()));
+        return new TreeMap<>(RedBlackTree.fromStream(comp,stream),comp);
     }
     @Override
     public <R> TreeMap<K, R> mapValues(Function<? super V, ? extends R> map) {
@@ -150,7 +151,8 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
     public static <K,V> TreeMap<K,V> fromMap(Comparator<K> comp, PersistentMap<K,V> map){
         if(map instanceof TreeMap){
             TreeMap<K,V> t = (TreeMap)map;
-            return t.withComparator(comp);
+            if(comp.equals(t.comparator))
+                return t;
         }
         return new TreeMap<>(RedBlackTree.fromStream(comp,map.stream()),comp);
     }
@@ -173,7 +175,10 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
     public TreeMap<K, V> putAll(PersistentMap<? extends K, ? extends V> map) {
-        return map.stream().foldLeft(this,(m,next)->m.put(next._1(),next._2()));
+        if(map instanceof TreeMap && comparator.equals(((TreeMap)map).comparator)){
+            return new TreeMap<>(RedBlackTree.union(this.map,((TreeMap<K,V>)map).map),comparator);
+        }
+        return new TreeMap<>(RedBlackTree.union(this.map,RedBlackTree.fromStream(comparator,map.stream())),comparator);
     }
 
     @Override
@@ -219,6 +224,79 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
         return map.size();
     }
 
+    public Option<Tuple2<K,V>> first(){
+        return map.min();
+    }
+
+    public Option<Tuple2<K,V>> last(){
+        return map.max();
+    }
+
+    public Option<Tuple2<K,V>> floor(K key){
+        return map.floor(key);
+    }
+
+    public Option<Tuple2<K,V>> ceiling(K key){
+        return map.ceiling(key);
+    }
+
+    public Option<Tuple2<K,V>> lower(K key){
+        return map.lower(key);
+    }
+
+    public Option<Tuple2<K,V>> higher(K key){
+        return map.higher(key);
+    }
+
+    /**
+     * @param key Key to rank
+     * @return The number of keys in this map that are less than the supplied key
+     */
+    public int rank(K key){
+        return map.rank(key);
+    }
+
+    /**
+     * @param index Position in key order
+     * @return The entry at the supplied position, or Option.none if out of range
+     */
+    public Option<Tuple2<K,V>> getAt(int index){
+        return map.getAt(index);
+    }
+
+    /**
+     * Range view of this TreeMap, built by splitting the underlying tree in O(log n) time
+     *
+     * @param fromKey Lower bound (inclusive)
+     * @param toKey Upper bound (exclusive)
+     * @return TreeMap containing only the keys within the range
+     */
+    public TreeMap<K,V> subMap(K fromKey, K toKey){
+        return subMap(fromKey,true,toKey,false);
+    }
+
+    public TreeMap<K,V> subMap(K fromKey, boolean fromInclusive, K toKey, boolean toInclusive){
+        if(comparator.compare(fromKey,toKey)>0)
+            return new TreeMap<>(RedBlackTree.empty(comparator),comparator);
+        return new TreeMap<>(map.rangeFrom(fromKey,fromInclusive).rangeTo(toKey,toInclusive),comparator);
+    }
+
+    public TreeMap<K,V> headMap(K toKey){
+        return headMap(toKey,false);
+    }
+
+    public TreeMap<K,V> headMap(K toKey, boolean inclusive){
+        return new TreeMap<>(map.rangeTo(toKey,inclusive),comparator);
+    }
+
+    public TreeMap<K,V> tailMap(K fromKey){
+        return tailMap(fromKey,true);
+    }
+
+    public TreeMap<K,V> tailMap(K fromKey, boolean inclusive){
+        return new TreeMap<>(map.rangeFrom(fromKey,inclusive),comparator);
+    }
+
     @Override
     public <K2, V2> DMap.Two<K, V, K2, V2> merge(ImmutableMap<K2, V2> one) {
         return DMap.two(this,one);
@@ -233,7 +311,32 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
     public Iterator<Tuple2<K, V>> iterator() {
-        return stream().iterator();
+        return map.iterator();
+    }
+
+    /**
+     * @return Iterator over the entries of this TreeMap in descending key order
+     */
+    public Iterator<Tuple2<K, V>> reverseIterator() {
+        return map.reverseIterator(Tuple::tuple);
+    }
+
+    /**
+     * @param fromKey Key to start from (inclusive)
+     * @return Iterator over the entries of this TreeMap with keys greater than or equal to fromKey, in ascending order
+     */
+    public Iterator<Tuple2<K, V>> iterator(K fromKey) {
+        return map.iterator(fromKey,Tuple::tuple);
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super Tuple2<K, V>, U> accumulator) {
+        U res = identity;
+        Iterator<Tuple2<K, V>> it = map.iterator();
+        while(it.hasNext()){
+            res = accumulator.apply(res,it.next());
+        }
+        return res;
     }
 
     @Override
@@ -334,6 +437,6 @@ public final class TreeMap<K,V> implements ImmutableMap<K,V> ,
 
     @Override
   public int hashCode() {
-        return map.stream().foldLeft(0,(acc,t2)-> acc+t2.hashCode());
+        return foldLeft(0,(acc,t2)-> acc+t2.hashCode());
   }
 }
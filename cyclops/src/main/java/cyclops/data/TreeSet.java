@@ -40,6 +40,9 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         Collector<T, ?, Set<T>> c  = Collectors.toSet();
         return Collectors.<T, Set<T>, Iterable<T>,TreeSet<T>>collectingAndThen((Collector)c,TreeSet::fromIterable);
     }
+    public static <T> Collector<T, ?, TreeSet<T>> collector(Comparator<? super T> comp) {
+        return Collectors.collectingAndThen(Collectors.<T>toList(),l->fromIterable(l,comp));
+    }
     public TreeSet(RedBlackTree.Tree<T, T> map, Comparator<? super T> comp) {
         this.map = RedBlackTree.rootIsBlack(map);
         this.comp = comp;
@@ -57,13 +60,13 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         return new TreeSet<T>( RedBlackTree.empty(comp),comp);
     }
     public static <T> TreeSet<T> fromStream(Stream<T> stream, Comparator<? super T> comp){
-        return ReactiveSeq.fromStream(stream).foldLeft(empty(comp),(m,t2)->m.plus(t2));
+        return new TreeSet<>(RedBlackTree.fromValues(comp,stream.iterator()),comp);
     }
     public static <T> TreeSet<T> fromIterable(Iterable<T> it,Comparator<? super T> comp){
-        return ReactiveSeq.fromIterable(it).foldLeft(empty(comp),(m, t2)->m.plus(t2));
+        return new TreeSet<>(RedBlackTree.fromValues(comp,it.iterator()),comp);
     }
     public static <T extends Comparable<? super T>> TreeSet<T> fromIterable(Iterable<T> it){
-      return ReactiveSeq.fromIterable(it).foldLeft(empty(Comparators.naturalComparator()),(m, t2)->m.plus(t2));
+      return fromIterable(it,Comparators.naturalComparator());
     }
 
     static <U, T> TreeSet<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
@@ -112,24 +115,14 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
         return fromIterable(it,Comparators.naturalOrderIdentityComparator());
     }
     public ReactiveSeq<T> stream(){
-        return map.stream().map(t->t._1());
+        return ReactiveSeq.fromIterable(()->iterator());
     }
 
     public static <T> TreeSet<T> of(Comparator<? super T> comp, T... values){
-        RedBlackTree.Tree<T, T> tree = RedBlackTree.empty(comp);
-        for(T value : values){
-            tree = RedBlackTree.rootIsBlack(tree.plus(value,value));
-
-        }
-        return new TreeSet<>(tree,comp);
+        return new TreeSet<>(RedBlackTree.fromValues(comp,Arrays.asList(values).iterator()),comp);
     }
     public static <T extends Comparable<? super T>> TreeSet<T> of(T... values){
-        RedBlackTree.Tree<T, T> tree = RedBlackTree.empty(Comparator.naturalOrder());
-        for(T value : values){
-            tree = RedBlackTree.rootIsBlack(tree.plus(value,value));
-
-        }
-        return new TreeSet<>(tree,Comparator.naturalOrder());
+        return of(Comparator.naturalOrder(),values);
     }
     public static <T> TreeSet<T> fromSortedSet(SortedSet<T> set, Comparator<? super T> comp){
         Stream<Tuple2<T,T>> s = set.stream().map(e -> Tuple.tuple(e,e));
@@ -219,26 +212,71 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public TreeSet<T> plusAll(Iterable<? extends T> list) {
-        TreeSet<T> res = this;
-        for(T next : list){
-            res = res.plus(next);
-        }
-        return res;
+        return new TreeSet<>(RedBlackTree.union(map,treeOf(list)),comp);
     }
 
 
 
     @Override
     public TreeSet<T> removeAll(Iterable<? extends T> list) {
-        RedBlackTree.Tree<T, T> local = map;
-        for(T next : list)
-            local = local.minus(next);
-        return new TreeSet<>(local,comp);
+        return new TreeSet<>(RedBlackTree.difference(map,treeOf(list)),comp);
+    }
+
+    private RedBlackTree.Tree<T,T> treeOf(Iterable<? extends T> it){
+        if(it instanceof TreeSet && comp.equals(((TreeSet<T>)it).comp))
+            return ((TreeSet<T>)it).map;
+        return RedBlackTree.fromValues(comp,it.iterator());
     }
 
     @Override
     public Option<T> get(int index) {
-        return stream().elementAt(index);
+        return map.getAt(index).map(t->t._1());
+    }
+
+    public Option<T> floor(T value){
+        return map.floor(value).map(t->t._1());
+    }
+
+    public Option<T> ceiling(T value){
+        return map.ceiling(value).map(t->t._1());
+    }
+
+    public Option<T> lower(T value){
+        return map.lower(value).map(t->t._1());
+    }
+
+    public Option<T> higher(T value){
+        return map.higher(value).map(t->t._1());
+    }
+
+    /**
+     * @param value Value to rank
+     * @return The number of values in this set that are less than the supplied value
+     */
+    public int rank(T value){
+        return map.rank(value);
+    }
+
+    public TreeSet<T> subSet(T fromElement, boolean fromInclusive, T toElement, boolean toInclusive) {
+        if(comp.compare(fromElement,toElement)>0)
+            return empty(comp);
+        return new TreeSet<>(map.rangeFrom(fromElement,fromInclusive).rangeTo(toElement,toInclusive),comp);
+    }
+
+    public TreeSet<T> headSet(T toElement){
+        return headSet(toElement,false);
+    }
+
+    public TreeSet<T> headSet(T toElement, boolean inclusive){
+        return new TreeSet<>(map.rangeTo(toElement,inclusive),comp);
+    }
+
+    public TreeSet<T> tailSet(T fromElement){
+        return tailSet(fromElement,true);
+    }
+
+    public TreeSet<T> tailSet(T fromElement, boolean inclusive){
+        return new TreeSet<>(map.rangeFrom(fromElement,inclusive),comp);
     }
 
 
@@ -246,7 +284,22 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public Iterator<T> iterator() {
-        return stream().iterator();
+        return map.iterator((k,v)->k);
+    }
+
+    /**
+     * @return Iterator over the values of this TreeSet in descending order
+     */
+    public Iterator<T> reverseIterator() {
+        return map.reverseIterator((k,v)->k);
+    }
+
+    /**
+     * @param fromElement Value to start from (inclusive)
+     * @return Iterator over the values of this TreeSet greater than or equal to fromElement, in ascending order
+     */
+    public Iterator<T> iterator(T fromElement) {
+        return map.iterator(fromElement,(k,v)->k);
     }
 
     @Override
@@ -256,31 +309,32 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public ImmutableSortedSet<T> subSet(T fromElement, T toElement) {
-
-       return fromStream(stream().dropWhile(e-> !Objects.equals(e,fromElement))
-                                 .takeUntil(e->Objects.equals(e,toElement)),comp);
-
+        return subSet(fromElement,true,toElement,false);
     }
 
 
     @Override
     public Option<T> first() {
-        return Option.fromIterable(this);
+        return map.min().map(t->t._1());
     }
 
     @Override
     public Option<T> last() {
-        return stream().takeRight(1).takeOne();
+        return map.max().map(t->t._1());
     }
 
     @Override
     public ImmutableSortedSet<T> drop(int num) {
-        return fromStream(stream().drop(num),comp);
+        if(num<=0)
+            return this;
+        return map.getAt(num).fold(t->tailSet(t._1()),()->empty(comp));
     }
 
     @Override
     public ImmutableSortedSet<T> take(int num) {
-        return fromStream(stream().take(num),comp);
+        if(num<=0)
+            return empty(comp);
+        return map.getAt(num).fold(t->headSet(t._1()),()->this);
     }
 
     public String printTree(){
@@ -395,7 +449,7 @@ public final class TreeSet<T> implements ImmutableSortedSet<T>,
 
     @Override
     public TreeSet<T> retainAll(Iterable<? extends T> it) {
-        return (TreeSet<T>)ImmutableSortedSet.super.retainAll(it);
+        return new TreeSet<>(RedBlackTree.intersection(map,treeOf(it)),comp);
     }
 
     @Override
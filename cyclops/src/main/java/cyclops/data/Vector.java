@@ -18,6 +18,7 @@ import cyclops.function.Memoize;
 import cyclops.function.Monoid;
 import cyclops.reactive.Generator;
 import cyclops.reactive.ReactiveSeq;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import org.reactivestreams.Publisher;
 
@@ -25,7 +26,6 @@ import java.io.*;
 import java.util.*;
 import java.util.function.*;
 import java.util.stream.Collector;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Vector<T> implements ImmutableList<T>,
@@ -48,9 +48,8 @@ public class Vector<T> implements ImmutableList<T>,
         return ( Vector<T>)appendAll((Iterable<T>)list);
     }
 
-    static <T> Collector<T, List<T>, Vector<T>> collector() {
-        Collector<T, ?, List<T>> c  = Collectors.toList();
-        return Collectors.<T, List<T>, Iterable<T>,Vector<T>>collectingAndThen((Collector)c,Vector::fromIterable);
+    public static <T> Collector<T, Builder<T>, Vector<T>> collector() {
+        return Collector.of(Vector::builder,Builder::add,Builder::addAll,Builder::build);
     }
     @Override
     public boolean containsValue(T value) {
@@ -129,25 +128,32 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> removeAt(long i) {
-        return (Vector<T>)ImmutableList.super.removeAt(i);
+        if(i<0||i>=size)
+            return this;
+        return concat(take(i),drop(i+1));
     }
 
     @Override
     public Vector<T> insertAt(int pos, T... values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,of(values));
     }
     @Override
     public Vector<T> insertAt(int i, T e){
-        return (Vector<T>)ImmutableList.super.insertAt(i,e);
+        return insertAt(i,of(e));
     }
 
     @Override
     public Vector<T> insertAt(int pos, Iterable<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        Vector<T> middle = fromIterable((Iterable<T>)values);
+        if(pos<=0)
+            return concat(middle,this);
+        if(pos>=size)
+            return concat(this,middle);
+        return concat(concat(take(pos),middle),drop(pos));
     }
     @Override
     public Vector<T> insertAt(int pos, ReactiveSeq<? extends T> values) {
-        return (Vector<T>)ImmutableList.super.insertAt(pos,values);
+        return insertAt(pos,(Iterable<? extends T>)values);
     }
     public Vector<T> plusAll(int i, Iterable<? extends T> values){
         return insertAt(i,values);
@@ -158,7 +164,11 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public static <T> Vector<T> fill(T t, int max){
-        return Vector.fromStream(ReactiveSeq.fill(t).take(max));
+        Builder<T> builder = builder();
+        for(int i=0;i<max;i++){
+            builder.add(t);
+        }
+        return builder.build();
     }
 
     public static <U, T> Vector<T> unfold(final U seed, final Function<? super U, Option<Tuple2<T, U>>> unfolder) {
@@ -210,18 +220,13 @@ public class Vector<T> implements ImmutableList<T>,
         if(it instanceof Vector){
             return (Vector<T>)it;
         }
-        Vector<T> res = empty();
-        for(T next : it){
-            res = res.plus(next);
-        }
-        return res;
+        return Vector.<T>builder().addAll(it).build();
     }
     public static <T> Vector<T> of(T... value){
-        Vector<T> res = empty();
-        for(T next : value){
-            res = res.plus(next);
-        }
-        return res;
+        return Vector.<T>builder().addAll(value).build();
+    }
+    public static <T> Builder<T> builder(){
+        return new Builder<>(new BAMT.Transient<>());
     }
 
 
@@ -234,24 +239,13 @@ public class Vector<T> implements ImmutableList<T>,
     }
 
     public Vector<T> filter(Predicate<? super T> pred){
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<T> builder = builder();
         for (T t : this) {
             if(pred.test(t)) {
-                if (newTail.size() < 32) {
-                    newTail = newTail.append(t);
-                    newSize++;
-                } else {
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(t);
-                    newSize++;
-                }
+                builder.add(t);
             }
-
-
         }
-        return new Vector<>(newRoot,newTail,newSize);
+        return builder.build();
     }
 
     public <R> Vector<R> map(Function<? super T, ? extends R> fn){
@@ -406,32 +400,17 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public <U, R> Vector<R> zip(Iterable<? extends U> other, BiFunction<? super T, ? super U, ? extends R> zipper) {
-        int newSize= 0;
-        BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+        Builder<R> builder = builder();
         Iterator<? extends U> it = other.iterator();
         for (T t : this) {
             if(it.hasNext()) {
-                R r = zipper.apply(t, it.next());
-                if(newTail.size()<32) {
-                    newTail = newTail.append(r);
-                    newSize++;
-                }else{
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(r);
-                    newSize++;
-                }
+                builder.add(zipper.apply(t, it.next()));
             }
             else{
                 break;
             }
-
-
-
-
         }
-        return new Vector<R>(newRoot,newTail,newSize);
-       // return (Vector<R>) ImmutableList.super.zip(other,zipper);
+        return builder.build();
     }
 
     @Override
@@ -536,22 +515,32 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> takeWhile(Predicate<? super T> p) {
-        return (Vector<T>) ImmutableList.super.takeWhile(p);
+        return take(prefixLength(p));
     }
 
     @Override
     public Vector<T> dropWhile(Predicate<? super T> p) {
-        return (Vector<T>) ImmutableList.super.dropWhile(p);
+        return drop(prefixLength(p));
     }
 
     @Override
     public Vector<T> takeUntil(Predicate<? super T> p) {
-        return (Vector<T>) ImmutableList.super.takeUntil(p);
+        return takeWhile(p.negate());
     }
 
     @Override
     public Vector<T> dropUntil(Predicate<? super T> p) {
-        return (Vector<T>) ImmutableList.super.dropUntil(p);
+        return dropWhile(p.negate());
+    }
+
+    private int prefixLength(Predicate<? super T> p){
+        int count = 0;
+        for(T next : this){
+            if(!p.test(next))
+                break;
+            count++;
+        }
+        return count;
     }
 
 
@@ -573,7 +562,8 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> slice(long from, long to) {
-        return (Vector<T>) ImmutableList.super.slice(from,to);
+        long start = Math.max(from,0);
+        return drop(start).take(Math.max(to-start,0));
     }
 
 
@@ -584,22 +574,24 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(T... values) {
-        return (Vector<T>) ImmutableList.super.appendAll(values);
+        return appendAll(Arrays.asList(values));
     }
 
     @Override
     public Vector<T> prependAll(T... values) {
-        return (Vector<T>) ImmutableList.super.prependAll(values);
+        return concat(of(values),this);
     }
 
     @Override
     public Vector<T> deleteBetween(int start, int end) {
-        return (Vector<T>) ImmutableList.super.deleteBetween(start,end);
+        if(start>=end || end<=0 || start>=size)
+            return this;
+        return concat(take(start),drop(end));
     }
 
     @Override
     public Vector<T> insertStreamAt(int pos, Stream<T> stream) {
-        return (Vector<T>) ImmutableList.super.insertStreamAt(pos,stream);
+        return insertAt(pos,fromStream(stream));
     }
 
 
@@ -645,24 +637,11 @@ public class Vector<T> implements ImmutableList<T>,
 
   @Override
     public <R> Vector<R> concatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
-      int newSize= 0;
-      BAMT.NestedArray<R> newRoot =new BAMT.Zero<>();
-      BAMT.ActiveTail<R> newTail = BAMT.ActiveTail.emptyTail();
+      Builder<R> builder = builder();
       for (T t : this) {
-          for(R r : fn.apply(t)) {
-
-              if(newTail.size()<32) {
-                  newTail = newTail.append(r);
-                  newSize++;
-              }else{
-                  newRoot = newRoot.append(newTail);
-                  newTail = BAMT.ActiveTail.tail(r);
-                  newSize++;
-              }
-
-          }
+          builder.addAll(fn.apply(t));
       }
-      return new Vector<R>(newRoot,newTail,newSize);
+      return builder.build();
     }
 
     public Either<Integer,Vector<T>> set(int pos, T value) {
@@ -697,6 +676,50 @@ public class Vector<T> implements ImmutableList<T>,
             return new Vector<T>(root.append(tail),BAMT.ActiveTail.tail(t),size+1);
         }
     }
+    /**
+     * Mutable builder for Vectors, elements are appended in place and build is O(1).
+     * A Builder should not be shared across threads.
+     *
+     * <pre>
+     * {@code
+     *  Vector<Integer> vec = Vector.<Integer>builder()
+     *                              .add(1)
+     *                              .addAll(Arrays.asList(2,3))
+     *                              .build();
+     *  //[1,2,3]
+     * }
+     * </pre>
+     *
+     * @param <T> Data type of the elements
+     */
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static final class Builder<T> {
+        private final BAMT.Transient<T> spine;
+
+        public Builder<T> add(T value){
+            spine.append(value);
+            return this;
+        }
+        public Builder<T> addAll(T... values){
+            for(T next : values){
+                spine.append(next);
+            }
+            return this;
+        }
+        public Builder<T> addAll(Iterable<? extends T> values){
+            spine.appendAll(values);
+            return this;
+        }
+        public Builder<T> addAll(Builder<? extends T> values){
+            return addAll(values.build());
+        }
+        public int size(){
+            return spine.size();
+        }
+        public Vector<T> build(){
+            return new Vector<>(spine.root(),spine.tail(),spine.size());
+        }
+    }
     @AllArgsConstructor
     private static final class Proxy<T> implements Serializable {
 
@@ -718,12 +741,12 @@ public class Vector<T> implements ImmutableList<T>,
         private void readObject(ObjectInputStream s) throws ClassNotFoundException, IOException {
             s.defaultReadObject();
             final int size = s.readInt();
-            Vector<T> res = empty();
+            Builder<T> res = builder();
             for (int i = 0; i < size; i++) {
                 T n = (T) s.readObject();
-                res = res.append(n);
+                res.add(n);
             }
-            v=res;
+            v=res.build();
         }
     }
 
@@ -740,29 +763,13 @@ public class Vector<T> implements ImmutableList<T>,
     public Vector<T> takeRight(int num){
         if(num<=0)
             return empty();
-        if(num>=size())
-            return this;
-        if(num==tail.size())
-            return new Vector<>(new BAMT.Zero<>(),tail,num);
-        if(num<tail.size()){
-            BAMT.ActiveTail<T> newTail = tail.takeRight(num);
-            return new Vector<>(new BAMT.Zero<>(),newTail,newTail.size());
-        }
-        return (Vector<T>)ImmutableList.super.dropRight(num);
+        return drop(size-num);
     }
 
     public Vector<T> dropRight(int num){
         if(num<=0)
             return this;
-        if(num>=size())
-            return empty();
-        if(tail.size()==1){
-            return new Vector<>(this.root,BAMT.ActiveTail.emptyTail(),size()-1).drop(num-1);
-        }
-        if(tail.size()>0){
-            return new Vector<>(this.root,tail.dropRight(num),size()-(Math.min(tail.size(),num))).dropRight(num-tail.size());
-        }
-        return unitStream(stream().dropRight(num));
+        return take(size-num);
     }
     @Override
     public Vector<T> drop(long num) {
@@ -770,10 +777,12 @@ public class Vector<T> implements ImmutableList<T>,
             return this;
         if(num>=size())
             return empty();
-        if(size()<32){
-            return new Vector<>(this.root,tail.drop((int)num),size()-(int)num);
+        int n = (int)num;
+        int tailStart = size-tail.size();
+        if(n>=tailStart){
+            return new Vector<>(new BAMT.Zero<>(),tail.drop(n-tailStart),size-n);
         }
-        return unitStream(stream().drop(num));
+        return new Vector<>(BAMT.Relaxed.relax(root).drop(n),tail,size-n);
     }
 
     @Override
@@ -782,52 +791,30 @@ public class Vector<T> implements ImmutableList<T>,
             return empty();
         if(num>=size())
             return this;
-        if(size()<32){
-            return new Vector<T>(this.root,tail.dropRight(Math.max(tail.size()-(int)num,0)),(int)num);
+        int n = (int)num;
+        int tailStart = size-tail.size();
+        if(n>=tailStart){
+            return new Vector<T>(root,tail.dropRight(size-n),n);
+        }
+        if(root instanceof BAMT.Relaxed){
+            return new Vector<T>(((BAMT.Relaxed<T>)root).take(n),BAMT.ActiveTail.emptyTail(),n);
         }
-        return unitStream(stream().take(num));
+        //keep the prefix strict by moving the (possibly partial) last leaf into the tail
+        int leaves = (n-1)>>>BAMT.NestedArray.BITS_IN_INDEX;
+        T[] lastLeaf = ((BAMT.PopulatedArray<T>)root).getNestedArrayAt(n-1);
+        BAMT.ActiveTail<T> newTail = new BAMT.ActiveTail<>(Arrays.copyOf(lastLeaf,n-(leaves<<BAMT.NestedArray.BITS_IN_INDEX)));
+        return new Vector<T>(BAMT.takeLeaves(root,leaves),newTail,n);
     }
 
     @Override
     public Vector<T> prepend(T value) {
-        return prependAll(Arrays.asList(value));
+        return concat(of(value),this);
     }
 
 
     @Override
     public Vector<T> prependAll(Iterable<? extends T> value) {
-        int newSize= 0;
-        BAMT.NestedArray<T> newRoot =new BAMT.Zero<>();
-        BAMT.ActiveTail<T> newTail = BAMT.ActiveTail.emptyTail();
-
-        for (T t : value) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-        for (T t : this) {
-
-            if(newTail.size()<32) {
-                newTail = newTail.append(t);
-                newSize++;
-            }else{
-                newRoot = newRoot.append(newTail);
-                newTail = BAMT.ActiveTail.tail(t);
-                newSize++;
-            }
-
-
-        }
-
-        return new Vector<>(newRoot,newTail,newSize);
+        return concat(fromIterable((Iterable<T>)value),this);
     }
 
     public Vector<T> append(T value) {
@@ -836,23 +823,48 @@ public class Vector<T> implements ImmutableList<T>,
 
     @Override
     public Vector<T> appendAll(Iterable<? extends T> value) {
-        int newSize= size;
-        BAMT.NestedArray<T> newRoot =root;
-        BAMT.ActiveTail<T> newTail = tail;
-        for (T t : value) {
-
-                if(newTail.size()<32) {
-                    newTail = newTail.append(t);
-                    newSize++;
-                }else{
-                    newRoot = newRoot.append(newTail);
-                    newTail = BAMT.ActiveTail.tail(t);
-                    newSize++;
-                }
-
-
+        if(value instanceof Vector){
+            return concat(this,(Vector<T>)value);
+        }
+        if(knownSize(value)<=BAMT.NestedArray.SIZE-tail.size()){
+            Vector<T> res = this;
+            for (T t : value) {
+                res = res.plus(t);
+            }
+            return res;
+        }
+        if(root instanceof BAMT.Relaxed){
+            return concat(this,fromIterable((Iterable<T>)value));
+        }
+        return new Builder<T>(new BAMT.Transient<>(root,tail)).addAll(value)
+                                                              .build();
+    }
+
+    private static int knownSize(Iterable<?> it){
+        if(it instanceof PersistentCollection)
+            return ((PersistentCollection<?>)it).size();
+        if(it instanceof Collection)
+            return ((Collection<?>)it).size();
+        return Integer.MAX_VALUE;
+    }
+
+    /*
+     * Concatenates two Vectors in O(log n) by merging their trees as a relaxed radix balanced tree,
+     * small right hand Vectors are appended to the tail instead.
+     */
+    private static <T> Vector<T> concat(Vector<T> left, Vector<T> right){
+        if(left.isEmpty())
+            return right;
+        if(right.isEmpty())
+            return left;
+        if(right.size<=BAMT.NestedArray.SIZE){
+            Vector<T> res = left;
+            for (T t : right) {
+                res = res.plus(t);
+            }
+            return res;
         }
-        return new Vector<>(newRoot,newTail,newSize);
+        return new Vector<>(BAMT.Relaxed.concat(left.root,left.tail.getNestedArrayAt(0),right.root),right.tail,left.size+right.size);
     }
     public Vector<T> subList(int start, int end){
         return drop(start).take(end-start);
@@ -80,6 +80,622 @@ public class BAMT<T> {
         }
     }
 
+    /**
+     * @param root Strict root to slice
+     * @param leaves Number of leading leaves to keep
+     * @return Strict root containing the first leaves of the supplied root, sharing all full sub-trees
+     */
+    public static <T> NestedArray<T> takeLeaves(NestedArray<T> root, int leaves){
+        if(leaves<=0)
+            return new Zero<>();
+        Relaxed<T> relaxed = Relaxed.relax(root);
+        if(relaxed.height==0)
+            return root;
+        return strict(Transient.trim((Object[])relaxed.tree,relaxed.height,leaves),relaxed.height,leaves);
+    }
+
+    private static <T> NestedArray<T> strict(Object[] trimmed, int height, int leaves){
+        while(height>0 && leaves<=1<<(NestedArray.BITS_IN_INDEX*(height-1))){
+            trimmed = (Object[])trimmed[0];
+            height--;
+        }
+        switch(height){
+            case 0:
+                return One.one((T[])trimmed);
+            case 1:
+                return Two.two((Object[][])trimmed);
+            case 2:
+                return Three.three((Object[][][])trimmed);
+            case 3:
+                return Four.four((Object[][][][])trimmed);
+            case 4:
+                return Five.five((Object[][][][][])trimmed);
+            default:
+                return Six.six((Object[][][][][][])trimmed);
+        }
+    }
+
+    /**
+     * A single owner, mutable view of a BAMT spine and tail used to bulk load Vectors.
+     * Spine arrays are allocated at full width and filled in place, so appending does not path copy.
+     * Freezing copies only the partially filled right edge of the spine and the tail, so it is O(1)
+     * with respect to the number of elements, and the Transient can continue to be appended to afterwards.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static class Transient<T>{
+        private static final int MAX_HEIGHT = 5;
+
+        private Object[] spine;
+        private int height;
+        private int leaves;
+        private Object[] tail = new Object[NestedArray.SIZE];
+        private int tailSize;
+
+        public Transient(){
+
+        }
+        public Transient(NestedArray<T> root, ActiveTail<T> activeTail){
+            if(root instanceof One){
+                spine = newLevel(1);
+                spine[0]=((One<T>)root).array;
+                height = 1;
+                leaves = 1;
+            }else if(root instanceof Two){
+                seed(((Two<T>)root).array,1);
+            }else if(root instanceof Three){
+                seed(((Three<T>)root).array,2);
+            }else if(root instanceof Four){
+                seed(((Four<T>)root).array,3);
+            }else if(root instanceof Five){
+                seed(((Five<T>)root).array,4);
+            }else if(root instanceof Six){
+                seed(((Six<T>)root).array,5);
+            }
+            System.arraycopy(activeTail.array,0,tail,0,activeTail.array.length);
+            tailSize = activeTail.array.length;
+        }
+
+        private void seed(Object[] level, int height){
+            this.spine = widen(level,height);
+            this.height = height;
+            this.leaves = countLeaves(level,height);
+        }
+
+        public Transient<T> append(T value){
+            if(tailSize==NestedArray.SIZE){
+                if(!pushLeaf(tail))
+                    return this; //BAMT is full
+                tail = new Object[NestedArray.SIZE];
+                tailSize=0;
+            }
+            tail[tailSize++]=value;
+            return this;
+        }
+
+        public Transient<T> appendAll(Iterable<? extends T> values){
+            for(T next : values){
+                append(next);
+            }
+            return this;
+        }
+
+        public int size(){
+            return (leaves<<NestedArray.BITS_IN_INDEX) + tailSize;
+        }
+
+        public ActiveTail<T> tail(){
+            return new ActiveTail<>((T[])Arrays.copyOf(tail,tailSize));
+        }
+
+        public NestedArray<T> root(){
+            if(leaves==0)
+                return new Zero<>();
+            return strict(trim(spine,height,leaves),height,leaves);
+        }
+
+        private boolean pushLeaf(Object[] leaf){
+            if(leaves==0){
+                spine = newLevel(1);
+                height = 1;
+            }else if(leaves == 1<<(NestedArray.BITS_IN_INDEX*height)){
+                if(height==MAX_HEIGHT)
+                    return false;
+                Object[] top = newLevel(height+1);
+                top[0]=spine;
+                spine = top;
+                height++;
+            }
+            Object[] node = spine;
+            for(int level=height;level>1;level--){
+                int indx = NestedArray.mask(leaves,NestedArray.BITS_IN_INDEX*(level-1));
+                Object[] child = (Object[])node[indx];
+                if(child==null){
+                    child = newLevel(level-1);
+                    node[indx]=child;
+                }
+                node = child;
+            }
+            node[NestedArray.mask(leaves)]=leaf;
+            leaves++;
+            return true;
+        }
+
+        private static Object[] newLevel(int height){
+            switch(height){
+                case 1:
+                    return new Object[NestedArray.SIZE][];
+                case 2:
+                    return new Object[NestedArray.SIZE][][];
+                case 3:
+                    return new Object[NestedArray.SIZE][][][];
+                case 4:
+                    return new Object[NestedArray.SIZE][][][][];
+                default:
+                    return new Object[NestedArray.SIZE][][][][][];
+            }
+        }
+
+        private static Object[] widen(Object[] level, int height){
+            Object[] res = Arrays.copyOf(level,NestedArray.SIZE);
+            if(height>1)
+                res[level.length-1] = widen((Object[])level[level.length-1],height-1);
+            return res;
+        }
+
+        private static int countLeaves(Object[] level, int height){
+            if(height==1)
+                return level.length;
+            return ((level.length-1)<<(NestedArray.BITS_IN_INDEX*(height-1)))
+                        + countLeaves((Object[])level[level.length-1],height-1);
+        }
+
+        private static Object[] trim(Object[] level, int height, int leaves){
+            int shift = NestedArray.BITS_IN_INDEX*(height-1);
+            int length = ((leaves-1)>>>shift)+1;
+            Object[] res = Arrays.copyOf(level,length);
+            if(height>1){
+                res[length-1] = trim((Object[])level[length-1],height-1,leaves-((length-1)<<shift));
+            }
+            return res;
+        }
+    }
+
+    /**
+     * A relaxed radix balanced (RRB) tree root. Internal nodes may carry a cumulative size table, which
+     * allows leaves and sub-trees of differing sizes to be concatenated, sliced and spliced in O(log n)
+     * while sharing all untouched sub-trees.
+     *
+     * A child of a relaxed node is either another {@link Node} or a strict (dense) BAMT array, so
+     * the spines of regular Vectors are reused as-is and indexed by radix alone. Leaves are always raw arrays.
+     *
+     * @param <T> Data type of the elements
+     */
+    public static class Relaxed<T> implements PopulatedArray<T>{
+        private static final int INVARIANT = 1;
+        private static final int EXTRAS = 2;
+
+        final Object tree;
+        final int height;
+        final int size;
+
+        Relaxed(Object tree, int height, int size) {
+            this.tree = tree;
+            this.height = height;
+            this.size = size;
+        }
+
+        static final class Node {
+            final Object[] slots;
+            final int[] sizes;
+
+            Node(Object[] slots, int[] sizes) {
+                this.slots = slots;
+                this.sizes = sizes;
+            }
+        }
+
+        /**
+         * Concatenate two trees, with the elements of the middle leaf placed between them.
+         *
+         * @param left Left hand tree
+         * @param middle Leaf to place between the trees
+         * @param right Right hand tree
+         * @return Concatenated tree
+         */
+        public static <T> NestedArray<T> concat(NestedArray<T> left, T[] middle, NestedArray<T> right){
+            Relaxed<T> l = relax(left);
+            if(middle.length>0)
+                l = l.appendLeaf(middle);
+            Relaxed<T> r = relax(right);
+            if(r.size==0)
+                return l.size==0 ? new Zero<>() : l;
+            if(l.size==0)
+                return r;
+            Node merged = concatSubTree(l.tree,l.height,r.tree,r.height);
+            int height = Math.max(l.height,r.height);
+            if(merged.slots.length==1)
+                return new Relaxed<>(merged.slots[0],height,l.size+r.size);
+            return new Relaxed<>(merged,height+1,l.size+r.size);
+
+        }
+
+        /**
+         * View any BAMT root as a Relaxed tree. Strict roots are wrapped without copying.
+         */
+        public static <T> Relaxed<T> relax(NestedArray<T> root){
+            if(root instanceof Relaxed)
+                return (Relaxed<T>)root;
+            if(root instanceof One)
+                return relaxed(((One<T>)root).array,0);
+            if(root instanceof Two)
+                return relaxed(((Two<T>)root).array,1);
+            if(root instanceof Three)
+                return relaxed(((Three<T>)root).array,2);
+            if(root instanceof Four)
+                return relaxed(((Four<T>)root).array,3);
+            if(root instanceof Five)
+                return relaxed(((Five<T>)root).array,4);
+            if(root instanceof Six)
+                return relaxed(((Six<T>)root).array,5);
+            return new Relaxed<>(null,0,0);
+        }
+        private static <T> Relaxed<T> relaxed(Object[] strict, int height){
+            return new Relaxed<>(strict,height,sizeOf(strict,height));
+        }
+
+        /**
+         * @param n Number of elements to keep from the start of this tree (0 &lt; n &lt; size)
+         * @return Tree containing the first n elements
+         */
+        public NestedArray<T> take(int n){
+            if(n<=0)
+                return new Zero<>();
+            if(n>=size)
+                return this;
+            return collapse(takeTree(tree,height,n),height,n);
+        }
+
+        /**
+         * @param n Number of elements to remove from the start of this tree (0 &lt; n &lt; size)
+         * @return Tree containing all but the first n elements
+         */
+        public NestedArray<T> drop(int n){
+            if(n<=0)
+                return this;
+            if(n>=size)
+                return new Zero<>();
+            return collapse(dropTree(tree,height,n),height,size-n);
+        }
+
+        private static <T> NestedArray<T> collapse(Object tree, int height, int size){
+            while(height>0){
+                Object[] slots = slots(tree);
+                if(slots.length!=1)
+                    break;
+                tree = slots[0];
+                height--;
+            }
+            return new Relaxed<>(tree,height,size);
+        }
+
+        private Relaxed<T> appendLeaf(T[] leaf){
+            if(tree==null)
+                return new Relaxed<>(leaf,0,leaf.length);
+            Object pushed = height==0 ? null : pushLeaf(tree,height,leaf);
+            if(pushed!=null)
+                return new Relaxed<>(pushed,height,size+leaf.length);
+            Object[] slots = {tree,newPath(leaf,height)};
+            return new Relaxed<>(makeNode(slots,height+1),height+1,size+leaf.length);
+        }
+
+        public int size(){
+            return size;
+        }
+
+        @Override
+        public NestedArray<T> append(ActiveTail<T> tail) {
+            return appendLeaf(tail.array);
+        }
+
+        @Override
+        public ReactiveSeq<T> stream() {
+            return ReactiveSeq.range(0,size)
+                              .map(i->getTree(tree,height,i));
+        }
+
+        @Override
+        public T getOrElseGet(int pos, Supplier<T> alt) {
+            if(pos<0 || pos>=size)
+                return alt.get();
+            return getTree(tree,height,pos);
+        }
+
+        @Override
+        public T getOrElse(int pos, T alt) {
+            if(pos<0 || pos>=size)
+                return alt;
+            return getTree(tree,height,pos);
+        }
+
+        @Override
+        public Option<T> get(int pos) {
+            if(pos<0 || pos>=size)
+                return Option.none();
+            return Option.of(getTree(tree,height,pos));
+        }
+
+        @Override
+        public T[] getNestedArrayAt(int pos) {
+            Object node = tree;
+            int index = pos;
+            for(int level=height;level>0;level--){
+                Object[] slots = slots(node);
+                int indx = childIndex(node,level,index);
+                index-= offset(node,level,indx);
+                node = slots[indx];
+            }
+            return (T[])node;
+        }
+
+        @Override
+        public Relaxed<T> set(int pos, T value) {
+            return new Relaxed<>(setTree(tree,height,pos,value),height,size);
+        }
+
+        @Override
+        public <R> Relaxed<R> map(Function<? super T, ? extends R> fn) {
+            return new Relaxed<>(mapTree(tree,height,fn),height,size);
+        }
+
+        private static Object[] slots(Object node){
+            return node instanceof Node ? ((Node)node).slots : (Object[])node;
+        }
+
+        private static int sizeOf(Object node, int height){
+            if(height==0)
+                return ((Object[])node).length;
+            if(node instanceof Node){
+                int[] sizes = ((Node)node).sizes;
+                return sizes[sizes.length-1];
+            }
+            Object[] strict = (Object[])node;
+            return ((strict.length-1)<<(NestedArray.BITS_IN_INDEX*height)) + sizeOf(last(strict),height-1);
+        }
+
+        private static int childIndex(Object node, int height, int index){
+            int indx = index >>> (NestedArray.BITS_IN_INDEX*height);
+            if(node instanceof Node){
+                int[] sizes = ((Node)node).sizes;
+                while(sizes[indx]<=index)
+                    indx++;
+            }
+            return indx;
+        }
+
+        private static int offset(Object node, int height, int indx){
+            if(indx==0)
+                return 0;
+            if(node instanceof Node)
+                return ((Node)node).sizes[indx-1];
+            return indx<<(NestedArray.BITS_IN_INDEX*height);
+        }
+
+        private static <T> T getTree(Object node, int height, int index){
+            for(int level=height;level>0;level--){
+                if(node instanceof Node){
+                    Node n = (Node)node;
+                    int indx = index >>> (NestedArray.BITS_IN_INDEX*level);
+                    while(n.sizes[indx]<=index)
+                        indx++;
+                    if(indx>0)
+                        index-=n.sizes[indx-1];
+                    node = n.slots[indx];
+                }else{
+                    Object[] strict = (Object[])node;
+                    for(;level>0;level--){
+                        strict = (Object[])strict[NestedArray.mask(index,NestedArray.BITS_IN_INDEX*level)];
+                    }
+                    return (T)strict[NestedArray.mask(index)];
+                }
+            }
+            return (T)((Object[])node)[index];
+        }
+
+        private static Object setTree(Object node, int height, int index, Object value){
+            if(height==0){
+                Object[] leaf = Arrays.copyOf((Object[])node,((Object[])node).length);
+                leaf[index]=value;
+                return leaf;
+            }
+            int indx = childIndex(node,height,index);
+            Object[] slots = slots(node);
+            Object[] updated = Arrays.copyOf(slots,slots.length);
+            updated[indx] = setTree(slots[indx],height-1,index-offset(node,height,indx),value);
+            return node instanceof Node ? new Node(updated,((Node)node).sizes) : updated;
+        }
+
+        private static Object mapTree(Object node, int height, Function<?,?> fn){
+            Object[] slots = slots(node);
+            Object[] res = new Object[slots.length];
+            for(int i=0;i<slots.length;i++){
+                res[i] = height==0 ? ((Function<Object,Object>)fn).apply(slots[i]) : mapTree(slots[i],height-1,fn);
+            }
+            return node instanceof Node ? new Node(res,((Node)node).sizes) : res;
+        }
+
+        private static Object takeTree(Object node, int height, int n){
+            if(height==0)
+                return Arrays.copyOf((Object[])node,n);
+            int indx = childIndex(node,height,n-1);
+            int childOffset = offset(node,height,indx);
+            Object[] slots = slots(node);
+            Object[] kept = Arrays.copyOf(slots,indx+1);
+            Object child = slots[indx];
+            if(n-childOffset < sizeOf(child,height-1))
+                kept[indx] = takeTree(child,height-1,n-childOffset);
+            if(node instanceof Node)
+                return makeNode(kept,height);
+            return kept; //a prefix of a strict array is still strict
+        }
+
+        private static Object dropTree(Object node, int height, int n){
+            if(height==0){
+                Object[] leaf = (Object[])node;
+                return Arrays.copyOfRange(leaf,n,leaf.length);
+            }
+            int indx = childIndex(node,height,n);
+            int childOffset = offset(node,height,indx);
+            Object[] slots = slots(node);
+            Object[] kept = Arrays.copyOfRange(slots,indx,slots.length,Object[].class);
+            if(n>childOffset)
+                kept[0] = dropTree(slots[indx],height-1,n-childOffset);
+            return makeNode(kept,height);
+        }
+
+        private static Object pushLeaf(Object node, int height, Object[] leaf){
+            Object[] slots = slots(node);
+            if(height>1){
+                Object pushed = pushLeaf(last(slots),height-1,leaf);
+                if(pushed!=null){
+                    Object[] updated = Arrays.copyOf(slots,slots.length,Object[].class);
+                    updated[slots.length-1]=pushed;
+                    return makeNode(updated,height);
+                }
+            }
+            if(slots.length==NestedArray.SIZE)
+                return null;
+            Object[] updated = Arrays.copyOf(slots,slots.length+1,Object[].class);
+            updated[slots.length]=newPath(leaf,height-1);
+            return makeNode(updated,height);
+        }
+
+        private static Object newPath(Object[] leaf, int height){
+            Object path = leaf;
+            for(int level=0;level<height;level++){
+                path = new Object[]{path};
+            }
+            return path;
+        }
+
+        private static Node makeNode(Object[] slots, int height){
+            int[] sizes = new int[slots.length];
+            int total = 0;
+            for(int i=0;i<slots.length;i++){
+                total+= sizeOf(slots[i],height-1);
+                sizes[i]=total;
+            }
+            return new Node(slots,sizes);
+        }
+
+        /*
+         * Returns a node one level above the higher of the two trees, with one or two children.
+         */
+        private static Node concatSubTree(Object left, int leftHeight, Object right, int rightHeight){
+            if(leftHeight>rightHeight){
+                Node mid = concatSubTree(last(slots(left)),leftHeight-1,right,rightHeight);
+                return rebalance(left,mid,null,leftHeight);
+            }
+            if(leftHeight<rightHeight){
+                Node mid = concatSubTree(left,leftHeight,slots(right)[0],rightHeight-1);
+                return rebalance(null,mid,right,rightHeight);
+            }
+            if(leftHeight==0){
+                Object[] l = (Object[])left;
+                Object[] r = (Object[])right;
+                if(l.length+r.length<=NestedArray.SIZE){
+                    Object[] merged = Arrays.copyOf(l,l.length+r.length,Object[].class);
+                    System.arraycopy(r,0,merged,l.length,r.length);
+                    return makeNode(new Object[]{merged},1);
+                }
+                return makeNode(new Object[]{left,right},1);
+            }
+            Node mid = concatSubTree(last(slots(left)),leftHeight-1,slots(right)[0],rightHeight-1);
+            return rebalance(left,mid,right,leftHeight);
+        }
+
+        private static Node rebalance(Object left, Node mid, Object right, int height){
+            Object[] l = left==null ? new Object[0] : slots(left);
+            Object[] r = right==null ? new Object[0] : slots(right);
+            int leftLength = Math.max(l.length-1,0);
+            int rightLength = Math.max(r.length-1,0);
+            Object[] all = new Object[leftLength+mid.slots.length+rightLength];
+            System.arraycopy(l,0,all,0,leftLength);
+            System.arraycopy(mid.slots,0,all,leftLength,mid.slots.length);
+            if(rightLength>0)
+                System.arraycopy(r,1,all,leftLength+mid.slots.length,rightLength);
+
+            Object[] balanced = executePlan(all,height-1);
+            if(balanced.length<=NestedArray.SIZE)
+                return makeNode(new Object[]{makeNode(balanced,height)},height+1);
+            Object[] first = Arrays.copyOf(balanced,NestedArray.SIZE);
+            Object[] second = Arrays.copyOfRange(balanced,NestedArray.SIZE,balanced.length);
+            return makeNode(new Object[]{makeNode(first,height),makeNode(second,height)},height+1);
+        }
+
+        /*
+         * Redistributes the slots of the given nodes so that the search step invariant holds,
+         * nodes that are not affected are reused.
+         */
+        private static Object[] executePlan(Object[] all, int height){
+            int[] counts = new int[all.length];
+            int total = 0;
+            for(int i=0;i<all.length;i++){
+                counts[i] = slots(all[i]).length;
+                total+=counts[i];
+            }
+            int optimal = ((total-1)/NestedArray.SIZE)+1;
+            int length = all.length;
+            int i = 0;
+            while(optimal+EXTRAS<length){
+                while(counts[i]>NestedArray.SIZE-INVARIANT){
+                    i++;
+                }
+                int remaining = counts[i];
+                do{
+                    int next = Math.min(remaining+counts[i+1],NestedArray.SIZE);
+                    remaining = remaining+counts[i+1]-next;
+                    counts[i] = next;
+                    i++;
+                }while(remaining>0);
+                for(int j=i;j<length-1;j++){
+                    counts[j]=counts[j+1];
+                }
+                length--;
+                i--;
+            }
+            if(length==all.length)
+                return all;
+
+            Object[] res = new Object[length];
+            int src = 0;
+            int offset = 0;
+            for(int j=0;j<length;j++){
+                int required = counts[j];
+                Object[] srcSlots = slots(all[src]);
+                if(offset==0 && srcSlots.length==required){
+                    res[j]=all[src++];
+                    continue;
+                }
+                Object[] buffer = new Object[required];
+                int filled = 0;
+                while(filled<required){
+                    srcSlots = slots(all[src]);
+                    int copy = Math.min(srcSlots.length-offset,required-filled);
+                    System.arraycopy(srcSlots,offset,buffer,filled,copy);
+                    filled+=copy;
+                    offset+=copy;
+                    if(offset==srcSlots.length){
+                        src++;
+                        offset=0;
+                    }
+                }
+                res[j] = height==0 ? buffer : makeNode(buffer,height);
+            }
+            return res;
+        }
+    }
+
     @AllArgsConstructor
     public static class ActiveTail<T> implements PopulatedArray<T>{
         private final int bitShiftDepth =0;
@@ -15,7 +15,11 @@ import lombok.EqualsAndHashCode;
 
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 
@@ -33,6 +37,375 @@ public final class HAMT<K, V> implements Serializable {
         return EmptyNode.Instance;
     }
 
+    /**
+     * Mutable view over a HAMT for bulk updates. Nodes created by a Transient are owned by it and are updated in place
+     * by subsequent puts / removes, nodes shared with persistent maps are path-copied on first write as usual.
+     * Once frozen the Transient hands out a new edit token, so the returned tree can never be mutated again.
+     * A Transient should not be shared across threads.
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     */
+    public static final class Transient<K, V> {
+        private Object edit = new Object();
+        private Node<K, V> root;
+
+        public Transient() {
+            this(empty());
+        }
+
+        public Transient(Node<K, V> root) {
+            this.root = root;
+        }
+
+        public Transient<K, V> put(K key, V value) {
+            root = root.plus(edit, 0, key.hashCode(), key, value);
+            return this;
+        }
+
+        public Transient<K, V> remove(K key) {
+            root = root.minus(edit, 0, key.hashCode(), key);
+            return this;
+        }
+
+        public Option<V> get(K key) {
+            return root.get(key);
+        }
+
+        public V getOrElse(K key, V alt) {
+            return root.getOrElse(key, alt);
+        }
+
+        public int size() {
+            return root.size();
+        }
+
+        public Node<K, V> freeze() {
+            edit = new Object();
+            return root;
+        }
+    }
+
+    private static final BiFunction KEEP_LEFT = (a, b) -> a;
+    private static final BiFunction KEEP_RIGHT = (a, b) -> b;
+
+    /**
+     * Structural union, where a key is present in both trees the value from the right hand side is kept.
+     * Subtrees that only occur on one side, or that are shared by both, are reused by reference.
+     */
+    public static <K, V> Node<K, V> union(Node<K, V> left, Node<K, V> right) {
+        return union(0, left, right, KEEP_RIGHT);
+    }
+
+    /**
+     * Structural union, where a key is present in both trees the values are combined with the supplied merge function
+     * (called with the left and then the right value).
+     */
+    public static <K, V> Node<K, V> union(Node<K, V> left, Node<K, V> right, BiFunction<? super V, ? super V, ? extends V> merge) {
+        return union(0, left, right, merge);
+    }
+
+    /**
+     * Structural intersection, retaining the entries on the left hand side whose keys are also present on the right
+     */
+    public static <K, V> Node<K, V> intersection(Node<K, V> left, Node<K, ?> right) {
+        return intersection(0, left, right, KEEP_LEFT);
+    }
+
+    /**
+     * Structural intersection, values for keys present in both trees are combined with the supplied merge function
+     */
+    public static <K, V> Node<K, V> intersection(Node<K, V> left, Node<K, V> right, BiFunction<? super V, ? super V, ? extends V> merge) {
+        return intersection(0, left, right, merge);
+    }
+
+    /**
+     * Structural difference, retaining the entries on the left hand side whose keys are not present on the right
+     */
+    public static <K, V> Node<K, V> difference(Node<K, V> left, Node<K, ?> right) {
+        return difference(0, left, right);
+    }
+
+    /**
+     * @return true if both trees contain the same keys mapped to equal values, identical subtrees are not traversed
+     */
+    public static <K, V> boolean equivalent(Node<K, V> left, Node<K, V> right) {
+        return equivalent(0, left, right);
+    }
+    private static <K, V> Node<K, V> union(int shift, Node<K, V> left, Node<K, V> right, BiFunction<? super V, ? super V, ? extends V> merge) {
+        if (left == right && merge == KEEP_RIGHT)
+            return left;
+        if (left.size() == 0)
+            return right;
+        if (right.size() == 0)
+            return left;
+        if (left instanceof BitsetNode && right instanceof BitsetNode) {
+            BitsetNode<K, V> l = (BitsetNode<K, V>) left;
+            BitsetNode<K, V> r = (BitsetNode<K, V>) right;
+            int leftMap = l.datamap | l.nodemap;
+            int rightMap = r.datamap | r.nodemap;
+            Slots<K, V> slots = new Slots<>(Integer.bitCount(leftMap | rightMap));
+            boolean sameAsLeft = true;
+            boolean sameAsRight = true;
+            for (int bits = leftMap | rightMap; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((rightMap & bit) == 0) {
+                    l.copySlot(bit, slots);
+                    sameAsRight = false;
+                } else if ((leftMap & bit) == 0) {
+                    r.copySlot(bit, slots);
+                    sameAsLeft = false;
+                } else if ((l.datamap & bit) != 0 && (r.datamap & bit) != 0) {
+                    int i = l.dataIndex(bit);
+                    int j = r.dataIndex(bit);
+                    if (l.hashes[i] == r.hashes[j] && Objects.equals(l.keyAt(i), r.keyAt(j))) {
+                        V value = merge.apply(l.valueAt(i), r.valueAt(j));
+                        sameAsLeft = sameAsLeft && value == l.valueAt(i);
+                        sameAsRight = sameAsRight && value == r.valueAt(j);
+                        slots.data(bit, l.hashes[i], l.keyAt(i), value);
+                    } else {
+                        slots.node(bit, BitsetNode.mergeTwo(null, shift + BITS_IN_INDEX, l.hashes[i], l.keyAt(i), l.valueAt(i),
+                                                                                      r.hashes[j], r.keyAt(j), r.valueAt(j)));
+                        sameAsLeft = false;
+                        sameAsRight = false;
+                    }
+                } else {
+                    Node<K, V> ln = l.slotAsNode(bit);
+                    Node<K, V> rn = r.slotAsNode(bit);
+                    Node<K, V> node = union(shift + BITS_IN_INDEX, ln, rn, merge);
+                    sameAsLeft = sameAsLeft && node == ln;
+                    sameAsRight = sameAsRight && node == rn;
+                    slots.node(bit, node);
+                }
+            }
+            return sameAsLeft ? left : sameAsRight ? right : slots.build();
+        }
+        if (right instanceof BitsetNode) {
+            //add the leaf entries on the left into the right hand side
+            Node<K, V> result = right;
+            int hash = leafHash(left);
+            for (Tuple2<K, V> e : leafEntries(left)) {
+                Option<V> present = right.get(shift, hash, e._1());
+                V value = present.isPresent() ? merge.apply(e._2(), present.orElse(null)) : e._2();
+                if (!present.isPresent() || value != present.orElse(null))
+                    result = result.plus(shift, hash, e._1(), value);
+            }
+            return result;
+        }
+        Node<K, V> result = left;
+        int hash = leafHash(right);
+        for (Tuple2<K, V> e : leafEntries(right)) {
+            Option<V> present = left.get(shift, hash, e._1());
+            V value = present.isPresent() ? merge.apply(present.orElse(null), e._2()) : e._2();
+            if (!present.isPresent() || value != present.orElse(null))
+                result = result.plus(shift, hash, e._1(), value);
+        }
+        return result;
+    }
+
+    private static <K, V, V2> Node<K, V> intersection(int shift, Node<K, V> left, Node<K, V2> right, BiFunction<? super V, ? super V2, ? extends V> merge) {
+        if (left == right && merge == KEEP_LEFT)
+            return left;
+        if (left.size() == 0 || right.size() == 0)
+            return EmptyNode.Instance;
+        if (left instanceof BitsetNode && right instanceof BitsetNode) {
+            BitsetNode<K, V> l = (BitsetNode<K, V>) left;
+            BitsetNode<K, V2> r = (BitsetNode<K, V2>) right;
+            int leftMap = l.datamap | l.nodemap;
+            int shared = leftMap & (r.datamap | r.nodemap);
+            Slots<K, V> slots = new Slots<>(Integer.bitCount(shared));
+            boolean sameAsLeft = shared == leftMap;
+            for (int bits = shared; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((l.datamap & bit) != 0 && (r.datamap & bit) != 0) {
+                    int i = l.dataIndex(bit);
+                    int j = r.dataIndex(bit);
+                    if (l.hashes[i] == r.hashes[j] && Objects.equals(l.keyAt(i), r.keyAt(j))) {
+                        V value = merge.apply(l.valueAt(i), r.valueAt(j));
+                        sameAsLeft = sameAsLeft && value == l.valueAt(i);
+                        slots.data(bit, l.hashes[i], l.keyAt(i), value);
+                    } else {
+                        sameAsLeft = false;
+                    }
+                } else {
+                    Node<K, V> ln = l.slotAsNode(bit);
+                    Node<K, V> node = intersection(shift + BITS_IN_INDEX, ln, r.slotAsNode(bit), merge);
+                    sameAsLeft = sameAsLeft && node == ln;
+                    slots.node(bit, node);
+                }
+            }
+            return sameAsLeft ? left : slots.build();
+        }
+        Node<K, V> result = EmptyNode.Instance;
+        if (left instanceof BitsetNode) {
+            int hash = leafHash(right);
+            for (Tuple2<K, V2> e : leafEntries(right)) {
+                Option<V> present = left.get(shift, hash, e._1());
+                if (present.isPresent())
+                    result = result.plus(shift, hash, e._1(), merge.apply(present.orElse(null), e._2()));
+            }
+            return result;
+        }
+        boolean unchanged = true;
+        int hash = leafHash(left);
+        for (Tuple2<K, V> e : leafEntries(left)) {
+            Option<V2> present = right.get(shift, hash, e._1());
+            if (present.isPresent()) {
+                V value = merge.apply(e._2(), present.orElse(null));
+                unchanged = unchanged && value == e._2();
+                result = result.plus(shift, hash, e._1(), value);
+            } else {
+                unchanged = false;
+            }
+        }
+        return unchanged ? left : result;
+    }
+
+    private static <K, V> Node<K, V> difference(int shift, Node<K, V> left, Node<K, ?> right) {
+        if (left == right)
+            return EmptyNode.Instance;
+        if (left.size() == 0 || right.size() == 0)
+            return left;
+        if (left instanceof BitsetNode && right instanceof BitsetNode) {
+            BitsetNode<K, V> l = (BitsetNode<K, V>) left;
+            BitsetNode<K, ?> r = (BitsetNode<K, ?>) right;
+            int leftMap = l.datamap | l.nodemap;
+            int rightMap = r.datamap | r.nodemap;
+            Slots<K, V> slots = new Slots<>(Integer.bitCount(leftMap));
+            boolean sameAsLeft = true;
+            for (int bits = leftMap; bits != 0; bits &= bits - 1) {
+                int bit = Integer.lowestOneBit(bits);
+                if ((rightMap & bit) == 0) {
+                    l.copySlot(bit, slots);
+                } else if ((l.datamap & bit) != 0 && (r.datamap & bit) != 0) {
+                    int i = l.dataIndex(bit);
+                    int j = r.dataIndex(bit);
+                    if (l.hashes[i] == r.hashes[j] && Objects.equals(l.keyAt(i), r.keyAt(j)))
+                        sameAsLeft = false;
+                    else
+                        l.copySlot(bit, slots);
+                } else {
+                    Node<K, V> ln = l.slotAsNode(bit);
+                    Node<K, V> node = difference(shift + BITS_IN_INDEX, ln, r.slotAsNode(bit));
+                    sameAsLeft = sameAsLeft && node == ln;
+                    slots.node(bit, node);
+                }
+            }
+            return sameAsLeft ? left : slots.build();
+        }
+        Node<K, V> result = left;
+        if (left instanceof BitsetNode) {
+            int hash = leafHash(right);
+            for (Tuple2<K, ?> e : leafEntries(right)) {
+                result = result.minus(shift, hash, e._1());
+            }
+            return result;
+        }
+        int hash = leafHash(left);
+        for (Tuple2<K, V> e : leafEntries(left)) {
+            if (right.get(shift, hash, e._1()).isPresent())
+                result = result.minus(shift, hash, e._1());
+        }
+        return result;
+    }
+
+    private static <K, V> boolean equivalent(int shift, Node<K, V> left, Node<K, V> right) {
+        if (left == right)
+            return true;
+        if (left.size() != right.size())
+            return false;
+        if (left instanceof BitsetNode && right instanceof BitsetNode) {
+            //nodes are kept in canonical form, so equal maps have identical bitmaps at every level
+            BitsetNode<K, V> l = (BitsetNode<K, V>) left;
+            BitsetNode<K, V> r = (BitsetNode<K, V>) right;
+            if (l.datamap != r.datamap || l.nodemap != r.nodemap)
+                return false;
+            for (int i = 0; i < l.hashes.length; i++) {
+                if (l.hashes[i] != r.hashes[i] || !Objects.equals(l.keyAt(i), r.keyAt(i)) || !Objects.equals(l.valueAt(i), r.valueAt(i)))
+                    return false;
+            }
+            for (int i = 0; i < l.nodeCount(); i++) {
+                if (!equivalent(shift + BITS_IN_INDEX, l.nodeAt(i), r.nodeAt(i)))
+                    return false;
+            }
+            return true;
+        }
+        Node<K, V> leaf = left instanceof BitsetNode ? right : left;
+        Node<K, V> other = leaf == left ? right : left;
+        int hash = leafHash(leaf);
+        for (Tuple2<K, V> e : leafEntries(leaf)) {
+            Option<V> present = other.get(shift, hash, e._1());
+            if (!present.isPresent() || !Objects.equals(present.orElse(null), e._2()))
+                return false;
+        }
+        return true;
+    }
+
+    private static int leafHash(Node<?, ?> leaf) {
+        return leaf instanceof ValueNode ? ((ValueNode<?, ?>) leaf).hash : ((CollisionNode<?, ?>) leaf).hash;
+    }
+
+    private static <K, V> Iterable<Tuple2<K, V>> leafEntries(Node<K, V> leaf) {
+        return leaf instanceof ValueNode ? Seq.of(((ValueNode<K, V>) leaf).unapply()) : ((CollisionNode<K, V>) leaf).bucket;
+    }
+
+    /**
+     * Accumulates the slots of a new BitsetNode in bit order, single entry sub-tries are inlined as key / value pairs
+     */
+    private static final class Slots<K, V> {
+        private int datamap;
+        private int nodemap;
+        private int size;
+        private int dataCount;
+        private int nodeCount;
+        private final int[] hashes;
+        private final Object[] data;
+        private final Node<K, V>[] nodes;
+
+        Slots(int capacity) {
+            hashes = new int[capacity];
+            data = new Object[capacity * 2];
+            nodes = new Node[capacity];
+        }
+
+        void data(int bit, int hash, K key, V value) {
+            datamap |= bit;
+            hashes[dataCount] = hash;
+            data[dataCount * 2] = key;
+            data[dataCount * 2 + 1] = value;
+            dataCount++;
+            size++;
+        }
+
+        void node(int bit, Node<K, V> node) {
+            if (node instanceof ValueNode) {
+                ValueNode<K, V> entry = (ValueNode<K, V>) node;
+                data(bit, entry.hash, entry.key, entry.value);
+            } else if (node.size() > 0) {
+                nodemap |= bit;
+                nodes[nodeCount++] = node;
+                size += node.size();
+            }
+        }
+
+        Object[] content() {
+            Object[] content = new Object[dataCount * 2 + nodeCount];
+            System.arraycopy(data, 0, content, 0, dataCount * 2);
+            System.arraycopy(nodes, 0, content, dataCount * 2, nodeCount);
+            return content;
+        }
+
+        Node<K, V> build() {
+            if (dataCount == 0 && nodeCount == 0)
+                return EmptyNode.Instance;
+            if (dataCount == 1 && nodeCount == 0)
+                return new ValueNode<>(hashes[0], (K) data[0], (V) data[1]);
+            if (dataCount == 0 && nodeCount == 1 && nodes[0] instanceof CollisionNode)
+                return nodes[0];
+            return new BitsetNode<>(datamap, nodemap, size, content(), Arrays.copyOf(hashes, dataCount), null);
+        }
+    }
+
     public interface Node<K, V> extends Serializable {
 
 
@@ -56,7 +429,14 @@ public final class HAMT<K, V> implements Serializable {
             return minus(0, key.hashCode(), key);
         }
 
-        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value);
+        default Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+            return plus(null, bitShiftDepth, hash, key, value);
+        }
+
+        /**
+         * Add a key / value pair, nodes owned by the (non-null) edit token are updated in place
+         */
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value);
 
         public Option<V> get(int bitShiftDepth, int hash, K key);
 
@@ -64,7 +444,14 @@ public final class HAMT<K, V> implements Serializable {
 
         public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt);
 
-        public Node<K, V> minus(int bitShiftDepth, int hash, K key);
+        default Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+            return minus(null, bitShiftDepth, hash, key);
+        }
+
+        /**
+         * Remove a key, nodes owned by the (non-null) edit token are updated in place
+         */
+        public Node<K, V> minus(Object edit, int bitShiftDepth, int hash, K key);
 
         int size();
 
@@ -74,6 +461,10 @@ public final class HAMT<K, V> implements Serializable {
         default ReactiveSeq<Tuple2<K, V>> streamNaturalOrder(){
             return stream();
         }
+
+        default Iterator<Tuple2<K, V>> iterator() {
+            return stream().iterator();
+        }
     }
 
 
@@ -82,7 +473,7 @@ public final class HAMT<K, V> implements Serializable {
         static final EmptyNode Instance = new EmptyNode();
 
         @Override
-        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
             return new ValueNode<>(hash, key, value);
         }
 
@@ -102,7 +493,7 @@ public final class HAMT<K, V> implements Serializable {
         }
 
         @Override
-        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+        public Node<K, V> minus(Object edit, int bitShiftDepth, int hash, K key) {
             return this;
         }
 
@@ -121,6 +512,11 @@ public final class HAMT<K, V> implements Serializable {
             return ReactiveSeq.empty();
         }
 
+        @Override
+        public Iterator<Tuple2<K, V>> iterator() {
+            return Collections.emptyIterator();
+        }
+
         public String toString() {
             return "[]";
         }
@@ -136,6 +532,9 @@ public final class HAMT<K, V> implements Serializable {
         }
     }
 
+    /**
+     * A single entry, only used as the root of a single element trie (entries are otherwise stored inline in their parent BitsetNode)
+     */
     @AllArgsConstructor
     @EqualsAndHashCode
     public static final class ValueNode<K, V> implements Node<K, V>, Deconstruct2<K, V> {
@@ -145,30 +544,12 @@ public final class HAMT<K, V> implements Serializable {
         public final V value;
 
         @Override
-        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-            ValueNode<K, V> newNode = new ValueNode<>(hash, key, value);
-            return isMatch(hash, key) ? newNode : merge(bitShiftDepth, newNode);
-        }
-
-        private Node<K, V> merge(int bitShiftDepth, ValueNode<K, V> that) {
-            //hash each merge into a collision node if hashes are the same, otherwise store in new location under a BitsetNode
-            if (hash == that.hash)
-                return new CollisionNode<>(hash, Seq.of(Tuple.tuple(key, value), that.unapply()));
-            //create new BitsetNode
-            int mask1 = BitsetNode.mask(hash, bitShiftDepth);
-            int mask2 = BitsetNode.mask(that.hash, bitShiftDepth);
-            int posThis = BitsetNode.bitpos(mask1);
-            int posThat = BitsetNode.bitpos(mask2);
-            int newBitset = posThis | posThat;
-            if (mask1 == mask2) { //collision
-                Node<K, V> merged = merge(bitShiftDepth + BITS_IN_INDEX, that);
-                return new BitsetNode<>(newBitset, 2, new Node[]{merged});
-            }
-            Node<K, V>[] ordered = mask1 < mask2 ? new Node[]{this, that} : new Node[]{that, this};
-            return new BitsetNode<>(newBitset, 2, ordered);
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            if (isMatch(hash, key))
+                return new ValueNode<>(hash, key, value);
+            return BitsetNode.mergeTwo(edit, bitShiftDepth, this.hash, this.key, this.value, hash, key, value);
         }
 
-
         @Override
         public Option<V> get(int bitShiftDepth, int hash, K key) {
             return isMatch(hash, key) ? Option.of(value) : Option.none();
@@ -189,7 +570,7 @@ public final class HAMT<K, V> implements Serializable {
         }
 
         @Override
-        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+        public Node<K, V> minus(Object edit, int bitShiftDepth, int hash, K key) {
             return isMatch(hash, key) ? EmptyNode.Instance : this;
         }
 
@@ -212,6 +593,11 @@ public final class HAMT<K, V> implements Serializable {
             return ReactiveSeq.of(Tuple.tuple(key, value));
         }
 
+        @Override
+        public Iterator<Tuple2<K, V>> iterator() {
+            return Collections.singletonList(unapply()).iterator();
+        }
+
         @Override
         public Tuple2<K, V> unapply() {
             return Tuple.tuple(key, value);
@@ -238,37 +624,32 @@ public final class HAMT<K, V> implements Serializable {
         private static final long serialVersionUID = 1L;
 
         @Override
-        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-            ImmutableList<Tuple2<K, V>> filtered = bucket.filter(t -> !Objects.equals(key, t._1()));
-
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
             if (this.hash == hash) {
+                ImmutableList<Tuple2<K, V>> filtered = bucket.filter(t -> !Objects.equals(key, t._1()));
                 return filtered.size() == 0 ? new ValueNode<>(hash, key, value) : new CollisionNode<>(hash, filtered.prepend(Tuple.tuple(key, value)));
             }
-            return merge(bitShiftDepth, hash, new ValueNode<>(hash, key, value));
+            return merge(edit, bitShiftDepth, hash, key, value);
         }
 
-        private Node<K, V> merge(int bitShiftDepth, int thatHash, Node<K, V> that) {
-            //hash each merge into a collision node if hashes are the same, otherwise store in new location under a BitsetNode
-            if (hash == thatHash)
-                return new CollisionNode<>(hash, bucket.prependAll(that.lazyList()));
-            //create new BitsetNode
+        private Node<K, V> merge(Object edit, int bitShiftDepth, int thatHash, K key, V value) {
+            //store the new entry inline in a BitsetNode next to this node, or one level down if they share the same slot
             int mask1 = BitsetNode.mask(hash, bitShiftDepth);
             int mask2 = BitsetNode.mask(thatHash, bitShiftDepth);
-            int posThis = BitsetNode.bitpos(mask1);
-            int posThat = BitsetNode.bitpos(mask2);
-            int newBitset = posThis | posThat;
-            if (mask1 == mask2) { //collision
-                Node<K, V> merged = merge(bitShiftDepth + BITS_IN_INDEX, thatHash, that);
-                return new BitsetNode<>(newBitset, 2, new Node[]{merged});
+            if (mask1 == mask2) {
+                Node<K, V> merged = merge(edit, bitShiftDepth + BITS_IN_INDEX, thatHash, key, value);
+                return new BitsetNode<>(0, BitsetNode.bitpos(mask1), size + 1, new Object[]{merged}, BitsetNode.NO_HASHES, edit);
             }
-            Node<K, V>[] ordered = mask1 < mask2 ? new Node[]{this, that} : new Node[]{that, this};
-            return new BitsetNode<>(newBitset, 2, ordered);
+            return new BitsetNode<>(BitsetNode.bitpos(mask2), BitsetNode.bitpos(mask1), size + 1, new Object[]{key, value, this}, new int[]{thatHash}, edit);
         }
 
         @Override
         public Option<V> get(int bitShiftDepth, int hash, K key) {
             if (this.hash == hash) {
-                return bucket.stream().filter(t -> Objects.equals(key, t._1())).takeOne().map(Tuple2::_2);
+                for (Tuple2<K, V> next : bucket) {
+                    if (Objects.equals(key, next._1()))
+                        return Option.some(next._2());
+                }
             }
             return Option.none();
         }
@@ -284,9 +665,18 @@ public final class HAMT<K, V> implements Serializable {
         }
 
         @Override
-        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
+        public Node<K, V> minus(Object edit, int bitShiftDepth, int hash, K key) {
             if (this.hash == hash) {
-                return new CollisionNode<>(hash, bucket.filter(t -> !Objects.equals(key, t._1())));
+                ImmutableList<Tuple2<K, V>> filtered = bucket.filter(t -> !Objects.equals(key, t._1()));
+                if (filtered.size() == size)
+                    return this;
+                if (filtered.size() == 0)
+                    return EmptyNode.Instance;
+                if (filtered.size() == 1) {
+                    Tuple2<K, V> last = filtered.getOrElse(0, null);
+                    return new ValueNode<>(hash, last._1(), last._2());
+                }
+                return new CollisionNode<>(hash, filtered);
             }
             return this;
         }
@@ -310,117 +700,314 @@ public final class HAMT<K, V> implements Serializable {
             return bucket.stream();
         }
 
+        @Override
+        public Iterator<Tuple2<K, V>> iterator() {
+            return bucket.iterator();
+        }
+
         public String toString() {
             return "[COLLISION : h:" + hash + "," + bucket.toString() + "]";
         }
     }
 
-    @AllArgsConstructor
+    /**
+     * Trie node using the CHAMP layout : entries that are alone in their slot are stored inline as key / value pairs at the
+     * start of the content array (with their hashes alongside), followed by the sub-nodes. datamap and nodemap record which
+     * slots hold inline entries and which hold sub-nodes.
+     *
+     * Nodes are kept in canonical form (a sub-trie never holds a single entry, and a lone CollisionNode is moved up to
+     * its parent) so equal maps have the same shape.
+     */
     @EqualsAndHashCode
     public static final class BitsetNode<K, V> implements Node<K, V> {
-        public final int bitset;
-        private final int size;
-        private final Node<K, V>[] nodes;
+        static final int[] NO_HASHES = new int[0];
+        private int datamap;
+        private int nodemap;
+        private int size;
+        private Object[] content;
+        private int[] hashes;
+        private final transient Object edit;
         private static final long serialVersionUID = 1L;
 
-        @Override
-        public Node<K, V> plus(int bitShiftDepth, int hash, K key, V value) {
-            int bitPos = bitpos(hash, bitShiftDepth);
-            int arrayPos = index(bitPos);
-            Node<K, V> node = (absent(bitPos) ? EmptyNode.Instance : nodes[arrayPos]).plus(bitShiftDepth + BITS_IN_INDEX, hash, key, value);
-            if (absent(bitPos)) {
-                int addedBit = bitset | bitPos;
-                Node<K, V>[] addedNodes = new Node[nodes.length + 1];
-                System.arraycopy(nodes, 0, addedNodes, 0, arrayPos);
-                addedNodes[arrayPos] = node;
-                System.arraycopy(nodes, arrayPos, addedNodes, arrayPos + 1, nodes.length - arrayPos);
-                return new BitsetNode<>(addedBit, size(addedNodes), addedNodes);
-            } else {
-                Node<K, V>[] updatedNodes = Arrays.copyOf(nodes, nodes.length);
-                updatedNodes[arrayPos] = node;
-                return new BitsetNode<>(bitset, size(updatedNodes), updatedNodes);
+        /**
+         * Create a node from the legacy layout of one child Node per set bit, ValueNodes are stored inline
+         */
+        public BitsetNode(int bitset, int size, Node<K, V>[] nodes) {
+            Slots<K, V> slots = new Slots<>(Integer.bitCount(bitset));
+            int i = 0;
+            for (int bits = bitset; bits != 0; bits &= bits - 1) {
+                slots.node(Integer.lowestOneBit(bits), nodes[i++]);
             }
+            this.datamap = slots.datamap;
+            this.nodemap = slots.nodemap;
+            this.size = slots.size;
+            this.content = slots.content();
+            this.hashes = Arrays.copyOf(slots.hashes, slots.dataCount);
+            this.edit = null;
+        }
 
+        BitsetNode(int datamap, int nodemap, int size, Object[] content, int[] hashes, Object edit) {
+            this.datamap = datamap;
+            this.nodemap = nodemap;
+            this.size = size;
+            this.content = content;
+            this.hashes = hashes;
+            this.edit = edit;
         }
 
-        static int size(Node[] n) {
-            int res = 0;
-            for (Node next : n) {
-                res = res + next.size();
+        static <K, V> Node<K, V> mergeTwo(Object edit, int shift, int hash1, K key1, V value1, int hash2, K key2, V value2) {
+            if (hash1 == hash2)
+                return new CollisionNode<>(hash1, Seq.of(Tuple.tuple(key1, value1), Tuple.tuple(key2, value2)));
+            int mask1 = mask(hash1, shift);
+            int mask2 = mask(hash2, shift);
+            if (mask1 == mask2) {
+                Node<K, V> merged = mergeTwo(edit, shift + BITS_IN_INDEX, hash1, key1, value1, hash2, key2, value2);
+                return new BitsetNode<>(0, bitpos(mask1), 2, new Object[]{merged}, NO_HASHES, edit);
             }
-            return res;
+            int datamap = bitpos(mask1) | bitpos(mask2);
+            if (mask1 < mask2)
+                return new BitsetNode<>(datamap, 0, 2, new Object[]{key1, value1, key2, value2}, new int[]{hash1, hash2}, edit);
+            return new BitsetNode<>(datamap, 0, 2, new Object[]{key2, value2, key1, value1}, new int[]{hash2, hash1}, edit);
         }
 
-        @Override
-        public Option<V> get(int bitShiftDepth, int hash, K key) {
-            int pos = bitpos(hash, bitShiftDepth);
-            return absent(pos) ? Option.none() : find(bitShiftDepth, pos, hash, key);
+        private boolean editable(Object edit) {
+            return edit != null && edit == this.edit;
         }
 
-        @Override
-        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
-            int pos = bitpos(hash, bitShiftDepth);
-            return absent(pos) ? alt : find(bitShiftDepth, pos, hash, key, alt);
+        private Node<K, V> update(Object edit, int datamap, int nodemap, int size, Object[] content, int[] hashes) {
+            if (editable(edit)) {
+                this.datamap = datamap;
+                this.nodemap = nodemap;
+                this.size = size;
+                this.content = content;
+                this.hashes = hashes;
+                return this;
+            }
+            return new BitsetNode<>(datamap, nodemap, size, content, hashes, edit);
         }
 
-        @Override
-        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
-            int pos = bitpos(hash, bitShiftDepth);
-            return absent(pos) ? alt.get() : findOrGet(bitShiftDepth, pos, hash, key, alt);
+        int dataIndex(int bit) {
+            return Integer.bitCount(datamap & (bit - 1));
         }
 
-        public boolean absent(int pos) {
-            return (bitset & pos) == 0;
+        int nodeIndex(int bit) {
+            return Integer.bitCount(nodemap & (bit - 1));
         }
 
-        private V findOrGet(int shift, int pos, int hash, K key, Supplier<? extends V> alt) {
-            return nodes[index(pos)].getOrElseGet(shift + BITS_IN_INDEX, hash, key, alt);
+        K keyAt(int i) {
+            return (K) content[i * 2];
         }
 
-        private V find(int shift, int pos, int hash, K key, V alt) {
-            return nodes[index(pos)].getOrElse(shift + BITS_IN_INDEX, hash, key, alt);
+        V valueAt(int i) {
+            return (V) content[i * 2 + 1];
         }
 
-        private Option<V> find(int shift, int pos, int hash, K key) {
-            return nodes[index(pos)].get(shift + BITS_IN_INDEX, hash, key);
+        int nodeCount() {
+            return content.length - hashes.length * 2;
         }
 
-        private Node<K, V> findNode(int pos) {
-            return nodes[index(pos)];
+        Node<K, V> nodeAt(int i) {
+            return (Node<K, V>) content[hashes.length * 2 + i];
+        }
+
+        private boolean matches(int i, int hash, K key) {
+            //check identity first so a hit on the same key instance doesn't need to load the hashes array
+            Object current = content[i * 2];
+            return current == key || (hashes[i] == hash && Objects.equals(current, key));
+        }
+
+        private Node<K, V> slotAsNode(int bit) {
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                return new ValueNode<>(hashes[i], keyAt(i), valueAt(i));
+            }
+            return nodeAt(nodeIndex(bit));
+        }
+
+        private void copySlot(int bit, Slots<K, V> slots) {
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                slots.data(bit, hashes[i], keyAt(i), valueAt(i));
+            } else {
+                slots.node(bit, nodeAt(nodeIndex(bit)));
+            }
         }
 
         @Override
-        public Node<K, V> minus(int bitShiftDepth, int hash, K key) {
-            if (nodes.length == 0)
-                return this;
-            int bitPos = bitpos(hash, bitShiftDepth);
-            int arrayPos = index(bitPos);
-            boolean absent = absent(bitPos);
-            if (absent)
+        public Node<K, V> plus(Object edit, int bitShiftDepth, int hash, K key, V value) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                K current = keyAt(i);
+                if (hashes[i] == hash && Objects.equals(current, key)) {
+                    if (editable(edit)) {
+                        content[i * 2] = key;
+                        content[i * 2 + 1] = value;
+                        return this;
+                    }
+                    Object[] updated = content.clone();
+                    updated[i * 2] = key;
+                    updated[i * 2 + 1] = value;
+                    return new BitsetNode<>(datamap, nodemap, size, updated, hashes, edit);
+                }
+                Node<K, V> merged = mergeTwo(edit, bitShiftDepth + BITS_IN_INDEX, hashes[i], current, valueAt(i), hash, key, value);
+                return migrateDataToNode(edit, bit, i, merged, size + 1);
+            }
+            if ((nodemap & bit) != 0) {
+                int j = nodeIndex(bit);
+                Node<K, V> current = nodeAt(j);
+                int currentSize = current.size();
+                Node<K, V> node = current.plus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key, value);
+                return setNode(edit, j, node, size + node.size() - currentSize);
+            }
+            int i = dataIndex(bit);
+            Object[] added = new Object[content.length + 2];
+            System.arraycopy(content, 0, added, 0, i * 2);
+            added[i * 2] = key;
+            added[i * 2 + 1] = value;
+            System.arraycopy(content, i * 2, added, i * 2 + 2, content.length - i * 2);
+            int[] addedHashes = new int[hashes.length + 1];
+            System.arraycopy(hashes, 0, addedHashes, 0, i);
+            addedHashes[i] = hash;
+            System.arraycopy(hashes, i, addedHashes, i + 1, hashes.length - i);
+            return update(edit, datamap | bit, nodemap, size + 1, added, addedHashes);
+        }
+
+        private Node<K, V> setNode(Object edit, int j, Node<K, V> node, int newSize) {
+            if (editable(edit)) {
+                content[hashes.length * 2 + j] = node;
+                size = newSize;
                 return this;
-            Node<K, V> node = nodes[arrayPos].minus(bitShiftDepth + BITS_IN_INDEX, hash, key);
+            }
+            Object[] updated = content.clone();
+            updated[hashes.length * 2 + j] = node;
+            return new BitsetNode<>(datamap, nodemap, newSize, updated, hashes, edit);
+        }
 
-            if (node instanceof EmptyNode) {
-                int removedBit = bitset & ~bitPos;
+        private Node<K, V> migrateDataToNode(Object edit, int bit, int i, Node<K, V> node, int newSize) {
+            int newNodemap = nodemap | bit;
+            int j = Integer.bitCount(newNodemap & (bit - 1));
+            int nodeStart = hashes.length * 2;
+            Object[] updated = new Object[content.length - 1];
+            System.arraycopy(content, 0, updated, 0, i * 2);
+            System.arraycopy(content, i * 2 + 2, updated, i * 2, nodeStart - i * 2 - 2);
+            System.arraycopy(content, nodeStart, updated, nodeStart - 2, j);
+            updated[nodeStart - 2 + j] = node;
+            System.arraycopy(content, nodeStart + j, updated, nodeStart - 1 + j, content.length - nodeStart - j);
+            return update(edit, datamap & ~bit, newNodemap, newSize, updated, removeHash(i));
+        }
 
-                Node<K, V>[] removedNodes = new Node[nodes.length - 1];
-                System.arraycopy(nodes, 0, removedNodes, 0, arrayPos);
-                System.arraycopy(nodes, arrayPos + 1, removedNodes, arrayPos, nodes.length - arrayPos - 1);
-                if (removedNodes.length == 1) {
-                    return removedNodes[0];
-                }
-                return new BitsetNode<>(removedBit, size(removedNodes), removedNodes);
-            } else {
-                int removedBit = bitset & ~bitPos;
+        private Node<K, V> migrateNodeToData(Object edit, int bit, int j, ValueNode<K, V> entry, int newSize) {
+            int newDatamap = datamap | bit;
+            int i = Integer.bitCount(newDatamap & (bit - 1));
+            int nodeStart = hashes.length * 2;
+            Object[] updated = new Object[content.length + 1];
+            System.arraycopy(content, 0, updated, 0, i * 2);
+            updated[i * 2] = entry.key;
+            updated[i * 2 + 1] = entry.value;
+            System.arraycopy(content, i * 2, updated, i * 2 + 2, nodeStart - i * 2);
+            System.arraycopy(content, nodeStart, updated, nodeStart + 2, j);
+            System.arraycopy(content, nodeStart + j + 1, updated, nodeStart + 2 + j, content.length - nodeStart - j - 1);
+            int[] addedHashes = new int[hashes.length + 1];
+            System.arraycopy(hashes, 0, addedHashes, 0, i);
+            addedHashes[i] = entry.hash;
+            System.arraycopy(hashes, i, addedHashes, i + 1, hashes.length - i);
+            return update(edit, newDatamap, nodemap & ~bit, newSize, updated, addedHashes);
+        }
 
+        private int[] removeHash(int i) {
+            int[] removed = new int[hashes.length - 1];
+            System.arraycopy(hashes, 0, removed, 0, i);
+            System.arraycopy(hashes, i + 1, removed, i, hashes.length - i - 1);
+            return removed;
+        }
 
-                Node<K, V>[] removedNodes = new Node[nodes.length];
-                System.arraycopy(nodes, 0, removedNodes, 0, nodes.length);
+        @Override
+        public Option<V> get(int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                return matches(i, hash, key) ? Option.of(valueAt(i)) : Option.none();
+            }
+            if ((nodemap & bit) != 0)
+                return nodeAt(nodeIndex(bit)).get(bitShiftDepth + BITS_IN_INDEX, hash, key);
+            return Option.none();
+        }
 
+        @Override
+        public V getOrElse(int bitShiftDepth, int hash, K key, V alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                return matches(i, hash, key) ? valueAt(i) : alt;
+            }
+            if ((nodemap & bit) != 0)
+                return nodeAt(nodeIndex(bit)).getOrElse(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt;
+        }
 
-                removedNodes[arrayPos] = node;
-                return new BitsetNode<>(bitset, size(removedNodes), removedNodes);
+        @Override
+        public V getOrElseGet(int bitShiftDepth, int hash, K key, Supplier<? extends V> alt) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                return matches(i, hash, key) ? valueAt(i) : alt.get();
             }
+            if ((nodemap & bit) != 0)
+                return nodeAt(nodeIndex(bit)).getOrElseGet(bitShiftDepth + BITS_IN_INDEX, hash, key, alt);
+            return alt.get();
+        }
+
+        public boolean absent(int pos) {
+            return ((datamap | nodemap) & pos) == 0;
+        }
+
+        @Override
+        public Node<K, V> minus(Object edit, int bitShiftDepth, int hash, K key) {
+            int bit = bitpos(hash, bitShiftDepth);
+            if ((datamap & bit) != 0) {
+                int i = dataIndex(bit);
+                if (hashes[i] != hash || !Objects.equals(keyAt(i), key))
+                    return this;
+                int nodes = nodeCount();
+                if (hashes.length == 1 && nodes == 0)
+                    return EmptyNode.Instance;
+                if (hashes.length == 2 && nodes == 0) {
+                    int other = 1 - i;
+                    return new ValueNode<>(hashes[other], keyAt(other), valueAt(other));
+                }
+                if (hashes.length == 1 && nodes == 1 && nodeAt(0) instanceof CollisionNode)
+                    return nodeAt(0);
+                Object[] removed = new Object[content.length - 2];
+                System.arraycopy(content, 0, removed, 0, i * 2);
+                System.arraycopy(content, i * 2 + 2, removed, i * 2, content.length - i * 2 - 2);
+                return update(edit, datamap & ~bit, nodemap, size - 1, removed, removeHash(i));
+            }
+            if ((nodemap & bit) == 0)
+                return this;
+            int j = nodeIndex(bit);
+            Node<K, V> current = nodeAt(j);
+            int currentSize = current.size();
+            Node<K, V> node = current.minus(edit, bitShiftDepth + BITS_IN_INDEX, hash, key);
+            if (node == current && node.size() == currentSize)
+                return this;
+            int newSize = size + node.size() - currentSize;
+            if (node instanceof ValueNode) {
+                //a single remaining entry is inlined into this node, or moved further up if this node has nothing else
+                if (hashes.length == 0 && nodeCount() == 1)
+                    return node;
+                return migrateNodeToData(edit, bit, j, (ValueNode<K, V>) node, newSize);
+            }
+            if (node instanceof EmptyNode) {
+                Slots<K, V> slots = new Slots<>(Integer.bitCount(datamap | nodemap));
+                for (int bits = (datamap | nodemap) & ~bit; bits != 0; bits &= bits - 1) {
+                    copySlot(Integer.lowestOneBit(bits), slots);
+                }
+                return slots.build();
+            }
+            if (node instanceof CollisionNode && hashes.length == 0 && nodeCount() == 1)
+                return node;
+            return setNode(edit, j, node, newSize);
         }
 
         @Override
@@ -430,12 +1017,17 @@ public final class HAMT<K, V> implements Serializable {
 
         @Override
         public LazySeq<Tuple2<K, V>> lazyList() {
-            return LazySeq.fromStream(stream());
+            return LazySeq.fromIterator(iterator());
         }
 
         @Override
         public ReactiveSeq<Tuple2<K, V>> stream() {
-            return ReactiveSeq.of(nodes).flatMap(n -> n.stream());
+            return ReactiveSeq.fromIterable(this::iterator);
+        }
+
+        @Override
+        public Iterator<Tuple2<K, V>> iterator() {
+            return new NodeIterator<>(this);
         }
 
         static int bitpos(int hash, int shift) {
@@ -450,19 +1042,82 @@ public final class HAMT<K, V> implements Serializable {
             return (hash >>> shift) & (SIZE - 1);
         }
 
-        int index(int bit) {
-            return Integer.bitCount(bitset & (bit - 1));
-        }
-
         @Override
         public String toString() {
-            StringBuilder s = new StringBuilder("{b:" + Integer.toBinaryString(bitset) + ",s:" + size);
-            for (Node<K, V> next : nodes) {
-                s.append("," + next.toString());
+            StringBuilder s = new StringBuilder("{d:" + Integer.toBinaryString(datamap) + ",n:" + Integer.toBinaryString(nodemap) + ",s:" + size);
+            for (int i = 0; i < hashes.length; i++) {
+                s.append(",[h:" + hashes[i] + ",k:" + keyAt(i) + ",v:" + valueAt(i) + "]");
+            }
+            for (int i = 0; i < nodeCount(); i++) {
+                s.append("," + nodeAt(i).toString());
             }
             return s.append("}").toString();
 
         }
     }
 
+    /**
+     * Depth first iterator over a trie, inline entries of a node are returned before those of its sub-nodes
+     */
+    private static final class NodeIterator<K, V> implements Iterator<Tuple2<K, V>> {
+        //hashes are 32 bits, consumed 5 at a time
+        private final BitsetNode<K, V>[] stack = new BitsetNode[8];
+        private final int[] nodeCursor = new int[8];
+        private int depth;
+        private BitsetNode<K, V> current;
+        private int dataCursor;
+        private Iterator<Tuple2<K, V>> leaf;
+
+        NodeIterator(BitsetNode<K, V> root) {
+            push(root);
+        }
+
+        private void push(BitsetNode<K, V> node) {
+            stack[depth] = node;
+            nodeCursor[depth++] = 0;
+            current = node;
+            dataCursor = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (; ; ) {
+                if (leaf != null) {
+                    if (leaf.hasNext())
+                        return true;
+                    leaf = null;
+                }
+                if (current != null) {
+                    if (dataCursor < current.hashes.length)
+                        return true;
+                    current = null;
+                }
+                if (depth == 0)
+                    return false;
+                BitsetNode<K, V> top = stack[depth - 1];
+                int j = nodeCursor[depth - 1];
+                if (j < top.nodeCount()) {
+                    nodeCursor[depth - 1]++;
+                    Node<K, V> child = top.nodeAt(j);
+                    if (child instanceof BitsetNode)
+                        push((BitsetNode<K, V>) child);
+                    else
+                        leaf = child.iterator();
+                } else {
+                    stack[--depth] = null;
+                }
+            }
+        }
+
+        @Override
+        public Tuple2<K, V> next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (leaf != null)
+                return leaf.next();
+            int i = dataCursor++;
+            return Tuple.tuple(current.keyAt(i), current.valueAt(i));
+        }
+    }
+
 }
@@ -0,0 +1,309 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Persistent bitmapped trie with primitive int keys and values (used by IntIntMap).
+ *
+ * The same layout as LongTrie : 5 bits of the key per level, entries alone in their slot are stored inline in parallel
+ * int arrays and sub-tries always hold at least two entries. Neither keys nor values are boxed.
+ */
+public final class IntIntTrie implements Serializable {
+    private static final long serialVersionUID = 1L;
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+    //32 bit keys, consumed 5 bits at a time
+    static final int MAX_DEPTH = 7;
+    private static final int[] NO_INTS = new int[0];
+    private static final IntIntTrie[] NO_NODES = new IntIntTrie[0];
+    private static final IntIntTrie EMPTY = new IntIntTrie(0, 0, 0, NO_INTS, NO_INTS, NO_NODES);
+
+    private final int datamap;
+    private final int nodemap;
+    private final int size;
+    private final int[] keys;
+    private final int[] values;
+    private final IntIntTrie[] nodes;
+
+    private IntIntTrie(int datamap, int nodemap, int size, int[] keys, int[] values, IntIntTrie[] nodes) {
+        this.datamap = datamap;
+        this.nodemap = nodemap;
+        this.size = size;
+        this.keys = keys;
+        this.values = values;
+        this.nodes = nodes;
+    }
+
+    public static IntIntTrie empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int getOrElse(int key, int alt) {
+        IntIntTrie node = this;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bitpos(key, shift);
+            if ((node.datamap & bit) != 0) {
+                int i = index(node.datamap, bit);
+                return node.keys[i] == key ? node.values[i] : alt;
+            }
+            if ((node.nodemap & bit) == 0)
+                return alt;
+            node = node.nodes[index(node.nodemap, bit)];
+        }
+    }
+
+    public Option<Integer> get(int key) {
+        return containsKey(key) ? Option.some(getOrElse(key, 0)) : Option.none();
+    }
+
+    public boolean containsKey(int key) {
+        IntIntTrie node = this;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bitpos(key, shift);
+            if ((node.datamap & bit) != 0)
+                return node.keys[index(node.datamap, bit)] == key;
+            if ((node.nodemap & bit) == 0)
+                return false;
+            node = node.nodes[index(node.nodemap, bit)];
+        }
+    }
+
+    public IntIntTrie put(int key, int value) {
+        return put(key, value, 0);
+    }
+
+    private IntIntTrie put(int key, int value, int shift) {
+        int bit = bitpos(key, shift);
+        if ((datamap & bit) != 0) {
+            int i = index(datamap, bit);
+            if (keys[i] == key) {
+                if (values[i] == value)
+                    return this;
+                int[] updated = values.clone();
+                updated[i] = value;
+                return new IntIntTrie(datamap, nodemap, size, keys, updated, nodes);
+            }
+            IntIntTrie pair = pair(keys[i], values[i], key, value, shift + BITS);
+            return new IntIntTrie(datamap & ~bit, nodemap | bit, size + 1, removeAt(keys, i), removeAt(values, i),
+                                    insertAt(nodes, index(nodemap, bit), pair));
+        }
+        if ((nodemap & bit) != 0) {
+            int j = index(nodemap, bit);
+            IntIntTrie child = nodes[j];
+            IntIntTrie updated = child.put(key, value, shift + BITS);
+            if (updated == child)
+                return this;
+            IntIntTrie[] updatedNodes = nodes.clone();
+            updatedNodes[j] = updated;
+            return new IntIntTrie(datamap, nodemap, size + updated.size - child.size, keys, values, updatedNodes);
+        }
+        int i = index(datamap, bit);
+        return new IntIntTrie(datamap | bit, nodemap, size + 1, insertAt(keys, i, key), insertAt(values, i, value), nodes);
+    }
+
+    private static IntIntTrie pair(int key1, int value1, int key2, int value2, int shift) {
+        int bit1 = bitpos(key1, shift);
+        int bit2 = bitpos(key2, shift);
+        if (bit1 == bit2)
+            return new IntIntTrie(0, bit1, 2, NO_INTS, NO_INTS, new IntIntTrie[]{pair(key1, value1, key2, value2, shift + BITS)});
+        if (Integer.compareUnsigned(bit1, bit2) < 0)
+            return new IntIntTrie(bit1 | bit2, 0, 2, new int[]{key1, key2}, new int[]{value1, value2}, NO_NODES);
+        return new IntIntTrie(bit1 | bit2, 0, 2, new int[]{key2, key1}, new int[]{value2, value1}, NO_NODES);
+    }
+
+    public IntIntTrie minus(int key) {
+        return minus(key, 0);
+    }
+
+    private IntIntTrie minus(int key, int shift) {
+        int bit = bitpos(key, shift);
+        if ((datamap & bit) != 0) {
+            int i = index(datamap, bit);
+            if (keys[i] != key)
+                return this;
+            if (size == 1)
+                return empty();
+            return new IntIntTrie(datamap & ~bit, nodemap, size - 1, removeAt(keys, i), removeAt(values, i), nodes);
+        }
+        if ((nodemap & bit) == 0)
+            return this;
+        int j = index(nodemap, bit);
+        IntIntTrie child = nodes[j];
+        IntIntTrie updated = child.minus(key, shift + BITS);
+        if (updated == child)
+            return this;
+        if (updated.size == 1) {
+            //inline the last entry of the sub-trie
+            int i = index(datamap, bit);
+            return new IntIntTrie(datamap | bit, nodemap & ~bit, size - 1, insertAt(keys, i, updated.keys[0]),
+                                    insertAt(values, i, updated.values[0]), removeAt(nodes, j));
+        }
+        IntIntTrie[] updatedNodes = nodes.clone();
+        updatedNodes[j] = updated;
+        return new IntIntTrie(datamap, nodemap, size - 1, keys, values, updatedNodes);
+    }
+
+    public <R> Iterator<R> iterator(EntryFunction<? extends R> fn) {
+        return new Walker<R>(this) {
+            @Override
+            public R next() {
+                int i = advance();
+                return fn.apply(current.keys[i], current.values[i]);
+            }
+        };
+    }
+
+    public PrimitiveIterator.OfInt keyIterator() {
+        return new IntIterator(this, true);
+    }
+
+    public PrimitiveIterator.OfInt valueIterator() {
+        return new IntIterator(this, false);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += keys[i] ^ values[i];
+        }
+        for (IntIntTrie node : nodes) {
+            hash += node.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof IntIntTrie))
+            return false;
+        IntIntTrie other = (IntIntTrie) o;
+        if (size != other.size || datamap != other.datamap || nodemap != other.nodemap || !Arrays.equals(keys, other.keys))
+            return false;
+        return Arrays.equals(values, other.values) && Arrays.equals(nodes, other.nodes);
+    }
+
+    static int bitpos(int key, int shift) {
+        return 1 << ((key >>> shift) & MASK);
+    }
+
+    static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static int[] insertAt(int[] array, int i, int value) {
+        int[] res = new int[array.length + 1];
+        System.arraycopy(array, 0, res, 0, i);
+        res[i] = value;
+        System.arraycopy(array, i, res, i + 1, array.length - i);
+        return res;
+    }
+
+    private static int[] removeAt(int[] array, int i) {
+        int[] res = new int[array.length - 1];
+        System.arraycopy(array, 0, res, 0, i);
+        System.arraycopy(array, i + 1, res, i, array.length - i - 1);
+        return res;
+    }
+
+    private static IntIntTrie[] insertAt(IntIntTrie[] array, int i, IntIntTrie value) {
+        IntIntTrie[] res = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, i, res, i + 1, array.length - i);
+        res[i] = value;
+        return res;
+    }
+
+    private static IntIntTrie[] removeAt(IntIntTrie[] array, int i) {
+        IntIntTrie[] res = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, i + 1, res, i, array.length - i - 1);
+        return res;
+    }
+
+    @FunctionalInterface
+    public interface EntryFunction<R> {
+        R apply(int key, int value);
+    }
+
+    /**
+     * Depth first walk over the trie, the inline entries of a node are visited before its sub-tries
+     */
+    private static abstract class Walker<R> implements Iterator<R> {
+        private final IntIntTrie[] stack = new IntIntTrie[MAX_DEPTH];
+        private final int[] nodeCursor = new int[MAX_DEPTH];
+        private int depth;
+        private int dataCursor;
+        IntIntTrie current;
+
+        Walker(IntIntTrie root) {
+            push(root);
+        }
+
+        private void push(IntIntTrie node) {
+            stack[depth] = node;
+            nodeCursor[depth++] = 0;
+            current = node;
+            dataCursor = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (; ; ) {
+                if (current != null) {
+                    if (dataCursor < current.keys.length)
+                        return true;
+                    current = null;
+                }
+                if (depth == 0)
+                    return false;
+                IntIntTrie top = stack[depth - 1];
+                int j = nodeCursor[depth - 1];
+                if (j < top.nodes.length) {
+                    nodeCursor[depth - 1]++;
+                    push(top.nodes[j]);
+                } else {
+                    stack[--depth] = null;
+                }
+            }
+        }
+
+        /**
+         * @return index of the next entry in current
+         */
+        int advance() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return dataCursor++;
+        }
+    }
+
+    private static final class IntIterator extends Walker<Integer> implements PrimitiveIterator.OfInt {
+        private final boolean keys;
+
+        IntIterator(IntIntTrie root, boolean keys) {
+            super(root);
+            this.keys = keys;
+        }
+
+        @Override
+        public int nextInt() {
+            int i = advance();
+            return keys ? current.keys[i] : current.values[i];
+        }
+    }
+}
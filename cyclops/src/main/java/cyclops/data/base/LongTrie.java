@@ -0,0 +1,314 @@
+package cyclops.data.base;
+
+import cyclops.control.Option;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.function.Supplier;
+
+/**
+ * Persistent bitmapped trie keyed by primitive longs (used by LongObjMap and IntObjMap).
+ *
+ * Like IntPatriciaTrie each level consumes 5 bits of the key, lowest bits first. Keys that are alone in their slot are
+ * stored inline in the keys / values arrays, slots shared by several keys point to a sub-trie. Keys are never boxed and
+ * lookups don't allocate. Sub-tries always hold at least two entries, so equal maps have the same shape.
+ */
+public final class LongTrie<V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+    static final int BITS = 5;
+    static final int MASK = (1 << BITS) - 1;
+    //64 bit keys, consumed 5 bits at a time
+    static final int MAX_DEPTH = 13;
+    private static final long[] NO_KEYS = new long[0];
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final LongTrie[] NO_NODES = new LongTrie[0];
+    private static final LongTrie EMPTY = new LongTrie(0, 0, 0, NO_KEYS, NO_VALUES, NO_NODES);
+    private static final Object NOT_FOUND = new Object();
+
+    private final int datamap;
+    private final int nodemap;
+    private final int size;
+    private final long[] keys;
+    private final Object[] values;
+    private final LongTrie<V>[] nodes;
+
+    private LongTrie(int datamap, int nodemap, int size, long[] keys, Object[] values, LongTrie<V>[] nodes) {
+        this.datamap = datamap;
+        this.nodemap = nodemap;
+        this.size = size;
+        this.keys = keys;
+        this.values = values;
+        this.nodes = nodes;
+    }
+
+    public static <V> LongTrie<V> empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public V getOrElse(long key, V alt) {
+        LongTrie<V> node = this;
+        for (int shift = 0; ; shift += BITS) {
+            int bit = bitpos(key, shift);
+            if ((node.datamap & bit) != 0) {
+                int i = index(node.datamap, bit);
+                return node.keys[i] == key ? (V) node.values[i] : alt;
+            }
+            if ((node.nodemap & bit) == 0)
+                return alt;
+            node = node.nodes[index(node.nodemap, bit)];
+        }
+    }
+
+    public Option<V> get(long key) {
+        Object value = getOrElse(key, (V) NOT_FOUND);
+        return value == NOT_FOUND ? Option.none() : Option.some((V) value);
+    }
+
+    public V getOrElseGet(long key, Supplier<? extends V> alt) {
+        Object value = getOrElse(key, (V) NOT_FOUND);
+        return value == NOT_FOUND ? alt.get() : (V) value;
+    }
+
+    public boolean containsKey(long key) {
+        return getOrElse(key, (V) NOT_FOUND) != NOT_FOUND;
+    }
+
+    public LongTrie<V> put(long key, V value) {
+        return put(key, value, 0);
+    }
+
+    private LongTrie<V> put(long key, V value, int shift) {
+        int bit = bitpos(key, shift);
+        if ((datamap & bit) != 0) {
+            int i = index(datamap, bit);
+            if (keys[i] == key) {
+                if (values[i] == value)
+                    return this;
+                Object[] updated = values.clone();
+                updated[i] = value;
+                return new LongTrie<>(datamap, nodemap, size, keys, updated, nodes);
+            }
+            LongTrie<V> pair = pair(keys[i], (V) values[i], key, value, shift + BITS);
+            return new LongTrie<>(datamap & ~bit, nodemap | bit, size + 1, removeAt(keys, i), removeAt(values, i),
+                                    insertAt(nodes, index(nodemap, bit), pair));
+        }
+        if ((nodemap & bit) != 0) {
+            int j = index(nodemap, bit);
+            LongTrie<V> child = nodes[j];
+            LongTrie<V> updated = child.put(key, value, shift + BITS);
+            if (updated == child)
+                return this;
+            LongTrie<V>[] updatedNodes = nodes.clone();
+            updatedNodes[j] = updated;
+            return new LongTrie<>(datamap, nodemap, size + updated.size - child.size, keys, values, updatedNodes);
+        }
+        int i = index(datamap, bit);
+        return new LongTrie<>(datamap | bit, nodemap, size + 1, insertAt(keys, i, key), insertAt(values, i, value), nodes);
+    }
+
+    private static <V> LongTrie<V> pair(long key1, V value1, long key2, V value2, int shift) {
+        int bit1 = bitpos(key1, shift);
+        int bit2 = bitpos(key2, shift);
+        if (bit1 == bit2)
+            return new LongTrie<>(0, bit1, 2, NO_KEYS, NO_VALUES, new LongTrie[]{pair(key1, value1, key2, value2, shift + BITS)});
+        if (Integer.compareUnsigned(bit1, bit2) < 0)
+            return new LongTrie<>(bit1 | bit2, 0, 2, new long[]{key1, key2}, new Object[]{value1, value2}, NO_NODES);
+        return new LongTrie<>(bit1 | bit2, 0, 2, new long[]{key2, key1}, new Object[]{value2, value1}, NO_NODES);
+    }
+
+    public LongTrie<V> minus(long key) {
+        return minus(key, 0);
+    }
+
+    private LongTrie<V> minus(long key, int shift) {
+        int bit = bitpos(key, shift);
+        if ((datamap & bit) != 0) {
+            int i = index(datamap, bit);
+            if (keys[i] != key)
+                return this;
+            if (size == 1)
+                return empty();
+            return new LongTrie<>(datamap & ~bit, nodemap, size - 1, removeAt(keys, i), removeAt(values, i), nodes);
+        }
+        if ((nodemap & bit) == 0)
+            return this;
+        int j = index(nodemap, bit);
+        LongTrie<V> child = nodes[j];
+        LongTrie<V> updated = child.minus(key, shift + BITS);
+        if (updated == child)
+            return this;
+        if (updated.size == 1) {
+            //inline the last entry of the sub-trie
+            int i = index(datamap, bit);
+            return new LongTrie<>(datamap | bit, nodemap & ~bit, size - 1, insertAt(keys, i, updated.keys[0]),
+                                    insertAt(values, i, updated.values[0]), removeAt(nodes, j));
+        }
+        LongTrie<V>[] updatedNodes = nodes.clone();
+        updatedNodes[j] = updated;
+        return new LongTrie<>(datamap, nodemap, size - 1, keys, values, updatedNodes);
+    }
+
+    public <R> Iterator<R> iterator(EntryFunction<? super V, ? extends R> fn) {
+        return new Walker<V, R>(this) {
+            @Override
+            public R next() {
+                int i = advance();
+                return fn.apply(current.keys[i], (V) current.values[i]);
+            }
+        };
+    }
+
+    public PrimitiveIterator.OfLong keyIterator() {
+        return new KeyIterator<>(this);
+    }
+
+    public Iterator<V> valueIterator() {
+        return new Walker<V, V>(this) {
+            @Override
+            public V next() {
+                int i = advance();
+                return (V) current.values[i];
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hash += Long.hashCode(keys[i]) ^ Objects.hashCode(values[i]);
+        }
+        for (LongTrie<V> node : nodes) {
+            hash += node.hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof LongTrie))
+            return false;
+        LongTrie<?> other = (LongTrie<?>) o;
+        if (size != other.size || datamap != other.datamap || nodemap != other.nodemap || !Arrays.equals(keys, other.keys))
+            return false;
+        return Arrays.equals(values, other.values) && Arrays.equals(nodes, other.nodes);
+    }
+
+    static int bitpos(long key, int shift) {
+        return 1 << ((int) (key >>> shift) & MASK);
+    }
+
+    static int index(int bitmap, int bit) {
+        return Integer.bitCount(bitmap & (bit - 1));
+    }
+
+    private static long[] insertAt(long[] array, int i, long value) {
+        long[] res = new long[array.length + 1];
+        System.arraycopy(array, 0, res, 0, i);
+        res[i] = value;
+        System.arraycopy(array, i, res, i + 1, array.length - i);
+        return res;
+    }
+
+    private static long[] removeAt(long[] array, int i) {
+        long[] res = new long[array.length - 1];
+        System.arraycopy(array, 0, res, 0, i);
+        System.arraycopy(array, i + 1, res, i, array.length - i - 1);
+        return res;
+    }
+
+    private static <T> T[] insertAt(T[] array, int i, T value) {
+        T[] res = Arrays.copyOf(array, array.length + 1);
+        System.arraycopy(array, i, res, i + 1, array.length - i);
+        res[i] = value;
+        return res;
+    }
+
+    private static <T> T[] removeAt(T[] array, int i) {
+        T[] res = Arrays.copyOf(array, array.length - 1);
+        System.arraycopy(array, i + 1, res, i, array.length - i - 1);
+        return res;
+    }
+
+    @FunctionalInterface
+    public interface EntryFunction<V, R> {
+        R apply(long key, V value);
+    }
+
+    /**
+     * Depth first walk over the trie, the inline entries of a node are visited before its sub-tries
+     */
+    private static abstract class Walker<V, R> implements Iterator<R> {
+        private final LongTrie<V>[] stack = new LongTrie[MAX_DEPTH];
+        private final int[] nodeCursor = new int[MAX_DEPTH];
+        private int depth;
+        private int dataCursor;
+        LongTrie<V> current;
+
+        Walker(LongTrie<V> root) {
+            push(root);
+        }
+
+        private void push(LongTrie<V> node) {
+            stack[depth] = node;
+            nodeCursor[depth++] = 0;
+            current = node;
+            dataCursor = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            for (; ; ) {
+                if (current != null) {
+                    if (dataCursor < current.keys.length)
+                        return true;
+                    current = null;
+                }
+                if (depth == 0)
+                    return false;
+                LongTrie<V> top = stack[depth - 1];
+                int j = nodeCursor[depth - 1];
+                if (j < top.nodes.length) {
+                    nodeCursor[depth - 1]++;
+                    push(top.nodes[j]);
+                } else {
+                    stack[--depth] = null;
+                }
+            }
+        }
+
+        /**
+         * @return index of the next entry in current
+         */
+        int advance() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            return dataCursor++;
+        }
+    }
+
+    private static final class KeyIterator<V> extends Walker<V, Long> implements PrimitiveIterator.OfLong {
+        KeyIterator(LongTrie<V> root) {
+            super(root);
+        }
+
+        @Override
+        public long nextLong() {
+            return current.keys[advance()];
+        }
+    }
+}
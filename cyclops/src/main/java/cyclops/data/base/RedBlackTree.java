@@ -13,10 +13,13 @@ import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.tuple.Tuple3;
 import cyclops.data.tuple.Tuple5;
-import lombok.experimental.Wither;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -30,16 +33,209 @@ public interface RedBlackTree extends Serializable{
         return Api.MatchType(root).with(Case(node->node.withBlack(true)),Case(leaf->leaf));
     }
     public static <K,V> Tree<K,V> fromStream(Comparator<? super K> comp, Stream<? extends Tuple2<? extends K, ? extends V>> stream){
-        Tree<K,V> tree[] = new Tree[1];
-        tree[0]= new Leaf(comp);
-        stream.forEach(t->{
-            tree[0] = tree[0].plus(t._1(),t._2());
-        });
-        return tree[0];
+        return fromIterator(comp,stream.iterator());
+    }
+
+    /**
+     * Build a balanced tree in linear time if the entries are supplied in ascending key order, otherwise they are sorted once first.
+     * Where keys are duplicated the last value wins, as with repeated calls to plus.
+     */
+    public static <K,V> Tree<K,V> fromIterator(Comparator<? super K> comp, Iterator<? extends Tuple2<? extends K, ? extends V>> it){
+        Object[] entries = new Object[16];
+        int size = 0;
+        boolean sorted = true;
+        while(it.hasNext()){
+            Tuple2<? extends K, ? extends V> next = it.next();
+            if(size==entries.length)
+                entries = Arrays.copyOf(entries,size * 2);
+            if(sorted && size>0 && comp.compare(((Tuple2<K,V>)entries[size-1])._1(),next._1())>=0)
+                sorted = false;
+            entries[size++]=next;
+        }
+        if(!sorted){
+            Arrays.sort(entries,0,size,(a,b)->comp.compare(((Tuple2<K,V>)a)._1(),((Tuple2<K,V>)b)._1()));
+            size = removeDuplicates(entries,size,a->((Tuple2<K,V>)a)._1(),comp);
+        }
+        return build(new Leaf<>(comp),entries,true,size);
+    }
+
+    /**
+     * Build a balanced tree mapping each value to itself, see {@link #fromIterator(Comparator, Iterator)}
+     */
+    public static <T> Tree<T,T> fromValues(Comparator<? super T> comp, Iterator<? extends T> it){
+        Object[] values = new Object[16];
+        int size = 0;
+        boolean sorted = true;
+        while(it.hasNext()){
+            T next = it.next();
+            if(size==values.length)
+                values = Arrays.copyOf(values,size * 2);
+            if(sorted && size>0 && comp.compare((T)values[size-1],next)>=0)
+                sorted = false;
+            values[size++]=next;
+        }
+        if(!sorted){
+            Arrays.sort(values,0,size,(a,b)->comp.compare((T)a,(T)b));
+            size = removeDuplicates(values,size,a->(T)a,comp);
+        }
+        return build(new Leaf<>(comp),values,false,size);
+    }
+
+    //array is sorted and stable, keep the last of each run of equal keys
+    static <K> int removeDuplicates(Object[] array, int size, Function<Object,K> key, Comparator<? super K> comp){
+        int res = 0;
+        for(int i=0;i<size;i++){
+            if(res>0 && comp.compare(key.apply(array[res-1]),key.apply(array[i]))==0)
+                array[res-1]=array[i];
+            else
+                array[res++]=array[i];
+        }
+        Arrays.fill(array,res,size,null);
+        return res;
+    }
+
+    static <K,V> Tree<K,V> build(Leaf<K,V> leaf, Object[] sorted, boolean entries, int size){
+        //nodes on the bottom level are red when it is incomplete, all others black
+        int redLevel = 0;
+        for(int m = size - 1; m >= 0; m = m / 2 - 1)
+            redLevel++;
+        return buildRange(leaf,sorted,entries,0,size-1,0,redLevel);
+    }
+
+    static <K,V> Tree<K,V> buildRange(Leaf<K,V> leaf, Object[] sorted, boolean entries, int lo, int hi, int level, int redLevel){
+        if(hi<lo)
+            return leaf;
+        int mid = (lo + hi) >>> 1;
+        Tree<K,V> left = buildRange(leaf,sorted,entries,lo,mid-1,level+1,redLevel);
+        Tree<K,V> right = buildRange(leaf,sorted,entries,mid+1,hi,level+1,redLevel);
+        K key;
+        V value;
+        if(entries){
+            Tuple2<K,V> entry = (Tuple2<K,V>)sorted[mid];
+            key = entry._1();
+            value = entry._2();
+        }else{
+            key = (K)sorted[mid];
+            value = (V)sorted[mid];
+        }
+        return new Node<>(level!=redLevel,left,right,key,value,(Comparator<K>)leaf.comp);
+    }
+
+    /**
+     * Split a tree around a key
+     *
+     * @return Tree of the keys smaller than key, the value associated with key if present and a tree of the larger keys
+     */
+    static <K,V> Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split(Tree<K,V> tree, K key){
+        if(tree.isEmpty())
+            return Tuple.tuple(tree,Option.none(),tree);
+        Node<K,V> node = (Node<K,V>)tree;
+        int compRes = node.comp.compare(node.key,key);
+        if(compRes==0)
+            return Tuple.tuple(node.left,Option.some(node.value),node.right);
+        if(compRes>0){
+            Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> res = split(node.left,key);
+            return Tuple.tuple(res._1(),res._2(),join(res._3(),node.key,node.value,node.right));
+        }
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> res = split(node.right,key);
+        return Tuple.tuple(join(node.left,node.key,node.value,res._1()),res._2(),res._3());
+    }
+
+    /**
+     * Join two trees where all keys in left are smaller than all keys in right
+     */
+    static <K,V> Tree<K,V> join(Tree<K,V> left, Tree<K,V> right){
+        if(left.isEmpty())
+            return right;
+        if(right.isEmpty())
+            return left;
+        Node<K,V> min = (Node<K,V>)right;
+        while(!min.left.isEmpty())
+            min = (Node<K,V>)min.left;
+        return join(left,min.key,min.value,right.rangeFrom(min.key,false));
+    }
+
+    /**
+     * Split / join based union, where both trees share a key the entry from the second tree is kept.
+     * Runs in O(m log(n/m + 1)) time where m is the size of the smaller tree.
+     */
+    public static <K,V> Tree<K,V> union(Tree<K,V> tree1, Tree<K,V> tree2){
+        if(tree2.isEmpty())
+            return tree1;
+        if(tree1.isEmpty())
+            return tree2;
+        Node<K,V> node = (Node<K,V>)tree2;
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split = split(tree1,node.key);
+        return join(union(split._1(),node.left),node.key,node.value,union(split._3(),node.right));
+    }
+
+    /**
+     * @return Tree of the entries in tree1 whose keys are also present in tree2
+     */
+    public static <K,V> Tree<K,V> intersection(Tree<K,V> tree1, Tree<K,V> tree2){
+        if(tree1.isEmpty())
+            return tree1;
+        if(tree2.isEmpty())
+            return new Leaf<>(tree1.comparator());
+        Node<K,V> node = (Node<K,V>)tree2;
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split = split(tree1,node.key);
+        Tree<K,V> left = intersection(split._1(),node.left);
+        Tree<K,V> right = intersection(split._3(),node.right);
+        return split._2().fold(v->join(left,node.key,v,right),()->join(left,right));
+    }
+
+    /**
+     * @return Tree of the entries in tree1 whose keys are not present in tree2
+     */
+    public static <K,V> Tree<K,V> difference(Tree<K,V> tree1, Tree<K,V> tree2){
+        if(tree1.isEmpty() || tree2.isEmpty())
+            return tree1;
+        Node<K,V> node = (Node<K,V>)tree2;
+        Tuple3<Tree<K,V>,Option<V>,Tree<K,V>> split = split(tree1,node.key);
+        return join(difference(split._1(),node.left),difference(split._3(),node.right));
     }
     public static <K,V> Tree<K,V> empty(Comparator<? super K> comp){
         return new Leaf<K,V>(comp);
     }
+
+    /**
+     * Join two trees around a pivot, all keys in left must be smaller than key and all keys in right larger.
+     * Runs in time proportional to the difference in black height of the two trees.
+     */
+    static <K,V> Tree<K,V> join(Tree<K,V> left, K key, V value, Tree<K,V> right){
+        int lh = blackHeight(left);
+        int rh = blackHeight(right);
+        if(lh>rh)
+            return rootIsBlack(joinRight(left,lh,key,value,right,rh));
+        if(rh>lh)
+            return rootIsBlack(joinLeft(left,lh,key,value,right,rh));
+        return BLACK(left,right,key,value,right.comparator());
+    }
+    static <K,V> int blackHeight(Tree<K,V> tree){
+        int height = 0;
+        Tree<K,V> next = tree;
+        while(!next.isEmpty()){
+            Node<K,V> node = (Node<K,V>)next;
+            if(node.isBlack)
+                height++;
+            next = node.left;
+        }
+        return height;
+    }
+    static <K,V> Tree<K,V> joinRight(Tree<K,V> left, int lh, K key, V value, Tree<K,V> right, int rh){
+        if(left.isEmpty() || (lh<=rh && left.isBlack()))
+            return RED(left,right,key,value,right.comparator());
+        Node<K,V> node = (Node<K,V>)left;
+        Tree<K,V> joined = joinRight(node.right,node.isBlack ? lh-1 : lh,key,value,right,rh);
+        return node.balance(node.isBlack,node.left,joined,node.key,node.value);
+    }
+    static <K,V> Tree<K,V> joinLeft(Tree<K,V> left, int lh, K key, V value, Tree<K,V> right, int rh){
+        if(right.isEmpty() || (rh<=lh && right.isBlack()))
+            return RED(left,right,key,value,left.comparator());
+        Node<K,V> node = (Node<K,V>)right;
+        Tree<K,V> joined = joinLeft(left,lh,key,value,node.left,node.isBlack ? rh-1 : rh);
+        return node.balance(node.isBlack,joined,node.right,node.key,node.value);
+    }
     public static interface Tree<K,V> extends Sealed2<Node<K,V>,Leaf<K,V>> {
 
         boolean isEmpty();
@@ -53,10 +249,72 @@ public interface RedBlackTree extends Serializable{
         Tree<K,V> plus(K key, V value);
         Tree<K,V> minus(K key);
         Comparator<? super K> comparator();
-        ReactiveSeq<Tuple2<K,V>> stream();
+        default ReactiveSeq<Tuple2<K,V>> stream(){
+            return ReactiveSeq.fromIterable(()->iterator());
+        }
+        default Iterator<Tuple2<K,V>> iterator(){
+            return iterator(Tuple::tuple);
+        }
+        /**
+         * @param fn Function to build an element from each entry
+         * @return Iterator visiting the entries in ascending key order
+         */
+        default <R> Iterator<R> iterator(BiFunction<? super K, ? super V, ? extends R> fn){
+            return new TreeIterator<>(this,false,fn);
+        }
+        /**
+         * @param fn Function to build an element from each entry
+         * @return Iterator visiting the entries in descending key order
+         */
+        default <R> Iterator<R> reverseIterator(BiFunction<? super K, ? super V, ? extends R> fn){
+            return new TreeIterator<>(this,true,fn);
+        }
+        /**
+         * @param fromKey Key to seek to
+         * @param fn Function to build an element from each entry
+         * @return Iterator visiting the entries with keys greater than or equal to fromKey in ascending order
+         */
+        default <R> Iterator<R> iterator(K fromKey, BiFunction<? super K, ? super V, ? extends R> fn){
+            return new TreeIterator<>(this,fromKey,fn);
+        }
         int size();
         String tree();
 
+        Option<Tuple2<K,V>> min();
+        Option<Tuple2<K,V>> max();
+        /**
+         * @return Greatest entry with a key less than or equal to the supplied key
+         */
+        Option<Tuple2<K,V>> floor(K key);
+        /**
+         * @return Least entry with a key greater than or equal to the supplied key
+         */
+        Option<Tuple2<K,V>> ceiling(K key);
+        /**
+         * @return Greatest entry with a key strictly less than the supplied key
+         */
+        Option<Tuple2<K,V>> lower(K key);
+        /**
+         * @return Least entry with a key strictly greater than the supplied key
+         */
+        Option<Tuple2<K,V>> higher(K key);
+        /**
+         * @return The number of keys in this tree strictly less than the supplied key
+         */
+        int rank(K key);
+        /**
+         * @return The entry at the supplied position in key order
+         */
+        Option<Tuple2<K,V>> getAt(int index);
+        /**
+         * @return A tree containing only the keys greater than (or equal to, if inclusive) the supplied key
+         */
+        Tree<K,V> rangeFrom(K key, boolean inclusive);
+        /**
+         * @return A tree containing only the keys less than (or equal to, if inclusive) the supplied key
+         */
+        Tree<K,V> rangeTo(K key, boolean inclusive);
+
 
 
 
@@ -117,8 +375,6 @@ public interface RedBlackTree extends Serializable{
         }
     }
 
-    @AllArgsConstructor
-    @Wither
     public static final class Node<K,V> implements Tree<K,V>, Deconstruct5<Boolean,Tree<K,V>,Tree<K,V>, K,V> {
         private final boolean isBlack;
         private final Tree<K,V> left;
@@ -126,9 +382,44 @@ public interface RedBlackTree extends Serializable{
         private final K key;
         private final V value;
         private final Comparator<K> comp;
+        private final int size;
 
         private static final long serialVersionUID = 1L;
 
+        public Node(boolean isBlack, Tree<K, V> left, Tree<K, V> right, K key, V value, Comparator<K> comp) {
+            this.isBlack = isBlack;
+            this.left = left;
+            this.right = right;
+            this.key = key;
+            this.value = value;
+            this.comp = comp;
+            this.size = left.size() + right.size() + 1;
+        }
+
+        public Node<K,V> withBlack(boolean isBlack){
+            return this.isBlack == isBlack ? this : new Node<>(isBlack,left,right,key,value,comp);
+        }
+        public Node<K,V> withLeft(Tree<K,V> left){
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+        public Node<K,V> withRight(Tree<K,V> right){
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+        public Node<K,V> withKey(K key){
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+        public Node<K,V> withValue(V value){
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+        public Node<K,V> withComp(Comparator<K> comp){
+            return new Node<>(isBlack,left,right,key,value,comp);
+        }
+
+        //trees serialized before sizes were cached
+        private Object readResolve(){
+            return size==0 ? new Node<>(isBlack,left,right,key,value,comp) : this;
+        }
+
 
         static <K,V> Node<K,V> RED(Tree<K,V> left, Tree<K,V> right,K key, V value,Comparator<? super K> comp){
             return new Node(false,left,right,key,value,comp);
@@ -257,14 +548,121 @@ public interface RedBlackTree extends Serializable{
         public Comparator<K> comparator() {
             return comp;
         }
-        public ReactiveSeq<Tuple2<K,V>> stream(){
-            ReactiveSeq<Tuple2<K, V>> current = ReactiveSeq.of(Tuple.tuple(key, value));
-            return ReactiveSeq.concat(left.stream(),current,right.stream());
+        @Override
+        public int size() {
+            return size;
         }
 
         @Override
-        public int size() {
-            return left.size() +right.size() +1;
+        public Option<Tuple2<K, V>> min() {
+            Node<K,V> node = this;
+            while(!node.left.isEmpty())
+                node = (Node<K,V>)node.left;
+            return Option.some(Tuple.tuple(node.key,node.value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> max() {
+            Node<K,V> node = this;
+            while(!node.right.isEmpty())
+                node = (Node<K,V>)node.right;
+            return Option.some(Tuple.tuple(node.key,node.value));
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> floor(K key) {
+            return closest(key,true,true);
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> ceiling(K key) {
+            return closest(key,false,true);
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> lower(K key) {
+            return closest(key,true,false);
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> higher(K key) {
+            return closest(key,false,false);
+        }
+
+        private Option<Tuple2<K, V>> closest(K key, boolean below, boolean inclusive){
+            Node<K,V> best = null;
+            Tree<K,V> next = this;
+            while(!next.isEmpty()){
+                Node<K,V> node = (Node<K,V>)next;
+                int compRes = comp.compare(node.key,key);
+                if(compRes==0 && inclusive)
+                    return Option.some(Tuple.tuple(node.key,node.value));
+                if(below ? compRes<0 : compRes>0){
+                    best = node;
+                    next = below ? node.right : node.left;
+                }else{
+                    next = below ? node.left : node.right;
+                }
+            }
+            return best==null ? Option.none() : Option.some(Tuple.tuple(best.key,best.value));
+        }
+
+        @Override
+        public int rank(K key) {
+            int rank = 0;
+            Tree<K,V> next = this;
+            while(!next.isEmpty()){
+                Node<K,V> node = (Node<K,V>)next;
+                int compRes = comp.compare(node.key,key);
+                if(compRes==0)
+                    return rank + node.left.size();
+                if(compRes>0) {
+                    next = node.left;
+                }else {
+                    rank += node.left.size() + 1;
+                    next = node.right;
+                }
+            }
+            return rank;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> getAt(int index) {
+            if(index<0 || index>=size)
+                return Option.none();
+            Node<K,V> node = this;
+            int i = index;
+            for(;;){
+                int leftSize = node.left.size();
+                if(i==leftSize)
+                    return Option.some(Tuple.tuple(node.key,node.value));
+                if(i<leftSize) {
+                    node = (Node<K,V>)node.left;
+                }else {
+                    i -= leftSize + 1;
+                    node = (Node<K,V>)node.right;
+                }
+            }
+        }
+
+        @Override
+        public Tree<K, V> rangeFrom(K key, boolean inclusive) {
+            int compRes = comp.compare(this.key,key);
+            if(compRes<0 || (compRes==0 && !inclusive))
+                return right.rangeFrom(key,inclusive);
+            if(compRes==0)
+                return join(new Leaf<>(comp),this.key,value,right);
+            return join(left.rangeFrom(key,inclusive),this.key,value,right);
+        }
+
+        @Override
+        public Tree<K, V> rangeTo(K key, boolean inclusive) {
+            int compRes = comp.compare(this.key,key);
+            if(compRes>0 || (compRes==0 && !inclusive))
+                return left.rangeTo(key,inclusive);
+            if(compRes==0)
+                return join(left,this.key,value,new Leaf<>(comp));
+            return join(left,this.key,value,right.rangeTo(key,inclusive));
         }
     }
     @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -311,11 +709,6 @@ public interface RedBlackTree extends Serializable{
             return comp;
         }
 
-        @Override
-        public ReactiveSeq<Tuple2<K, V>> stream() {
-            return ReactiveSeq.empty();
-        }
-
         @Override
         public int size() {
             return 0;
@@ -326,10 +719,130 @@ public interface RedBlackTree extends Serializable{
             return "{LEAF}";
         }
 
+        @Override
+        public Option<Tuple2<K, V>> min() {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> max() {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> floor(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> ceiling(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> lower(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> higher(K key) {
+            return Option.none();
+        }
+
+        @Override
+        public int rank(K key) {
+            return 0;
+        }
+
+        @Override
+        public Option<Tuple2<K, V>> getAt(int index) {
+            return Option.none();
+        }
+
+        @Override
+        public Tree<K, V> rangeFrom(K key, boolean inclusive) {
+            return this;
+        }
+
+        @Override
+        public Tree<K, V> rangeTo(K key, boolean inclusive) {
+            return this;
+        }
+
         @Override
         public <R> R fold(Function<? super Node<K, V>, ? extends R> fn1, Function<? super Leaf<K, V>, ? extends R> fn2) {
             return fn2.apply(this);
         }
 
     }
+
+    /**
+     * In-order walk over a tree using an explicit stack of the nodes whose right (or left, when descending)
+     * subtree has yet to be visited
+     */
+    public static final class TreeIterator<K,V,R> implements Iterator<R> {
+        private final boolean descending;
+        private final BiFunction<? super K, ? super V, ? extends R> fn;
+        private Node<K,V>[] stack;
+        private int depth;
+
+        TreeIterator(Tree<K,V> root, boolean descending, BiFunction<? super K, ? super V, ? extends R> fn) {
+            this.descending = descending;
+            this.fn = fn;
+            this.stack = new Node[initialCapacity(root)];
+            pushSpine(root);
+        }
+
+        TreeIterator(Tree<K,V> root, K fromKey, BiFunction<? super K, ? super V, ? extends R> fn) {
+            this.descending = false;
+            this.fn = fn;
+            this.stack = new Node[initialCapacity(root)];
+            Comparator<? super K> comp = root.comparator();
+            Tree<K,V> next = root;
+            while(!next.isEmpty()){
+                Node<K,V> node = (Node<K,V>)next;
+                if(comp.compare(node.key,fromKey)>=0){
+                    push(node);
+                    next = node.left;
+                }else{
+                    next = node.right;
+                }
+            }
+        }
+
+        private static int initialCapacity(Tree<?,?> root){
+            //a red black tree is at most 2 log2(n+1) deep
+            return 2 * (32 - Integer.numberOfLeadingZeros(root.size() + 1)) + 1;
+        }
+
+        private void push(Node<K,V> node){
+            if(depth==stack.length)
+                stack = Arrays.copyOf(stack,stack.length * 2);
+            stack[depth++] = node;
+        }
+
+        private void pushSpine(Tree<K,V> tree){
+            Tree<K,V> next = tree;
+            while(!next.isEmpty()){
+                Node<K,V> node = (Node<K,V>)next;
+                push(node);
+                next = descending ? node.right : node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return depth>0;
+        }
+
+        @Override
+        public R next() {
+            if(depth==0)
+                throw new NoSuchElementException();
+            Node<K,V> node = stack[--depth];
+            stack[depth] = null;
+            pushSpine(descending ? node.left : node.right);
+            return fn.apply(node.key,node.value);
+        }
+    }
 }
@@ -0,0 +1,676 @@
+package cyclops.data.base;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Persistent rope of chars (used by LazyString).
+ *
+ * Leaves are views onto immutable Strings, so taking a substring of a leaf never copies. Concat nodes are kept height
+ * balanced (AVL style, depth plays the role of height) so charAt, subSequence and concat are all O(log n). Mapping is
+ * lazy - a Mapped node applies its function as chars are read - and Deferred / Pending nodes postpone building the rope
+ * at all until a char level operation needs it.
+ */
+public abstract class Rope implements CharSequence, Serializable {
+    private static final long serialVersionUID = 1L;
+    //adjacent leaves shorter than this are copied into a single leaf on concatenation
+    static final int SHORT_LEAF = 64;
+
+    private static final Rope EMPTY = new Leaf("", 0, 0);
+
+    public static Rope empty() {
+        return EMPTY;
+    }
+
+    public static Rope of(String text) {
+        if (text.length() == 0)
+            return EMPTY;
+        return new Leaf(text, 0, text.length());
+    }
+
+    public static Rope of(char c) {
+        return new Leaf(String.valueOf(c), 0, 1);
+    }
+
+    /**
+     * @param chars Supplier of the Rope, evaluated once on first use
+     * @return A Rope whose structure is only built when it is first needed
+     */
+    public static Rope deferred(Supplier<? extends Rope> chars) {
+        return new Deferred(chars, null);
+    }
+
+    /**
+     * @param source Characters to build the Rope from, iterated once on first use
+     * @return A Rope whose structure is only built when it is first needed
+     */
+    public static Rope deferred(Iterable<Character> source) {
+        return new Deferred(() -> {
+            StringBuilder sb = new StringBuilder();
+            for (Character next : source) {
+                sb.append(next.charValue());
+            }
+            return of(sb.toString());
+        }, source);
+    }
+
+    @Override
+    public abstract int length();
+
+    @Override
+    public abstract char charAt(int index);
+
+    public abstract int depth();
+
+    /**
+     * @return A fresh iterator over the chars of this Rope
+     */
+    public abstract PrimitiveIterator.OfInt charIterator();
+
+    abstract void appendTo(StringBuilder sb);
+
+    /**
+     * @return This Rope with any deferred structure built
+     */
+    public Rope force() {
+        return this;
+    }
+
+    /**
+     * @return The source the Rope will be built from if it is deferred and has not been built yet, otherwise null
+     */
+    public Iterable<Character> unforcedSource() {
+        return null;
+    }
+
+    public boolean isEmpty() {
+        return length() == 0;
+    }
+
+    @Override
+    public Rope subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end)
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + length());
+        if (start == end)
+            return EMPTY;
+        if (start == 0 && end == length())
+            return this;
+        return sub(start, end);
+    }
+
+    abstract Rope sub(int start, int end);
+
+    /**
+     * @return false if this Rope is deferred and has not been built yet
+     */
+    public boolean isForced() {
+        return true;
+    }
+
+    public Rope concat(Rope right) {
+        if (!isForced() || !right.isForced())
+            return new Pending(this, right);
+        return join(force(), right.force());
+    }
+
+    /**
+     * @param fn Function to apply to each char as it is read
+     * @return Lazily mapped Rope
+     */
+    public Rope map(IntUnaryOperator fn) {
+        if (!isForced()) {
+            Rope self = this;
+            Iterable<Character> source = unforcedSource();
+            return new Deferred(() -> self.force().map(fn), source == null ? null : () -> {
+                Iterator<Character> chars = source.iterator();
+                return new Iterator<Character>() {
+                    @Override
+                    public boolean hasNext() {
+                        return chars.hasNext();
+                    }
+
+                    @Override
+                    public Character next() {
+                        return (char) fn.applyAsInt(chars.next());
+                    }
+                };
+            });
+        }
+        Rope self = force();
+        if (self.length() == 0)
+            return EMPTY;
+        return new Mapped(self, fn);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length());
+        appendTo(sb);
+        return sb.toString();
+    }
+
+    protected Object writeReplace() {
+        return of(toString());
+    }
+
+    static Rope join(Rope l, Rope r) {
+        int ll = l.length();
+        int rl = r.length();
+        if (ll == 0)
+            return r;
+        if (rl == 0)
+            return l;
+        if ((long) ll + rl > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Rope length would exceed Integer.MAX_VALUE");
+        if (ll + rl <= SHORT_LEAF && l.depth() == 0 && r.depth() == 0)
+            return merge(l, r);
+        //keep repeated single char appends / prepends from creating a leaf per char
+        if (rl < SHORT_LEAF && r.depth() == 0 && l instanceof Concat) {
+            Concat c = (Concat) l;
+            if (c.right.depth() == 0 && c.right.length() + rl <= SHORT_LEAF)
+                return join(c.left, merge(c.right, r));
+        }
+        if (ll < SHORT_LEAF && l.depth() == 0 && r instanceof Concat) {
+            Concat c = (Concat) r;
+            if (c.left.depth() == 0 && c.left.length() + ll <= SHORT_LEAF)
+                return join(merge(l, c.left), c.right);
+        }
+        int ld = l.depth();
+        int rd = r.depth();
+        if (ld > rd + 1)
+            return joinRight(asConcat(l), r);
+        if (rd > ld + 1)
+            return joinLeft(l, asConcat(r));
+        return new Concat(l, r);
+    }
+
+    private static Rope joinRight(Concat l, Rope r) {
+        Rope t = join(l.right, r);
+        int hl = l.left.depth();
+        if (t.depth() <= hl + 1) {
+            //merging short leaves can leave t a level lower than l.right
+            if (hl > t.depth() + 1)
+                return join(l.left, t);
+            return new Concat(l.left, t);
+        }
+        Concat tc = asConcat(t);
+        if (tc.right.depth() >= tc.left.depth())
+            return new Concat(new Concat(l.left, tc.left), tc.right);
+        Concat tl = asConcat(tc.left);
+        return new Concat(new Concat(l.left, tl.left), new Concat(tl.right, tc.right));
+    }
+
+    private static Rope joinLeft(Rope l, Concat r) {
+        Rope t = join(l, r.left);
+        int hr = r.right.depth();
+        if (t.depth() <= hr + 1) {
+            if (hr > t.depth() + 1)
+                return join(t, r.right);
+            return new Concat(t, r.right);
+        }
+        Concat tc = asConcat(t);
+        if (tc.left.depth() >= tc.right.depth())
+            return new Concat(tc.left, new Concat(tc.right, r.right));
+        Concat tr = asConcat(tc.right);
+        return new Concat(new Concat(tc.left, tr.left), new Concat(tr.right, r.right));
+    }
+
+    //only called on nodes with depth > 0, mapping is pushed down a level so the node can be rotated
+    private static Concat asConcat(Rope node) {
+        if (node instanceof Concat)
+            return (Concat) node;
+        Mapped m = (Mapped) node;
+        Concat c = asConcat(m.child);
+        return new Concat(c.left.map(m.fn), c.right.map(m.fn));
+    }
+
+    private static Rope merge(Rope l, Rope r) {
+        StringBuilder sb = new StringBuilder(l.length() + r.length());
+        l.appendTo(sb);
+        r.appendTo(sb);
+        return of(sb.toString());
+    }
+
+    static final class Leaf extends Rope {
+        private static final long serialVersionUID = 1L;
+        private final String text;
+        private final int offset;
+        private final int length;
+
+        Leaf(String text, int offset, int length) {
+            this.text = text;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            return text.charAt(offset + index);
+        }
+
+        @Override
+        public int depth() {
+            return 0;
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            return new Leaf(text, offset + start, end - start);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt charIterator() {
+            return new PrimitiveIterator.OfInt() {
+                int index = offset;
+                final int end = offset + length;
+
+                @Override
+                public int nextInt() {
+                    if (index >= end)
+                        throw new NoSuchElementException();
+                    return text.charAt(index++);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return index < end;
+                }
+            };
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            sb.append(text, offset, offset + length);
+        }
+
+        @Override
+        public String toString() {
+            if (offset == 0 && length == text.length())
+                return text;
+            return text.substring(offset, offset + length);
+        }
+
+        @Override
+        protected Object writeReplace() {
+            if (offset == 0 && length == text.length())
+                return this;
+            return of(toString());
+        }
+    }
+
+    static final class Concat extends Rope {
+        private static final long serialVersionUID = 1L;
+        private final Rope left;
+        private final Rope right;
+        private final int length;
+        private final int depth;
+
+        Concat(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+            this.length = left.length() + right.length();
+            this.depth = Math.max(left.depth(), right.depth()) + 1;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length)
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+            Rope node = this;
+            while (node instanceof Concat) {
+                Concat c = (Concat) node;
+                int ll = c.left.length();
+                if (index < ll) {
+                    node = c.left;
+                } else {
+                    node = c.right;
+                    index -= ll;
+                }
+            }
+            return node.charAt(index);
+        }
+
+        @Override
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            int ll = left.length();
+            if (end <= ll)
+                return left.subSequence(start, end);
+            if (start >= ll)
+                return right.subSequence(start - ll, end - ll);
+            return join(left.subSequence(start, ll), right.subSequence(0, end - ll));
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt charIterator() {
+            return new PrimitiveIterator.OfInt() {
+                final Deque<Rope> stack = new ArrayDeque<>(depth + 1);
+                PrimitiveIterator.OfInt current = advance(Concat.this);
+
+                private PrimitiveIterator.OfInt advance(Rope node) {
+                    while (node instanceof Concat) {
+                        Concat c = (Concat) node;
+                        stack.push(c.right);
+                        node = c.left;
+                    }
+                    return node.charIterator();
+                }
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext()) {
+                        if (stack.isEmpty())
+                            return false;
+                        current = advance(stack.pop());
+                    }
+                    return true;
+                }
+
+                @Override
+                public int nextInt() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return current.nextInt();
+                }
+            };
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            left.appendTo(sb);
+            right.appendTo(sb);
+        }
+    }
+
+    static final class Mapped extends Rope {
+        private static final long serialVersionUID = 1L;
+        private final Rope child;
+        private final IntUnaryOperator fn;
+
+        Mapped(Rope child, IntUnaryOperator fn) {
+            this.child = child;
+            this.fn = fn;
+        }
+
+        @Override
+        public int length() {
+            return child.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) fn.applyAsInt(child.charAt(index));
+        }
+
+        @Override
+        public int depth() {
+            return child.depth();
+        }
+
+        @Override
+        public Rope map(IntUnaryOperator next) {
+            return new Mapped(child, fn.andThen(next));
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            return new Mapped(child.subSequence(start, end), fn);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt charIterator() {
+            PrimitiveIterator.OfInt it = child.charIterator();
+            return new PrimitiveIterator.OfInt() {
+                @Override
+                public int nextInt() {
+                    return (char) fn.applyAsInt(it.nextInt());
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+            };
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            PrimitiveIterator.OfInt it = child.charIterator();
+            while (it.hasNext()) {
+                sb.append((char) fn.applyAsInt(it.nextInt()));
+            }
+        }
+    }
+
+    /*
+     * A concatenation with at least one unforced side. Nested Pending nodes are walked with an explicit stack, so a
+     * long run of appends to an unforced Rope is forced (or iterated) without recursing once per append.
+     */
+    static final class Pending extends Rope {
+        private static final long serialVersionUID = 1L;
+        private volatile Rope left;
+        private volatile Rope right;
+        private volatile Rope forced;
+
+        Pending(Rope left, Rope right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        //pushes the children of an unforced Pending node (right first), returns false if it has been forced
+        private boolean pushChildren(Deque<Rope> stack) {
+            Rope l = left;
+            Rope r = right;
+            if (forced != null || l == null || r == null)
+                return false;
+            stack.push(r);
+            stack.push(l);
+            return true;
+        }
+
+        @Override
+        public Rope force() {
+            Rope res = forced;
+            if (res == null) {
+                synchronized (this) {
+                    res = forced;
+                    if (res == null) {
+                        res = EMPTY;
+                        Deque<Rope> stack = new ArrayDeque<>();
+                        stack.push(this);
+                        while (!stack.isEmpty()) {
+                            Rope next = stack.pop();
+                            if (!(next instanceof Pending) || !((Pending) next).pushChildren(stack))
+                                res = join(res, next.force());
+                        }
+                        forced = res;
+                        left = null;
+                        right = null;
+                    }
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public boolean isForced() {
+            return forced != null;
+        }
+
+        @Override
+        public Iterable<Character> unforcedSource() {
+            if (forced != null)
+                return null;
+            return () -> new Iterator<Character>() {
+                final Deque<Rope> parts = new ArrayDeque<>();
+                Iterator<Character> current = Collections.emptyIterator();
+
+                {
+                    parts.push(Pending.this);
+                }
+
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext()) {
+                        if (parts.isEmpty())
+                            return false;
+                        Rope next = parts.pop();
+                        if (next instanceof Pending && ((Pending) next).pushChildren(parts))
+                            continue;
+                        Iterable<Character> source = next.unforcedSource();
+                        current = source != null ? source.iterator() : boxed(next.force().charIterator());
+                    }
+                    return true;
+                }
+
+                @Override
+                public Character next() {
+                    if (!hasNext())
+                        throw new NoSuchElementException();
+                    return current.next();
+                }
+            };
+        }
+
+        private static Iterator<Character> boxed(PrimitiveIterator.OfInt chars) {
+            return new Iterator<Character>() {
+                @Override
+                public boolean hasNext() {
+                    return chars.hasNext();
+                }
+
+                @Override
+                public Character next() {
+                    return (char) chars.nextInt();
+                }
+            };
+        }
+
+        @Override
+        public int length() {
+            return force().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return force().charAt(index);
+        }
+
+        @Override
+        public int depth() {
+            return force().depth();
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            return force().sub(start, end);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt charIterator() {
+            return force().charIterator();
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            force().appendTo(sb);
+        }
+    }
+
+    static final class Deferred extends Rope {
+        private static final long serialVersionUID = 1L;
+        private Supplier<? extends Rope> thunk;
+        private volatile Iterable<Character> source;
+        private volatile Rope forced;
+
+        Deferred(Supplier<? extends Rope> thunk, Iterable<Character> source) {
+            this.thunk = thunk;
+            this.source = source;
+        }
+
+        @Override
+        public Rope force() {
+            Rope res = forced;
+            if (res == null) {
+                synchronized (this) {
+                    res = forced;
+                    if (res == null) {
+                        res = thunk.get().force();
+                        forced = res;
+                        thunk = null;
+                        source = null;
+                    }
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public boolean isForced() {
+            return forced != null;
+        }
+
+        @Override
+        public Iterable<Character> unforcedSource() {
+            return forced == null ? source : null;
+        }
+
+        @Override
+        public int length() {
+            return force().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return force().charAt(index);
+        }
+
+        @Override
+        public int depth() {
+            return force().depth();
+        }
+
+        @Override
+        Rope sub(int start, int end) {
+            return force().sub(start, end);
+        }
+
+        @Override
+        public PrimitiveIterator.OfInt charIterator() {
+            return force().charIterator();
+        }
+
+        @Override
+        void appendTo(StringBuilder sb) {
+            force().appendTo(sb);
+        }
+
+        @Override
+        public String toString() {
+            return force().toString();
+        }
+    }
+}
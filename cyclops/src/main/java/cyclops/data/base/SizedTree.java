@@ -0,0 +1,582 @@
+package cyclops.data.base;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * A 2-3 finger tree (Hinze and Paterson) measured by size, the spine of {@link cyclops.data.FingerTree}.
+ *
+ * Elements at the top level are stored directly, deeper levels store 2-3 nodes that cache the number of elements
+ * beneath them. Adding or removing at either end is amortized O(1) (the middle tree is only touched when a digit
+ * overflows or underflows) and O(log n) in the worst case, concatenation, splitting and indexing are O(log n).
+ *
+ * Elements are untyped here, the typed view is provided by FingerTree.
+ */
+public abstract class SizedTree {
+
+    private static final SizedTree EMPTY = new Empty();
+
+    public static SizedTree empty() {
+        return EMPTY;
+    }
+
+    public static SizedTree of(Object value) {
+        return new Single(value);
+    }
+
+    /**
+     * @return Number of elements in this tree
+     */
+    public abstract int size();
+
+    public boolean isEmpty() {
+        return size()==0;
+    }
+
+    public abstract SizedTree prepend(Object value);
+
+    public abstract SizedTree append(Object value);
+
+    /**
+     * @return The first element, this tree must not be empty
+     */
+    public abstract Object head();
+
+    /**
+     * @return The last element, this tree must not be empty
+     */
+    public abstract Object last();
+
+    /**
+     * @return This tree without its first element, this tree must not be empty
+     */
+    public abstract SizedTree tail();
+
+    /**
+     * @return This tree without its last element, this tree must not be empty
+     */
+    public abstract SizedTree init();
+
+    public abstract SizedTree map(Function<Object,Object> fn);
+
+    public abstract SizedTree reverse();
+
+    public static SizedTree concat(SizedTree left, SizedTree right) {
+        return app3(left, NO_ITEMS, right);
+    }
+
+    /**
+     * @param index Position of the element, 0 &lt;= index &lt; size()
+     * @return The element at index
+     */
+    public Object get(int index) {
+        SizedTree tree = this;
+        int i = index;
+        for(;;) {
+            if (tree instanceof Single) {
+                return lookup(((Single) tree).value, i);
+            }
+            Deep deep = (Deep) tree;
+            int sizePrefix = sizeOf(deep.prefix);
+            if (i < sizePrefix)
+                return lookup(deep.prefix, i);
+            i -= sizePrefix;
+            SizedTree middle = deep.middle;
+            if (i < middle.size()) {
+                tree = middle;
+            } else {
+                return lookup(deep.suffix, i - middle.size());
+            }
+        }
+    }
+
+    /**
+     * Split this tree into the first index elements and the rest
+     *
+     * @param index Number of elements to keep on the left
+     * @return Two element array of the left and right trees
+     */
+    public SizedTree[] split(int index) {
+        if (index <= 0)
+            return new SizedTree[]{EMPTY, this};
+        if (index >= size())
+            return new SizedTree[]{this, EMPTY};
+        Split split = splitTree(this, index);
+        return new SizedTree[]{split.left, split.right.prepend(split.value)};
+    }
+
+    public Iterator<Object> iterator() {
+        return new TreeIterator(this);
+    }
+
+    private static final Object[] NO_ITEMS = new Object[0];
+
+    static int size(Object item) {
+        return item instanceof Node ? ((Node) item).size : 1;
+    }
+
+    static int sizeOf(Object[] items) {
+        int size = 0;
+        for (Object next : items) {
+            size += size(next);
+        }
+        return size;
+    }
+
+    private static Object lookup(Object item, int index) {
+        Object next = item;
+        int i = index;
+        while (next instanceof Node) {
+            Object[] items = ((Node) next).items;
+            int j = 0;
+            int s;
+            while (i >= (s = size(items[j]))) {
+                i -= s;
+                j++;
+            }
+            next = items[j];
+        }
+        return next;
+    }
+
+    private static Object lookup(Object[] digit, int index) {
+        int i = index;
+        for (Object next : digit) {
+            int s = size(next);
+            if (i < s)
+                return lookup(next, i);
+            i -= s;
+        }
+        throw new IndexOutOfBoundsException(""+index);
+    }
+
+    private static Object[] items(Object node) {
+        return ((Node) node).items;
+    }
+
+    private static SizedTree fromDigit(Object[] digit) {
+        SizedTree res = EMPTY;
+        for (Object next : digit) {
+            res = res.append(next);
+        }
+        return res;
+    }
+
+    /*
+     * A deep tree whose prefix may be empty, borrows a node from the middle (or collapses) to restore the invariant
+     */
+    private static SizedTree deepL(Object[] prefix, SizedTree middle, Object[] suffix) {
+        if (prefix.length > 0)
+            return new Deep(prefix, middle, suffix);
+        if (middle.isEmpty())
+            return fromDigit(suffix);
+        return new Deep(items(middle.head()), middle.tail(), suffix);
+    }
+
+    private static SizedTree deepR(Object[] prefix, SizedTree middle, Object[] suffix) {
+        if (suffix.length > 0)
+            return new Deep(prefix, middle, suffix);
+        if (middle.isEmpty())
+            return fromDigit(prefix);
+        return new Deep(prefix, middle.init(), items(middle.last()));
+    }
+
+    private static SizedTree app3(SizedTree left, Object[] items, SizedTree right) {
+        if (left instanceof Empty) {
+            SizedTree res = right;
+            for (int i = items.length - 1; i >= 0; i--) {
+                res = res.prepend(items[i]);
+            }
+            return res;
+        }
+        if (right instanceof Empty) {
+            SizedTree res = left;
+            for (Object next : items) {
+                res = res.append(next);
+            }
+            return res;
+        }
+        if (left instanceof Single) {
+            return app3(EMPTY, items, right).prepend(((Single) left).value);
+        }
+        if (right instanceof Single) {
+            return app3(left, items, EMPTY).append(((Single) right).value);
+        }
+        Deep l = (Deep) left;
+        Deep r = (Deep) right;
+        Object[] all = new Object[l.suffix.length + items.length + r.prefix.length];
+        System.arraycopy(l.suffix, 0, all, 0, l.suffix.length);
+        System.arraycopy(items, 0, all, l.suffix.length, items.length);
+        System.arraycopy(r.prefix, 0, all, l.suffix.length + items.length, r.prefix.length);
+        return new Deep(l.size + r.size + sizeOf(items), l.prefix, app3(l.middle, nodes(all), r.middle), r.suffix);
+    }
+
+    /*
+     * Packs 2 to 12 items into 2-3 nodes, preferring 3 nodes
+     */
+    private static Object[] nodes(Object[] all) {
+        int n = all.length;
+        int count = (n + 2) / 3;
+        Object[] res = new Object[count];
+        int pos = 0;
+        for (int i = 0; i < count; i++) {
+            int remaining = n - pos;
+            int take = remaining == 4 || remaining == 2 ? 2 : 3;
+            res[i] = new Node(Arrays.copyOfRange(all, pos, pos + take));
+            pos += take;
+        }
+        return res;
+    }
+
+    private static final class Split {
+        final SizedTree left;
+        final Object value;
+        final SizedTree right;
+
+        Split(SizedTree left, Object value, SizedTree right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+        }
+    }
+
+    /*
+     * Splits a non-empty tree around the item that contains the element at index
+     */
+    private static Split splitTree(SizedTree tree, int index) {
+        if (tree instanceof Single)
+            return new Split(EMPTY, ((Single) tree).value, EMPTY);
+        Deep deep = (Deep) tree;
+        int sizePrefix = sizeOf(deep.prefix);
+        if (index < sizePrefix) {
+            int j = splitPoint(deep.prefix, index);
+            return new Split(fromDigit(Arrays.copyOfRange(deep.prefix, 0, j)), deep.prefix[j],
+                             deepL(Arrays.copyOfRange(deep.prefix, j + 1, deep.prefix.length), deep.middle, deep.suffix));
+        }
+        SizedTree middle = deep.middle;
+        int sizeMiddle = sizePrefix + middle.size();
+        if (index < sizeMiddle) {
+            Split m = splitTree(middle, index - sizePrefix);
+            Object[] node = items(m.value);
+            int j = splitPoint(node, index - sizePrefix - m.left.size());
+            return new Split(deepR(deep.prefix, m.left, Arrays.copyOfRange(node, 0, j)), node[j],
+                             deepL(Arrays.copyOfRange(node, j + 1, node.length), m.right, deep.suffix));
+        }
+        int j = splitPoint(deep.suffix, index - sizeMiddle);
+        return new Split(deepR(deep.prefix, middle, Arrays.copyOfRange(deep.suffix, 0, j)), deep.suffix[j],
+                         fromDigit(Arrays.copyOfRange(deep.suffix, j + 1, deep.suffix.length)));
+    }
+
+    private static int splitPoint(Object[] items, int index) {
+        int i = index;
+        for (int j = 0; j < items.length - 1; j++) {
+            int s = size(items[j]);
+            if (i < s)
+                return j;
+            i -= s;
+        }
+        return items.length - 1;
+    }
+
+    private static Object mapItem(Object item, Function<Object,Object> fn) {
+        if (item instanceof Node) {
+            Node node = (Node) item;
+            Object[] items = new Object[node.items.length];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = mapItem(node.items[i], fn);
+            }
+            return new Node(node.size, items);
+        }
+        return fn.apply(item);
+    }
+
+    private static Object[] mapDigit(Object[] digit, Function<Object,Object> fn) {
+        Object[] res = new Object[digit.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = mapItem(digit[i], fn);
+        }
+        return res;
+    }
+
+    private static Object reverseItem(Object item) {
+        if (item instanceof Node) {
+            Node node = (Node) item;
+            return new Node(node.size, reverseDigit(node.items));
+        }
+        return item;
+    }
+
+    private static Object[] reverseDigit(Object[] digit) {
+        Object[] res = new Object[digit.length];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = reverseItem(digit[digit.length - 1 - i]);
+        }
+        return res;
+    }
+
+    static final class Node {
+        final int size;
+        final Object[] items;
+
+        Node(Object[] items) {
+            this(sizeOf(items), items);
+        }
+
+        Node(int size, Object[] items) {
+            this.size = size;
+            this.items = items;
+        }
+    }
+
+    static final class Empty extends SizedTree {
+
+        @Override
+        public int size() {
+            return 0;
+        }
+
+        @Override
+        public SizedTree prepend(Object value) {
+            return new Single(value);
+        }
+
+        @Override
+        public SizedTree append(Object value) {
+            return new Single(value);
+        }
+
+        @Override
+        public Object head() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public Object last() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public SizedTree tail() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public SizedTree init() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public SizedTree map(Function<Object, Object> fn) {
+            return this;
+        }
+
+        @Override
+        public SizedTree reverse() {
+            return this;
+        }
+    }
+
+    static final class Single extends SizedTree {
+        final Object value;
+
+        Single(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public int size() {
+            return size(value);
+        }
+
+        @Override
+        public SizedTree prepend(Object value) {
+            return new Deep(new Object[]{value}, EMPTY, new Object[]{this.value});
+        }
+
+        @Override
+        public SizedTree append(Object value) {
+            return new Deep(new Object[]{this.value}, EMPTY, new Object[]{value});
+        }
+
+        @Override
+        public Object head() {
+            return value;
+        }
+
+        @Override
+        public Object last() {
+            return value;
+        }
+
+        @Override
+        public SizedTree tail() {
+            return EMPTY;
+        }
+
+        @Override
+        public SizedTree init() {
+            return EMPTY;
+        }
+
+        @Override
+        public SizedTree map(Function<Object, Object> fn) {
+            return new Single(mapItem(value, fn));
+        }
+
+        @Override
+        public SizedTree reverse() {
+            return new Single(reverseItem(value));
+        }
+    }
+
+    static final class Deep extends SizedTree {
+        final int size;
+        final Object[] prefix;
+        final SizedTree middle;
+        final Object[] suffix;
+
+        Deep(Object[] prefix, SizedTree middle, Object[] suffix) {
+            this(sizeOf(prefix) + middle.size() + sizeOf(suffix), prefix, middle, suffix);
+        }
+
+        Deep(int size, Object[] prefix, SizedTree middle, Object[] suffix) {
+            this.size = size;
+            this.prefix = prefix;
+            this.middle = middle;
+            this.suffix = suffix;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public SizedTree prepend(Object value) {
+            int newSize = size + size(value);
+            if (prefix.length < 4) {
+                Object[] newPrefix = new Object[prefix.length + 1];
+                newPrefix[0] = value;
+                System.arraycopy(prefix, 0, newPrefix, 1, prefix.length);
+                return new Deep(newSize, newPrefix, middle, suffix);
+            }
+            Node node = new Node(new Object[]{prefix[1], prefix[2], prefix[3]});
+            return new Deep(newSize, new Object[]{value, prefix[0]}, middle.prepend(node), suffix);
+        }
+
+        @Override
+        public SizedTree append(Object value) {
+            int newSize = size + size(value);
+            if (suffix.length < 4) {
+                Object[] newSuffix = Arrays.copyOf(suffix, suffix.length + 1);
+                newSuffix[suffix.length] = value;
+                return new Deep(newSize, prefix, middle, newSuffix);
+            }
+            Node node = new Node(new Object[]{suffix[0], suffix[1], suffix[2]});
+            return new Deep(newSize, prefix, middle.append(node), new Object[]{suffix[3], value});
+        }
+
+        @Override
+        public Object head() {
+            return prefix[0];
+        }
+
+        @Override
+        public Object last() {
+            return suffix[suffix.length - 1];
+        }
+
+        @Override
+        public SizedTree tail() {
+            if (prefix.length > 1)
+                return new Deep(size - size(prefix[0]), Arrays.copyOfRange(prefix, 1, prefix.length), middle, suffix);
+            if (middle.isEmpty())
+                return fromDigit(suffix);
+            return new Deep(size - size(prefix[0]), items(middle.head()), middle.tail(), suffix);
+        }
+
+        @Override
+        public SizedTree init() {
+            int lastSize = size(suffix[suffix.length - 1]);
+            if (suffix.length > 1)
+                return new Deep(size - lastSize, prefix, middle, Arrays.copyOf(suffix, suffix.length - 1));
+            if (middle.isEmpty())
+                return fromDigit(prefix);
+            return new Deep(size - lastSize, prefix, middle.init(), items(middle.last()));
+        }
+
+        @Override
+        public SizedTree map(Function<Object, Object> fn) {
+            return new Deep(size, mapDigit(prefix, fn), middle.map(fn), mapDigit(suffix, fn));
+        }
+
+        @Override
+        public SizedTree reverse() {
+            return new Deep(size, reverseDigit(suffix), middle.reverse(), reverseDigit(prefix));
+        }
+    }
+
+    /*
+     * Walks the tree with an explicit stack of trees and digit / node frames, only frames and trees are pushed
+     * so elements of any type (including null) are returned as is.
+     */
+    private static final class TreeIterator implements Iterator<Object> {
+        private final ArrayDeque<Object> stack = new ArrayDeque<>();
+
+        TreeIterator(SizedTree root) {
+            stack.push(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!stack.isEmpty()) {
+                Object top = stack.peek();
+                if (top instanceof Frame) {
+                    if (((Frame) top).hasNext())
+                        return true;
+                    stack.pop();
+                    continue;
+                }
+                stack.pop();
+                if (top instanceof Deep) {
+                    Deep deep = (Deep) top;
+                    stack.push(new Frame(deep.suffix));
+                    stack.push(deep.middle);
+                    stack.push(new Frame(deep.prefix));
+                } else if (top instanceof Single) {
+                    stack.push(new Frame(new Object[]{((Single) top).value}));
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Object next() {
+            for (;;) {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+                Frame frame = (Frame) stack.peek();
+                Object item = frame.items[frame.pos++];
+                if (!(item instanceof Node))
+                    return item;
+                stack.push(new Frame(((Node) item).items));
+            }
+        }
+    }
+
+    private static final class Frame {
+        final Object[] items;
+        int pos;
+
+        Frame(Object[] items) {
+            this.items = items;
+        }
+
+        boolean hasNext() {
+            return pos < items.length;
+        }
+    }
+}
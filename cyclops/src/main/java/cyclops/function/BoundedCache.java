@@ -0,0 +1,546 @@
+package cyclops.function;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntBiFunction;
+
+/**
+ * A bounded, concurrent {@link Cacheable} for use with {@link Memoize} and {@link FluentFunctions}. The cache can be
+ * limited by entry count or by total weight, entries can expire a fixed time after they were written or last read,
+ * and hit / miss / eviction counts are available via {@link #stats()}.
+ *
+ * Two eviction policies are supported
+ * <ul>
+ *     <li>LRU : the least recently used entry is evicted</li>
+ *     <li>TINY_LFU (the default) : new entries enter a small LRU window (1% of the capacity), entries leaving the
+ *     window only displace the least recently used entry of the main region if a frequency sketch says they have been
+ *     requested more often. This keeps frequently used entries cached through bursts of one-off keys.</li>
+ * </ul>
+ *
+ * Each key is loaded at most once at a time, concurrent callers for a key that is being loaded wait for the result.
+ * Reads only reorder the eviction queues when the policy lock is free, so under heavy contention recency is
+ * approximate. Expired entries are removed when they are read or when they reach the eviction end of a queue.
+ *
+ * <pre>
+ * {@code
+ *   BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+ *                                             .maximumSize(10_000)
+ *                                             .expireAfterWrite(10, TimeUnit.MINUTES)
+ *                                             .build();
+ *   Function1<Integer,Integer> fn = Memoize.memoizeFunction(this::expensive,cache);
+ *
+ *   cache.stats();
+ *   //Stats[hits=.., misses=.., evictions=..]
+ * }
+ * </pre>
+ *
+ * @param <OUT> Type of the cached values
+ */
+public final class BoundedCache<OUT> implements Cacheable<OUT> {
+
+    public enum Eviction { LRU, TINY_LFU }
+
+    private static final byte NONE = 0;
+    private static final byte WINDOW = 1;
+    private static final byte MAIN = 2;
+
+    private final ConcurrentHashMap<Object, Node<OUT>> map = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final ToIntBiFunction<Object, ? super OUT> weigher;
+    private final long expireAfterWriteNanos;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier ticker;
+    private final FrequencySketch sketch;
+
+    private final Queue<OUT> window = new Queue<>();
+    private final Queue<OUT> main = new Queue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private BoundedCache(Builder<OUT> builder) {
+        this.maximumWeight = builder.maximumWeight;
+        this.weigher = builder.weigher;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.expireAfterAccessNanos = builder.expireAfterAccessNanos;
+        this.ticker = builder.ticker;
+        if (builder.eviction == Eviction.TINY_LFU && maximumWeight != Long.MAX_VALUE) {
+            this.windowMaximum = Math.max(1, maximumWeight / 100);
+            this.sketch = new FrequencySketch(maximumWeight);
+        } else {
+            this.windowMaximum = 0;
+            this.sketch = null;
+        }
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @return A size bounded cache using the TinyLFU policy
+     */
+    public static <OUT> BoundedCache<OUT> tinyLfu(long maximumSize) {
+        return BoundedCache.<OUT>builder().maximumSize(maximumSize)
+                                          .build();
+    }
+
+    /**
+     * @param maximumSize Maximum number of cached entries
+     * @return A size bounded cache that evicts the least recently used entry
+     */
+    public static <OUT> BoundedCache<OUT> lru(long maximumSize) {
+        return BoundedCache.<OUT>builder().maximumSize(maximumSize)
+                                          .eviction(Eviction.LRU)
+                                          .build();
+    }
+
+    public static <OUT> Builder<OUT> builder() {
+        return new Builder<>();
+    }
+
+    @Override
+    public OUT computeIfAbsent(Object key, Function<Object, OUT> fn) throws Throwable {
+        for (;;) {
+            long now = ticker.getAsLong();
+            Node<OUT> node = map.get(key);
+            if (node != null) {
+                if (node.isExpired(now, expireAfterWriteNanos, expireAfterAccessNanos)) {
+                    if (map.remove(key, node))
+                        removed(node);
+                    continue;
+                }
+                hits.increment();
+                if (expireAfterAccessNanos > 0)
+                    node.accessTime = now;
+                afterRead(node);
+                return node.await();
+            }
+            Node<OUT> created = new Node<>(key);
+            if (map.putIfAbsent(key, created) != null)
+                continue;
+            misses.increment();
+            OUT value;
+            try {
+                value = fn.apply(key);
+            } catch (Throwable t) {
+                map.remove(key, created);
+                created.fail(t);
+                throw t;
+            }
+            created.complete(value, weigher.applyAsInt(key, value), now);
+            afterWrite(created);
+            return value;
+        }
+    }
+
+    /**
+     * Remove the entry for the supplied key, if present
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(Object key) {
+        Node<OUT> node = map.remove(key);
+        if (node != null)
+            removed(node);
+    }
+
+    public void invalidateAll() {
+        for (Object key : map.keySet()) {
+            invalidate(key);
+        }
+    }
+
+    /**
+     * @return Number of cached entries (including any that have expired but have not been removed yet)
+     */
+    public long size() {
+        return map.size();
+    }
+
+    /**
+     * @return Total weight of the cached entries, equal to the size when no weigher has been configured
+     */
+    public long weightedSize() {
+        lock.lock();
+        try {
+            return window.weight + main.weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return A snapshot of the hit, miss and eviction counts of this cache
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private void afterRead(Node<OUT> node) {
+        if (!lock.tryLock())
+            return;
+        try {
+            if (sketch != null)
+                sketch.increment(node.key);
+            if (node.queue == WINDOW)
+                window.moveToHead(node);
+            else if (node.queue == MAIN)
+                main.moveToHead(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void afterWrite(Node<OUT> node) {
+        lock.lock();
+        try {
+            if (map.get(node.key) != node)
+                return;
+            if (sketch != null) {
+                sketch.increment(node.key);
+                window.addToHead(node, WINDOW);
+            } else {
+                main.addToHead(node, MAIN);
+            }
+            expire(window);
+            expire(main);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void removed(Node<OUT> node) {
+        lock.lock();
+        try {
+            unlink(node);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unlink(Node<OUT> node) {
+        if (node.queue == WINDOW)
+            window.remove(node);
+        else if (node.queue == MAIN)
+            main.remove(node);
+    }
+
+    private void evictNode(Node<OUT> node) {
+        unlink(node);
+        if (map.remove(node.key, node))
+            evictions.increment();
+    }
+
+    private void expire(Queue<OUT> queue) {
+        if (expireAfterWriteNanos == 0 && expireAfterAccessNanos == 0)
+            return;
+        long now = ticker.getAsLong();
+        while (queue.tail != null && queue.tail.isExpired(now, expireAfterWriteNanos, expireAfterAccessNanos)) {
+            evictNode(queue.tail);
+        }
+    }
+
+    private void evict() {
+        if (sketch == null) {
+            while (main.weight > maximumWeight && main.tail != null) {
+                evictNode(main.tail);
+            }
+            return;
+        }
+        while (window.weight > windowMaximum && window.tail != null) {
+            Node<OUT> candidate = window.tail;
+            window.remove(candidate);
+            main.addToHead(candidate, MAIN);
+            while (window.weight + main.weight > maximumWeight && candidate.queue == MAIN) {
+                Node<OUT> victim = main.tail;
+                if (victim == candidate || sketch.frequency(candidate.key) <= sketch.frequency(victim.key))
+                    evictNode(candidate);
+                else
+                    evictNode(victim);
+            }
+        }
+        while (window.weight + main.weight > maximumWeight) {
+            evictNode(main.tail != null ? main.tail : window.tail);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the cache statistics
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        public double hitRate() {
+            long requests = requestCount();
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "Stats[hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + "]";
+        }
+    }
+
+    public static final class Builder<OUT> {
+        private long maximumWeight = Long.MAX_VALUE;
+        private ToIntBiFunction<Object, ? super OUT> weigher = (k, v) -> 1;
+        private long expireAfterWriteNanos;
+        private long expireAfterAccessNanos;
+        private LongSupplier ticker = System::nanoTime;
+        private Eviction eviction = Eviction.TINY_LFU;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize Maximum number of entries
+         * @return This Builder
+         */
+        public Builder<OUT> maximumSize(long maximumSize) {
+            if (maximumSize < 0)
+                throw new IllegalArgumentException("maximumSize must not be negative " + maximumSize);
+            this.maximumWeight = maximumSize;
+            this.weigher = (k, v) -> 1;
+            return this;
+        }
+
+        /**
+         * @param maximumWeight Maximum total weight of the cached entries
+         * @param weigher Computes the (non-negative) weight of an entry when it is loaded
+         * @return This Builder
+         */
+        public Builder<OUT> maximumWeight(long maximumWeight, ToIntBiFunction<Object, ? super OUT> weigher) {
+            if (maximumWeight < 0)
+                throw new IllegalArgumentException("maximumWeight must not be negative " + maximumWeight);
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        public Builder<OUT> expireAfterWrite(long duration, TimeUnit unit) {
+            this.expireAfterWriteNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<OUT> expireAfterAccess(long duration, TimeUnit unit) {
+            this.expireAfterAccessNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        public Builder<OUT> eviction(Eviction eviction) {
+            this.eviction = eviction;
+            return this;
+        }
+
+        /**
+         * @param ticker Source of nano second timestamps used for expiry (System::nanoTime by default)
+         * @return This Builder
+         */
+        public Builder<OUT> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        public BoundedCache<OUT> build() {
+            return new BoundedCache<>(this);
+        }
+    }
+
+    /*
+     * A cache entry, also a link in one of the (lock guarded) eviction queues. Waiters block on the node until
+     * the loading thread completes or fails it.
+     */
+    private static final class Node<V> {
+        final Object key;
+        private V value;
+        private Throwable failure;
+        private volatile boolean done;
+        volatile long writeTime;
+        volatile long accessTime;
+        int weight;
+
+        Node<V> prev;
+        Node<V> next;
+        byte queue = NONE;
+
+        Node(Object key) {
+            this.key = key;
+        }
+
+        synchronized void complete(V value, int weight, long now) {
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = now;
+            this.accessTime = now;
+            this.done = true;
+            notifyAll();
+        }
+
+        synchronized void fail(Throwable t) {
+            this.failure = t;
+            this.done = true;
+            notifyAll();
+        }
+
+        V await() throws Throwable {
+            if (!done) {
+                synchronized (this) {
+                    boolean interrupted = false;
+                    while (!done) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                    if (interrupted)
+                        Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (this) {
+                if (failure != null)
+                    throw failure;
+                return value;
+            }
+        }
+
+        boolean isExpired(long now, long afterWrite, long afterAccess) {
+            if (!done)
+                return false;
+            return (afterWrite > 0 && now - writeTime >= afterWrite) || (afterAccess > 0 && now - accessTime >= afterAccess);
+        }
+    }
+
+    private static final class Queue<V> {
+        Node<V> head;
+        Node<V> tail;
+        long weight;
+
+        void addToHead(Node<V> node, byte queue) {
+            node.queue = queue;
+            node.prev = null;
+            node.next = head;
+            if (head != null)
+                head.prev = node;
+            head = node;
+            if (tail == null)
+                tail = node;
+            weight += node.weight;
+        }
+
+        void remove(Node<V> node) {
+            if (node.prev != null)
+                node.prev.next = node.next;
+            else
+                head = node.next;
+            if (node.next != null)
+                node.next.prev = node.prev;
+            else
+                tail = node.prev;
+            node.prev = null;
+            node.next = null;
+            node.queue = NONE;
+            weight -= node.weight;
+        }
+
+        void moveToHead(Node<V> node) {
+            if (head == node)
+                return;
+            byte queue = node.queue;
+            remove(node);
+            addToHead(node, queue);
+        }
+    }
+
+    /*
+     * Count-min sketch with 4 rows of 4 bit counters, all counters are halved once the number of increments
+     * reaches 10 times the width so the frequencies favour recent history.
+     */
+    static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb4b82e29, 0x8f3a1b5d, 0xc2b2ae35};
+        private final byte[][] table;
+        private final int shift;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long capacity) {
+            int width = Integer.highestOneBit((int) Math.max(16, Math.min(capacity, 1 << 24)) - 1) << 1;
+            this.table = new byte[SEEDS.length][width];
+            this.shift = 32 - Integer.numberOfTrailingZeros(width);
+            this.sampleSize = 10 * width;
+        }
+
+        private int index(int hash, int row) {
+            return (hash * SEEDS[row]) >>> shift;
+        }
+
+        private static int spread(Object key) {
+            int h = key.hashCode();
+            h ^= h >>> 16;
+            h *= 0x45d9f3b;
+            return h ^ (h >>> 16);
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key);
+            int min = 15;
+            for (int row = 0; row < table.length; row++) {
+                min = Math.min(min, table[row][index(hash, row)]);
+            }
+            return min;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key);
+            int min = frequency(key);
+            if (min < 15) {
+                for (int row = 0; row < table.length; row++) {
+                    int i = index(hash, row);
+                    if (table[row][i] == min)
+                        table[row][i]++;
+                }
+            }
+            if (++additions >= sampleSize)
+                reset();
+        }
+
+        private void reset() {
+            for (byte[] row : table) {
+                for (int i = 0; i < row.length; i++) {
+                    row[i] = (byte) (row[i] >>> 1);
+                }
+            }
+            additions /= 2;
+        }
+    }
+}
@@ -789,6 +789,14 @@ public class FluentFunctions {
             return withFn(Memoize.memoizeFunction(fn, cache));
         }
 
+        /**
+         * @param maximumSize Maximum number of cached outputs, less frequently used outputs are evicted once it is reached
+         * @return A caching (memoizing) version of this Function
+         */
+        public FluentFunction<T, R> memoize(final long maximumSize) {
+            return withFn(Memoize.memoizeFunction(fn, maximumSize));
+        }
+
         /**
          * @param name To give this Function
          * @return A Function with a name (useful for logging purposes)
@@ -1147,7 +1155,15 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentBiFunction<T1, T2, R> memoize(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeBiFunction(fn));
+            return withFn(Memoize.memoizeBiFunction(fn, cache));
+        }
+
+        /**
+         * @param maximumSize Maximum number of cached outputs, less frequently used outputs are evicted once it is reached
+         * @return A caching (memoizing) version of this BiFunction
+         */
+        public FluentBiFunction<T1, T2, R> memoize(final long maximumSize) {
+            return withFn(Memoize.memoizeBiFunction(fn, maximumSize));
         }
 
         /**
@@ -1556,7 +1572,15 @@ public class FluentFunctions {
          * @return A caching (memoizing) version of this BiFunction, outputs for all inputs will be cached (unless ejected from the cache)
          */
         public FluentTriFunction<T1, T2, T3, R> memoize3(final Cacheable<R> cache) {
-            return withFn(Memoize.memoizeTriFunction(fn));
+            return withFn(Memoize.memoizeTriFunction(fn, cache));
+        }
+
+        /**
+         * @param maximumSize Maximum number of cached outputs, less frequently used outputs are evicted once it is reached
+         * @return A caching (memoizing) version of this TriFunction
+         */
+        public FluentTriFunction<T1, T2, T3, R> memoize3(final long maximumSize) {
+            return withFn(Memoize.memoizeTriFunction(fn, maximumSize));
         }
         /**
          * @param name To give this TriFunction
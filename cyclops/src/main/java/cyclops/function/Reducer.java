@@ -2,6 +2,7 @@ package cyclops.function;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 /**
@@ -41,6 +42,40 @@ public interface Reducer<T,U> extends Monoid<T> {
         return of(monoid.zero(), monoid, mapper);
     }
 
+    /**
+     * Create a Reducer from a Monoid that uses the supplied Collector when folding an entire Stream via {@link #foldMap(Stream)}.
+     * This allows collection types with mutable builders to avoid creating (and concatenating) an intermediate
+     * collection per element.
+     *
+     * @param monoid Monoid to combine reduced values
+     * @param mapper Function to convert a single element to the reduced type
+     * @param collector Collector used to bulk fold a Stream
+     * @return Reducer
+     */
+    public static <T,U> Reducer<T,U> fromMonoid(final Monoid<T> monoid, final Function<? super U, T> mapper, final Collector<? super U,?, T> collector) {
+        return new Reducer<T,U>() {
+            @Override
+            public T zero() {
+                return monoid.zero();
+            }
+
+            @Override
+            public Function<? super U, T> conversion(){
+                return mapper;
+            }
+
+            @Override
+            public T apply(final T t, final T u) {
+                return monoid.apply(t,u);
+            }
+
+            @Override
+            public T foldMap(final Stream<U> toReduce) {
+                return toReduce.collect(collector);
+            }
+        };
+    }
+
     public static <T,U> Reducer<T,U> of(final T zero, final BiFunction<T, T, T> combiner, final Function<? super U, T> mapToType) {
         return new Reducer<T,U>() {
             @Override
@@ -0,0 +1,171 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleOperatorIterator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleSlidingOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleSpliteratorOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleToObjOperator;
+import com.oath.cyclops.internal.stream.spliterators.doubles.DoubleZippingOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequential stream of primitive doubles. Each stage is a push based DoubleOperator so values stay unboxed through map,
+ * filter, scanLeft, zip and into terminal operations such as sum, reduce and toArray. Boxing only happens when the
+ * values are explicitly converted to Objects (mapToObj / boxed).
+ *
+ * <pre>
+ * {@code
+ *   DoubleSeq.of(1.5,2.5,3.5)
+ *         .map(d->d*2)
+ *         .filter(d->d>4)
+ *         .sum();
+ * }
+ * </pre>
+ *
+ * Seqs created via of can be replayed, those created from a Spliterator or DoubleStream can only be consumed once.
+ */
+public final class DoubleSeq {
+
+    private final DoubleOperator source;
+
+    private DoubleSeq(DoubleOperator source){
+        this.source = source;
+    }
+
+    public static DoubleSeq empty(){
+        return of();
+    }
+
+    public static DoubleSeq of(double... values){
+        return new DoubleSeq(new DoubleSpliteratorOperator(()-> Arrays.spliterator(values)));
+    }
+    public static DoubleSeq fromStream(DoubleStream stream){
+        return fromSpliterator(stream.spliterator());
+    }
+
+    public static DoubleSeq fromSpliterator(Spliterator.OfDouble spliterator){
+        return new DoubleSeq(new DoubleSpliteratorOperator(()->spliterator));
+    }
+
+    public DoubleSeq map(DoubleUnaryOperator fn){
+        if(source instanceof DoubleMapOperator){
+            return new DoubleSeq(((DoubleMapOperator)source).compose(fn));
+        }
+        return new DoubleSeq(new DoubleMapOperator(source,fn));
+    }
+
+    public DoubleSeq filter(DoublePredicate predicate){
+        return new DoubleSeq(new DoubleFilterOperator(source,predicate));
+    }
+
+    /**
+     * @param identity First value emitted
+     * @param fn Combines the previous result with the next value
+     * @return Seq of identity followed by each intermediate result
+     */
+    public DoubleSeq scanLeft(double identity, DoubleBinaryOperator fn){
+        return new DoubleSeq(new DoubleScanOperator(source,identity,fn));
+    }
+
+    /**
+     * Combine the values of this Seq pairwise with those of another, the result is as long as the shorter of the two
+     */
+    public DoubleSeq zip(DoubleSeq other, DoubleBinaryOperator zipper){
+        return new DoubleSeq(new DoubleZippingOperator(source,other.source,zipper));
+    }
+
+    /**
+     * Sliding windows of windowSize values, moving on one value at a time
+     */
+    public ReactiveSeq<double[]> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<double[]> sliding(int windowSize, int increment){
+        return new ReactiveStreamX<>(new DoubleSlidingOperator(source,windowSize,increment));
+    }
+
+    /**
+     * Non-overlapping windows of size values, the last window may be shorter
+     */
+    public ReactiveSeq<double[]> window(int size){
+        return sliding(size,size);
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(DoubleFunction<? extends R> fn){
+        return new ReactiveStreamX<>(new DoubleToObjOperator<R>(source,fn));
+    }
+
+    public ReactiveSeq<Double> boxed(){
+        return mapToObj(i->i);
+    }
+
+    public double sum(){
+        return reduce(0,Double::sum);
+    }
+
+    public long count(){
+        long[] count = {0};
+        forEach(e->count[0]++);
+        return count[0];
+    }
+
+    public double reduce(double identity, DoubleBinaryOperator fn){
+        double[] result = {identity};
+        forEach(e->result[0] = fn.applyAsDouble(result[0],e));
+        return result[0];
+    }
+
+    /**
+     * Push all values to the consumer, the first error is rethrown once the Seq completes
+     */
+    public void forEach(DoubleConsumer consumer){
+        Throwable[] error = {null};
+        source.subscribeAll(consumer,e->{
+            if(error[0]==null)
+                error[0]=e;
+        },()->{});
+        if(error[0]!=null)
+            throw ExceptionSoftener.throwSoftenedException(error[0]);
+    }
+
+    public double[] toArray(){
+        double[][] buffer = {new double[16]};
+        int[] size = {0};
+        forEach(e->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++]=e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfDouble iterator(){
+        return new DoubleOperatorIterator(source);
+    }
+
+    public DoubleStream toDoubleStream(){
+        return StreamSupport.doubleStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+
+    @Override
+    public String toString(){
+        return Arrays.toString(toArray());
+    }
+}
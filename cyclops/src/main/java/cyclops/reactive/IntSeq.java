@@ -0,0 +1,178 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntOperatorIterator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntSlidingOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntSpliteratorOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntToObjOperator;
+import com.oath.cyclops.internal.stream.spliterators.ints.IntZippingOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequential stream of primitive ints. Each stage is a push based IntOperator so values stay unboxed through map,
+ * filter, scanLeft, zip and into terminal operations such as sum, reduce and toArray. Boxing only happens when the
+ * values are explicitly converted to Objects (mapToObj / boxed).
+ *
+ * <pre>
+ * {@code
+ *   IntSeq.range(0,10)
+ *         .map(i->i*2)
+ *         .filter(i->i>4)
+ *         .sum();
+ * }
+ * </pre>
+ *
+ * Seqs created via of / range can be replayed, those created from a Spliterator or IntStream can only be consumed once.
+ */
+public final class IntSeq {
+
+    private final IntOperator source;
+
+    private IntSeq(IntOperator source){
+        this.source = source;
+    }
+
+    public static IntSeq empty(){
+        return of();
+    }
+
+    public static IntSeq of(int... values){
+        return new IntSeq(new IntSpliteratorOperator(()-> Arrays.spliterator(values)));
+    }
+
+    /**
+     * @return Seq of ints from start (inclusive) to end (exclusive)
+     */
+    public static IntSeq range(int start, int end){
+        return new IntSeq(new IntSpliteratorOperator(()-> IntStream.range(start,end).spliterator()));
+    }
+    public static IntSeq fromStream(IntStream stream){
+        return fromSpliterator(stream.spliterator());
+    }
+
+    public static IntSeq fromSpliterator(Spliterator.OfInt spliterator){
+        return new IntSeq(new IntSpliteratorOperator(()->spliterator));
+    }
+
+    public IntSeq map(IntUnaryOperator fn){
+        if(source instanceof IntMapOperator){
+            return new IntSeq(((IntMapOperator)source).compose(fn));
+        }
+        return new IntSeq(new IntMapOperator(source,fn));
+    }
+
+    public IntSeq filter(IntPredicate predicate){
+        return new IntSeq(new IntFilterOperator(source,predicate));
+    }
+
+    /**
+     * @param identity First value emitted
+     * @param fn Combines the previous result with the next value
+     * @return Seq of identity followed by each intermediate result
+     */
+    public IntSeq scanLeft(int identity, IntBinaryOperator fn){
+        return new IntSeq(new IntScanOperator(source,identity,fn));
+    }
+
+    /**
+     * Combine the values of this Seq pairwise with those of another, the result is as long as the shorter of the two
+     */
+    public IntSeq zip(IntSeq other, IntBinaryOperator zipper){
+        return new IntSeq(new IntZippingOperator(source,other.source,zipper));
+    }
+
+    /**
+     * Sliding windows of windowSize values, moving on one value at a time
+     */
+    public ReactiveSeq<int[]> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<int[]> sliding(int windowSize, int increment){
+        return new ReactiveStreamX<>(new IntSlidingOperator(source,windowSize,increment));
+    }
+
+    /**
+     * Non-overlapping windows of size values, the last window may be shorter
+     */
+    public ReactiveSeq<int[]> window(int size){
+        return sliding(size,size);
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(IntFunction<? extends R> fn){
+        return new ReactiveStreamX<>(new IntToObjOperator<R>(source,fn));
+    }
+
+    public ReactiveSeq<Integer> boxed(){
+        return mapToObj(i->i);
+    }
+
+    public int sum(){
+        return reduce(0,Integer::sum);
+    }
+
+    public long count(){
+        long[] count = {0};
+        forEach(e->count[0]++);
+        return count[0];
+    }
+
+    public int reduce(int identity, IntBinaryOperator fn){
+        int[] result = {identity};
+        forEach(e->result[0] = fn.applyAsInt(result[0],e));
+        return result[0];
+    }
+
+    /**
+     * Push all values to the consumer, the first error is rethrown once the Seq completes
+     */
+    public void forEach(IntConsumer consumer){
+        Throwable[] error = {null};
+        source.subscribeAll(consumer,e->{
+            if(error[0]==null)
+                error[0]=e;
+        },()->{});
+        if(error[0]!=null)
+            throw ExceptionSoftener.throwSoftenedException(error[0]);
+    }
+
+    public int[] toArray(){
+        int[][] buffer = {new int[16]};
+        int[] size = {0};
+        forEach(e->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++]=e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfInt iterator(){
+        return new IntOperatorIterator(source);
+    }
+
+    public IntStream toIntStream(){
+        return StreamSupport.intStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+
+    @Override
+    public String toString(){
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,178 @@
+package cyclops.reactive;
+
+import com.oath.cyclops.internal.stream.ReactiveStreamX;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongFilterOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongMapOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongOperatorIterator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongScanOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongSlidingOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongSpliteratorOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongToObjOperator;
+import com.oath.cyclops.internal.stream.spliterators.longs.LongZippingOperator;
+import com.oath.cyclops.util.ExceptionSoftener;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A sequential stream of primitive longs. Each stage is a push based LongOperator so values stay unboxed through map,
+ * filter, scanLeft, zip and into terminal operations such as sum, reduce and toArray. Boxing only happens when the
+ * values are explicitly converted to Objects (mapToObj / boxed).
+ *
+ * <pre>
+ * {@code
+ *   LongSeq.range(0,10)
+ *         .map(i->i*2)
+ *         .filter(i->i>4)
+ *         .sum();
+ * }
+ * </pre>
+ *
+ * Seqs created via of / range can be replayed, those created from a Spliterator or LongStream can only be consumed once.
+ */
+public final class LongSeq {
+
+    private final LongOperator source;
+
+    private LongSeq(LongOperator source){
+        this.source = source;
+    }
+
+    public static LongSeq empty(){
+        return of();
+    }
+
+    public static LongSeq of(long... values){
+        return new LongSeq(new LongSpliteratorOperator(()-> Arrays.spliterator(values)));
+    }
+
+    /**
+     * @return Seq of longs from start (inclusive) to end (exclusive)
+     */
+    public static LongSeq range(long start, long end){
+        return new LongSeq(new LongSpliteratorOperator(()-> LongStream.range(start,end).spliterator()));
+    }
+    public static LongSeq fromStream(LongStream stream){
+        return fromSpliterator(stream.spliterator());
+    }
+
+    public static LongSeq fromSpliterator(Spliterator.OfLong spliterator){
+        return new LongSeq(new LongSpliteratorOperator(()->spliterator));
+    }
+
+    public LongSeq map(LongUnaryOperator fn){
+        if(source instanceof LongMapOperator){
+            return new LongSeq(((LongMapOperator)source).compose(fn));
+        }
+        return new LongSeq(new LongMapOperator(source,fn));
+    }
+
+    public LongSeq filter(LongPredicate predicate){
+        return new LongSeq(new LongFilterOperator(source,predicate));
+    }
+
+    /**
+     * @param identity First value emitted
+     * @param fn Combines the previous result with the next value
+     * @return Seq of identity followed by each intermediate result
+     */
+    public LongSeq scanLeft(long identity, LongBinaryOperator fn){
+        return new LongSeq(new LongScanOperator(source,identity,fn));
+    }
+
+    /**
+     * Combine the values of this Seq pairwise with those of another, the result is as long as the shorter of the two
+     */
+    public LongSeq zip(LongSeq other, LongBinaryOperator zipper){
+        return new LongSeq(new LongZippingOperator(source,other.source,zipper));
+    }
+
+    /**
+     * Sliding windows of windowSize values, moving on one value at a time
+     */
+    public ReactiveSeq<long[]> sliding(int windowSize){
+        return sliding(windowSize,1);
+    }
+
+    public ReactiveSeq<long[]> sliding(int windowSize, int increment){
+        return new ReactiveStreamX<>(new LongSlidingOperator(source,windowSize,increment));
+    }
+
+    /**
+     * Non-overlapping windows of size values, the last window may be shorter
+     */
+    public ReactiveSeq<long[]> window(int size){
+        return sliding(size,size);
+    }
+
+    public <R> ReactiveSeq<R> mapToObj(LongFunction<? extends R> fn){
+        return new ReactiveStreamX<>(new LongToObjOperator<R>(source,fn));
+    }
+
+    public ReactiveSeq<Long> boxed(){
+        return mapToObj(i->i);
+    }
+
+    public long sum(){
+        return reduce(0,Long::sum);
+    }
+
+    public long count(){
+        long[] count = {0};
+        forEach(e->count[0]++);
+        return count[0];
+    }
+
+    public long reduce(long identity, LongBinaryOperator fn){
+        long[] result = {identity};
+        forEach(e->result[0] = fn.applyAsLong(result[0],e));
+        return result[0];
+    }
+
+    /**
+     * Push all values to the consumer, the first error is rethrown once the Seq completes
+     */
+    public void forEach(LongConsumer consumer){
+        Throwable[] error = {null};
+        source.subscribeAll(consumer,e->{
+            if(error[0]==null)
+                error[0]=e;
+        },()->{});
+        if(error[0]!=null)
+            throw ExceptionSoftener.throwSoftenedException(error[0]);
+    }
+
+    public long[] toArray(){
+        long[][] buffer = {new long[16]};
+        int[] size = {0};
+        forEach(e->{
+            if(size[0]==buffer[0].length)
+                buffer[0] = Arrays.copyOf(buffer[0],size[0]*2);
+            buffer[0][size[0]++]=e;
+        });
+        return Arrays.copyOf(buffer[0],size[0]);
+    }
+
+    public PrimitiveIterator.OfLong iterator(){
+        return new LongOperatorIterator(source);
+    }
+
+    public LongStream toLongStream(){
+        return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(iterator(),Spliterator.ORDERED),false);
+    }
+
+    @Override
+    public String toString(){
+        return Arrays.toString(toArray());
+    }
+}
@@ -988,6 +988,75 @@ public interface ReactiveSeq<T> extends To<ReactiveSeq<T>>,
 
     }
 
+    /**
+     * Split this Stream across the specified number of rails, each rail applies the supplied pipeline on the provided Executor.
+     * Results are rejoined in encounter order. Each rail prefetches up to 32 elements.
+     *
+     * <pre>
+     * {@code
+     *  Spouts.range(0,1000)
+     *        .parallel(4,ex,s->s.map(this::enrich)
+     *                           .filter(this::isValid))
+     *        .toList();
+     *
+     *  //enriched and filtered values in the same order as the input range
+     * }
+     * </pre>
+     *
+     * The rail pipeline should be built from the supplied Stream with synchronous operators (map, filter, concatMap etc),
+     * everything the pipeline emits while processing an element is treated as that element's output.
+     *
+     * @param rails Number of rails to split the Stream across
+     * @param ex Executor to run the rails on
+     * @param fn Pipeline to run on each rail
+     * @return Stream of rail results in encounter order
+     */
+    default <R> ReactiveSeq<R> parallel(int rails, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn){
+        return parallel(rails,32,ex,fn);
+    }
+
+    /**
+     * Split this Stream across the specified number of rails, rejoining the results in encounter order
+     *
+     * @see ReactiveSeq#parallel(int, Executor, Function)
+     * @param rails Number of rails to split the Stream across
+     * @param prefetch Maximum number of elements buffered per rail
+     * @param ex Executor to run the rails on
+     * @param fn Pipeline to run on each rail
+     * @return Stream of rail results in encounter order
+     */
+    default <R> ReactiveSeq<R> parallel(int rails, int prefetch, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn){
+        return Spouts.fromIterable(this).parallel(rails,prefetch,ex,fn);
+    }
+
+    /**
+     * Split this Stream across the specified number of rails, results are emitted as soon as any rail produces them
+     * without waiting for earlier elements on other rails.
+     *
+     * @see ReactiveSeq#parallel(int, Executor, Function)
+     * @param rails Number of rails to split the Stream across
+     * @param ex Executor to run the rails on
+     * @param fn Pipeline to run on each rail
+     * @return Stream of rail results in the order they complete
+     */
+    default <R> ReactiveSeq<R> parallelUnordered(int rails, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn){
+        return parallelUnordered(rails,32,ex,fn);
+    }
+
+    /**
+     * Split this Stream across the specified number of rails, results are emitted in the order they complete
+     *
+     * @see ReactiveSeq#parallelUnordered(int, Executor, Function)
+     * @param rails Number of rails to split the Stream across
+     * @param prefetch Maximum number of elements buffered per rail
+     * @param ex Executor to run the rails on
+     * @param fn Pipeline to run on each rail
+     * @return Stream of rail results in the order they complete
+     */
+    default <R> ReactiveSeq<R> parallelUnordered(int rails, int prefetch, Executor ex, Function<? super ReactiveSeq<T>, ? extends ReactiveSeq<? extends R>> fn){
+        return Spouts.fromIterable(this).parallelUnordered(rails,prefetch,ex,fn);
+    }
+
 
 
     @Override
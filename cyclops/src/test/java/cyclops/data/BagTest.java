@@ -207,8 +207,19 @@ public class BagTest extends BaseImmutableSetTest {
         assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
     }
-
-
-
-
+    @Test
+    public void bulkInstances(){
+        Bag<Integer> bag = Bag.fromStream(Stream.of(1,2,2,3,3,3));
+        Bag<Integer> more = bag.plusAll(asList(3,4,4));
+        Bag<Integer> less = more.removeAll(asList(1,3,3,5));
+        assertThat(bag.size(),equalTo(6));
+        assertThat(bag.instances(3),equalTo(3));
+        assertThat(more.size(),equalTo(9));
+        assertThat(more.instances(3),equalTo(4));
+        assertThat(more.instances(4),equalTo(2));
+        assertThat(less.size(),equalTo(6));
+        assertThat(less.instances(1),equalTo(0));
+        assertThat(less.instances(3),equalTo(2));
+        assertThat(less.containsValue(1),equalTo(false));
+    }
 }
@@ -1,12 +1,19 @@
 package cyclops.data;
 
+import cyclops.control.Option;
 import cyclops.reactive.ReactiveSeq;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import java.util.stream.Stream;
 
 import static cyclops.data.Chain.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.core.IsEqual.equalTo;
 
 public class ChainTest {
@@ -57,4 +64,88 @@ public class ChainTest {
         assertThat(empty.isEmpty(),equalTo(true));
         assertThat(empty.toString(),equalTo("[]"));
     }
+
+    private static int maxDepth(int pieces){
+        return (int)Math.ceil(1.45 * (Math.log(pieces + 2) / Math.log(2))) + 1;
+    }
+
+    @Test
+    public void repeatedAppendAndPrependStayBalanced(){
+        Chain<Integer> appended = Chain.empty();
+        Chain<Integer> prepended = Chain.empty();
+        for(int i=0;i<100_000;i++){
+            appended = appended.append(i);
+            prepended = prepended.prepend(i);
+        }
+        assertThat(appended.depth(),lessThanOrEqualTo(maxDepth(100_000)));
+        assertThat(prepended.depth(),lessThanOrEqualTo(maxDepth(100_000)));
+        assertThat(appended.size(),equalTo(100_000));
+        assertThat(appended.getOrElse(54_321,-1),equalTo(54_321));
+        assertThat(prepended.getOrElse(54_321,-1),equalTo(100_000 - 54_322));
+        int expected = 0;
+        for(Integer next : appended){
+            assertThat(next,equalTo(expected++));
+        }
+        assertThat(expected,equalTo(100_000));
+        Iterator<Integer> reverse = appended.reverseIterator();
+        for(int i=99_999;i>=0;i--){
+            assertThat(reverse.next(),equalTo(i));
+        }
+        assertThat(reverse.hasNext(),equalTo(false));
+    }
+
+    @Test
+    public void randomGetAndSplitMatchList(){
+        Random r = new Random(5);
+        Chain<Integer> chain = Chain.empty();
+        List<Integer> expected = new ArrayList<>();
+        for(int i=0;i<2_000;i++){
+            int op = r.nextInt(4);
+            if(op==0){
+                chain = chain.append(i);
+                expected.add(i);
+            }else if(op==1){
+                chain = chain.prepend(i);
+                expected.add(0,i);
+            }else if(op==2){
+                List<Integer> values = Arrays.asList(i,i+1,i+2);
+                chain = chain.appendAll(values);
+                expected.addAll(values);
+            }else{
+                chain = Chain.wrap(Seq.of(i,-i)).concat(chain);
+                expected.addAll(0,Arrays.asList(i,-i));
+            }
+        }
+        assertThat(chain.size(),equalTo(expected.size()));
+        for(int i=0;i<expected.size();i++){
+            assertThat(chain.getOrElse(i,null),equalTo(expected.get(i)));
+        }
+        assertThat(chain.get(-1).isPresent(),equalTo(false));
+        assertThat(chain.get(expected.size()).isPresent(),equalTo(false));
+        for(int i=0;i<100;i++){
+            int at = r.nextInt(expected.size()+1);
+            assertThat(chain.take(at),equalTo(Seq.fromIterable(expected.subList(0,at))));
+            assertThat(chain.drop(at),equalTo(Seq.fromIterable(expected.subList(at,expected.size()))));
+            assertThat(chain.splitAt(at)._1().size(),equalTo(at));
+        }
+    }
+
+    @Test
+    public void splitLazyWrap(){
+        Chain<Integer> chain = Chain.wrap(ReactiveSeq.range(0,10)).append(10).concat(Chain.wrap(ReactiveSeq.range(11,20)));
+        assertThat(chain.drop(5).take(10),equalTo(Seq.range(5,15)));
+        assertThat(chain.getOrElse(15,-1),equalTo(15));
+    }
+
+    @Test
+    public void infiniteWrapStaysLazy(){
+        Chain<Integer> chain = Chain.wrap(ReactiveSeq.iterate(1,i->i+1));
+        assertThat(chain.take(3),equalTo(Seq.of(1,2,3)));
+        assertThat(chain.drop(2).take(2),equalTo(Seq.of(3,4)));
+        assertThat(chain.get(4),equalTo(Option.some(5)));
+        Chain<Integer> appended = Chain.<Integer>singleton(0).concat(chain);
+        assertThat(appended.take(3),equalTo(Seq.of(0,1,2)));
+        assertThat(appended.getOrElse(3,-1),equalTo(3));
+        assertThat(Chain.wrap(LazySeq.iterate(1,i->i+1)).drop(1).take(2),equalTo(Seq.of(2,3)));
+    }
 }
@@ -0,0 +1,62 @@
+package cyclops.data;
+
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class ChunkedLazySeqTest extends LazySeqTest {
+
+    @Override
+    protected <T> LazySeq<T> fromStream(Stream<T> s) {
+        return LazySeq.chunked(s.collect(Collectors.toList()),3);
+    }
+
+    @Override
+    public <T> LazySeq<T> of(T... values) {
+        return LazySeq.chunked(Arrays.asList(values),3);
+    }
+
+    @Test
+    public void chunkedMapAndFilterMatchPerElement(){
+        List<Integer> expected = new ArrayList<>();
+        for(int i=0;i<10_000;i++){
+            if((i*3)%7==0)
+                expected.add(i*3);
+        }
+        LazySeq<Integer> chunked = LazySeq.chunked(ReactiveSeq.range(0,10_000));
+        assertThat(chunked.map(i->i*3).filter(i->i%7==0).stream().toList(),equalTo(expected));
+        assertThat(chunked.map(i->i*3).filter(i->i%7==0).foldLeft(0L,(a,b)->a+b),
+                   equalTo(expected.stream().mapToLong(i->i).sum()));
+    }
+
+    @Test
+    public void chunkedEvaluatesAChunkAtATime(){
+        int[] pulled = {0};
+        LazySeq<Integer> chunked = LazySeq.chunked(ReactiveSeq.range(0,1_000).peek(i->pulled[0]++),32);
+        assertThat(pulled[0],equalTo(0));
+        assertThat(chunked.headOrElse(-1),equalTo(0));
+        assertThat(pulled[0],equalTo(32));
+        int[] mapped = {0};
+        LazySeq<Integer> res = chunked.map(i->{
+            mapped[0]++;
+            return i;
+        });
+        assertThat(mapped[0],equalTo(0));
+        assertThat(res.getOrElse(40,-1),equalTo(40));
+        assertThat(mapped[0],equalTo(64));
+    }
+
+    @Test
+    public void filterSkipsManyEmptyChunks(){
+        LazySeq<Integer> chunked = LazySeq.chunked(ReactiveSeq.range(0,1_000_000),4);
+        assertThat(chunked.filter(i->i==999_999).stream().toList(),equalTo(Arrays.asList(999_999)));
+    }
+}
@@ -3,9 +3,12 @@ package cyclops.data;
 import cyclops.function.Ordering;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import static cyclops.data.Range.range;
 import static org.hamcrest.Matchers.equalTo;
@@ -148,4 +151,95 @@ public class DIETTest {
         assertFalse(diet.isEmpty());
     }
 
+
+    @Test
+    public void monotonicInsertsStayBalanced(){
+        DIET<Integer> d = DIET.empty();
+        for(int i=0;i<200_000;i+=2){
+            d = d.add(range(i,i+1));
+        }
+        assertTrue(d.contains(199_998));
+        assertFalse(d.contains(199_999));
+        assertThat(d.streamRanges().count(),equalTo(100_000l));
+        d = d.add(range(1,199_999));
+        assertThat(d.streamRanges().join(","),equalTo("[0 .. 199999]"));
+    }
+
+    @Test
+    public void addAll(){
+        DIET<Integer> d = DIET.<Integer>empty().add(range(0,5))
+                                              .addAll(Arrays.asList(range(30,40),range(8,10),range(4,8),range(35,50),range(60,61)));
+        assertThat(d.streamRanges().join(","),equalTo("[0 .. 10],[30 .. 50],[60 .. 61]"));
+        assertThat(d.addAll(Arrays.asList()),equalTo(d));
+    }
+
+    @Test
+    public void gaps(){
+        DIET<Integer> d = DIET.<Integer>empty().add(range(0,5)).add(range(8,10)).add(range(20,25));
+        assertThat(d.gaps().join(","),equalTo("[5 .. 8],[10 .. 20]"));
+        assertThat(DIET.<Integer>empty().add(range(0,5)).gaps().count(),equalTo(0l));
+    }
+
+    @Test
+    public void gapsAfterRemove(){
+        DIET<Integer> d = DIET.<Integer>empty().add(range(10,25)).remove(range(15,20)).remove(range(20,22));
+        assertThat(d.gaps().join(","),equalTo("[15 .. 22]"));
+        assertThat(DIET.<Integer>empty().add(range(0,10)).remove(range(5,10)).streamRanges().join(","),equalTo("[0 .. 5]"));
+
+        Random r = new Random(31);
+        for(int run=0;run<300;run++){
+            DIET<Integer> diet = DIET.empty();
+            BitSet expected = new BitSet();
+            for(int i=0;i<20;i++){
+                int start = r.nextInt(100);
+                int end = start + 1 + r.nextInt(20);
+                if(r.nextBoolean()){
+                    diet = diet.remove(range(start,end));
+                    expected.clear(start,end);
+                }else{
+                    diet = diet.add(range(start,end));
+                    expected.set(start,end);
+                }
+            }
+            List<String> gaps = new ArrayList<>();
+            int from = expected.nextSetBit(0);
+            while(from>=0){
+                int clear = expected.nextClearBit(from);
+                int set = expected.nextSetBit(clear);
+                if(set<0)
+                    break;
+                gaps.add("["+clear+" .. "+set+"]");
+                from = set;
+            }
+            assertThat(diet.gaps().join(","),equalTo(String.join(",",gaps)));
+        }
+    }
+
+    @Test
+    public void randomAgainstBitSet(){
+        Random r = new Random(17);
+        DIET<Integer> d = DIET.empty();
+        BitSet expected = new BitSet();
+        for(int i=0;i<3_000;i++){
+            int start = r.nextInt(2_000);
+            int end = start + 1 + r.nextInt(30);
+            if(r.nextInt(3)==0){
+                d = d.remove(range(start,end));
+                expected.clear(start,end);
+            }else{
+                d = d.add(range(start,end));
+                expected.set(start,end);
+            }
+            int probe = r.nextInt(2_100);
+            assertThat(d.contains(probe),equalTo(expected.get(probe)));
+        }
+        for(int i=0;i<2_100;i++){
+            assertThat(""+i,d.contains(i),equalTo(expected.get(i)));
+        }
+        //ranges are disjoint, ordered and do not touch
+        List<Range<Integer>> ranges = d.streamRanges().toList();
+        for(int i=1;i<ranges.size();i++){
+            assertTrue(ranges.get(i-1).end < ranges.get(i).start);
+        }
+    }
 }
@@ -0,0 +1,154 @@
+package cyclops.data;
+
+import cyclops.companion.Reducers;
+import cyclops.control.Option;
+import cyclops.data.basetests.BaseImmutableListTest;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class FingerTreeTest extends BaseImmutableListTest {
+    @Override
+    protected <T> FingerTree<T> fromStream(Stream<T> s) {
+        return FingerTree.fromStream(s);
+    }
+
+    @Override
+    public <T> FingerTree<T> empty() {
+        return FingerTree.empty();
+    }
+
+    @Override
+    public <T> FingerTree<T> of(T... values) {
+        return FingerTree.of(values);
+    }
+
+    @Override
+    public FingerTree<Integer> range(int start, int end) {
+        return FingerTree.range(start,end);
+    }
+
+    @Override
+    public FingerTree<Long> rangeLong(long start, long end) {
+        return FingerTree.rangeLong(start,end);
+    }
+
+    @Override
+    public <T> ImmutableList<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return FingerTree.iterate(seed,fn,times);
+    }
+
+    @Override
+    public <T> FingerTree<T> generate(int times, Supplier<T> fn) {
+        return FingerTree.generate(fn,times);
+    }
+
+    @Override
+    public <U, T> FingerTree<T> unfold(U seed, Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+        return FingerTree.unfold(seed,unfolder);
+    }
+
+    @Test
+    public void enqueueDequeue(){
+        FingerTree<Integer> q = FingerTree.<Integer>empty().enqueue(1)
+                                                           .enqueue(2);
+        assertThat(q.dequeue(-1),equalTo(Tuple.tuple(1,FingerTree.of(2))));
+        assertThat(q.dequeue(-1)._2().dequeue(-1)._2().dequeue(-1)._1(),equalTo(-1));
+    }
+
+    @Test
+    public void bothEndsMatchList(){
+        Random r = new Random(3);
+        FingerTree<Integer> tree = FingerTree.empty();
+        List<Integer> expected = new ArrayList<>();
+        for(int i=0;i<20_000;i++){
+            int op = r.nextInt(6);
+            if(op==0){
+                tree = tree.prepend(i);
+                expected.add(0,i);
+            }else if(op<3){
+                tree = tree.append(i);
+                expected.add(i);
+            }else if(op==3 && !expected.isEmpty()){
+                assertThat(tree.getOrElse(0,-1),equalTo(expected.remove(0)));
+                tree = tree.drop(1);
+            }else if(op==4 && !expected.isEmpty()){
+                assertThat(tree.last(-1),equalTo(expected.remove(expected.size()-1)));
+                tree = tree.dropRight(1);
+            }else if(!expected.isEmpty()){
+                int at = r.nextInt(expected.size());
+                assertThat(tree.getOrElse(at,-1),equalTo(expected.get(at)));
+            }
+            assertThat(tree.size(),equalTo(expected.size()));
+        }
+        assertThat(tree.toList(),equalTo(expected));
+    }
+
+    @Test
+    public void splitAndConcatMatchList(){
+        Random r = new Random(5);
+        FingerTree<Integer> tree = FingerTree.range(0,5_000);
+        List<Integer> expected = new ArrayList<>(tree.toList());
+        for(int i=0;i<500;i++){
+            int at = r.nextInt(expected.size()+1);
+            Tuple2<ImmutableList<Integer>,ImmutableList<Integer>> split = tree.splitAt(at);
+            assertThat(split._1().toList(),equalTo(expected.subList(0,at)));
+            assertThat(split._2().size(),equalTo(expected.size()-at));
+            tree = ((FingerTree<Integer>)split._2()).appendAll(split._1());
+            List<Integer> rotated = new ArrayList<>(expected.subList(at,expected.size()));
+            rotated.addAll(expected.subList(0,at));
+            expected = rotated;
+        }
+        assertThat(tree.toList(),equalTo(expected));
+        assertThat(tree.insertAt(10,-1).removeAt(10),equalTo(tree));
+        assertThat(tree.updateAt(4_999,-1).getOrElse(4_999,0),equalTo(-1));
+    }
+
+    @Test
+    public void mapAndReverseKeepSizes(){
+        FingerTree<Integer> tree = FingerTree.range(0,1_000).prependAll(FingerTree.range(-1_000,0));
+        assertThat(tree.map(i->i*2).getOrElse(1_500,0),equalTo(1_000));
+        assertThat(tree.reverse().getOrElse(0,0),equalTo(999));
+        assertThat(tree.reverse().drop(1_999).toList(),equalTo(Arrays.asList(-1_000)));
+    }
+
+    @Test
+    public void nullElements(){
+        FingerTree<Integer> tree = FingerTree.of(1,null,3).prepend(null);
+        assertThat(tree.toList(),equalTo(Arrays.asList(null,1,null,3)));
+        assertThat(tree.get(2),equalTo(Option.some(null)));
+    }
+
+    @Test
+    public void reducer(){
+        assertThat(Reducers.<Integer>toFingerTree().foldMap(ReactiveSeq.of(1,2,3)),equalTo(FingerTree.of(1,2,3)));
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        FingerTree<Integer> tree = FingerTree.range(0,100).drop(10);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(tree);
+        }
+        Object read = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertThat(read,equalTo(tree));
+    }
+}
@@ -3,6 +3,7 @@ package cyclops.data;
 import com.oath.cyclops.types.persistent.PersistentMap;
 import cyclops.control.Option;
 import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
 import lombok.AllArgsConstructor;
 import lombok.ToString;
 import org.hamcrest.MatcherAssert;
@@ -12,6 +13,7 @@ import org.junit.Test;
 import java.util.ArrayList;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.junit.Assert.*;
 
 public class HashMapTest {
@@ -110,7 +112,77 @@ public class HashMapTest {
     MatcherAssert.assertThat(HashMap.of(1,"a",2,"b").removeAll(0),equalTo(HashMap.of(1,"a",2,"b")));
   }
 
+  @Test
+  public void fromMapLarge(){
+    java.util.Map<Integer,String> source = new java.util.HashMap<>();
+    for(int i=0;i<100_000;i++){
+      source.put(i,""+i);
+    }
+    HashMap<Integer,String> map = HashMap.fromMap(source);
+    MatcherAssert.assertThat(map.size(),equalTo(100_000));
+    for(int i=0;i<100_000;i++){
+      MatcherAssert.assertThat(map.get(i),equalTo(Option.some(""+i)));
+    }
+  }
 
+  @Test
+  public void bulkUpdatesLeaveSourceUnchanged(){
+    HashMap<Integer,Integer> base = HashMap.empty();
+    for(int i=0;i<1000;i++){
+      base = base.put(i,i);
+    }
+    HashMap<Integer,Integer> more = HashMap.empty();
+    for(int i=500;i<1500;i++){
+      more = more.put(i,-i);
+    }
+    HashMap<Integer,Integer> merged = base.putAll(more);
+    HashMap<Integer,Integer> removed = merged.removeAllKeys(ReactiveSeq.range(0,1500).filter(i->i%2==0));
+
+    MatcherAssert.assertThat(base.size(),equalTo(1000));
+    MatcherAssert.assertThat(more.size(),equalTo(1000));
+    MatcherAssert.assertThat(merged.size(),equalTo(1500));
+    MatcherAssert.assertThat(removed.size(),equalTo(750));
+    for(int i=0;i<1500;i++){
+      if(i<1000)
+        MatcherAssert.assertThat(base.get(i),equalTo(Option.some(i)));
+      MatcherAssert.assertThat(merged.get(i),equalTo(Option.some(i<500 ? i : -i)));
+      MatcherAssert.assertThat(removed.get(i),equalTo(i%2==0 ? Option.none() : Option.some(i<500 ? i : -i)));
+    }
+  }
 
-}
+  @Test
+  public void builder(){
+    HashMap<String,Integer> map = HashMap.<String,Integer>builder()
+                                         .put("hello",1)
+                                         .put("world",2)
+                                         .remove("hello")
+                                         .build();
+    MatcherAssert.assertThat(map,equalTo(HashMap.of("world",2)));
+  }
+
+  @Test
+  public void unionIntersectionDifference(){
+    HashMap<String,Integer> a = HashMap.of("a",1,"b",2);
+    HashMap<String,Integer> b = HashMap.of("b",10,"c",3);
+    MatcherAssert.assertThat(a.union(b,Integer::sum),equalTo(HashMap.of("a",1,"b",12).put("c",3)));
+    MatcherAssert.assertThat(a.putAll(b),equalTo(HashMap.of("a",1,"b",10).put("c",3)));
+    MatcherAssert.assertThat(a.intersection(b),equalTo(HashMap.of("b",2)));
+    MatcherAssert.assertThat(a.intersection(b,Integer::sum),equalTo(HashMap.of("b",12)));
+    MatcherAssert.assertThat(a.difference(b),equalTo(HashMap.of("a",1)));
+    MatcherAssert.assertThat(a.removeAllKeys(HashSet.of("a","c")),equalTo(HashMap.of("b",2)));
+  }
 
+  @Test
+  public void equalsLarge(){
+    HashMap<Integer,Integer> a = HashMap.empty();
+    HashMap<Integer,Integer> b = HashMap.empty();
+    for(int i=0;i<10_000;i++){
+      a = a.put(i,i);
+      b = b.put(9_999-i,9_999-i);
+    }
+    MatcherAssert.assertThat(a,equalTo(b));
+    MatcherAssert.assertThat(a.put(5,-5),not(equalTo(b)));
+    MatcherAssert.assertThat(a.remove(5),not(equalTo(b)));
+  }
+
+}
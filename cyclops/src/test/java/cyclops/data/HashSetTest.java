@@ -2,8 +2,10 @@ package cyclops.data;
 
 import cyclops.control.Maybe;
 import cyclops.control.Option;
+import cyclops.companion.Reducers;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.basetests.BaseImmutableSetTest;
+import cyclops.reactive.ReactiveSeq;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
@@ -105,4 +107,28 @@ public class HashSetTest extends BaseImmutableSetTest{
         assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+    @Test
+    public void collector(){
+        HashSet<Integer> set = Stream.of(1,2,3,2,1).collect(HashSet.collector());
+        assertThat(set,equalTo(HashSet.of(1,2,3)));
+        assertThat(ReactiveSeq.range(0,10_000).foldMap(Reducers.toHashSet()).size(),equalTo(10_000));
+    }
+    @Test
+    public void plusAllLeavesSourceUnchanged(){
+        HashSet<Integer> base = HashSet.range(0,1000);
+        HashSet<Integer> more = base.plusAll(ReactiveSeq.range(500,1500));
+        HashSet<Integer> less = more.removeAll(ReactiveSeq.range(0,1000));
+        assertThat(base.size(),equalTo(1000));
+        assertThat(more.size(),equalTo(1500));
+        assertThat(less,equalTo(HashSet.range(1000,1500)));
+    }
+    @Test
+    public void setAlgebra(){
+        HashSet<Integer> a = HashSet.range(0,1000);
+        HashSet<Integer> b = HashSet.range(500,1500);
+        assertThat(a.plusAll(b),equalTo(HashSet.range(0,1500)));
+        assertThat(a.retainAll(b),equalTo(HashSet.range(500,1000)));
+        assertThat(a.removeAll(b),equalTo(HashSet.range(0,500)));
+        assertThat(a.removeAll(b).plusAll(a.retainAll(b)),equalTo(a));
+    }
 }
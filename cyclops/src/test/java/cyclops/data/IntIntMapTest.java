@@ -0,0 +1,99 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class IntIntMapTest {
+
+    @Test
+    public void empty(){
+        assertThat(IntIntMap.empty().size(),equalTo(0));
+        assertThat(IntIntMap.empty().getOrElse(1,-1),equalTo(-1));
+        assertThat(IntIntMap.empty().get(1),equalTo(Option.none()));
+        assertThat(IntIntMap.empty().remove(1),equalTo(IntIntMap.empty()));
+    }
+
+    @Test
+    public void putGetRemove(){
+        IntIntMap map = IntIntMap.of(1,10,Integer.MIN_VALUE,20)
+                                 .put(-1,30)
+                                 .put(Integer.MAX_VALUE,40);
+        assertThat(map.size(),equalTo(4));
+        assertThat(map.getOrElse(1,0),equalTo(10));
+        assertThat(map.getOrElse(Integer.MIN_VALUE,0),equalTo(20));
+        assertThat(map.getOrElse(-1,0),equalTo(30));
+        assertThat(map.get(Integer.MAX_VALUE),equalTo(Option.some(40)));
+        assertFalse(map.containsKey(2));
+        assertThat(map.remove(-1).getOrElse(-1,0),equalTo(0));
+        assertThat(map.remove(-1).size(),equalTo(3));
+        assertThat(map.remove(5),equalTo(map));
+    }
+
+    @Test
+    public void merge(){
+        IntIntMap counts = IntIntMap.empty();
+        for(int i=0;i<1000;i++){
+            counts = counts.merge(i%10,1,Integer::sum);
+        }
+        assertThat(counts.size(),equalTo(10));
+        assertThat(counts.values().sum(),equalTo(1000));
+        assertThat(counts.getOrElse(3,0),equalTo(100));
+    }
+
+    @Test
+    public void matchesModel(){
+        Random r = new Random(1);
+        java.util.Map<Integer,Integer> model = new java.util.HashMap<>();
+        IntIntMap map = IntIntMap.empty();
+        for(int i=0;i<50000;i++){
+            //mix dense small keys with keys spread over the whole range
+            int key = r.nextBoolean() ? r.nextInt(2000) : r.nextInt();
+            if(r.nextInt(3)==0){
+                model.remove(key);
+                map = map.remove(key);
+            }else{
+                model.put(key,i);
+                map = map.put(key,i);
+            }
+        }
+        assertThat(map.size(),equalTo(model.size()));
+        for(java.util.Map.Entry<Integer,Integer> e : model.entrySet()){
+            assertThat(map.getOrElse(e.getKey(),-1),equalTo(e.getValue()));
+        }
+        assertThat(map.keys().boxed().collect(Collectors.toSet()),equalTo(model.keySet()));
+        assertThat(map.stream().toList().size(),equalTo(model.size()));
+        assertTrue(map.equals(IntIntMap.fromMap(model)));
+        assertThat(map.hashCode(),equalTo(IntIntMap.fromMap(model).hashCode()));
+    }
+
+    @Test
+    public void removeAllLeavesEmpty(){
+        IntIntMap map = IntIntMap.empty();
+        for(int i=0;i<5000;i++){
+            map = map.put(i*33,i);
+        }
+        for(int i=0;i<5000;i++){
+            map = map.remove(i*33);
+        }
+        assertThat(map,equalTo(IntIntMap.empty()));
+        assertThat(map.size(),equalTo(0));
+    }
+
+    @Test
+    public void putAll(){
+        IntIntMap map = IntIntMap.of(1,1,2,2).putAll(IntIntMap.of(2,20,3,30));
+        assertThat(map.size(),equalTo(3));
+        assertThat(map.getOrElse(2,0),equalTo(20));
+        assertThat(IntIntMap.of(5,6).stream().toList(),equalTo(Seq.of(Tuple.tuple(5,6)).toList()));
+        assertThat(IntIntMap.of(5,6).toString(),equalTo("[{5=6}]"));
+    }
+}
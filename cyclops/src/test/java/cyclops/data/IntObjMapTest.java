@@ -0,0 +1,82 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class IntObjMapTest {
+
+    @Test
+    public void putGetRemove(){
+        IntObjMap<String> map = IntObjMap.of(10,"hello",-10,"world");
+        assertThat(map.getOrElseInt(10,"missing"),equalTo("hello"));
+        assertThat(map.get(-10),equalTo(Option.some("world")));
+        assertThat(map.get(11),equalTo(Option.none()));
+        assertThat(map.getOrElseGet(11,()->"computed"),equalTo("computed"));
+        assertTrue(map.containsKey(Integer.valueOf(10)));
+        assertFalse(map.remove(10).containsKey(10));
+        assertThat(map.remove(10).size(),equalTo(1));
+    }
+
+    @Test
+    public void nullValues(){
+        IntObjMap<String> map = IntObjMap.of(1,null);
+        assertTrue(map.containsKey(1));
+        assertThat(map.get(1),equalTo(Option.some(null)));
+        assertThat(map.getOrElseInt(1,"alt"),equalTo(null));
+    }
+
+    @Test
+    public void matchesModel(){
+        Random r = new Random(2);
+        java.util.Map<Integer,String> model = new java.util.HashMap<>();
+        IntObjMap<String> map = IntObjMap.empty();
+        for(int i=0;i<50000;i++){
+            int key = r.nextBoolean() ? r.nextInt(2000) : r.nextInt();
+            if(r.nextInt(3)==0){
+                model.remove(key);
+                map = map.remove(key);
+            }else{
+                model.put(key,""+i);
+                map = map.putInt(key,""+i);
+            }
+        }
+        assertThat(map.size(),equalTo(model.size()));
+        for(java.util.Map.Entry<Integer,String> e : model.entrySet()){
+            assertThat(map.getOrElseInt(e.getKey().intValue(),null),equalTo(e.getValue()));
+        }
+        assertThat(map.keys().boxed().collect(Collectors.toSet()),equalTo(model.keySet()));
+        assertThat(map.stream().map(t->t._1()).toSet(),equalTo(model.keySet()));
+        assertThat(map,equalTo(IntObjMap.fromMap(model)));
+        assertThat(map.hashCode(),equalTo(IntObjMap.fromMap(model).hashCode()));
+    }
+
+    @Test
+    public void persistentMapInterop(){
+        IntObjMap<String> map = IntObjMap.of(1,"a",2,"b");
+        assertTrue(map.equalTo(HashMap.of(1,"a",2,"b")));
+        assertThat(map.putAll(HashMap.of(3,"c")).size(),equalTo(3));
+        assertThat(map.removeAllKeys(Arrays.asList(1,2)).size(),equalTo(0));
+        assertThat(map.toString(),equalTo("[{1=a}, {2=b}]"));
+    }
+
+    @Test
+    public void boxedValues(){
+        IntObjMap<Integer> map = IntObjMap.<Integer>empty().put(1,2)
+                                                           .put(-5,1);
+        assertThat(map.getOrElse(1,0),equalTo(2));
+        assertThat(map.getOrElseInt(3,0),equalTo(0));
+        assertThat(map,equalTo(HashMap.of(1,2,-5,1)));
+        assertThat(map.hashCode(),equalTo(HashMap.of(1,2,-5,1).hashCode()));
+        assertThat(map.hashCode(),equalTo(TreeMap.of(Comparator.<Integer>naturalOrder(),1,2,-5,1).hashCode()));
+    }
+}
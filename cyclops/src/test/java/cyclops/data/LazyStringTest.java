@@ -4,12 +4,18 @@ import cyclops.control.Option;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -741,4 +747,89 @@ public class LazyStringTest {
         assertThat(empty.toString(),equalTo(""));
         assertThat(str.toString(),equalTo("hello world"));
     }
+
+    @Test
+    public void charSequence() {
+        assertThat(str.charAt(4),equalTo('o'));
+        assertThat(str.subSequence(6,11).toString(),equalTo("world"));
+        Matcher m = Pattern.compile("w(or)ld").matcher(str.prependAll(LazyString.of("say ")));
+        assertTrue(m.find());
+        assertThat(m.group(1),equalTo("or"));
+        assertThat(m.start(),equalTo(10));
+    }
+
+    @Test
+    public void largeConcatenation() {
+        LazyString text = empty;
+        StringBuilder expected = new StringBuilder();
+        for(int i=0;i<10_000;i++){
+            String line = "line " + i + "\n";
+            text = text.append(line);
+            expected.append(line);
+        }
+        assertThat(text.length(),equalTo(expected.length()));
+        assertThat(text.toString(),equalTo(expected.toString()));
+        assertThat(text.substring(5000,6000).toString(),equalTo(expected.substring(5000,6000)));
+        assertThat(text.get(12345),equalTo(Option.some(expected.charAt(12345))));
+        assertThat(text.lines().size(),equalTo(10_000));
+        assertThat(text.lines().get(9_999).map(LazyString::toString),equalTo(Option.some("line 9999")));
+    }
+
+    @Test
+    public void infiniteSourceStaysLazy() {
+        LazyString letters = LazyString.fromLazySeq(LazySeq.iterate('a',c->(char)(c+1)));
+        assertThat(letters.take(3).toString(),equalTo("abc"));
+        assertThat(letters.drop(2).take(3).toString(),equalTo("cde"));
+        assertThat(letters.substring(1,3).toString(),equalTo("bc"));
+        assertThat(letters.get(4),equalTo(Option.some('e')));
+        assertThat(letters.toUpperCase().take(2).toString(),equalTo("AB"));
+        assertThat(letters.filter(c->c!='b').append('!').take(3).toString(),equalTo("acd"));
+        assertFalse(letters.append('!').isEmpty());
+    }
+
+    @Test
+    public void manyAppendsAfterFilter() {
+        LazyString text = LazyString.of("abc").filter(c->c!='b');
+        StringBuilder expected = new StringBuilder("ac");
+        for(int i=0;i<100_000;i++){
+            text = text.append((char)('0' + i % 10));
+            expected.append((char)('0' + i % 10));
+        }
+        assertThat(text.length(),equalTo(100_002));
+        assertThat(text.toString(),equalTo(expected.toString()));
+        assertThat(text.get(50_000),equalTo(Option.some(expected.charAt(50_000))));
+    }
+
+    @Test
+    public void mapCharIsLazy() {
+        int[] calls = {0};
+        LazyString mapped = str.mapChar(c->{
+            calls[0]++;
+            return Character.toUpperCase(c);
+        });
+        assertThat(calls[0],equalTo(0));
+        assertThat(mapped.get(0),equalTo(Option.some('H')));
+        assertThat(calls[0],equalTo(1));
+    }
+
+    @Test
+    public void equalsAcrossRepresentations() {
+        assertThat(str.toUpperCase(),equalTo(caps));
+        assertThat(str.toUpperCase().hashCode(),equalTo(caps.hashCode()));
+        assertThat(str.hashCode(),equalTo(helloWorld.hashCode()));
+        assertThat(LazyString.fromLazySeq(helloWorld).hashCode(),equalTo(str.hashCode()));
+        assertThat(str.append("!"),equalTo(LazyString.of("hello world!")));
+        assertFalse(str.equals(LazyString.of("hello worle")));
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        LazyString value = str.toUpperCase().append("!").substring(2);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(value);
+        }
+        Object read = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertThat(read,equalTo(value));
+    }
 }
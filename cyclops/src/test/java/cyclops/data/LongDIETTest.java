@@ -0,0 +1,145 @@
+package cyclops.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.*;
+
+public class LongDIETTest {
+
+    private static List<String> intervals(LongDIET diet){
+        List<String> res = new ArrayList<>();
+        diet.forEachInterval((start,end)->res.add(start+"-"+end));
+        return res;
+    }
+
+    @Test
+    public void empty(){
+        assertTrue(LongDIET.empty().isEmpty());
+        assertFalse(LongDIET.empty().contains(0));
+        assertThat(LongDIET.empty().count(),equalTo(0L));
+        assertTrue(LongDIET.empty().gaps().isEmpty());
+        assertFalse(LongDIET.empty().first().isPresent());
+    }
+
+    @Test
+    public void adjacentValuesMerge(){
+        LongDIET diet = LongDIET.empty().add(1).add(3).add(2).add(10,20).add(20,25);
+        assertThat(intervals(diet),equalTo(java.util.Arrays.asList("1-4","10-25")));
+        assertThat(diet.count(),equalTo(18L));
+        assertThat(diet.first().orElse(-1L),equalTo(1L));
+        assertThat(diet.last().orElse(-1L),equalTo(24L));
+        assertTrue(diet.contains(10,25));
+        assertFalse(diet.contains(3,11));
+    }
+
+    @Test
+    public void remove(){
+        LongDIET diet = LongDIET.range(0,100).remove(50).remove(10,20).remove(90,200);
+        assertThat(intervals(diet),equalTo(java.util.Arrays.asList("0-10","20-50","51-90")));
+        assertThat(diet.remove(500),equalTo(diet));
+        assertTrue(diet.remove(0,100).isEmpty());
+    }
+
+    @Test
+    public void gaps(){
+        LongDIET diet = LongDIET.of(1,2,3,7,8,20);
+        assertThat(intervals(diet.gaps()),equalTo(java.util.Arrays.asList("4-7","9-20")));
+        assertThat(diet.gaps().count(),equalTo(14L));
+    }
+
+    @Test
+    public void maxValueRejected(){
+        try{
+            LongDIET.empty().add(Long.MAX_VALUE);
+            fail("IllegalArgumentException expected");
+        }catch(IllegalArgumentException e){
+        }
+        try{
+            LongDIET.of(Long.MAX_VALUE-1,Long.MAX_VALUE,5);
+            fail("IllegalArgumentException expected");
+        }catch(IllegalArgumentException e){
+        }
+        LongDIET diet = LongDIET.of(Long.MAX_VALUE-1,5).add(Long.MAX_VALUE-10,Long.MAX_VALUE);
+        assertThat(intervals(diet),equalTo(java.util.Arrays.asList("5-6",(Long.MAX_VALUE-10)+"-"+Long.MAX_VALUE)));
+        assertTrue(diet.contains(Long.MAX_VALUE-1));
+        assertFalse(diet.contains(Long.MAX_VALUE));
+        assertFalse(diet.contains(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void monotonicAddsStayBalanced(){
+        LongDIET diet = LongDIET.empty();
+        for(long i=0;i<100_000;i++){
+            diet = diet.add(i * 2);
+        }
+        assertThat(diet.intervalCount(),equalTo(100_000));
+        assertTrue(diet.contains(199_998));
+        assertFalse(diet.contains(199_999));
+        assertThat(diet.toString().length()>0,equalTo(true));
+        for(long i=0;i<100_000;i++){
+            diet = diet.add(i * 2 + 1);
+        }
+        assertThat(intervals(diet),equalTo(java.util.Arrays.asList("0-200000")));
+    }
+
+    @Test
+    public void addAllMatchesAdd(){
+        Random r = new Random(3);
+        long[] values = new long[5_000];
+        for(int i=0;i<values.length;i++)
+            values[i] = r.nextInt(20_000);
+        LongDIET base = LongDIET.range(100,200).add(15_000,16_000);
+        LongDIET one = base;
+        for(long v : values)
+            one = one.add(v);
+        LongDIET bulk = base.addAll(values);
+        assertThat(bulk,equalTo(one));
+        assertThat(bulk.hashCode(),equalTo(one.hashCode()));
+        assertThat(LongDIET.of(values).addAll(base),equalTo(one));
+    }
+
+    @Test
+    public void values(){
+        assertThat(LongDIET.of(5,1,2,9).values().boxed().collect(java.util.stream.Collectors.toList()),
+                   equalTo(java.util.Arrays.asList(1L,2L,5L,9L)));
+        assertThat(LongDIET.of(5,1,2,9).stream().size(),equalTo(3));
+    }
+
+    @Test
+    public void randomAgainstBitSet(){
+        Random r = new Random(11);
+        BitSet expected = new BitSet();
+        LongDIET diet = LongDIET.empty();
+        for(int i=0;i<20_000;i++){
+            int start = r.nextInt(10_000);
+            int end = start + r.nextInt(50);
+            if(r.nextInt(3)==0){
+                diet = diet.remove(start,end);
+                expected.clear(start,end);
+            }else{
+                diet = diet.add(start,end);
+                expected.set(start,end);
+            }
+            int probe = r.nextInt(10_100);
+            assertThat(diet.contains(probe),equalTo(expected.get(probe)));
+        }
+        assertThat(diet.count(),equalTo((long)expected.cardinality()));
+        for(int i=0;i<10_100;i++){
+            assertThat(diet.contains(i),equalTo(expected.get(i)));
+        }
+        BitSet fromIntervals = new BitSet();
+        diet.forEachInterval((start,end)->{
+            assertThat(start<end,equalTo(true));
+            fromIntervals.set((int)start,(int)end);
+        });
+        assertThat(fromIntervals,equalTo(expected));
+        assertThat(diet.intervalCount(),lessThanOrEqualTo(expected.cardinality()));
+    }
+}
@@ -0,0 +1,94 @@
+package cyclops.data;
+
+import cyclops.control.Option;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class LongObjMapTest {
+
+    @Test
+    public void putGetRemove(){
+        LongObjMap<String> map = LongObjMap.of(10,"hello",-10,"world");
+        assertThat(map.getOrElseLong(10,"missing"),equalTo("hello"));
+        assertThat(map.get(-10),equalTo(Option.some("world")));
+        assertThat(map.get(11),equalTo(Option.none()));
+        assertThat(map.getOrElseGet(11,()->"computed"),equalTo("computed"));
+        assertTrue(map.containsKey(Long.valueOf(10)));
+        assertFalse(map.remove(10).containsKey(10));
+        assertThat(map.remove(10).size(),equalTo(1));
+    }
+
+    @Test
+    public void nullValues(){
+        LongObjMap<String> map = LongObjMap.of(1,null);
+        assertTrue(map.containsKey(1));
+        assertThat(map.get(1),equalTo(Option.some(null)));
+        assertThat(map.getOrElseLong(1,"alt"),equalTo(null));
+    }
+
+    @Test
+    public void matchesModel(){
+        Random r = new Random(3);
+        java.util.Map<Long,String> model = new java.util.HashMap<>();
+        LongObjMap<String> map = LongObjMap.empty();
+        for(int i=0;i<50000;i++){
+            long key = r.nextBoolean() ? r.nextInt(2000) : r.nextLong();
+            if(r.nextInt(3)==0){
+                model.remove(key);
+                map = map.remove(key);
+            }else{
+                model.put(key,""+i);
+                map = map.putLong(key,""+i);
+            }
+        }
+        assertThat(map.size(),equalTo(model.size()));
+        for(java.util.Map.Entry<Long,String> e : model.entrySet()){
+            assertThat(map.getOrElseLong(e.getKey().longValue(),null),equalTo(e.getValue()));
+        }
+        assertThat(map.keys().boxed().collect(Collectors.toSet()),equalTo(model.keySet()));
+        assertThat(map.stream().map(t->t._1()).toSet(),equalTo(model.keySet()));
+        assertThat(map,equalTo(LongObjMap.fromMap(model)));
+        assertThat(map.hashCode(),equalTo(LongObjMap.fromMap(model).hashCode()));
+    }
+
+    @Test
+    public void extremeKeys(){
+        LongObjMap<String> map = LongObjMap.of(Long.MIN_VALUE,"min",Long.MAX_VALUE,"max")
+                                           .putLong(0L,"zero")
+                                           .putLong(-1L,"minus one");
+        assertThat(map.size(),equalTo(4));
+        assertThat(map.getOrElseLong(Long.MIN_VALUE,null),equalTo("min"));
+        assertThat(map.getOrElseLong(Long.MAX_VALUE,null),equalTo("max"));
+        assertThat(map.getOrElseLong(-1L,null),equalTo("minus one"));
+        assertThat(map.remove(Long.MAX_VALUE).remove(Long.MIN_VALUE),equalTo(LongObjMap.of(0L,"zero",-1L,"minus one")));
+    }
+
+    @Test
+    public void persistentMapInterop(){
+        LongObjMap<String> map = LongObjMap.of(1,"a",2,"b");
+        assertTrue(map.equalTo(HashMap.of(1L,"a",2L,"b")));
+        assertThat(map.putAll(HashMap.of(3L,"c")).size(),equalTo(3));
+        assertThat(map.removeAllKeys(Arrays.asList(1L,2L)).size(),equalTo(0));
+        assertThat(map.toString(),equalTo("[{1=a}, {2=b}]"));
+    }
+
+    @Test
+    public void boxedValues(){
+        LongObjMap<Long> map = LongObjMap.<Long>empty().put(1L,2L)
+                                                       .put(-5L,1L);
+        assertThat(map.getOrElse(1L,0L),equalTo(2L));
+        assertThat(map.getOrElseLong(3,0L),equalTo(0L));
+        assertThat(map,equalTo(HashMap.of(1L,2L,-5L,1L)));
+        assertThat(map.hashCode(),equalTo(HashMap.of(1L,2L,-5L,1L).hashCode()));
+        assertThat(map.hashCode(),equalTo(TreeMap.of(Comparator.<Long>naturalOrder(),1L,2L,-5L,1L).hashCode()));
+    }
+}
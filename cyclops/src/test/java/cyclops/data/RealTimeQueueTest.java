@@ -0,0 +1,150 @@
+package cyclops.data;
+
+import com.oath.cyclops.types.traversable.IterableX;
+import cyclops.companion.Reducers;
+import cyclops.control.Option;
+import cyclops.data.basetests.BaseImmutableQueueTest;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class RealTimeQueueTest extends BaseImmutableQueueTest {
+
+    @Test
+    public void enqueueDequeue(){
+        RealTimeQueue<Integer> q = RealTimeQueue.<Integer>empty().enqueue(1)
+                                                                 .enqueue(10);
+        assertThat(q.dequeue(-1),equalTo(Tuple.tuple(1,q.tail())));
+        RealTimeQueue<Integer> q2  = q.dequeue(-1)._2();
+        assertThat(q2.dequeue(-1),equalTo(Tuple.tuple(10,q2.tail())));
+        assertThat(q2.tail().dequeue(-1)._1(),equalTo(-1));
+    }
+
+    @Test
+    public void get(){
+        RealTimeQueue<Integer> q = RealTimeQueue.of(1,2,3)
+                                                .enqueue(4)
+                                                .enqueue(5)
+                                                .prepend(0);
+        for(int i=0;i<6;i++){
+            assertThat(q.get(i),equalTo(Option.some(i)));
+        }
+        assertThat(q.get(6).isPresent(),equalTo(false));
+        assertThat(q.get(-1).isPresent(),equalTo(false));
+        assertThat(q.getOrElse(4,-1),equalTo(4));
+    }
+
+    @Test
+    public void randomOpsMatchArrayDeque(){
+        Random r = new Random(11);
+        RealTimeQueue<Integer> q = RealTimeQueue.empty();
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        for(int i=0;i<20_000;i++){
+            int op = r.nextInt(5);
+            if(op<3){
+                q = q.enqueue(i);
+                expected.addLast(i);
+            }else if(op==3){
+                q = q.prepend(i);
+                expected.addFirst(i);
+            }else if(!expected.isEmpty()){
+                Tuple2<Integer,RealTimeQueue<Integer>> next = q.dequeue(-1);
+                assertThat(next._1(),equalTo(expected.removeFirst()));
+                q = next._2();
+            }
+            assertThat(q.size(),equalTo(expected.size()));
+        }
+        assertThat(q.toList(),equalTo(new ArrayList<>(expected)));
+        while(!expected.isEmpty()){
+            assertThat(q.dequeue(-1)._1(),equalTo(expected.removeFirst()));
+            q = q.tail();
+        }
+        assertThat(q.isEmpty(),equalTo(true));
+    }
+
+    @Test
+    public void persistent(){
+        RealTimeQueue<Integer> q = RealTimeQueue.of(1,2,3).enqueue(4).enqueue(5);
+        RealTimeQueue<Integer> a = q.tail().enqueue(6);
+        RealTimeQueue<Integer> b = q.tail().tail().enqueue(7);
+        assertThat(q.toList(),equalTo(Arrays.asList(1,2,3,4,5)));
+        assertThat(a.toList(),equalTo(Arrays.asList(2,3,4,5,6)));
+        assertThat(b.toList(),equalTo(Arrays.asList(3,4,5,7)));
+    }
+
+    @Test
+    public void collectAndReduce(){
+        assertThat(Stream.of(1,2,3).collect(RealTimeQueue.collector()),equalTo(RealTimeQueue.of(1,2,3)));
+        assertThat(Reducers.<Integer>toRealTimeQueue().foldMap(ReactiveSeq.of(1,2,3)),equalTo(RealTimeQueue.of(1,2,3)));
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        RealTimeQueue<Integer> q = RealTimeQueue.of(1,2,3).enqueue(4).tail().enqueue(5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(q);
+            out.writeObject(RealTimeQueue.empty());
+        }
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertThat(in.readObject(),equalTo(q));
+        assertThat(in.readObject(),equalTo(RealTimeQueue.empty()));
+    }
+
+    @Override
+    protected <T> ImmutableQueue<T> fromStream(Stream<T> s) {
+        return RealTimeQueue.fromStream(s);
+    }
+
+    @Override
+    public <T> ImmutableQueue<T> empty() {
+        return RealTimeQueue.empty();
+    }
+
+    @Override
+    public <T> ImmutableQueue<T> of(T... values) {
+        return RealTimeQueue.of(values);
+    }
+
+    @Override
+    public IterableX<Integer> range(int start, int end) {
+        return RealTimeQueue.fromStream(ReactiveSeq.range(start,end));
+    }
+
+    @Override
+    public IterableX<Long> rangeLong(long start, long end) {
+        return RealTimeQueue.fromStream(ReactiveSeq.rangeLong(start,end));
+    }
+
+    @Override
+    public <T> IterableX<T> iterate(int times, T seed, UnaryOperator<T> fn) {
+        return RealTimeQueue.fromStream(ReactiveSeq.iterate(seed,fn).limit(times));
+    }
+
+    @Override
+    public <T> IterableX<T> generate(int times, Supplier<T> fn) {
+        return RealTimeQueue.fromStream(ReactiveSeq.generate(fn).limit(times));
+    }
+
+    @Override
+    public <U, T> IterableX<T> unfold(U seed, Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+        return RealTimeQueue.fromStream(ReactiveSeq.unfold(seed,unfolder));
+    }
+}
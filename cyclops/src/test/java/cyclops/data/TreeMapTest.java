@@ -1,9 +1,24 @@
 package cyclops.data;
 
 
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.contains;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
 
 /**
  * Created by johnmcclean on 02/09/2017.
@@ -22,4 +37,148 @@ public class TreeMapTest {
 
         System.out.println(map.put(10,"boo!").elementAt(10).orElse(null));
     }
+
+    private TreeMap<Integer,String> evens(int max){
+        TreeMap<Integer,String> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<max;i+=2)
+            map = map.put(i,""+i);
+        return map;
+    }
+
+    private static Option<Tuple2<Integer,String>> entry(Map.Entry<Integer,String> e){
+        return e==null ? Option.none() : Option.some(Tuple.tuple(e.getKey(),e.getValue()));
+    }
+
+    @Test
+    public void navigation(){
+        TreeMap<Integer,String> map = evens(100);
+        assertThat(map.first(),equalTo(Option.some(Tuple.tuple(0,"0"))));
+        assertThat(map.last(),equalTo(Option.some(Tuple.tuple(98,"98"))));
+        assertThat(map.floor(11),equalTo(Option.some(Tuple.tuple(10,"10"))));
+        assertThat(map.floor(10),equalTo(Option.some(Tuple.tuple(10,"10"))));
+        assertThat(map.floor(-1),equalTo(Option.none()));
+        assertThat(map.ceiling(11),equalTo(Option.some(Tuple.tuple(12,"12"))));
+        assertThat(map.ceiling(99),equalTo(Option.none()));
+        assertThat(map.lower(10),equalTo(Option.some(Tuple.tuple(8,"8"))));
+        assertThat(map.higher(10),equalTo(Option.some(Tuple.tuple(12,"12"))));
+        assertThat(TreeMap.<Integer,String>empty(Comparator.naturalOrder()).first(),equalTo(Option.none()));
+    }
+
+    @Test
+    public void rankAndGetAt(){
+        TreeMap<Integer,String> map = evens(100);
+        assertThat(map.size(),equalTo(50));
+        assertThat(map.rank(0),equalTo(0));
+        assertThat(map.rank(11),equalTo(6));
+        assertThat(map.rank(12),equalTo(6));
+        assertThat(map.rank(1000),equalTo(50));
+        for(int i=0;i<50;i++)
+            assertThat(map.getAt(i),equalTo(Option.some(Tuple.tuple(i*2,""+(i*2)))));
+        assertThat(map.getAt(50),equalTo(Option.none()));
+        assertThat(map.getAt(-1),equalTo(Option.none()));
+    }
+
+    @Test
+    public void rangeViews(){
+        TreeMap<Integer,String> map = evens(100);
+        assertThat(map.subMap(10,20).stream().map(t->t._1()).toList(),equalTo(Seq.of(10,12,14,16,18).toList()));
+        assertThat(map.subMap(11,true,20,true).stream().map(t->t._1()).toList(),equalTo(Seq.of(12,14,16,18,20).toList()));
+        assertThat(map.subMap(10,false,20,false).size(),equalTo(4));
+        assertThat(map.subMap(20,10).size(),equalTo(0));
+        assertThat(map.headMap(6).stream().map(t->t._1()).toList(),equalTo(Seq.of(0,2,4).toList()));
+        assertThat(map.headMap(6,true).size(),equalTo(4));
+        assertThat(map.tailMap(94).stream().map(t->t._1()).toList(),equalTo(Seq.of(94,96,98).toList()));
+        assertThat(map.tailMap(94,false).size(),equalTo(2));
+        assertThat(map.subMap(10,20).get(12),equalTo(Option.some("12")));
+        assertThat(map.subMap(10,20).get(20),equalTo(Option.none()));
+    }
+
+    @Test
+    public void randomAgainstJavaTreeMap(){
+        Random r = new Random(11);
+        TreeMap<Integer,String> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        NavigableMap<Integer,String> expected = new java.util.TreeMap<>();
+        for(int i=0;i<5_000;i++){
+            int key = r.nextInt(2_000);
+            if(r.nextInt(3)==0){
+                map = map.remove(key);
+                expected.remove(key);
+            }else{
+                map = map.put(key,""+i);
+                expected.put(key,""+i);
+            }
+        }
+        assertThat(map.size(),equalTo(expected.size()));
+        for(int i=0;i<200;i++){
+            int key = r.nextInt(2_100) - 50;
+            assertThat(map.floor(key),equalTo(entry(expected.floorEntry(key))));
+            assertThat(map.ceiling(key),equalTo(entry(expected.ceilingEntry(key))));
+            assertThat(map.lower(key),equalTo(entry(expected.lowerEntry(key))));
+            assertThat(map.higher(key),equalTo(entry(expected.higherEntry(key))));
+            assertThat(map.rank(key),equalTo(expected.headMap(key).size()));
+
+            int to = key + r.nextInt(300);
+            TreeMap<Integer,String> range = map.subMap(key,to);
+            assertThat(range.size(),equalTo(expected.subMap(key,to).size()));
+            assertThat(range.stream().map(t->t._1()).toList(),equalTo(expected.subMap(key,to).keySet().stream().collect(Collectors.toList())));
+            assertThat(range.put(key,"new").size(),equalTo(expected.subMap(key,true,to,false).size() + (expected.containsKey(key) ? 0 : 1)));
+        }
+        int index = r.nextInt(expected.size());
+        Integer key = expected.keySet().stream().skip(index).findFirst().get();
+        assertThat(map.getAt(index),equalTo(Option.some(Tuple.tuple(key,expected.get(key)))));
+    }
+
+    private static <T> List<T> toList(Iterator<T> it){
+        List<T> res = new ArrayList<>();
+        while(it.hasNext())
+            res.add(it.next());
+        return res;
+    }
+
+    @Test
+    public void iteration(){
+        TreeMap<Integer,String> map = evens(10);
+        assertThat(toList(map.iterator()),contains(Tuple.tuple(0,"0"),Tuple.tuple(2,"2"),Tuple.tuple(4,"4"),Tuple.tuple(6,"6"),Tuple.tuple(8,"8")));
+        assertThat(toList(map.reverseIterator()),contains(Tuple.tuple(8,"8"),Tuple.tuple(6,"6"),Tuple.tuple(4,"4"),Tuple.tuple(2,"2"),Tuple.tuple(0,"0")));
+        assertThat(toList(map.iterator(3)),contains(Tuple.tuple(4,"4"),Tuple.tuple(6,"6"),Tuple.tuple(8,"8")));
+        assertThat(toList(map.iterator(4)),contains(Tuple.tuple(4,"4"),Tuple.tuple(6,"6"),Tuple.tuple(8,"8")));
+        assertThat(toList(map.iterator(9)).size(),equalTo(0));
+        assertThat(toList(TreeMap.<Integer,String>empty(Comparator.naturalOrder()).iterator()).size(),equalTo(0));
+        assertThat(map.foldLeft(0,(acc,t)->acc+t._1()),equalTo(20));
+    }
+
+    @Test
+    public void iterateLarge(){
+        TreeMap<Integer,Integer> map = TreeMap.empty(Comparator.<Integer>naturalOrder());
+        for(int i=0;i<200_000;i++)
+            map = map.put(i,i);
+        int expected = 0;
+        for(Tuple2<Integer,Integer> next : map){
+            assertThat(next._1(),equalTo(expected++));
+        }
+        assertThat(expected,equalTo(200_000));
+        assertThat(map.stream().count(),equalTo(200_000l));
+        assertThat(map.remove(5).stream().elementAt(5).orElse(null),equalTo(Tuple.tuple(6,6)));
+    }
+
+    @Test
+    public void bulkBuildAndPutAll(){
+        Random r = new Random(2);
+        NavigableMap<Integer,String> expected = new java.util.TreeMap<>();
+        java.util.List<Tuple2<Integer,String>> input = new java.util.ArrayList<>();
+        for(int i=0;i<5_000;i++){
+            int key = r.nextInt(3_000);
+            input.add(Tuple.tuple(key,""+i));
+            expected.put(key,""+i);
+        }
+        TreeMap<Integer,String> map = TreeMap.fromStream(input.stream(),Comparator.<Integer>naturalOrder());
+        assertThat(map.stream().toList(),equalTo(expected.entrySet().stream().map(e->Tuple.tuple(e.getKey(),e.getValue())).collect(Collectors.toList())));
+        assertThat(TreeMap.fromMap(Comparator.<Integer>naturalOrder(),expected).stream().toList(),equalTo(map.stream().toList()));
+
+        TreeMap<Integer,String> other = TreeMap.<Integer,String>empty(Comparator.<Integer>naturalOrder()).put(1,"a").put(10_000,"b");
+        expected.put(1,"a");
+        expected.put(10_000,"b");
+        assertThat(map.putAll(other).stream().toList(),equalTo(expected.entrySet().stream().map(e->Tuple.tuple(e.getKey(),e.getValue())).collect(Collectors.toList())));
+        assertThat(map.putAll(HashMap.of(1,"a",10_000,"b")).stream().toList(),equalTo(map.putAll(other).stream().toList()));
+    }
 }
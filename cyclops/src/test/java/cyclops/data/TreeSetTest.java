@@ -7,6 +7,7 @@ import cyclops.control.Option;
 import cyclops.data.tuple.Tuple;
 import cyclops.data.tuple.Tuple2;
 import cyclops.data.basetests.BaseImmutableSortedSetTest;
+import cyclops.reactive.ReactiveSeq;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.Ignore;
@@ -132,4 +133,70 @@ public class TreeSetTest extends BaseImmutableSortedSetTest{
         MatcherAssert.assertThat(of(1).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.nothing()));
         MatcherAssert.assertThat(of(0,1,2,3,4,5,6,1,2,3).lastIndexOfSlice(Seq.of(1,2,3)),equalTo(Maybe.just(1l)));
     }
+
+    @Test
+    public void navigation(){
+        TreeSet<Integer> set = TreeSet.of(1,3,5,7,9);
+        assertThat(set.first(),equalTo(Option.some(1)));
+        assertThat(set.last(),equalTo(Option.some(9)));
+        assertThat(set.floor(4),equalTo(Option.some(3)));
+        assertThat(set.ceiling(4),equalTo(Option.some(5)));
+        assertThat(set.lower(3),equalTo(Option.some(1)));
+        assertThat(set.higher(9),equalTo(Option.none()));
+        assertThat(set.rank(7),equalTo(3));
+        assertThat(set.get(2),equalTo(Option.some(5)));
+    }
+
+    @Test
+    public void rangeViews(){
+        TreeSet<Integer> set = TreeSet.range(0,1_000);
+        assertThat(set.subSet(10,15).toList(),equalTo(Seq.of(10,11,12,13,14).toList()));
+        assertThat(set.subSet(10,false,15,true).toList(),equalTo(Seq.of(11,12,13,14,15).toList()));
+        assertThat(set.headSet(3).toList(),equalTo(Seq.of(0,1,2).toList()));
+        assertThat(set.tailSet(997).toList(),equalTo(Seq.of(997,998,999).toList()));
+        assertThat(set.take(3).toList(),equalTo(Seq.of(0,1,2).toList()));
+        assertThat(set.drop(997).toList(),equalTo(Seq.of(997,998,999).toList()));
+        assertThat(set.tailSet(500).size(),equalTo(500));
+    }
+
+    @Test
+    public void iteration(){
+        TreeSet<Integer> set = TreeSet.of(5,1,3,9,7);
+        assertThat(ReactiveSeq.fromIterator(set.iterator()).toList(),equalTo(Seq.of(1,3,5,7,9).toList()));
+        assertThat(ReactiveSeq.fromIterator(set.reverseIterator()).toList(),equalTo(Seq.of(9,7,5,3,1).toList()));
+        assertThat(ReactiveSeq.fromIterator(set.iterator(4)).toList(),equalTo(Seq.of(5,7,9).toList()));
+        assertThat(set.stream().toList(),equalTo(Seq.of(1,3,5,7,9).toList()));
+    }
+
+    @Test
+    public void bulkOperations(){
+        java.util.Random r = new java.util.Random(1);
+        java.util.TreeSet<Integer> a = new java.util.TreeSet<>();
+        java.util.TreeSet<Integer> b = new java.util.TreeSet<>();
+        for(int i=0;i<2_000;i++){
+            a.add(r.nextInt(5_000));
+            b.add(r.nextInt(5_000));
+        }
+        TreeSet<Integer> ta = TreeSet.fromIterable(a);
+        TreeSet<Integer> tb = TreeSet.fromIterable(Seq.fromIterable(b).shuffle(r));
+
+        java.util.TreeSet<Integer> union = new java.util.TreeSet<>(a);
+        union.addAll(b);
+        assertThat(ta.plusAll(tb).toList(),equalTo(Seq.fromIterable(union).toList()));
+        assertThat(ta.plusAll(Seq.fromIterable(b)).toList(),equalTo(Seq.fromIterable(union).toList()));
+
+        java.util.TreeSet<Integer> intersection = new java.util.TreeSet<>(a);
+        intersection.retainAll(b);
+        assertThat(ta.retainAll(tb).toList(),equalTo(Seq.fromIterable(intersection).toList()));
+
+        java.util.TreeSet<Integer> difference = new java.util.TreeSet<>(a);
+        difference.removeAll(b);
+        assertThat(ta.removeAll(tb).toList(),equalTo(Seq.fromIterable(difference).toList()));
+        assertThat(ta.removeAll(tb).size(),equalTo(difference.size()));
+    }
+
+    @Test
+    public void reducer(){
+        assertThat(ReactiveSeq.of(5,3,1,3,4).foldMap(cyclops.companion.Reducers.toTreeSet()).toList(),equalTo(Seq.of(1,3,4,5).toList()));
+    }
 }
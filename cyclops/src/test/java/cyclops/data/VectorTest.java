@@ -1,5 +1,6 @@
 package cyclops.data;
 
+import cyclops.companion.Reducers;
 import cyclops.control.Either;
 import cyclops.control.Maybe;
 import cyclops.data.base.BAMT;
@@ -448,6 +449,161 @@ public class VectorTest extends BaseImmutableListTest {
 
     }
 
+    @Test
+    public void builderMatchesPlus(){
+        for(int size : new int[]{0,1,31,32,33,64,65,1024,1025,1056,33000,40000}) {
+            Vector<Integer> plus = Vector.empty();
+            Vector.Builder<Integer> builder = Vector.builder();
+            for (int i = 0; i < size; i++) {
+                plus = plus.plus(i);
+                builder.add(i);
+            }
+            Vector<Integer> built = builder.build();
+            assertThat(built.size(), equalTo(size));
+            assertThat(built, equalTo(plus));
+            for (int i = 0; i < size; i++) {
+                assertThat(built.getOrElse(i, -1), equalTo(i));
+            }
+            assertThat(built.plus(-1).getOrElse(size, null), equalTo(-1));
+        }
+    }
+    @Test
+    public void builderReuseAfterBuild(){
+        Vector.Builder<Integer> builder = Vector.builder();
+        for (int i = 0; i < 100; i++) {
+            builder.add(i);
+        }
+        Vector<Integer> first = builder.build();
+        for (int i = 100; i < 2000; i++) {
+            builder.add(i);
+        }
+        Vector<Integer> second = builder.build();
+        assertThat(first, equalTo(Vector.range(0,100)));
+        assertThat(second, equalTo(Vector.range(0,2000)));
+    }
+    @Test
+    public void appendAllLarge(){
+        for(int size : new int[]{0,10,32,33,1056,1100,33000}) {
+            Vector<Integer> base = Vector.range(0, size);
+            Vector<Integer> appended = base.appendAll(Vector.range(size, size + 5000));
+            assertThat(appended, equalTo(Vector.range(0, size + 5000)));
+            assertThat(base, equalTo(Vector.range(0, size)));
+            assertThat(appended.appendAll(Seq.of(-1,-2)).takeRight(2), equalTo(Vector.of(-1,-2)));
+        }
+    }
+    @Test
+    public void collector(){
+        assertThat(ReactiveSeq.range(0,5000).collect(Vector.collector()),equalTo(Vector.range(0,5000)));
+        assertThat(ReactiveSeq.range(0,5000).foldMap(Reducers.toVector()),equalTo(Vector.range(0,5000)));
+        assertThat(Stream.iterate(0,i->i+1).limit(5000).parallel().collect(Vector.collector()),equalTo(Vector.range(0,5000)));
+    }
+
+    @Test
+    public void concatLarge(){
+        for(int left : new int[]{1,31,32,33,100,1024,1057,40000}) {
+            for(int right : new int[]{33,64,1000,1056,40000}) {
+                Vector<Integer> concat = Vector.range(0, left).appendAll(Vector.range(left, left + right));
+                assertThat(concat.size(), equalTo(left + right));
+                for (int i = 0; i < left + right; i++) {
+                    assertThat(concat.getOrElse(i, -1), equalTo(i));
+                }
+                assertThat(concat.plus(-1).getOrElse(left + right, null), equalTo(-1));
+            }
+        }
+    }
+    @Test
+    public void repeatedPrepend(){
+        Vector<Integer> vec = Vector.empty();
+        for(int i=0;i<5000;i++){
+            vec = vec.prepend(i);
+        }
+        assertThat(vec,equalTo(Vector.range(0,5000).reverse()));
+    }
+    @Test
+    public void takeDropShareStructure(){
+        Vector<Integer> vec = Vector.range(0,100000);
+        for(int n : new int[]{1,31,32,33,1023,1024,1025,32768,32769,99967,99999}) {
+            assertThat(vec.take(n), equalTo(Vector.fromStream(ReactiveSeq.range(0, n))));
+            assertThat(vec.drop(n), equalTo(Vector.fromStream(ReactiveSeq.range(n, 100000))));
+            assertThat(vec.take(n).plus(-1).getOrElse(n, null), equalTo(-1));
+            assertThat(vec.drop(n).plus(-1).getOrElse(100000 - n, null), equalTo(-1));
+        }
+    }
+    @Test
+    public void randomSplicing(){
+        java.util.Random random = new java.util.Random(7);
+        Vector<Integer> vec = Vector.empty();
+        java.util.List<Integer> model = new ArrayList<>();
+        int next = 0;
+        for(int step=0;step<3000;step++){
+            int op = random.nextInt(9);
+            int pos = model.isEmpty() ? 0 : random.nextInt(model.size()+1);
+            switch(op){
+                case 0: {
+                    int count = random.nextInt(200);
+                    java.util.List<Integer> values = new ArrayList<>();
+                    for(int i=0;i<count;i++)
+                        values.add(next++);
+                    vec = vec.insertAt(pos,values);
+                    model.addAll(pos,values);
+                    break;
+                }
+                case 1:
+                    if(pos<model.size()){
+                        vec = vec.removeAt(pos);
+                        model.remove(pos);
+                    }
+                    break;
+                case 2: {
+                    vec = vec.prepend(next);
+                    model.add(0,next++);
+                    break;
+                }
+                case 3: {
+                    vec = vec.append(next);
+                    model.add(next++);
+                    break;
+                }
+                case 4: {
+                    vec = vec.appendAll(vec.take(pos));
+                    model.addAll(new ArrayList<>(model.subList(0,pos)));
+                    break;
+                }
+                case 5: {
+                    vec = vec.drop(pos/4);
+                    model = new ArrayList<>(model.subList(pos/4,model.size()));
+                    break;
+                }
+                case 6: {
+                    if(model.size()>5000) {
+                        vec = vec.take(model.size()/2);
+                        model = new ArrayList<>(model.subList(0, model.size()/2));
+                    }
+                    break;
+                }
+                case 7: {
+                    if(pos<model.size()){
+                        vec = vec.updateAt(pos,-pos);
+                        model.set(pos,-pos);
+                    }
+                    break;
+                }
+                default: {
+                    int end = Math.min(model.size(),pos+random.nextInt(100));
+                    vec = vec.deleteBetween(pos,end);
+                    model.subList(pos,end).clear();
+                }
+            }
+            assertThat(vec.size(),equalTo(model.size()));
+            if(step%50==0 || model.size()<200) {
+                for (int i = 0; i < model.size(); i++) {
+                    assertThat(vec.getOrElse(i, null), equalTo(model.get(i)));
+                }
+                assertThat(vec.map(i->i*2).toList(),equalTo(ReactiveSeq.fromIterable(model).map(i->i*2).toList()));
+            }
+        }
+    }
+
     @Test
     public void setEither(){
         Vector<Integer> ints = Vector.of(1,2,3);
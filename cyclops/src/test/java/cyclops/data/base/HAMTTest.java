@@ -7,6 +7,7 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import java.util.Random;
 import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.equalTo;
@@ -225,8 +226,160 @@ public class HAMTTest {
 
     }
 
-    
+    @Test
+    public void removeKeepsDeepNodesAtTheirDepth() {
+        //0 and 32 share the first 5 bits so live in a BitsetNode one level down
+        Node<Integer, Integer> node = HAMT.<Integer, Integer>empty().put(1, 1)
+                                                                    .put(0, 0)
+                                                                    .put(32, 32);
+        node = node.minus(1);
+        assertThat(node.size(), equalTo(2));
+        assertThat(node.get(0), equalTo(Option.some(0)));
+        assertThat(node.get(32), equalTo(Option.some(32)));
+        assertThat(node.minus(0).minus(32).size(), equalTo(0));
+    }
+
+    @Test
+    public void transientMatchesPersistent() {
+        Random r = new Random(3);
+        Node<Integer, Integer> persistent = HAMT.empty();
+        Node<Integer, Integer> edited = HAMT.empty();
+        Object edit = new Object();
+        for (int i = 0; i < 20000; i++) {
+            int key = r.nextInt(5000);
+            //mask the hash so that collisions and deep paths are common
+            int hash = key & 0x30C1;
+            if (r.nextInt(3) == 0) {
+                persistent = persistent.minus(0, hash, key);
+                edited = edited.minus(edit, 0, hash, key);
+            } else {
+                persistent = persistent.plus(0, hash, key, i);
+                edited = edited.plus(edit, 0, hash, key, i);
+            }
+            assertThat(edited.size(), equalTo(persistent.size()));
+        }
+        for (int key = 0; key < 5000; key++) {
+            int hash = key & 0x30C1;
+            assertThat(edited.get(0, hash, key), equalTo(persistent.get(0, hash, key)));
+        }
+    }
 
+    @Test
+    public void transientDoesNotMutateSharedOrFrozenNodes() {
+        Node<Integer, Integer> base = HAMT.empty();
+        for (int i = 0; i < 1000; i++) {
+            base = base.put(i, i);
+        }
+        HAMT.Transient<Integer, Integer> tr = new HAMT.Transient<>(base);
+        for (int i = 0; i < 2000; i++) {
+            tr.put(i, -i);
+        }
+        Node<Integer, Integer> first = tr.freeze();
+        for (int i = 0; i < 2000; i += 2) {
+            tr.remove(i);
+        }
+        Node<Integer, Integer> second = tr.freeze();
+
+        assertThat(base.size(), equalTo(1000));
+        assertThat(first.size(), equalTo(2000));
+        assertThat(second.size(), equalTo(1000));
+        for (int i = 0; i < 2000; i++) {
+            if (i < 1000)
+                assertThat(base.get(i), equalTo(Option.some(i)));
+            assertThat(first.get(i), equalTo(Option.some(-i)));
+            assertThat(second.get(i), equalTo(i % 2 == 0 ? Option.none() : Option.some(-i)));
+        }
+    }
 
+    private Node<Integer, Integer> randomTree(Random r, int n, java.util.Map<Integer, Integer> model) {
+        Node<Integer, Integer> node = HAMT.empty();
+        for (int i = 0; i < n; i++) {
+            int key = r.nextInt(4000);
+            node = node.plus(0, key & 0x30C1, key, i);
+            model.put(key, i);
+        }
+        return node;
+    }
+
+    @Test
+    public void setAlgebraMatchesModel() {
+        Random r = new Random(11);
+        for (int run = 0; run < 20; run++) {
+            java.util.Map<Integer, Integer> leftModel = new java.util.HashMap<>();
+            java.util.Map<Integer, Integer> rightModel = new java.util.HashMap<>();
+            Node<Integer, Integer> left = randomTree(r, r.nextInt(2000), leftModel);
+            Node<Integer, Integer> right = randomTree(r, r.nextInt(2000), rightModel);
+
+            Node<Integer, Integer> union = HAMT.union(left, right, Integer::sum);
+            Node<Integer, Integer> intersection = HAMT.intersection(left, right, Integer::sum);
+            Node<Integer, Integer> difference = HAMT.difference(left, right);
+
+            int unionSize = 0, intersectionSize = 0, differenceSize = 0;
+            for (int key = 0; key < 4000; key++) {
+                int hash = key & 0x30C1;
+                Integer l = leftModel.get(key);
+                Integer rt = rightModel.get(key);
+                Option<Integer> expectedUnion = l == null ? Option.ofNullable(rt) : rt == null ? Option.some(l) : Option.some(l + rt);
+                Option<Integer> expectedIntersection = l != null && rt != null ? Option.some(l + rt) : Option.none();
+                Option<Integer> expectedDifference = l != null && rt == null ? Option.some(l) : Option.none();
+                assertThat(union.get(0, hash, key), equalTo(expectedUnion));
+                assertThat(intersection.get(0, hash, key), equalTo(expectedIntersection));
+                assertThat(difference.get(0, hash, key), equalTo(expectedDifference));
+                unionSize += expectedUnion.isPresent() ? 1 : 0;
+                intersectionSize += expectedIntersection.isPresent() ? 1 : 0;
+                differenceSize += expectedDifference.isPresent() ? 1 : 0;
+            }
+            assertThat(union.size(), equalTo(unionSize));
+            assertThat(intersection.size(), equalTo(intersectionSize));
+            assertThat(difference.size(), equalTo(differenceSize));
+            assertTrue(HAMT.equivalent(HAMT.union(difference, HAMT.intersection(left, right)), left));
+            assertFalse(HAMT.equivalent(union, left) && rightModel.keySet().stream().anyMatch(k -> !leftModel.containsKey(k)));
+        }
+    }
+
+    @Test
+    public void setAlgebraReusesSubtrees() {
+        Node<Integer, Integer> node = HAMT.empty();
+        for (int i = 0; i < 5000; i++) {
+            node = node.put(i, i);
+        }
+        Node<Integer, Integer> changed = node.put(10_000, 1);
+
+        assertTrue(HAMT.union(node, node) == node);
+        assertTrue(HAMT.union(node, HAMT.empty()) == node);
+        assertTrue(HAMT.intersection(node, node) == node);
+        assertTrue(HAMT.intersection(changed, node) != changed);
+        assertTrue(HAMT.intersection(node, changed) == node);
+        assertThat(HAMT.difference(node, node).size(), equalTo(0));
+        assertTrue(HAMT.union(changed, node) == changed);
+        assertTrue(HAMT.equivalent(HAMT.intersection(changed, node), node));
+        assertFalse(HAMT.equivalent(changed, node));
+        assertTrue(HAMT.difference(changed, HAMT.<Integer, Integer>empty().put(-1, -1)) == changed);
+    }
+
+    @Test
+    public void removeCompactsToCanonicalForm() {
+        Random r = new Random(7);
+        Node<Integer, Integer> all = HAMT.empty();
+        Node<Integer, Integer> odd = HAMT.empty();
+        for (int key = 0; key < 3000; key++) {
+            all = all.plus(0, key & 0x30C1, key, key);
+            if (key % 2 == 1)
+                odd = odd.plus(0, key & 0x30C1, key, key);
+        }
+        Node<Integer, Integer> removed = all;
+        for (int key = 0; key < 3000; key += 2) {
+            removed = removed.minus(0, key & 0x30C1, key);
+        }
+        //the same entries give the same trie however they were added, so bitmap comparison is enough
+        assertTrue(HAMT.equivalent(removed, odd));
+        assertThat(removed.toString(), equalTo(odd.toString()));
+
+        java.util.Set<Integer> seen = new java.util.HashSet<>();
+        removed.iterator().forEachRemaining(t -> assertTrue(seen.add(t._1())));
+        assertThat(seen.size(), equalTo(1500));
+        assertThat(removed.stream().count(), equalTo(1500L));
+        assertThat(removed.lazyList().size(), equalTo(1500));
+    }
 
 }
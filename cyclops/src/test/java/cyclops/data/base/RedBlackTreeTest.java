@@ -0,0 +1,141 @@
+package cyclops.data.base;
+
+import cyclops.data.base.RedBlackTree.Node;
+import cyclops.data.base.RedBlackTree.Tree;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.Assert.assertThat;
+
+public class RedBlackTreeTest {
+
+    Comparator<Integer> comp = Comparator.naturalOrder();
+
+    //black height of a valid tree, fails on a red node with a red child or unequal black heights
+    private static int blackHeight(Tree<?,?> tree){
+        if(tree.isEmpty())
+            return 1;
+        Node<?,?> node = (Node<?,?>)tree;
+        if(node.isRed()){
+            assertThat(node.left().isRed() && !node.left().isEmpty(),equalTo(false));
+            assertThat(node.right().isRed() && !node.right().isEmpty(),equalTo(false));
+        }
+        int left = blackHeight(node.left());
+        assertThat(blackHeight(node.right()),equalTo(left));
+        assertThat(node.size(),equalTo(node.left().size() + node.right().size() + 1));
+        return left + (node.isBlack() ? 1 : 0);
+    }
+
+    private static <K,V> List<Tuple2<K,V>> entries(Tree<K,V> tree){
+        List<Tuple2<K,V>> res = new ArrayList<>();
+        Iterator<Tuple2<K,V>> it = tree.iterator();
+        while(it.hasNext())
+            res.add(it.next());
+        return res;
+    }
+
+    private static List<Tuple2<Integer,Integer>> entries(java.util.Map<Integer,Integer> map){
+        return map.entrySet().stream().map(e->Tuple.tuple(e.getKey(),e.getValue())).collect(Collectors.toList());
+    }
+
+    @Test
+    public void bulkBuildSorted(){
+        for(int size=0;size<300;size++){
+            Tree<Integer,Integer> tree = RedBlackTree.fromStream(comp,IntStream.range(0,size).mapToObj(i->Tuple.tuple(i,i*2)));
+            blackHeight(tree);
+            assertThat(tree.size(),equalTo(size));
+            assertThat(entries(tree),equalTo(IntStream.range(0,size).mapToObj(i->Tuple.tuple(i,i*2)).collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void bulkBuildUnsortedLastValueWins(){
+        Random r = new Random(3);
+        List<Tuple2<Integer,Integer>> input = new ArrayList<>();
+        TreeMap<Integer,Integer> expected = new TreeMap<>();
+        for(int i=0;i<10_000;i++){
+            int key = r.nextInt(3_000);
+            input.add(Tuple.tuple(key,i));
+            expected.put(key,i);
+        }
+        Tree<Integer,Integer> tree = RedBlackTree.fromIterator(comp,input.iterator());
+        blackHeight(tree);
+        assertThat(entries(tree),equalTo(entries(expected)));
+    }
+
+    @Test
+    public void bulkBuildValues(){
+        List<Integer> values = IntStream.range(0,1_000).boxed().collect(Collectors.toList());
+        Collections.shuffle(values,new Random(5));
+        values.addAll(values.subList(0,100));
+        Tree<Integer,Integer> tree = RedBlackTree.fromValues(comp,values.iterator());
+        blackHeight(tree);
+        assertThat(tree.size(),equalTo(1_000));
+        assertThat(tree.getAt(500).map(t->t._1()).orElse(null),equalTo(500));
+    }
+
+    private Tree<Integer,Integer> random(Random r, int size, int range, int value){
+        Tree<Integer,Integer> tree = RedBlackTree.empty(comp);
+        for(int i=0;i<size;i++)
+            tree = RedBlackTree.rootIsBlack(tree.plus(r.nextInt(range),value));
+        return tree;
+    }
+
+    @Test
+    public void setOperations(){
+        Random r = new Random(9);
+        for(int run=0;run<50;run++){
+            Tree<Integer,Integer> a = random(r,r.nextInt(500),1_000,1);
+            Tree<Integer,Integer> b = random(r,r.nextInt(500),1_000,2);
+            TreeMap<Integer,Integer> ea = new TreeMap<>();
+            entries(a).forEach(t->ea.put(t._1(),t._2()));
+            TreeMap<Integer,Integer> eb = new TreeMap<>();
+            entries(b).forEach(t->eb.put(t._1(),t._2()));
+
+            TreeMap<Integer,Integer> union = new TreeMap<>(ea);
+            union.putAll(eb);
+            Tree<Integer,Integer> u = RedBlackTree.union(a,b);
+            blackHeight(u);
+            assertThat(entries(u),equalTo(entries(union)));
+
+            TreeMap<Integer,Integer> intersection = new TreeMap<>(ea);
+            intersection.keySet().retainAll(eb.keySet());
+            Tree<Integer,Integer> i = RedBlackTree.intersection(a,b);
+            blackHeight(i);
+            assertThat(entries(i),equalTo(entries(intersection)));
+
+            TreeMap<Integer,Integer> difference = new TreeMap<>(ea);
+            difference.keySet().removeAll(eb.keySet());
+            Tree<Integer,Integer> d = RedBlackTree.difference(a,b);
+            blackHeight(d);
+            assertThat(entries(d),equalTo(entries(difference)));
+        }
+    }
+
+    @Test
+    public void joinUnevenTrees(){
+        Tree<Integer,Integer> small = RedBlackTree.fromStream(comp,IntStream.range(0,3).mapToObj(i->Tuple.tuple(i,i)));
+        Tree<Integer,Integer> large = RedBlackTree.fromStream(comp,IntStream.range(4,10_000).mapToObj(i->Tuple.tuple(i,i)));
+        assertThat(blackHeight(large),greaterThan(blackHeight(small)));
+        Tree<Integer,Integer> joined = RedBlackTree.join(small,3,3,large);
+        blackHeight(joined);
+        assertThat(entries(joined),equalTo(IntStream.range(0,10_000).mapToObj(i->Tuple.tuple(i,i)).collect(Collectors.toList())));
+        Tree<Integer,Integer> reversed = RedBlackTree.join(RedBlackTree.fromStream(comp,IntStream.range(0,9_996).mapToObj(i->Tuple.tuple(i,i))),9_996,9_996,
+                                                           RedBlackTree.fromStream(comp,IntStream.range(9_997,10_000).mapToObj(i->Tuple.tuple(i,i))));
+        blackHeight(reversed);
+        assertThat(reversed.size(),equalTo(10_000));
+    }
+}
@@ -0,0 +1,191 @@
+package cyclops.data.base;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.*;
+
+public class RopeTest {
+
+    private static int maxDepth(int length){
+        //AVL height bound, 1.44 log2(leaves + 2)
+        return (int)Math.ceil(1.45 * (Math.log(length + 2) / Math.log(2))) + 1;
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Rope.empty().length(),equalTo(0));
+        assertThat(Rope.of("").toString(),equalTo(""));
+        assertThat(Rope.empty().concat(Rope.empty()).length(),equalTo(0));
+    }
+
+    @Test
+    public void charAtAndSubSequence(){
+        Rope rope = Rope.of("hello").concat(Rope.of(" ")).concat(Rope.of("world"));
+        assertThat(rope.toString(),equalTo("hello world"));
+        assertThat(rope.charAt(6),equalTo('w'));
+        assertThat(rope.subSequence(3,8).toString(),equalTo("lo wo"));
+        assertThat(rope.subSequence(0,11),equalTo(rope));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void charAtOutOfRange(){
+        Rope.of("hello").charAt(5);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void subSequenceOutOfRange(){
+        Rope.of("hello").subSequence(2,6);
+    }
+
+    @Test
+    public void repeatedAppendStaysBalanced(){
+        Rope rope = Rope.empty();
+        StringBuilder expected = new StringBuilder();
+        for(int i=0;i<20_000;i++){
+            String next = Integer.toString(i);
+            rope = rope.concat(Rope.of(next));
+            expected.append(next);
+        }
+        assertThat(rope.toString(),equalTo(expected.toString()));
+        assertThat(rope.depth(),lessThanOrEqualTo(maxDepth(rope.length() / Rope.SHORT_LEAF)));
+    }
+
+    @Test
+    public void repeatedPrependStaysBalanced(){
+        Rope rope = Rope.empty();
+        StringBuilder expected = new StringBuilder();
+        for(int i=0;i<20_000;i++){
+            rope = Rope.of((char)('a' + i % 26)).concat(rope);
+            expected.insert(0,(char)('a' + i % 26));
+        }
+        assertThat(rope.toString(),equalTo(expected.toString()));
+        assertThat(rope.depth(),lessThanOrEqualTo(maxDepth(rope.length() / Rope.SHORT_LEAF)));
+    }
+
+    @Test
+    public void largeLeavesStayBalanced(){
+        Rope rope = Rope.empty();
+        for(int i=0;i<5_000;i++){
+            rope = i % 2 == 0 ? rope.concat(Rope.of("0123456789012345678901234567890123456789012345678901234567890123456789"))
+                              : Rope.of("abcdefghijabcdefghijabcdefghijabcdefghijabcdefghijabcdefghijabcdefghij").concat(rope);
+        }
+        assertThat(rope.length(),equalTo(5_000 * 70));
+        assertThat(rope.depth(),lessThanOrEqualTo(maxDepth(5_000)));
+    }
+
+    @Test
+    public void randomEditsMatchStringBuilder(){
+        Random r = new Random(7);
+        Rope rope = Rope.empty();
+        StringBuilder expected = new StringBuilder();
+        for(int i=0;i<5_000;i++){
+            int op = r.nextInt(4);
+            int len = expected.length();
+            if(op==0 || len==0){
+                String next = Integer.toString(r.nextInt(100_000));
+                int at = len==0 ? 0 : r.nextInt(len+1);
+                rope = rope.subSequence(0,at).concat(Rope.of(next)).concat(rope.subSequence(at,len));
+                expected.insert(at,next);
+            }else if(op==1){
+                int start = r.nextInt(len);
+                int end = start + r.nextInt(Math.min(20,len-start)+1);
+                rope = rope.subSequence(0,start).concat(rope.subSequence(end,len));
+                expected.delete(start,end);
+            }else if(op==2){
+                int start = r.nextInt(len);
+                int end = start + r.nextInt(len-start+1);
+                assertThat(rope.subSequence(start,end).toString(),equalTo(expected.substring(start,end)));
+            }else{
+                int at = r.nextInt(len);
+                assertThat(rope.charAt(at),equalTo(expected.charAt(at)));
+            }
+            assertThat(rope.length(),equalTo(expected.length()));
+        }
+        assertThat(rope.toString(),equalTo(expected.toString()));
+        assertThat(rope.depth(),lessThanOrEqualTo(maxDepth(rope.length())));
+    }
+
+    @Test
+    public void charIterator(){
+        Rope rope = Rope.of("abc").concat(Rope.of("def").map(Character::toUpperCase)).concat(Rope.of("ghi"));
+        StringBuilder sb = new StringBuilder();
+        PrimitiveIterator.OfInt it = rope.charIterator();
+        while(it.hasNext()){
+            sb.append((char)it.nextInt());
+        }
+        assertThat(sb.toString(),equalTo("abcDEFghi"));
+    }
+
+    @Test
+    public void mapIsLazy(){
+        AtomicInteger calls = new AtomicInteger(0);
+        Rope rope = Rope.of("hello world").map(c->{
+            calls.incrementAndGet();
+            return Character.toUpperCase(c);
+        });
+        assertThat(calls.get(),equalTo(0));
+        assertThat(rope.charAt(4),equalTo('O'));
+        assertThat(calls.get(),equalTo(1));
+        assertThat(rope.subSequence(6,11).toString(),equalTo("WORLD"));
+    }
+
+    @Test
+    public void mappedRopesRebalance(){
+        Rope rope = Rope.empty();
+        StringBuilder expected = new StringBuilder();
+        for(int i=0;i<2_000;i++){
+            String next = "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz";
+            rope = rope.concat(Rope.of(next)).map(Character::toUpperCase);
+            expected.append(next.toUpperCase());
+        }
+        assertThat(rope.toString(),equalTo(expected.toString()));
+        assertThat(rope.depth(),lessThanOrEqualTo(maxDepth(2_000)));
+    }
+
+    @Test
+    public void deferredIsLazy(){
+        AtomicInteger calls = new AtomicInteger(0);
+        Rope rope = Rope.deferred(()->{
+            calls.incrementAndGet();
+            return Rope.of("hello");
+        });
+        Rope concat = rope.concat(Rope.of(" world")).map(Character::toUpperCase);
+        assertThat(calls.get(),equalTo(0));
+        assertFalse(concat.isForced());
+        assertThat(concat.toString(),equalTo("HELLO WORLD"));
+        assertThat(concat.length(),equalTo(11));
+        assertThat(calls.get(),equalTo(1));
+    }
+
+    @Test
+    public void deferredSource(){
+        Rope rope = Rope.deferred(Arrays.asList('a','b','c'));
+        assertThat(rope.unforcedSource(),equalTo(Arrays.asList('a','b','c')));
+        assertThat(rope.toString(),equalTo("abc"));
+        assertNull(rope.unforcedSource());
+    }
+
+    @Test
+    public void serialization() throws Exception {
+        Rope rope = Rope.of("hello").concat(Rope.of(" world with enough characters to not be merged into a single short leaf"))
+                                    .map(Character::toUpperCase)
+                                    .subSequence(2,20);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try(ObjectOutputStream out = new ObjectOutputStream(bytes)){
+            out.writeObject(rope);
+        }
+        Rope read = (Rope)new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        assertThat(read.toString(),equalTo(rope.toString()));
+    }
+}
@@ -0,0 +1,214 @@
+package cyclops.function;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.fail;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void lruEvictsLeastRecentlyUsed(){
+        BoundedCache<Integer> cache = BoundedCache.lru(3);
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> {
+            calls.incrementAndGet();
+            return i * 2;
+        },cache);
+
+        fn.apply(1);
+        fn.apply(2);
+        fn.apply(3);
+        fn.apply(1);
+        fn.apply(4);
+        assertThat(cache.size(),equalTo(3L));
+        assertThat(calls.get(),equalTo(4));
+
+        assertThat(fn.apply(1),equalTo(2));
+        assertThat(calls.get(),equalTo(4));
+        assertThat(fn.apply(2),equalTo(4));
+        assertThat(calls.get(),equalTo(5));
+        assertThat(cache.stats().evictionCount(),equalTo(2L));
+    }
+
+    private static long hotKeyMisses(BoundedCache<Integer> cache){
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> i, cache);
+        long misses = 0;
+        for(int i=0;i<30_000;i++){
+            fn.apply(1_000_000 + 2 * i);
+            fn.apply(1_000_000 + 2 * i + 1);
+            long before = cache.stats().missCount();
+            fn.apply(i % 50);
+            if(i > 10_000)
+                misses += cache.stats().missCount() - before;
+        }
+        return misses;
+    }
+
+    @Test
+    public void tinyLfuKeepsFrequentKeys(){
+        //each hot key is reused after 150 other requests, more than an LRU of 100 entries can hold
+        BoundedCache<Integer> lfu = BoundedCache.tinyLfu(100);
+        BoundedCache<Integer> lru = BoundedCache.lru(100);
+        long lfuMisses = hotKeyMisses(lfu);
+        long lruMisses = hotKeyMisses(lru);
+        assertThat(lruMisses,equalTo(19_999L));
+        assertThat(lfuMisses,lessThanOrEqualTo(1_000L));
+        assertThat(lfu.size(),lessThanOrEqualTo(100L));
+    }
+
+    @Test
+    public void sizeStaysBounded(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(1000);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> i, cache);
+        for(int i=0;i<100_000;i++){
+            assertThat(fn.apply(i % 7919),equalTo(i % 7919));
+        }
+        assertThat(cache.size(),lessThanOrEqualTo(1000L));
+        assertThat(cache.weightedSize(),equalTo(cache.size()));
+    }
+
+    @Test
+    public void maximumWeight(){
+        BoundedCache<String> cache = BoundedCache.<String>builder()
+                                                 .maximumWeight(100, (k, v) -> v.length())
+                                                 .eviction(BoundedCache.Eviction.LRU)
+                                                 .build();
+        Function1<Integer,String> fn = Memoize.memoizeFunction(i -> String.format("%0" + i + "d", 0), cache);
+        for(int i=1;i<=30;i++)
+            fn.apply(i);
+        assertThat(cache.weightedSize(),lessThanOrEqualTo(100L));
+        assertThat(cache.stats().evictionCount(),greaterThan(0L));
+    }
+
+    @Test
+    public void expireAfterWrite(){
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+                                                  .expireAfterWrite(10, TimeUnit.NANOSECONDS)
+                                                  .ticker(time::get)
+                                                  .build();
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> calls.incrementAndGet(), cache);
+        assertThat(fn.apply(1),equalTo(1));
+        time.set(5);
+        assertThat(fn.apply(1),equalTo(1));
+        time.set(10);
+        assertThat(fn.apply(1),equalTo(2));
+    }
+
+    @Test
+    public void expireAfterAccess(){
+        AtomicLong time = new AtomicLong(0);
+        BoundedCache<Integer> cache = BoundedCache.<Integer>builder()
+                                                  .expireAfterAccess(10, TimeUnit.NANOSECONDS)
+                                                  .ticker(time::get)
+                                                  .build();
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> calls.incrementAndGet(), cache);
+        assertThat(fn.apply(1),equalTo(1));
+        for(int t=5;t<50;t+=5){
+            time.set(t);
+            assertThat(fn.apply(1),equalTo(1));
+        }
+        time.set(100);
+        assertThat(fn.apply(1),equalTo(2));
+    }
+
+    @Test
+    public void loadsOnceUnderContention() throws Exception {
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(10);
+        AtomicInteger calls = new AtomicInteger(0);
+        CountDownLatch start = new CountDownLatch(1);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> {
+            calls.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return i;
+        }, cache);
+        ExecutorService ex = Executors.newFixedThreadPool(8);
+        try {
+            Future<?>[] futures = new Future[8];
+            for (int i = 0; i < 8; i++) {
+                futures[i] = ex.submit(() -> {
+                    start.await();
+                    return fn.apply(42);
+                });
+            }
+            start.countDown();
+            for (Future<?> f : futures)
+                assertThat(f.get(),equalTo(42));
+        }finally {
+            ex.shutdown();
+        }
+        assertThat(calls.get(),equalTo(1));
+        assertThat(cache.stats().missCount(),equalTo(1L));
+        assertThat(cache.stats().hitCount(),equalTo(7L));
+    }
+
+    @Test
+    public void failedLoadsAreNotCached(){
+        BoundedCache<Integer> cache = BoundedCache.tinyLfu(10);
+        AtomicInteger calls = new AtomicInteger(0);
+        Function<Integer,Integer> fn = Memoize.memoizeFunction(i -> {
+            if(calls.incrementAndGet()==1)
+                throw new IllegalStateException("boom");
+            return i;
+        }, cache);
+        try {
+            fn.apply(1);
+            fail("exception expected");
+        }catch(IllegalStateException e){
+
+        }
+        assertThat(fn.apply(1),equalTo(1));
+        assertThat(cache.size(),equalTo(1L));
+    }
+
+    @Test
+    public void invalidate(){
+        BoundedCache<Integer> cache = BoundedCache.lru(10);
+        AtomicInteger calls = new AtomicInteger(0);
+        Function1<Integer,Integer> fn = Memoize.memoizeFunction(i -> calls.incrementAndGet(), cache);
+        fn.apply(1);
+        fn.apply(2);
+        cache.invalidate(1);
+        assertThat(fn.apply(1),equalTo(3));
+        cache.invalidateAll();
+        assertThat(cache.size(),equalTo(0L));
+        assertThat(cache.weightedSize(),equalTo(0L));
+    }
+
+    @Test
+    public void fluentMemoize(){
+        AtomicInteger calls = new AtomicInteger(0);
+        FluentFunctions.FluentBiFunction<Integer,Integer,Integer> fn = FluentFunctions.of((Integer a, Integer b) -> {
+            calls.incrementAndGet();
+            return a + b;
+        }).memoize(2);
+        fn.apply(1,2);
+        fn.apply(1,2);
+        assertThat(calls.get(),equalTo(1));
+        fn.apply(2,3);
+        fn.apply(3,4);
+        fn.apply(4,5);
+        //the frequently used (1,2) is kept over the one-off keys
+        assertThat(fn.apply(1,2),equalTo(3));
+        assertThat(calls.get(),equalTo(4));
+    }
+}
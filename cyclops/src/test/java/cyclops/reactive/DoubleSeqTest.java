@@ -0,0 +1,102 @@
+package cyclops.reactive;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class DoubleSeqTest {
+
+    @Test
+    public void pipeline(){
+        assertThat(DoubleSeq.of(1.5,2.5,3.5).map(d->d*2).filter(d->d>4).sum(),equalTo(12d));
+        assertThat(DoubleSeq.of(1,2,3).scanLeft(0,Double::sum).toArray(),equalTo(new double[]{0,1,3,6}));
+        assertThat(DoubleSeq.of(1,2,3).zip(DoubleSeq.of(0.5,0.5),(a,b)->a*b).toArray(),equalTo(new double[]{0.5,1}));
+        assertThat(DoubleSeq.fromStream(DoubleStream.of(1,2,3)).sliding(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[1.0, 2.0]","[2.0, 3.0]")));
+        assertThat(DoubleSeq.empty().count(),equalTo(0L));
+    }
+
+    @Test
+    public void mapFilterSum(){
+        assertThat(DoubleSeq.of(0,1,2,3,4,5,6,7,8,9).map(d->d*2).filter(d->d>4).sum(),equalTo(84d));
+        assertThat(DoubleSeq.of(1,2,3).map(d->d+1).map(d->d/2).toArray(),equalTo(new double[]{1,1.5,2}));
+        assertThat(DoubleSeq.empty().sum(),equalTo(0d));
+        assertThat(DoubleSeq.of(1,Double.NaN).filter(d->!Double.isNaN(d)).count(),equalTo(1L));
+    }
+
+    @Test
+    public void replayable(){
+        DoubleSeq seq = DoubleSeq.of(1,2,3).map(d->d*2);
+        assertThat(seq.sum(),equalTo(12d));
+        assertThat(seq.sum(),equalTo(12d));
+    }
+
+    @Test
+    public void scanLeftAndZip(){
+        assertThat(DoubleSeq.empty().scanLeft(5,Double::sum).toArray(),equalTo(new double[]{5}));
+        assertThat(toList(DoubleSeq.of(1,2,3).scanLeft(0,Double::sum).iterator()),equalTo(Arrays.asList(0d,1d,3d,6d)));
+        assertThat(DoubleSeq.of(1,2,3,4).zip(DoubleSeq.of(1,2,3,4).filter(d->d%2==0),(a,b)->a*b).toArray(),equalTo(new double[]{2,8}));
+        assertThat(toList(DoubleSeq.of(1,2,3).zip(DoubleSeq.of(4,5),Double::sum).iterator()),equalTo(Arrays.asList(5d,7d)));
+    }
+
+    @Test
+    public void window(){
+        assertThat(DoubleSeq.of(0,1,2,3,4,5,6).window(3).limit(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[0.0, 1.0, 2.0]","[3.0, 4.0, 5.0]")));
+        assertThat(DoubleSeq.of(0,1,2,3,4,5,6).window(3).skip(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[6.0]")));
+    }
+
+    @Test
+    public void limitAndSkipBoxed(){
+        assertThat(DoubleSeq.fromStream(DoubleStream.iterate(0,d->d+0.5)).boxed().limit(3).toList(),equalTo(Arrays.asList(0d,0.5,1d)));
+        assertThat(DoubleSeq.of(1,2,3).boxed().skip(2).toList(),equalTo(Arrays.asList(3d)));
+    }
+
+    @Test
+    public void iterator(){
+        PrimitiveIterator.OfDouble it = DoubleSeq.of(1,2,3,4).filter(d->d>2).iterator();
+        assertThat(toList(it),equalTo(Arrays.asList(3d,4d)));
+        assertFalse(it.hasNext());
+        assertFalse(DoubleSeq.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void interop(){
+        assertThat(DoubleSeq.of(1.5,2).mapToObj(d->"x"+d).toList(),equalTo(Arrays.asList("x1.5","x2.0")));
+        assertThat(DoubleSeq.of(1,2).toDoubleStream().boxed().collect(Collectors.toList()),equalTo(Arrays.asList(1d,2d)));
+        assertThat(DoubleSeq.of(1,2.5).toString(),equalTo("[1.0, 2.5]"));
+    }
+
+    @Test
+    public void errorsAreRethrownAfterCompletion(){
+        int[] seen = {0};
+        try {
+            DoubleSeq.of(1, 0, 2).map(d -> { if(d==0) throw new ArithmeticException(); return d; }).forEach(d -> seen[0]++);
+            fail("exception expected");
+        }catch(ArithmeticException e){
+            assertThat(seen[0],equalTo(2));
+        }
+    }
+
+    @Test
+    public void reduce(){
+        assertThat(DoubleSeq.of(1,2,3,4,5).reduce(1,(a,b)->a*b),equalTo(120d));
+        assertThat(DoubleSeq.of(0.5,0.25).reduce(0,Double::sum),equalTo(0.75));
+    }
+
+    private static List<Double> toList(PrimitiveIterator.OfDouble it){
+        List<Double> res = new java.util.ArrayList<>();
+        it.forEachRemaining((double d)->res.add(d));
+        return res;
+    }
+}
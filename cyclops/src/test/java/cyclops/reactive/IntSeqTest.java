@@ -0,0 +1,105 @@
+package cyclops.reactive;
+
+import cyclops.data.Seq;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class IntSeqTest {
+
+    @Test
+    public void mapFilterSum(){
+        assertThat(IntSeq.range(0,10).map(i->i*2).filter(i->i>4).sum(),equalTo(84));
+        assertThat(IntSeq.of(1,2,3).map(i->i+1).map(i->i*10).toArray(),equalTo(new int[]{20,30,40}));
+        assertThat(IntSeq.empty().sum(),equalTo(0));
+        assertThat(IntSeq.range(0,100_000).count(),equalTo(100_000L));
+    }
+
+    @Test
+    public void replayable(){
+        IntSeq seq = IntSeq.of(1,2,3).map(i->i*2);
+        assertThat(seq.sum(),equalTo(12));
+        assertThat(seq.sum(),equalTo(12));
+    }
+
+    @Test
+    public void scanLeft(){
+        assertThat(IntSeq.of(1,2,3,4).scanLeft(0,Integer::sum).toArray(),equalTo(new int[]{0,1,3,6,10}));
+        assertThat(IntSeq.empty().scanLeft(5,Integer::sum).toArray(),equalTo(new int[]{5}));
+        assertThat(toList(IntSeq.of(1,2,3).scanLeft(0,Integer::sum).iterator()),equalTo(Arrays.asList(0,1,3,6)));
+    }
+
+    @Test
+    public void zip(){
+        assertThat(IntSeq.of(1,2,3).zip(IntSeq.range(10,100),Integer::sum).toArray(),equalTo(new int[]{11,13,15}));
+        assertThat(IntSeq.range(10,100).zip(IntSeq.of(1,2,3),Integer::sum).toArray(),equalTo(new int[]{11,13,15}));
+        assertThat(IntSeq.of(1,2,3,4).zip(IntSeq.of(1,2,3,4).filter(i->i%2==0),(a,b)->a*b).toArray(),equalTo(new int[]{2,8}));
+        assertThat(toList(IntSeq.of(1,2,3).zip(IntSeq.of(4,5),Integer::sum).iterator()),equalTo(Arrays.asList(5,7)));
+    }
+
+    @Test
+    public void sliding(){
+        List<String> windows = IntSeq.range(0,5).sliding(3).map(Arrays::toString).toList();
+        assertThat(windows,equalTo(Arrays.asList("[0, 1, 2]","[1, 2, 3]","[2, 3, 4]")));
+        assertThat(IntSeq.of(1,2).sliding(3).map(Arrays::toString).toList(),equalTo(Arrays.asList("[1, 2]")));
+        assertThat(ReactiveSeq.range(0,5).sliding(3).map(Seq::toString).toList().size(),equalTo(windows.size()));
+    }
+
+    @Test
+    public void window(){
+        assertThat(IntSeq.range(0,7).window(3).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[0, 1, 2]","[3, 4, 5]","[6]")));
+        assertThat(IntSeq.range(0,6).window(3).map(a->a.length).toList(),equalTo(Arrays.asList(3,3)));
+        assertThat(IntSeq.range(0,7).window(3).limit(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[0, 1, 2]","[3, 4, 5]")));
+    }
+
+    @Test
+    public void iterator(){
+        PrimitiveIterator.OfInt it = IntSeq.range(0,10).filter(i->i%3==0).iterator();
+        assertThat(toList(it),equalTo(Arrays.asList(0,3,6,9)));
+        assertFalse(it.hasNext());
+        assertFalse(IntSeq.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void interop(){
+        assertThat(IntSeq.fromStream(IntStream.of(4,5,6)).boxed().toList(),equalTo(Arrays.asList(4,5,6)));
+        assertThat(IntSeq.of(1,2).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1","x2")));
+        assertThat(IntSeq.range(0,4).toIntStream().boxed().collect(Collectors.toList()),equalTo(Arrays.asList(0,1,2,3)));
+        assertThat(IntSeq.of(1,2,3).toString(),equalTo("[1, 2, 3]"));
+    }
+
+    @Test
+    public void errorsAreRethrownAfterCompletion(){
+        int[] seen = {0};
+        try {
+            IntSeq.of(1, 0, 2).map(i -> 10 / i).forEach(i -> seen[0]++);
+            fail("exception expected");
+        }catch(ArithmeticException e){
+            assertThat(seen[0],equalTo(2));
+        }
+    }
+
+    @Test
+    public void reduce(){
+        assertThat(IntSeq.range(1,6).reduce(1,(a,b)->a*b),equalTo(120));
+        assertTrue(IntSeq.range(0,1000).map(i->i%7).filter(i->i==0).count()==143);
+    }
+
+    private static List<Integer> toList(PrimitiveIterator.OfInt it){
+        List<Integer> res = new java.util.ArrayList<>();
+        it.forEachRemaining((int i)->res.add(i));
+        return res;
+    }
+}
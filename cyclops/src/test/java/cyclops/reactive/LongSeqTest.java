@@ -0,0 +1,111 @@
+package cyclops.reactive;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public class LongSeqTest {
+
+    @Test
+    public void pipeline(){
+        assertThat(LongSeq.range(0,1_000_000).map(i->i*3).filter(i->i%2==0).sum(),
+                    equalTo(LongStream.range(0,1_000_000).map(i->i*3).filter(i->i%2==0).sum()));
+        assertThat(LongSeq.of(1,2,3).scanLeft(0,Long::sum).toArray(),equalTo(new long[]{0,1,3,6}));
+        assertThat(LongSeq.of(1,2,3).zip(LongSeq.of(10,20),Long::sum).toArray(),equalTo(new long[]{11,22}));
+        assertThat(LongSeq.range(0,5).window(2).map(Arrays::toString).toList(),equalTo(Arrays.asList("[0, 1]","[2, 3]","[4]")));
+        assertThat(LongSeq.of(Long.MAX_VALUE).boxed().toList(),equalTo(Arrays.asList(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void mapFilterSum(){
+        assertThat(LongSeq.range(0,10).map(i->i*2).filter(i->i>4).sum(),equalTo(84L));
+        assertThat(LongSeq.of(1,2,3).map(i->i+1).map(i->i*10).toArray(),equalTo(new long[]{20,30,40}));
+        assertThat(LongSeq.of(Integer.MAX_VALUE,Integer.MAX_VALUE).sum(),equalTo(2L*Integer.MAX_VALUE));
+        assertThat(LongSeq.empty().sum(),equalTo(0L));
+        assertThat(LongSeq.range(0,100_000).count(),equalTo(100_000L));
+    }
+
+    @Test
+    public void replayable(){
+        LongSeq seq = LongSeq.of(1,2,3).map(i->i*2);
+        assertThat(seq.sum(),equalTo(12L));
+        assertThat(seq.sum(),equalTo(12L));
+    }
+
+    @Test
+    public void scanLeft(){
+        assertThat(LongSeq.empty().scanLeft(5,Long::sum).toArray(),equalTo(new long[]{5}));
+        assertThat(toList(LongSeq.of(1,2,3).scanLeft(0,Long::sum).iterator()),equalTo(Arrays.asList(0L,1L,3L,6L)));
+    }
+
+    @Test
+    public void zip(){
+        assertThat(LongSeq.range(10,100).zip(LongSeq.of(1,2,3),Long::sum).toArray(),equalTo(new long[]{11,13,15}));
+        assertThat(LongSeq.of(1,2,3,4).zip(LongSeq.of(1,2,3,4).filter(i->i%2==0),(a,b)->a*b).toArray(),equalTo(new long[]{2,8}));
+        assertThat(toList(LongSeq.of(1,2,3).zip(LongSeq.of(4,5),Long::sum).iterator()),equalTo(Arrays.asList(5L,7L)));
+    }
+
+    @Test
+    public void slidingAndWindow(){
+        assertThat(LongSeq.range(0,5).sliding(3).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[0, 1, 2]","[1, 2, 3]","[2, 3, 4]")));
+        assertThat(LongSeq.range(0,7).window(3).limit(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[0, 1, 2]","[3, 4, 5]")));
+        assertThat(LongSeq.range(0,7).window(3).skip(2).map(Arrays::toString).toList(),
+                    equalTo(Arrays.asList("[6]")));
+    }
+
+    @Test
+    public void limitAndSkipBoxed(){
+        assertThat(LongSeq.range(0,Long.MAX_VALUE).boxed().limit(3).toList(),equalTo(Arrays.asList(0L,1L,2L)));
+        assertThat(LongSeq.range(0,5).boxed().skip(3).toList(),equalTo(Arrays.asList(3L,4L)));
+    }
+
+    @Test
+    public void iterator(){
+        PrimitiveIterator.OfLong it = LongSeq.range(0,10).filter(i->i%3==0).iterator();
+        assertThat(toList(it),equalTo(Arrays.asList(0L,3L,6L,9L)));
+        assertFalse(it.hasNext());
+        assertFalse(LongSeq.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void interop(){
+        assertThat(LongSeq.fromStream(LongStream.of(4,5,6)).boxed().toList(),equalTo(Arrays.asList(4L,5L,6L)));
+        assertThat(LongSeq.of(1,2).mapToObj(i->"x"+i).toList(),equalTo(Arrays.asList("x1","x2")));
+        assertThat(LongSeq.range(0,4).toLongStream().boxed().collect(Collectors.toList()),equalTo(Arrays.asList(0L,1L,2L,3L)));
+        assertThat(LongSeq.of(1,2,3).toString(),equalTo("[1, 2, 3]"));
+    }
+
+    @Test
+    public void errorsAreRethrownAfterCompletion(){
+        int[] seen = {0};
+        try {
+            LongSeq.of(1, 0, 2).map(i -> 10 / i).forEach(i -> seen[0]++);
+            fail("exception expected");
+        }catch(ArithmeticException e){
+            assertThat(seen[0],equalTo(2));
+        }
+    }
+
+    @Test
+    public void reduce(){
+        assertThat(LongSeq.range(1,21).reduce(1,(a,b)->a*b),equalTo(2432902008176640000L));
+        assertThat(LongSeq.range(0,1000).map(i->i%7).filter(i->i==0).count(),equalTo(143L));
+    }
+
+    private static List<Long> toList(PrimitiveIterator.OfLong it){
+        List<Long> res = new java.util.ArrayList<>();
+        it.forEachRemaining((long i)->res.add(i));
+        return res;
+    }
+}
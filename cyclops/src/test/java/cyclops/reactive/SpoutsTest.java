@@ -454,6 +454,48 @@ public class SpoutsTest {
         assertThat(count,equalTo(18));
     }
     @Test
+    public void reactiveBufferIncrementalDemand() {
+        List<Integer> result = new ArrayList<>();
+        Subscription sub = Spouts.<Integer>reactiveBuffer(32, s -> {
+
+            s.onSubscribe(new Subscription() {
+                boolean sent = false;
+                @Override
+                public void request(long n) {
+                    if(!sent) {
+                        sent = true;
+                        for (int k = 0; k < 20; k++)
+                            s.onNext(k);
+                    }
+                }
+
+                @Override
+                public void cancel() {
+
+                }
+            });
+
+        }).forEach(0, result::add);
+
+        for(int k=1;k<=4;k++){
+            sub.request(5);
+            assertThat(result.size(),equalTo(k*5));
+        }
+        assertThat(result,equalTo(ReactiveSeq.range(0,20).toList()));
+    }
+    @Test
+    public void mergeMapLargeInnerIncrementalDemand() {
+        List<Integer> result = new ArrayList<>();
+        Subscription sub = Spouts.of(1, 2, 3)
+                                 .mergeMap(i -> Spouts.range(0, 1000))
+                                 .forEach(0, result::add);
+        sub.request(7);
+        assertThat(result.size(),equalTo(7));
+        for(int k=0;k<3000;k++)
+            sub.request(1);
+        assertThat(result.size(),equalTo(3000));
+    }
+    @Test
     public void reactiveBufferBlock() throws InterruptedException {
 
         Subscription sub = Spouts.reactiveBufferBlock(10, s -> {
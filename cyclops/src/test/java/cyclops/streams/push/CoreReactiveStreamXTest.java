@@ -586,5 +586,28 @@ public  class CoreReactiveStreamXTest {
 		}
 
 
+		@Test
+		public void composedStages(){
+			assertThat(Spouts.range(0,20).map(i->i+1).map(i->i*2).peek(i->{}).map(i->i-1).toList(),
+					equalTo(ReactiveSeq.range(0,20).map(i->(i+1)*2-1).toList()));
+			assertThat(Spouts.range(0,30).filter(i->i%2==0).filter(i->i%3==0).toList(),equalTo(asList(0,6,12,18,24)));
+			assertThat(Spouts.range(0,30).skip(5).skip(10).limit(10).limit(3).toList(),equalTo(asList(15,16,17)));
+			assertThat(Spouts.range(0,30).limit(3).limit(10).toList(),equalTo(asList(0,1,2)));
+		}
+
+		@Test
+		public void composedMapError(){
+			List<Throwable> errors = new ArrayList<>();
+			List<Integer> values = new ArrayList<>();
+			Spouts.of(1,2,3).map(i->{
+				if(i==2)
+					throw new RuntimeException("boom");
+				return i;
+			}).map(i->i*10)
+			  .forEach(values::add,errors::add);
+			assertThat(values,equalTo(asList(10,30)));
+			assertThat(errors.size(),equalTo(1));
+		}
+
 
 }
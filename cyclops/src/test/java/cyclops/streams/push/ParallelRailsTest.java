@@ -0,0 +1,182 @@
+package cyclops.streams.push;
+
+import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+
+public class ParallelRailsTest {
+
+    ExecutorService ex;
+
+    @Before
+    public void setup(){
+        ex = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown(){
+        ex.shutdown();
+    }
+
+    @Test
+    public void orderedMap(){
+        List<Integer> result = Spouts.range(0,10_000)
+                                     .parallel(4,ex,s->s.map(i->i*2))
+                                     .toList();
+
+        assertThat(result,equalTo(Spouts.range(0,10_000).map(i->i*2).toList()));
+    }
+
+    @Test
+    public void orderedFilterAndConcatMap(){
+        List<Integer> result = Spouts.range(0,1_000)
+                                     .parallel(3,8,ex,s->s.filter(i->i%3!=0)
+                                                          .concatMap(i->Arrays.asList(i,-i)))
+                                     .toList();
+
+        assertThat(result,equalTo(Spouts.range(0,1_000)
+                                        .filter(i->i%3!=0)
+                                        .concatMap(i->Arrays.asList(i,-i))
+                                        .toList()));
+    }
+
+    @Test
+    public void unordered(){
+        List<Integer> result = new ArrayList<>(Spouts.range(0,10_000)
+                                                     .parallelUnordered(4,ex,s->s.map(i->i+1))
+                                                     .toList());
+        Collections.sort(result);
+
+        assertThat(result,equalTo(Spouts.range(1,10_001).toList()));
+    }
+
+    @Test
+    public void pullBasedStream(){
+        assertThat(ReactiveSeq.of(1,2,3,4,5)
+                              .parallel(2,ex,s->s.map(i->i*10))
+                              .toList(),equalTo(Arrays.asList(10,20,30,40,50)));
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Spouts.<Integer>empty()
+                         .parallel(4,ex,s->s.map(i->i*10))
+                         .toList(),equalTo(Arrays.asList()));
+    }
+
+    @Test
+    public void nullValues(){
+        assertThat(Spouts.of(1,2,3,4)
+                         .parallel(2,ex,s->s.map(i->i%2==0 ? null : i))
+                         .toList(),equalTo(Arrays.asList(1,null,3,null)));
+    }
+
+    @Test
+    public void runsOnExecutor(){
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        Spouts.range(0,100)
+              .parallel(4,ex,s->s.peek(i->threads.add(Thread.currentThread())))
+              .toList();
+
+        assertThat(threads,not(hasItem(Thread.currentThread())));
+    }
+
+    @Test
+    public void statefulRailOperators(){
+        List<Vector<Integer>> result = Spouts.range(0,10)
+                                             .parallel(2,ex,s->s.grouped(2))
+                                             .toList();
+        //rail 0 sees 0,2,4,6,8 and rail 1 sees 1,3,5,7,9
+        assertThat(result,equalTo(Arrays.asList(Vector.of(0,2),Vector.of(1,3),Vector.of(4,6),Vector.of(5,7),Vector.of(8),Vector.of(9))));
+    }
+
+    @Test
+    public void railErrorsAreForwarded(){
+        List<Integer> values = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        AtomicReference<Boolean> complete = new AtomicReference<>(false);
+        Spouts.of(1,2,3,4)
+              .parallel(2,ex,s->s.map(i->{
+                  if(i==3)
+                      throw new IllegalStateException("boom");
+                  return i;
+              }))
+              .forEach(values::add,errors::add,()->complete.set(true));
+
+        while(!complete.get()){
+            LockSupport.parkNanos(1000l);
+        }
+        assertThat(values,equalTo(Arrays.asList(1,2,4)));
+        assertThat(errors.size(),equalTo(1));
+        assertThat(errors.get(0),instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void backpressure(){
+        List<Integer> result = Collections.synchronizedList(new ArrayList<>());
+        Subscription sub = Spouts.range(0,100)
+                                 .parallel(4,ex,s->s.map(i->i*2))
+                                 .forEach(0,result::add);
+        sub.request(10);
+        waitForSize(result,10);
+        LockSupport.parkNanos(100_000_000l);
+        assertThat(result.size(),equalTo(10));
+
+        sub.request(Long.MAX_VALUE);
+        waitForSize(result,100);
+        assertThat(result,equalTo(Spouts.range(0,100).map(i->i*2).toList()));
+    }
+
+    @Test
+    public void prefetchIsBounded(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        Subscription sub = Spouts.range(0,1_000)
+                                 .peek(i->emitted.incrementAndGet())
+                                 .parallel(2,4,ex,s->s.map(i->i))
+                                 .forEach(0,i->{});
+        LockSupport.parkNanos(100_000_000l);
+        assertThat(emitted.get(),lessThanOrEqualTo(8));
+        sub.cancel();
+    }
+
+    @Test
+    public void limitDownstream(){
+        assertThat(Spouts.range(0,100_000)
+                         .parallel(4,ex,s->s.map(i->i*2))
+                         .limit(5)
+                         .toList(),equalTo(Arrays.asList(0,2,4,6,8)));
+    }
+
+    @Test
+    public void limitOnRail(){
+        assertThat(Spouts.range(0,20)
+                         .parallel(2,ex,s->s.limit(2))
+                         .toList(),equalTo(Arrays.asList(0,1,2,3)));
+    }
+
+    private void waitForSize(List<?> list, int size){
+        long deadline = System.currentTimeMillis() + 10_000;
+        while(list.size()<size && System.currentTimeMillis()<deadline){
+            LockSupport.parkNanos(1_000_000l);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package cyclops.streams.push;
 
+import com.oath.cyclops.async.wait.WaitStrategy;
 import com.oath.cyclops.types.reactive.ValueSubscriber;
 import cyclops.control.Future;
 import cyclops.control.*;
@@ -185,4 +186,28 @@ public class ValueSubscriberTest {
         assertThat(xor.orElse(null),instanceOf(NoSuchElementException.class));
     }
 
+    @Test
+    public void asyncValueWakesWaiter(){
+        ValueSubscriber<Integer> sub = ValueSubscriber.subscriber();
+        Spouts.reactive(ReactiveSeq.of(1,2,3)
+                                   .peek(i->{
+                                       try {
+                                           Thread.sleep(20);
+                                       } catch (InterruptedException e) {
+                                           Thread.currentThread().interrupt();
+                                       }
+                                   }),ex)
+              .subscribe(sub);
+
+        assertThat(sub.orElse(-1),equalTo(1));
+    }
+    @Test
+    public void asyncErrorWakesWaiter(){
+        ValueSubscriber<Integer> sub = ValueSubscriber.subscriber(()->{}, WaitStrategy.spinWait());
+        Spouts.reactive(ReactiveSeq.<Integer>empty(),ex)
+              .subscribe(sub);
+
+        assertThat(sub.toEither().leftOrElse(null),instanceOf(NoSuchElementException.class));
+    }
+
 }